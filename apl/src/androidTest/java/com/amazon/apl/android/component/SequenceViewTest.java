@@ -6,8 +6,6 @@
 package com.amazon.apl.android.component;
 
 import android.graphics.Color;
-import android.graphics.drawable.LayerDrawable;
-import android.graphics.drawable.ShapeDrawable;
 import android.view.View;
 
 import androidx.test.espresso.IdlingRegistry;
@@ -21,6 +19,7 @@ import com.amazon.apl.android.MultiChildComponent;
 import com.amazon.apl.android.Text;
 import com.amazon.apl.android.espresso.APLViewIdlingResource;
 import com.amazon.apl.android.views.APLAbsoluteLayout;
+import com.amazon.apl.android.views.FrameBackgroundDrawable;
 import com.amazon.apl.android.views.APLTextView;
 
 import org.json.JSONArray;
@@ -78,8 +77,8 @@ public class SequenceViewTest extends AbstractComponentViewTest<APLAbsoluteLayou
     private IdlingResource mIdlingResource;
 
 
-    private ShapeDrawable getBorder(View view) {
-        return (ShapeDrawable) ((LayerDrawable) view.getBackground()).getDrawable(0);
+    private FrameBackgroundDrawable getBorder(View view) {
+        return (FrameBackgroundDrawable) view.getBackground();
     }
 
 
@@ -174,7 +173,7 @@ public class SequenceViewTest extends AbstractComponentViewTest<APLAbsoluteLayou
         // 1st View in list is bound to Text view holder
         assertEquals("Text 1", ((APLTextView) view.getChildAt(0)).getLayout().getText().toString());
         // 2nd View in list is bound to the Frame view holder
-        assertEquals(Color.BLUE, getBorder(view.getChildAt(1)).getPaint().getColor());
+        assertEquals(Color.BLUE, getBorder(view.getChildAt(1)).getBorderColor());
     }
 
     /**
@@ -197,7 +196,7 @@ public class SequenceViewTest extends AbstractComponentViewTest<APLAbsoluteLayou
 
         // verify frame is bound
         final APLAbsoluteLayout frameView = (APLAbsoluteLayout) view.getChildAt(0);
-        assertEquals(Color.RED, getBorder(view.getChildAt(0)).getPaint().getColor());
+        assertEquals(Color.RED, getBorder(view.getChildAt(0)).getBorderColor());
 
         // verify child of frame is bound
         assertEquals("nested text", ((APLTextView ) frameView.getChildAt(0)).getLayout().getText().toString());
@@ -278,7 +277,7 @@ public class SequenceViewTest extends AbstractComponentViewTest<APLAbsoluteLayou
         final APLAbsoluteLayout view = mTestContext.getTestView();
 
         // Verify initial onBind to first item
-        assertEquals(Color.RED, getBorder(view.getChildAt(0)).getPaint().getColor());
+        assertEquals(Color.RED, getBorder(view.getChildAt(0)).getBorderColor());
 
         // Swipe to the last item.
         ViewAction[] swipeUps = new ViewAction[30];
@@ -295,7 +294,7 @@ public class SequenceViewTest extends AbstractComponentViewTest<APLAbsoluteLayou
         onView(withId(sequence.getComponentId().hashCode())).perform(swipeDowns);
 
         // Verify the first item has had its view re-bound correctly:
-        assertEquals(Color.RED, getBorder(view.getChildAt(0)).getPaint().getColor());
+        assertEquals(Color.RED, getBorder(view.getChildAt(0)).getBorderColor());
     }
 
     @Test
@@ -421,7 +420,7 @@ public class SequenceViewTest extends AbstractComponentViewTest<APLAbsoluteLayou
         final APLAbsoluteLayout view = mTestContext.getTestView();
 
         // Verify initial onBind to first item
-        assertEquals(10, getBorder(view.getChildAt(0)).getPaint().getStrokeWidth(), 0);
+        assertEquals(10, getBorder(view.getChildAt(0)).getBorderWidth(), 0);
 
         //  Update a dynamic property  of the first item
         final String setValueCommand = "[{\n" +
@@ -433,10 +432,10 @@ public class SequenceViewTest extends AbstractComponentViewTest<APLAbsoluteLayou
         onView(isRoot()).perform(executeCommands(mTestContext.getRootContext(), setValueCommand));
 
         // Verify update has been applied
-        assertEquals(Color.RED, getBorder(view.getChildAt(0)).getPaint().getColor());
+        assertEquals(Color.RED, getBorder(view.getChildAt(0)).getBorderColor());
 
         // Verify no update applied to child that had the same view type
-        assertEquals(Color.BLUE, getBorder(view.getChildAt(1)).getPaint().getColor());
+        assertEquals(Color.BLUE, getBorder(view.getChildAt(1)).getBorderColor());
     }
 
     @Test
@@ -582,7 +581,7 @@ public class SequenceViewTest extends AbstractComponentViewTest<APLAbsoluteLayou
         onView(withId(sequence.getComponentId().hashCode())).perform(swipeUps);
 
         // Verify the update has been applied to last item
-        assertEquals(Color.RED, getBorder(view.getChildAt(view.getChildCount() - 1)).getPaint().getColor());
+        assertEquals(Color.RED, getBorder(view.getChildAt(view.getChildCount() - 1)).getBorderColor());
 
         // Swipe back to first item
         ViewAction[] swipeDowns = new ViewAction[25];
@@ -592,6 +591,6 @@ public class SequenceViewTest extends AbstractComponentViewTest<APLAbsoluteLayou
         onView(withId(sequence.getComponentId().hashCode())).perform(swipeDowns);
 
         // Verify no update applied to first child, which has same View Type / template Component
-        assertEquals(Color.BLUE, getBorder(view.getChildAt(0)).getPaint().getColor());
+        assertEquals(Color.BLUE, getBorder(view.getChildAt(0)).getBorderColor());
     }
 }
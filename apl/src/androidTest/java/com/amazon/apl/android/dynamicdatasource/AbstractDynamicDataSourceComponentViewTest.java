@@ -7,8 +7,6 @@ package com.amazon.apl.android.dynamicdatasource;
 
 import android.util.Log;
 import android.view.View;
-import android.graphics.drawable.LayerDrawable;
-import android.graphics.drawable.ShapeDrawable;
 
 import androidx.test.espresso.NoMatchingViewException;
 import androidx.test.espresso.UiController;
@@ -19,6 +17,7 @@ import androidx.test.platform.app.InstrumentationRegistry;
 import androidx.test.rule.ActivityTestRule;
 
 import com.amazon.apl.android.views.APLAbsoluteLayout;
+import com.amazon.apl.android.views.FrameBackgroundDrawable;
 import com.amazon.apl.android.APLController;
 import com.amazon.apl.android.APLGradientDrawable;
 import com.amazon.apl.android.APLLayout;
@@ -221,8 +220,8 @@ abstract class AbstractDynamicDataSourceComponentViewTest extends LeakRulesBaseC
 
             @Override
             public boolean matchesSafely(View view) {
-                LayerDrawable drawable = (LayerDrawable) view.getBackground();
-                return drawable != null && ((ShapeDrawable) drawable.getDrawable(0)).getPaint().getColor() == borderColor;
+                FrameBackgroundDrawable drawable = (FrameBackgroundDrawable) view.getBackground();
+                return drawable != null && drawable.getBorderColor() == borderColor;
             }
 
             @Override
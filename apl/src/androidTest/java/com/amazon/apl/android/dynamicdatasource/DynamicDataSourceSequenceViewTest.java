@@ -6,8 +6,6 @@
 package com.amazon.apl.android.dynamicdatasource;
 
 import android.graphics.Color;
-import android.graphics.drawable.LayerDrawable;
-import android.graphics.drawable.ShapeDrawable;
 import android.util.Log;
 import android.view.View;
 
@@ -24,6 +22,7 @@ import com.amazon.apl.android.Text;
 import com.amazon.apl.android.espresso.APLMatchers;
 import com.amazon.apl.android.espresso.APLViewIdlingResource;
 import com.amazon.apl.android.views.APLAbsoluteLayout;
+import com.amazon.apl.android.views.FrameBackgroundDrawable;
 import com.amazon.apl.android.views.APLTextView;
 
 import org.json.JSONArray;
@@ -136,8 +135,8 @@ public class DynamicDataSourceSequenceViewTest extends AbstractDynamicDataSource
 
     private IdlingResource mIdlingResource;
 
-    private static ShapeDrawable getBorder(View view) {
-        return (ShapeDrawable) ((LayerDrawable) view.getBackground()).getDrawable(0);
+    private static FrameBackgroundDrawable getBorder(View view) {
+        return (FrameBackgroundDrawable) view.getBackground();
     }
 
     @After
@@ -642,7 +641,7 @@ public class DynamicDataSourceSequenceViewTest extends AbstractDynamicDataSource
     private static void assertSquare(View itemView, int expectedColor, String expectedText) {
         APLAbsoluteLayout frameView = (APLAbsoluteLayout) itemView;
 
-        assertEquals(expectedColor, getBorder(itemView).getPaint().getColor());
+        assertEquals(expectedColor, getBorder(itemView).getBorderColor());
         assertEquals(expectedText, getText(frameView.getChildAt(0)));
     }
 
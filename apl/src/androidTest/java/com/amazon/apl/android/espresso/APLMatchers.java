@@ -5,9 +5,6 @@
 
 package com.amazon.apl.android.espresso;
 
-import android.graphics.drawable.InsetDrawable;
-import android.graphics.drawable.LayerDrawable;
-import android.graphics.drawable.ShapeDrawable;
 import android.text.Layout;
 import android.text.ParcelableSpan;
 import android.text.Spannable;
@@ -19,6 +16,7 @@ import android.view.View;
 import com.amazon.apl.android.APLGradientDrawable;
 import com.amazon.apl.android.Component;
 import com.amazon.apl.android.views.APLAbsoluteLayout;
+import com.amazon.apl.android.views.FrameBackgroundDrawable;
 import com.amazon.apl.android.views.APLTextView;
 
 import org.hamcrest.Description;
@@ -50,9 +48,8 @@ public class APLMatchers {
 
             @Override
             public boolean matchesSafely(View view) {
-                LayerDrawable parentLayout = (LayerDrawable) view.getBackground();
-                InsetDrawable borderInset = (InsetDrawable) parentLayout.getDrawable(1);
-                return ((ShapeDrawable) borderInset.getDrawable()).getPaint().getColor() == backgroundColor;
+                FrameBackgroundDrawable drawable = (FrameBackgroundDrawable) view.getBackground();
+                return drawable.getBackgroundColor() == backgroundColor;
             }
 
             @Override
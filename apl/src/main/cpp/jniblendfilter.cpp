@@ -0,0 +1,481 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+// Native implementation of the APL Blend filter blend modes.
+// APL Spec: https://developer.amazon.com/en-US/docs/alexa/alexa-presentation-language/apl-filters.html#blend
+//
+// The calculations mirror SeparableBlender and NonSeparableBlender step by step in single
+// precision, so that results agree with the Java blenders. This file is compiled with
+// -ffp-contract=off so that the compiler doesn't fuse multiplies and adds that Java rounds
+// separately.
+
+#include <jni.h>
+#include <algorithm>
+#include <cmath>
+#include <cstdint>
+#include <climits>
+#include <vector>
+
+#include "apl/apl.h"
+
+#ifdef __ANDROID__
+#include <android/bitmap.h>
+#endif
+
+namespace apl {
+namespace jni {
+
+    namespace {
+
+        // Java Math.max(float, float)
+        inline float jmax(float a, float b) {
+            if (a != a) return a;
+            if (a == 0.0f && b == 0.0f && std::signbit(a)) return b;
+            return a >= b ? a : b;
+        }
+
+        // Java Math.min(float, float)
+        inline float jmin(float a, float b) {
+            if (a != a) return a;
+            if (a == 0.0f && b == 0.0f && std::signbit(b)) return b;
+            return a <= b ? a : b;
+        }
+
+        // Java Math.round(float)
+        inline int32_t jround(float a) {
+            if (a != a) return 0;
+            const double r = std::floor(static_cast<double>(a) + 0.5);
+            if (r >= static_cast<double>(INT_MAX)) return INT_MAX;
+            if (r <= static_cast<double>(INT_MIN)) return INT_MIN;
+            return static_cast<int32_t>(r);
+        }
+
+        // android.graphics.Color accessors and Color.argb(int, int, int, int), on 0xAARRGGBB.
+        inline float alpha(uint32_t c) { return static_cast<float>(c >> 24) / 255.0f; }
+        inline float red(uint32_t c) { return static_cast<float>((c >> 16) & 0xFF) / 255.0f; }
+        inline float green(uint32_t c) { return static_cast<float>((c >> 8) & 0xFF) / 255.0f; }
+        inline float blue(uint32_t c) { return static_cast<float>(c & 0xFF) / 255.0f; }
+
+        inline uint32_t argb(float a, float r, float g, float b) {
+            return (static_cast<uint32_t>(jround(a * 255)) << 24)
+                   | (static_cast<uint32_t>(jround(r * 255)) << 16)
+                   | (static_cast<uint32_t>(jround(g * 255)) << 8)
+                   | static_cast<uint32_t>(jround(b * 255));
+        }
+
+        inline float inverse(float a) { return 1.0f - a; }
+        inline float two(float a) { return a + a; }
+        inline float rcp(float a) { return 1.0f / a; }
+
+        // Separable blend modes, see SeparableBlender. The Normal and Multiply modes, which the
+        // Java path leaves to RenderScript, use the same Skia equations.
+        struct Normal {
+            static float color(float cs, float cd, float as, float ad) {
+                return cs + cd * inverse(as);
+            }
+        };
+
+        struct Multiply {
+            static float color(float cs, float cd, float as, float ad) {
+                return cs * inverse(ad) + cd * inverse(as) + cs * cd;
+            }
+        };
+
+        struct Screen {
+            static float color(float cs, float cd, float as, float ad) {
+                return cs + cd - cs * cd;
+            }
+        };
+
+        struct Overlay {
+            static float color(float cs, float cd, float as, float ad) {
+                if (two(cd) <= ad) {
+                    return cs * inverse(ad) + cd * inverse(as) + two(cs * cd);
+                }
+                return cs * inverse(ad) + cd * inverse(as) + as * ad - two((ad - cd) * (as - cs));
+            }
+        };
+
+        struct Darken {
+            static float color(float cs, float cd, float as, float ad) {
+                return cs + cd - jmax(cs * ad, cd * as);
+            }
+        };
+
+        struct Lighten {
+            static float color(float cs, float cd, float as, float ad) {
+                return cs + cd - jmin(cs * ad, cd * as);
+            }
+        };
+
+        struct ColorDodge {
+            static float color(float cs, float cd, float as, float ad) {
+                if (cd == 0) {
+                    return cs * inverse(ad);
+                } else if (cs == as) {
+                    return cs + cd * inverse(as);
+                }
+                return as * jmin(ad, (cd * as) * rcp(as - cs)) + cs * inverse(ad) + cd * inverse(as);
+            }
+        };
+
+        struct ColorBurn {
+            static float color(float cs, float cd, float as, float ad) {
+                if (cd == ad) {
+                    return cd + cs * inverse(ad);
+                } else if (cs == 0) {
+                    return cd * inverse(as);
+                }
+                return as * (ad - jmin(ad, (ad - cd) * as * rcp(cs))) + cs * inverse(ad) + cd * inverse(as);
+            }
+        };
+
+        struct HardLight {
+            static float color(float cs, float cd, float as, float ad) {
+                if (two(cs) <= as) {
+                    return cs * inverse(ad) + cd * inverse(as) + two(cs * cd);
+                }
+                return cs * inverse(ad) + cd * inverse(as) + as * ad - two((ad - cd) * (as - cs));
+            }
+        };
+
+        struct SoftLight {
+            static float color(float cs, float cd, float as, float ad) {
+                const float m = ad > 0 ? cd / ad : 0;
+                const float s2 = two(cs);
+                const float m4 = two(two(m));
+
+                if (s2 <= as) {
+                    return cs * inverse(ad) + cd * inverse(as) + cd * (as + (s2 - as) * (1.0f - m));
+                } else if (two(two(cd)) <= ad) {
+                    return cs * inverse(ad) + cd * inverse(as)
+                           + cd * as + ad * (s2 - as) * ((m4 * m4 + m4) * (m - 1.0f) + 7.0f * m);
+                }
+                return cs * inverse(ad) + cd * inverse(as)
+                       + cd * as + ad * (s2 - as) * (static_cast<float>(std::sqrt(static_cast<double>(m))) - m);
+            }
+        };
+
+        struct Difference {
+            static float color(float cs, float cd, float as, float ad) {
+                return cs + cd - two(jmin(cs * ad, cd * as));
+            }
+        };
+
+        struct Exclusion {
+            static float color(float cs, float cd, float as, float ad) {
+                return cs + cd - two(cs * cd);
+            }
+        };
+
+        template<typename Mode, bool ScreenAlpha = false>
+        struct Separable {
+            static uint32_t blend(uint32_t src, uint32_t dst) {
+                const float as = alpha(src);
+                const float ad = alpha(dst);
+                const float a = ScreenAlpha ? Mode::color(as, ad, as, ad) : ad * inverse(as) + as;
+                return argb(a,
+                            Mode::color(red(src), red(dst), as, ad),
+                            Mode::color(green(src), green(dst), as, ad),
+                            Mode::color(blue(src), blue(dst), as, ad));
+            }
+        };
+
+        // Non separable blend modes, see NonSeparableBlender.
+        inline float lum(float r, float g, float b) {
+            return r * 0.30f + g * 0.59f + b * 0.11f;
+        }
+
+        inline float sat(float r, float g, float b) {
+            return jmax(r, jmax(g, b)) - jmin(r, jmin(g, b));
+        }
+
+        inline float scale(float c, float s, float min, float sat) {
+            return sat == 0 ? 0 : (c - min) * s / sat;
+        }
+
+        inline void setSat(float *rgb, float s) {
+            const float r = rgb[0];
+            const float g = rgb[1];
+            const float b = rgb[2];
+            const float min = jmin(r, jmin(g, b));
+            const float max = jmax(r, jmax(g, b));
+            const float sat = max - min;
+
+            rgb[0] = scale(r, s, min, sat);
+            rgb[1] = scale(g, s, min, sat);
+            rgb[2] = scale(b, s, min, sat);
+        }
+
+        inline void setLum(float *rgb, float l) {
+            const float diff = l - lum(rgb[0], rgb[1], rgb[2]);
+
+            rgb[0] += diff;
+            rgb[1] += diff;
+            rgb[2] += diff;
+        }
+
+        inline float clip(float c, float min, float max, float l, float a) {
+            c = min < 0 && l != min ? l + (c - l) * (l) / (l - min) : c;
+            c = max > a && l != max ? l + (c - l) * (a - l) / (max - l) : c;
+            c = jmax(c, 0);
+            return c;
+        }
+
+        inline void clipColor(float *rgb, float a) {
+            const float r = rgb[0];
+            const float g = rgb[1];
+            const float b = rgb[2];
+            const float min = jmin(r, jmin(g, b));
+            const float max = jmax(r, jmax(g, b));
+            const float l = lum(r, g, b);
+
+            rgb[0] = clip(r, min, max, l, a);
+            rgb[1] = clip(g, min, max, l, a);
+            rgb[2] = clip(b, min, max, l, a);
+        }
+
+        template<BlendMode Mode>
+        struct NonSeparable {
+            static uint32_t blend(uint32_t src, uint32_t dst) {
+                const float srcR = red(src);
+                const float srcG = green(src);
+                const float srcB = blue(src);
+                const float srcA = alpha(src);
+
+                const float dstR = red(dst);
+                const float dstG = green(dst);
+                const float dstB = blue(dst);
+                const float dstA = alpha(dst);
+
+                float rgb[3];
+                switch (Mode) {
+                    case kBlendModeHue:
+                        rgb[0] = srcR * srcA;
+                        rgb[1] = srcG * srcA;
+                        rgb[2] = srcB * srcA;
+                        setSat(rgb, sat(dstR, dstG, dstB) * srcA);
+                        setLum(rgb, lum(dstR, dstG, dstB) * srcA);
+                        break;
+                    case kBlendModeSaturation:
+                        rgb[0] = dstR * srcA;
+                        rgb[1] = dstG * srcA;
+                        rgb[2] = dstB * srcA;
+                        setSat(rgb, sat(srcR, srcG, srcB) * dstA);
+                        setLum(rgb, lum(dstR, dstG, dstB) * srcA);
+                        break;
+                    case kBlendModeColor:
+                        rgb[0] = srcR * dstA;
+                        rgb[1] = srcG * dstA;
+                        rgb[2] = srcB * dstA;
+                        setLum(rgb, lum(dstR, dstG, dstB) * srcA);
+                        break;
+                    default: // kBlendModeLuminosity
+                        rgb[0] = dstR * srcA;
+                        rgb[1] = dstG * srcA;
+                        rgb[2] = dstB * srcA;
+                        setLum(rgb, lum(srcR, srcG, srcB) * dstA);
+                        break;
+                }
+
+                clipColor(rgb, srcA * dstA);
+
+                const float r = srcR * inverse(dstA) + dstR * inverse(srcA) + rgb[0];
+                const float g = srcG * inverse(dstA) + dstG * inverse(srcA) + rgb[1];
+                const float b = srcB * inverse(dstA) + dstB * inverse(srcA) + rgb[2];
+                const float a = srcA + dstA - srcA * dstA;
+                return argb(a, r, g, b);
+            }
+        };
+
+        // Blends a row of 0xAARRGGBB pixels into dst. The mode is resolved once per row so that
+        // the loop is specialized, and can be vectorized, per blend mode.
+        template<typename Blend>
+        void blendRow(const uint32_t *src, uint32_t *dst, int count) {
+            for (int i = 0; i < count; i++) {
+                dst[i] = Blend::blend(src[i], dst[i]);
+            }
+        }
+
+        typedef void (*BlendRowFunction)(const uint32_t *, uint32_t *, int);
+
+        BlendRowFunction getBlendRowFunction(int mode) {
+            switch (static_cast<BlendMode>(mode)) {
+                case kBlendModeNormal: return &blendRow<Separable<Normal>>;
+                case kBlendModeMultiply: return &blendRow<Separable<Multiply>>;
+                case kBlendModeScreen: return &blendRow<Separable<Screen, true>>;
+                case kBlendModeOverlay: return &blendRow<Separable<Overlay>>;
+                case kBlendModeDarken: return &blendRow<Separable<Darken>>;
+                case kBlendModeLighten: return &blendRow<Separable<Lighten>>;
+                case kBlendModeColorDodge: return &blendRow<Separable<ColorDodge>>;
+                case kBlendModeColorBurn: return &blendRow<Separable<ColorBurn>>;
+                case kBlendModeHardLight: return &blendRow<Separable<HardLight>>;
+                case kBlendModeSoftLight: return &blendRow<Separable<SoftLight>>;
+                case kBlendModeDifference: return &blendRow<Separable<Difference>>;
+                case kBlendModeExclusion: return &blendRow<Separable<Exclusion>>;
+                case kBlendModeHue: return &blendRow<NonSeparable<kBlendModeHue>>;
+                case kBlendModeSaturation: return &blendRow<NonSeparable<kBlendModeSaturation>>;
+                case kBlendModeColor: return &blendRow<NonSeparable<kBlendModeColor>>;
+                case kBlendModeLuminosity: return &blendRow<NonSeparable<kBlendModeLuminosity>>;
+                default: return nullptr;
+            }
+        }
+
+#ifdef __ANDROID__
+        // ARGB_8888 bitmaps are stored as R, G, B, A bytes, optionally premultiplied.
+        // These convert to and from the unpremultiplied 0xAARRGGBB colors Bitmap.getPixels returns.
+        inline uint32_t toColor(uint32_t pixel, bool premultiplied) {
+            uint32_t a = pixel >> 24;
+            uint32_t b = (pixel >> 16) & 0xFF;
+            uint32_t g = (pixel >> 8) & 0xFF;
+            uint32_t r = pixel & 0xFF;
+            if (premultiplied && a != 0xFF) {
+                if (a == 0) {
+                    return 0;
+                }
+                r = (r * 255 + a / 2) / a;
+                g = (g * 255 + a / 2) / a;
+                b = (b * 255 + a / 2) / a;
+            }
+            return a << 24 | r << 16 | g << 8 | b;
+        }
+
+        inline uint32_t toPixel(uint32_t color, bool premultiplied) {
+            uint32_t a = color >> 24;
+            uint32_t r = (color >> 16) & 0xFF;
+            uint32_t g = (color >> 8) & 0xFF;
+            uint32_t b = color & 0xFF;
+            if (premultiplied && a != 0xFF) {
+                r = (r * a + 127) / 255;
+                g = (g * a + 127) / 255;
+                b = (b * a + 127) / 255;
+            }
+            return a << 24 | b << 16 | g << 8 | r;
+        }
+#endif
+    }
+
+#ifdef __cplusplus
+extern "C" {
+#endif
+
+    /**
+     * Blends source into destination in place. Both arrays hold 0xAARRGGBB colors.
+     * Returns false if the blend mode isn't supported.
+     */
+    JNIEXPORT jboolean JNICALL
+    Java_com_amazon_apl_android_image_filters_blender_NativeBlender_nativeBlendPixels(
+            JNIEnv *env,
+            jclass type,
+            jintArray source,
+            jintArray destination,
+            jint mode) {
+        BlendRowFunction blendRowFunction = getBlendRowFunction(mode);
+        if (!blendRowFunction) {
+            return JNI_FALSE;
+        }
+        const int count = std::min(env->GetArrayLength(source), env->GetArrayLength(destination));
+        auto src = static_cast<uint32_t *>(env->GetPrimitiveArrayCritical(source, nullptr));
+        auto dst = static_cast<uint32_t *>(env->GetPrimitiveArrayCritical(destination, nullptr));
+        if (src && dst) {
+            blendRowFunction(src, dst, count);
+        }
+        if (dst) env->ReleasePrimitiveArrayCritical(destination, dst, 0);
+        if (src) env->ReleasePrimitiveArrayCritical(source, src, JNI_ABORT);
+        return src && dst ? JNI_TRUE : JNI_FALSE;
+    }
+
+#ifdef __ANDROID__
+    /**
+     * Blends the pixels of the source and destination bitmaps into the result bitmap, which may
+     * be one of the two. Only the area covered by both source and destination is blended.
+     * Returns false if the bitmaps or the blend mode aren't supported.
+     */
+    JNIEXPORT jboolean JNICALL
+    Java_com_amazon_apl_android_image_filters_blender_NativeBlender_nativeBlendBitmaps(
+            JNIEnv *env,
+            jclass type,
+            jobject source,
+            jboolean sourcePremultiplied,
+            jobject destination,
+            jboolean destinationPremultiplied,
+            jobject result,
+            jboolean resultPremultiplied,
+            jint mode) {
+        BlendRowFunction blendRowFunction = getBlendRowFunction(mode);
+        if (!blendRowFunction) {
+            return JNI_FALSE;
+        }
+
+        AndroidBitmapInfo srcInfo, dstInfo, resultInfo;
+        if (AndroidBitmap_getInfo(env, source, &srcInfo) != ANDROID_BITMAP_RESULT_SUCCESS
+            || AndroidBitmap_getInfo(env, destination, &dstInfo) != ANDROID_BITMAP_RESULT_SUCCESS
+            || AndroidBitmap_getInfo(env, result, &resultInfo) != ANDROID_BITMAP_RESULT_SUCCESS
+            || srcInfo.format != ANDROID_BITMAP_FORMAT_RGBA_8888
+            || dstInfo.format != ANDROID_BITMAP_FORMAT_RGBA_8888
+            || resultInfo.format != ANDROID_BITMAP_FORMAT_RGBA_8888) {
+            return JNI_FALSE;
+        }
+        const uint32_t width = std::min(srcInfo.width, dstInfo.width);
+        const uint32_t height = std::min(srcInfo.height, dstInfo.height);
+        if (resultInfo.width < width || resultInfo.height < height) {
+            return JNI_FALSE;
+        }
+
+        // The result may be one of the inputs, which can only be locked once.
+        const bool resultIsSource = env->IsSameObject(result, source);
+        const bool resultIsDestination = env->IsSameObject(result, destination);
+
+        void *srcPixels = nullptr;
+        void *dstPixels = nullptr;
+        void *resultPixels = nullptr;
+        bool locked = AndroidBitmap_lockPixels(env, source, &srcPixels) == ANDROID_BITMAP_RESULT_SUCCESS;
+        if (locked && !(locked = AndroidBitmap_lockPixels(env, destination, &dstPixels) == ANDROID_BITMAP_RESULT_SUCCESS)) {
+            AndroidBitmap_unlockPixels(env, source);
+        }
+        if (locked && !resultIsSource && !resultIsDestination
+            && !(locked = AndroidBitmap_lockPixels(env, result, &resultPixels) == ANDROID_BITMAP_RESULT_SUCCESS)) {
+            AndroidBitmap_unlockPixels(env, destination);
+            AndroidBitmap_unlockPixels(env, source);
+        }
+        if (!locked) {
+            return JNI_FALSE;
+        }
+        if (resultIsSource) resultPixels = srcPixels;
+        if (resultIsDestination) resultPixels = dstPixels;
+
+        // Rows are converted to colors, blended, and converted back one at a time, so the
+        // temporary buffers are a single row.
+        std::vector<uint32_t> srcRow(width);
+        std::vector<uint32_t> dstRow(width);
+        for (uint32_t y = 0; y < height; y++) {
+            auto srcLine = reinterpret_cast<const uint32_t *>(static_cast<const uint8_t *>(srcPixels) + y * srcInfo.stride);
+            auto dstLine = reinterpret_cast<const uint32_t *>(static_cast<const uint8_t *>(dstPixels) + y * dstInfo.stride);
+            auto resultLine = reinterpret_cast<uint32_t *>(static_cast<uint8_t *>(resultPixels) + y * resultInfo.stride);
+            for (uint32_t x = 0; x < width; x++) {
+                srcRow[x] = toColor(srcLine[x], sourcePremultiplied);
+                dstRow[x] = toColor(dstLine[x], destinationPremultiplied);
+            }
+            blendRowFunction(srcRow.data(), dstRow.data(), static_cast<int>(width));
+            for (uint32_t x = 0; x < width; x++) {
+                resultLine[x] = toPixel(dstRow[x], resultPremultiplied);
+            }
+        }
+
+        if (!resultIsSource && !resultIsDestination) {
+            AndroidBitmap_unlockPixels(env, result);
+        }
+        AndroidBitmap_unlockPixels(env, destination);
+        AndroidBitmap_unlockPixels(env, source);
+        return JNI_TRUE;
+    }
+#endif
+
+#ifdef __cplusplus
+}
+#endif
+
+} // namespace jni
+} // namespace apl
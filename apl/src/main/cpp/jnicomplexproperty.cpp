@@ -92,6 +92,21 @@ namespace apl {
             return jrect;
         }
 
+        JNIEXPORT void JNICALL
+        Java_com_amazon_apl_android_primitive_Rect_nGetRectValues(JNIEnv *env, jclass clazz,
+                                                                  jlong handle, jint propertyId,
+                                                                  jfloatArray out) {
+            auto lookup = getLookup<PropertyLookup>(handle);
+            auto value = lookup->getObject(static_cast<int>(propertyId), handle);
+            const auto& rect = value.get<Rect>();
+            float buffer[4] = { rect.getLeft(),
+                                rect.getTop(),
+                                rect.getWidth(),
+                                rect.getHeight()};
+
+            env->SetFloatArrayRegion(out, 0, 4, buffer);
+        }
+
         JNIEXPORT jfloat JNICALL
         Java_com_amazon_apl_android_primitive_Radii_nGetTopLeft(JNIEnv *env, jclass clazz,
                                                                 jlong handle, jint propertyId) {
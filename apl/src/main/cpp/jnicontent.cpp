@@ -279,6 +279,35 @@ namespace apl {
             update(env, instance, c, false, false); // only update status, no packages or data
         }
 
+        /**
+         * Add a data payload parsed by APLJSONData. Returns false, without adding it, if the
+         * payload failed to parse.
+         */
+        JNIEXPORT jboolean JNICALL
+        Java_com_amazon_apl_android_Content_nAddParsedData(JNIEnv *env, jobject instance,
+                                                           jlong contentHandle,
+                                                           jstring dataName_,
+                                                           jlong jsonDataHandle) {
+            auto jsonData = get<JsonData>(jsonDataHandle);
+            if (!*jsonData) {
+                return JNI_FALSE;
+            }
+
+            const char *dataName = env->GetStringUTFChars(dataName_, nullptr);
+
+            // Get the content from the handle
+            auto c = get<Content>(contentHandle);
+
+            // The parsed data may be shared with other APLJSONData through the parse cache. Core only
+            // reads data payloads, so reference the tree rather than copying it. The APLJSONData held
+            // by the Java Content keeps it alive.
+            c->addData(dataName, JsonData(jsonData->get()));
+
+            env->ReleaseStringUTFChars(dataName_, dataName);
+            update(env, instance, c, false, false); // only update status, no packages or data
+            return JNI_TRUE;
+        }
+
 
         JNIEXPORT jstring JNICALL Java_com_amazon_apl_android_Content_nGetAPLVersion
                 (JNIEnv *env, jclass clazz, jlong contentHandle) {
@@ -197,23 +197,34 @@ namespace apl {
             return javaSet;
         }
 
-        JNIEXPORT jobject JNICALL
-        Java_com_amazon_apl_android_VectorGraphic_nGetDirtyGraphics(JNIEnv *env, jobject instance,
-                                                                    jlong componentHandle) {
+        /**
+         * Writes the unique ids of dirty graphic elements into the buffer, up to its length.
+         * @return the total number of dirty graphic elements.
+         */
+        JNIEXPORT jint JNICALL
+        Java_com_amazon_apl_android_VectorGraphic_nGetDirtyGraphics(JNIEnv *env, jclass clazz,
+                                                                    jlong componentHandle,
+                                                                    jintArray buffer) {
             auto g = get<Component>(componentHandle);
             auto graphicProperty = g->getCalculated(kPropertyGraphic);
-            jobject javaSet = env->NewObject(HASHSET_CLASS, HASHSET_CONSTRUCTOR);
             if (graphicProperty.isNull()) {
-                return javaSet;
+                return 0;
             }
 
             auto graphic = graphicProperty.get<Graphic>();
-            auto dirtyChildren = graphic->getDirty();
-            for (const auto &it : dirtyChildren) {
-                auto val = getJObject(env, it->getId());
-                env->CallBooleanMethod(javaSet, HASHSET_ADD, val);
+            const auto &dirtyChildren = graphic->getDirty();
+            auto count = static_cast<jint>(dirtyChildren.size());
+            jsize capacity = env->GetArrayLength(buffer);
+            if (count > 0 && count <= capacity) {
+                // Critical access avoids copying the buffer back and forth.
+                auto ids = static_cast<jint *>(env->GetPrimitiveArrayCritical(buffer, nullptr));
+                jsize i = 0;
+                for (const auto &it : dirtyChildren) {
+                    ids[i++] = static_cast<jint>(it->getId());
+                }
+                env->ReleasePrimitiveArrayCritical(buffer, ids, 0);
             }
-            return javaSet;
+            return count;
         }
 
         JNIEXPORT jfloat JNICALL
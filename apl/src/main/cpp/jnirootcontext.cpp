@@ -7,7 +7,12 @@
 #include "apl/apl.h"
 #include "apl/dynamicdata.h"
 #include <list>
+#include <map>
+#include <memory>
+#include <mutex>
 #include <queue>
+#include <unordered_set>
+#include <vector>
 
 #include "jnidocumentcontext.h"
 #include "jniutil.h"
@@ -16,6 +21,9 @@
 #include "scaling.h"
 #include "apl/touch/pointerevent.h"
 #include <codecvt>
+#include <limits>
+#include <cstring>
+#include <algorithm>
 
 namespace apl {
     namespace jni {
@@ -32,10 +40,10 @@ namespace apl {
 
         // Access APL view host RootContext class.
         static jclass ROOTCONTEXT_CLASS;
-        static jmethodID ROOTCONTEXT_BUILD_COMPONENT;
         static jmethodID ROOTCONTEXT_UPDATE_COMPONENT;
         static jmethodID ROOTCONTEXT_HANDLE_EVENT;
-        static jmethodID ROOTCONTEXT_COMPONENT_HANDLE;
+        static jclass INFLATION_MANIFEST_CLASS;
+        static jmethodID INFLATION_MANIFEST_CONSTRUCTOR;
         static jmethodID ROOTCONTEXT_TO_UPPER;
         static jmethodID ROOTCONTEXT_TO_LOWER;
         static jclass JAVA_UTIL_LINKEDHASHMAP;
@@ -61,17 +69,15 @@ namespace apl {
             // method signatures can be obtained with 'javap -s'
             ROOTCONTEXT_CLASS = reinterpret_cast<jclass>(env->NewGlobalRef(
                     env->FindClass("com/amazon/apl/android/RootContext")));
-            ROOTCONTEXT_BUILD_COMPONENT = env->GetMethodID(ROOTCONTEXT_CLASS,
-                                                            "buildComponent",
-                                                            "(Ljava/lang/String;JI)V");
             ROOTCONTEXT_UPDATE_COMPONENT = env->GetMethodID(ROOTCONTEXT_CLASS,
                                                             "callbackUpdateComponent",
                                                             "(Ljava/lang/String;[I)V");
             ROOTCONTEXT_HANDLE_EVENT = env->GetMethodID(ROOTCONTEXT_CLASS,
                                                         "callbackHandleEvent",
                                                         "(JI)V");
-            ROOTCONTEXT_COMPONENT_HANDLE = env->GetMethodID(ROOTCONTEXT_CLASS, "getComponentHandle",
-                                                   "(Ljava/lang/String;)J");
+            INFLATION_MANIFEST_CLASS = reinterpret_cast<jclass>(env->NewGlobalRef(
+                    env->FindClass("com/amazon/apl/android/InflationManifest")));
+            INFLATION_MANIFEST_CONSTRUCTOR = env->GetMethodID(INFLATION_MANIFEST_CLASS, "<init>", "([I[B)V");
             ROOTCONTEXT_TO_UPPER = env->GetStaticMethodID(ROOTCONTEXT_CLASS, "callbackToUpperCase", "(Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;");
             ROOTCONTEXT_TO_LOWER = env->GetStaticMethodID(ROOTCONTEXT_CLASS, "callbackToLowerCase", "(Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;");
 
@@ -79,10 +85,9 @@ namespace apl {
             JAVA_UTIL_LINKEDHASHMAP_CONSTRUCTOR = env->GetMethodID(JAVA_UTIL_LINKEDHASHMAP, "<init>", "()V");
             JAVA_UTIL_LINKEDHASHMAP_PUT = env->GetMethodID(JAVA_UTIL_LINKEDHASHMAP, "put", "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;");
 
-            if (nullptr == ROOTCONTEXT_BUILD_COMPONENT
-                || nullptr == ROOTCONTEXT_UPDATE_COMPONENT
+            if (nullptr == ROOTCONTEXT_UPDATE_COMPONENT
                 || nullptr == ROOTCONTEXT_HANDLE_EVENT
-                || nullptr == ROOTCONTEXT_COMPONENT_HANDLE
+                || nullptr == INFLATION_MANIFEST_CONSTRUCTOR
                 ) {
                 LOG(apl::LogLevel::kError)
                         << "Could not load methods for class com.amazon.apl.android.RootContext";
@@ -112,6 +117,7 @@ namespace apl {
             JAVA_VM = nullptr;
 
             env->DeleteGlobalRef(ROOTCONTEXT_CLASS);
+            env->DeleteGlobalRef(INFLATION_MANIFEST_CLASS);
         }
 
         /**
@@ -231,120 +237,231 @@ namespace apl {
             return rootContext->getViewportSize().getWidth();
         }
 
+        using InflatedComponents = std::unordered_set<std::string>;
+
+        /**
+         * Unique ids of the Components that have a Java peer, per RootContext. Keyed by owner, so
+         * the entry of a released RootContext can't be mistaken for the one of a new RootContext.
+         */
+        static std::mutex sInflatedComponentsMutex;
+        static std::map<std::weak_ptr<RootContext>, InflatedComponents,
+                std::owner_less<std::weak_ptr<RootContext>>> sInflatedComponents;
+
         /**
-         * Inflates a Component hierarchy from given root Component into the rendering layer.
+         * @return the ids of the Components of a RootContext that have a Java peer. Must be called
+         *         with sInflatedComponentsMutex held.
+         */
+        static InflatedComponents& getInflatedComponents(const RootContextPtr& rootContext) {
+            auto it = sInflatedComponents.find(rootContext);
+            if (it == sInflatedComponents.end()) {
+                // Drop the entries of released RootContexts that were never finished
+                for (auto expired = sInflatedComponents.begin(); expired != sInflatedComponents.end();) {
+                    expired = expired->first.expired() ? sInflatedComponents.erase(expired) : std::next(expired);
+                }
+                it = sInflatedComponents.emplace(rootContext, InflatedComponents()).first;
+            }
+            return it->second;
+        }
+
+        /**
+         * Builds the inflation manifest for a Component hierarchy from given root Component.
          * I.e. this method informs the Java layer about Component objects in Core-layer so that it
          * can create the corresponding Component Objects in Java.
          *
+         * The whole hierarchy is described with a constant number of JNI calls: one int array of
+         * (type, id offset) entries in breadth first order and one UTF-8 blob of the unique ids.
+         * Only the Components the Java layer doesn't have yet are listed, so it never decodes the
+         * ids of existing ones. Their handles are created by nCreateComponentHandles.
+         *
          * @param env
-         * @param instance
-         * @param rootContextHandle
+         * @param rootContext The RootContext of the hierarchy.
          * @param rootComponent The root of the hierarchy to inflate. This does not necessarily need
          *                      to be the root of the document. E.g. it could be a lazily-loaded Sequence/Pager child
+         * @return an InflationManifest
          */
-        static void inflateComponentHierarchy(
+        static jobject buildInflationManifest(
                 JNIEnv *env,
-                jobject instance,
-                const std::shared_ptr<RootContext>& rootContext,
+                const RootContextPtr& rootContext,
                 const ComponentPtr& rootComponent) {
+            std::vector<jint> entries;
+            std::string ids;
+
+            std::lock_guard<std::mutex> lock(sInflatedComponentsMutex);
+            const auto& inflated = getInflatedComponents(rootContext);
             std::queue<ComponentPtr> queue;
             queue.push(rootComponent);
 
-            /* NOTE
-             * this loop could move to view host and the v.h. call into jni.
-             * However multiple values are needed to create a component, this would require
-             * a jni call per value, wrapping the collection of params in a complex object,
-             * or instantiating the view host Component via JNI calls to constructor in
-             * these cases it's less performance overhead to have the v.h. initiate
-             * a callback procedure.
-             */
             while (!queue.empty()) {
-                // pop apl component
                 auto component = queue.front();
                 queue.pop();
 
-                auto id = env->NewStringUTF(component->getUniqueId().c_str());
-                //Reuse the handle if we have already created this component before, otherwise
-                //create a new handle.
-                auto handle = env->CallLongMethod(instance, ROOTCONTEXT_COMPONENT_HANDLE, id);
-                if (handle == 0) {
-                    handle = createHandle<Component, ComponentPropertyLookup>(component);
-                }
-
-                // Call the rendering layer to add/update the component
-                env->CallVoidMethod(instance, ROOTCONTEXT_BUILD_COMPONENT,
-                                    id,
-                                    handle,
-                                    static_cast<int>(component->getType()));
-                env->DeleteLocalRef(id);
-                if (env->ExceptionCheck()) {
-                    env->ExceptionDescribe();
-                    LOG(apl::LogLevel::kError)
-                            << " Failed to update component. type:" << component->getType()
-                            << " id:" << component->getUniqueId();
-                    env->ExceptionDescribe();
-                    env->ExceptionClear();
+                // Children of an existing Component may still be new
+                if (inflated.count(component->getUniqueId()) == 0) {
+                    entries.push_back(static_cast<jint>(component->getType()));
+                    entries.push_back(static_cast<jint>(ids.size()));
+                    ids.append(component->getUniqueId());
                 }
 
-                // insert children into the stack
+                // insert children into the queue
                 for (size_t i = 0; i < component->getChildCount(); i++) {
                     queue.push(component->getChildAt(i));
                 }
             }
+
+            jintArray jentries = env->NewIntArray(static_cast<jsize>(entries.size()));
+            env->SetIntArrayRegion(jentries, 0, static_cast<jsize>(entries.size()), entries.data());
+            jbyteArray jids = env->NewByteArray(static_cast<jsize>(ids.size()));
+            env->SetByteArrayRegion(jids, 0, static_cast<jsize>(ids.size()),
+                                    reinterpret_cast<const jbyte *>(ids.data()));
+
+            auto manifest = env->NewObject(INFLATION_MANIFEST_CLASS, INFLATION_MANIFEST_CONSTRUCTOR,
+                                           jentries, jids);
+            env->DeleteLocalRef(jentries);
+            env->DeleteLocalRef(jids);
+            return manifest;
         }
 
         /**
          * Inflates document from root, initiated by the view host.
          */
-        JNIEXPORT void JNICALL
-        Java_com_amazon_apl_android_RootContext_nInflate(JNIEnv *env, jobject instance,
-                                                                    jlong nativeHandle) {
+        JNIEXPORT jobject JNICALL
+        Java_com_amazon_apl_android_RootContext_nInflate(JNIEnv *env, jclass clazz,
+                                                         jlong nativeHandle) {
             auto rootContext = get<RootContext>(nativeHandle);
-
-            inflateComponentHierarchy(
-                    env,
-                    instance,
-                    rootContext,
-                    rootContext->topComponent());
+            return buildInflationManifest(env, rootContext, rootContext->topComponent());
         }
 
         /**
          * Re-inflates document from root, initiated by the view host.
          */
-        JNIEXPORT jboolean JNICALL
-        Java_com_amazon_apl_android_RootContext_nReinflate(JNIEnv *env, jobject instance,
-                                                         jlong nativeHandle) {
+        JNIEXPORT jobject JNICALL
+        Java_com_amazon_apl_android_RootContext_nReinflate(JNIEnv *env, jclass clazz,
+                                                           jlong nativeHandle) {
             auto rootContext = get<RootContext>(nativeHandle);
             rootContext->reinflate();
 
             if (rootContext->topComponent() == nullptr) {
-                return false;
+                return nullptr;
             }
-            inflateComponentHierarchy(
-                    env,
-                    instance,
-                    rootContext,
-                    rootContext->topComponent());
-            return true;
+            return buildInflationManifest(env, rootContext, rootContext->topComponent());
         }
 
-        JNIEXPORT void JNICALL
-        Java_com_amazon_apl_android_RootContext_nInflateComponentWithUniqueId(JNIEnv *env, jobject instance,
-                                                         jlong nativeHandle,
-                                                         jstring uid_) {
+        JNIEXPORT jobject JNICALL
+        Java_com_amazon_apl_android_RootContext_nInflateComponentWithUniqueId(JNIEnv *env, jclass clazz,
+                                                                              jlong nativeHandle,
+                                                                              jstring uid_) {
             auto rootContext = get<RootContext>(nativeHandle);
             const char *uid = env->GetStringUTFChars(uid_, nullptr);
             auto component = rootContext->findComponentById(uid);
+            env->ReleaseStringUTFChars(uid_, uid);
 
-            if (component) {
-                inflateComponentHierarchy(
-                        env,
-                        instance,
-                        rootContext,
-                        component);
+            if (!component) {
+                return nullptr;
             }
+            return buildInflationManifest(env, rootContext, component);
+        }
 
-            env->ReleaseStringUTFChars(uid_, uid);
+        /**
+         * Creates Component handles for the entries of an inflation manifest, and records that
+         * these Components have a Java peer.
+         *
+         * The hierarchy is walked in the same order as buildInflationManifest, so handles match the
+         * entries of the manifest built from the same root as long as the hierarchy hasn't changed
+         * in between.
+         *
+         * @param rootId The unique id of the root of the manifest, null for the top Component.
+         * @param count  The number of entries of the manifest.
+         * @return the handles, 0 for entries that don't match a Component.
+         */
+        JNIEXPORT jlongArray JNICALL
+        Java_com_amazon_apl_android_RootContext_nCreateComponentHandles(JNIEnv *env, jclass clazz,
+                                                                        jlong nativeHandle,
+                                                                        jstring rootId_,
+                                                                        jint count) {
+            auto rootContext = get<RootContext>(nativeHandle);
+            ComponentPtr rootComponent;
+            if (rootId_ == nullptr) {
+                rootComponent = rootContext->topComponent();
+            } else {
+                const char *rootId = env->GetStringUTFChars(rootId_, nullptr);
+                rootComponent = rootContext->findComponentById(rootId);
+                env->ReleaseStringUTFChars(rootId_, rootId);
+            }
+
+            std::vector<jlong> handles;
+            handles.reserve(static_cast<size_t>(count));
+            if (rootComponent) {
+                std::lock_guard<std::mutex> lock(sInflatedComponentsMutex);
+                auto& inflated = getInflatedComponents(rootContext);
+                std::queue<ComponentPtr> queue;
+                queue.push(rootComponent);
+                while (!queue.empty() && handles.size() < static_cast<size_t>(count)) {
+                    auto component = queue.front();
+                    queue.pop();
+
+                    if (inflated.insert(component->getUniqueId()).second) {
+                        handles.push_back(createHandle<Component, ComponentPropertyLookup>(component));
+                    }
+                    for (size_t i = 0; i < component->getChildCount(); i++) {
+                        queue.push(component->getChildAt(i));
+                    }
+                }
+            }
+
+            jlongArray jhandles = env->NewLongArray(count);
+            env->SetLongArrayRegion(jhandles, 0, static_cast<jsize>(handles.size()), handles.data());
+            return jhandles;
+        }
+
+        /**
+         * Releases Component handles that the rendering layer did not consume. Their Components
+         * are listed again by the next inflation manifest.
+         */
+        JNIEXPORT void JNICALL
+        Java_com_amazon_apl_android_RootContext_nReleaseComponentHandles(JNIEnv *env, jclass clazz,
+                                                                         jlong nativeHandle,
+                                                                         jlongArray handles_) {
+            auto rootContext = get<RootContext>(nativeHandle);
+            jsize count = env->GetArrayLength(handles_);
+            jlong *handles = env->GetLongArrayElements(handles_, nullptr);
+            {
+                std::lock_guard<std::mutex> lock(sInflatedComponentsMutex);
+                auto& inflated = getInflatedComponents(rootContext);
+                for (jsize i = 0; i < count; i++) {
+                    if (handles[i] != 0) {
+                        inflated.erase(get<Component>(handles[i])->getUniqueId());
+                        NativeOwner<>::unbind(handles[i]);
+                    }
+                }
+            }
+            env->ReleaseLongArrayElements(handles_, handles, JNI_ABORT);
+        }
+
+        /**
+         * Forgets the Java peers of Components, which are listed again by the next inflation
+         * manifest that includes them.
+         *
+         * @param componentIds The unique ids of the Components, null to forget all Components.
+         */
+        JNIEXPORT void JNICALL
+        Java_com_amazon_apl_android_RootContext_nForgetComponents(JNIEnv *env, jclass clazz,
+                                                                  jlong nativeHandle,
+                                                                  jobjectArray componentIds_) {
+            auto rootContext = get<RootContext>(nativeHandle);
+            std::lock_guard<std::mutex> lock(sInflatedComponentsMutex);
+            if (componentIds_ == nullptr) {
+                sInflatedComponents.erase(rootContext);
+                return;
+            }
+            auto& inflated = getInflatedComponents(rootContext);
+            jsize count = env->GetArrayLength(componentIds_);
+            for (jsize i = 0; i < count; i++) {
+                auto componentId_ = reinterpret_cast<jstring>(env->GetObjectArrayElement(componentIds_, i));
+                const char *componentId = env->GetStringUTFChars(componentId_, nullptr);
+                inflated.erase(componentId);
+                env->ReleaseStringUTFChars(componentId_, componentId);
+                env->DeleteLocalRef(componentId_);
+            }
         }
 
         JNIEXPORT void JNICALL
@@ -582,6 +699,33 @@ namespace apl {
             return static_cast<jboolean>(rc->isDirty());
         }
 
+        /**
+         * Returns true if core has events waiting to be handled.
+         */
+        JNIEXPORT jboolean JNICALL
+        Java_com_amazon_apl_android_RootContext_nHasEvent(JNIEnv *env,
+                                                          jclass clazz,
+                                                          jlong handle) {
+            auto rc = get<RootContext>(handle);
+            return static_cast<jboolean>(rc->hasEvent());
+        }
+
+        /**
+         * Returns the document time in milliseconds at which the next core timer fires, or -1
+         * if there are no pending timers.
+         */
+        JNIEXPORT jlong JNICALL
+        Java_com_amazon_apl_android_RootContext_nNextTime(JNIEnv *env,
+                                                          jclass clazz,
+                                                          jlong handle) {
+            auto rc = get<RootContext>(handle);
+            auto nextTime = rc->nextTime();
+            if (nextTime >= static_cast<apl_time_t>(std::numeric_limits<jlong>::max())) {
+                return -1;
+            }
+            return static_cast<jlong>(nextTime);
+        }
+
         /**
          * Returns true if the screenlock is on.
          */
@@ -646,6 +790,31 @@ namespace apl {
             return static_cast<jboolean>(rc->handlePointerEvent(pointerEvent));
         }
 
+        JNIEXPORT jboolean JNICALL
+        Java_com_amazon_apl_android_RootContext_nHandlePointerMoves(JNIEnv *env, jclass clazz, jlong handle, jint pointerId, jint pointerType,
+                                                                    jfloatArray points_, jlongArray times_, jint count, jlong frameTime) {
+            auto rc = get<RootContext>(handle);
+            auto points = env->GetFloatArrayElements(points_, nullptr);
+            auto times = env->GetLongArrayElements(times_, nullptr);
+            bool handled = false;
+            for (int i = 0; i < count; i++) {
+                // Advance core to the sample time so velocity tracking sees real intervals.
+                auto time = std::min(static_cast<apl_time_t>(times[i]), static_cast<apl_time_t>(frameTime));
+                if (time > rc->currentTime()) {
+                    rc->updateTime(time);
+                }
+                auto pointerEvent = PointerEvent(
+                        PointerEventType::kPointerMove,
+                        Point(points[2 * i], points[2 * i + 1]),
+                        static_cast<id_type>(pointerId),
+                        static_cast<PointerType>(pointerType));
+                handled = rc->handlePointerEvent(pointerEvent);
+            }
+            env->ReleaseLongArrayElements(times_, times, JNI_ABORT);
+            env->ReleaseFloatArrayElements(points_, points, JNI_ABORT);
+            return static_cast<jboolean>(handled);
+        }
+
         JNIEXPORT void JNICALL
         Java_com_amazon_apl_android_RootContext_nHandleConfigurationChange(JNIEnv *env,
                                                                            jclass clazz,
@@ -843,6 +1012,98 @@ namespace apl {
             return jmap;
         }
 
+        /**
+         * Tests whether a focusable area matches a query. Directional queries match areas whose
+         * center lies beyond the origin in that direction, other queries match areas intersecting
+         * the origin, or every area when the origin is empty.
+         */
+        static bool
+        matchesFocusQuery(const Rect &area, const Rect &origin, FocusDirection direction) {
+            const float centerX = area.getX() + area.getWidth() / 2;
+            const float centerY = area.getY() + area.getHeight() / 2;
+            switch (direction) {
+                case kFocusDirectionLeft:
+                    return centerX < origin.getX();
+                case kFocusDirectionRight:
+                    return centerX > origin.getX() + origin.getWidth();
+                case kFocusDirectionUp:
+                    return centerY < origin.getY();
+                case kFocusDirectionDown:
+                    return centerY > origin.getY() + origin.getHeight();
+                default:
+                    if (origin.getWidth() <= 0 && origin.getHeight() <= 0) {
+                        return true;
+                    }
+                    return area.getX() < origin.getX() + origin.getWidth()
+                           && origin.getX() < area.getX() + area.getWidth()
+                           && area.getY() < origin.getY() + origin.getHeight()
+                           && origin.getY() < area.getY() + area.getHeight();
+            }
+        }
+
+        /**
+         * Writes the focusable areas matching a query into caller provided buffers: packed
+         * [x, y, width, height] rects, offsets into a UTF-8 blob of ids (with a trailing end
+         * offset) and the blob itself. Nothing is written unless everything fits.
+         *
+         * @return the number of matching areas in the upper 32 bits and the id blob size in the
+         *         lower 32 bits.
+         */
+        JNIEXPORT jlong JNICALL
+        Java_com_amazon_apl_android_RootContext_nQueryFocusableAreas(JNIEnv *env, jclass clazz,
+                                                                     jlong handle,
+                                                                     jfloat x, jfloat y,
+                                                                     jfloat width, jfloat height,
+                                                                     jint focusDirection,
+                                                                     jfloatArray rects_,
+                                                                     jintArray idOffsets_,
+                                                                     jbyteArray ids_) {
+            auto rc = get<RootContext>(handle);
+            const std::map<std::string, Rect> &areas = rc->getFocusableAreas();
+            const Rect origin(x, y, width, height);
+            const auto direction = static_cast<FocusDirection>(focusDirection);
+
+            jint count = 0;
+            jint idBytes = 0;
+            for (auto const &area : areas) {
+                if (matchesFocusQuery(area.second, origin, direction)) {
+                    count++;
+                    idBytes += static_cast<jint>(area.first.size());
+                }
+            }
+            const auto result = (static_cast<jlong>(count) << 32) | static_cast<jlong>(idBytes);
+
+            if (env->GetArrayLength(rects_) < count * 4
+                || env->GetArrayLength(idOffsets_) < count + 1
+                || env->GetArrayLength(ids_) < idBytes) {
+                return result;
+            }
+
+            auto rects = static_cast<jfloat *>(env->GetPrimitiveArrayCritical(rects_, nullptr));
+            auto idOffsets = static_cast<jint *>(env->GetPrimitiveArrayCritical(idOffsets_, nullptr));
+            auto ids = static_cast<jbyte *>(env->GetPrimitiveArrayCritical(ids_, nullptr));
+            jint index = 0;
+            jint offset = 0;
+            for (auto const &area : areas) {
+                if (!matchesFocusQuery(area.second, origin, direction)) {
+                    continue;
+                }
+                rects[index * 4] = area.second.getX();
+                rects[index * 4 + 1] = area.second.getY();
+                rects[index * 4 + 2] = area.second.getWidth();
+                rects[index * 4 + 3] = area.second.getHeight();
+                idOffsets[index] = offset;
+                memcpy(ids + offset, area.first.data(), area.first.size());
+                offset += static_cast<jint>(area.first.size());
+                index++;
+            }
+            idOffsets[index] = offset;
+            env->ReleasePrimitiveArrayCritical(ids_, ids, 0);
+            env->ReleasePrimitiveArrayCritical(idOffsets_, idOffsets, 0);
+            env->ReleasePrimitiveArrayCritical(rects_, rects, 0);
+            return result;
+        }
+
         JNIEXPORT jboolean JNICALL
         Java_com_amazon_apl_android_RootContext_nSetFocus(JNIEnv *env, jclass clazz, jlong handle,
                                                           jint focus_direction,
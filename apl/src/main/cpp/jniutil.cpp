@@ -3,7 +3,12 @@
  */
 
 #include <jni.h>
+#include <algorithm>
+#include <atomic>
+#include <cstring>
+#include <mutex>
 #include <string>
+#include <unordered_map>
 
 #include "jniutil.h"
 #include "apl/apl.h"
@@ -173,6 +178,98 @@ namespace apl {
         std::shared_ptr<ComponentPropertyLookup> ComponentPropertyLookup::instance = nullptr;
         std::shared_ptr<GraphicPropertyLookup> GraphicPropertyLookup::instance = nullptr;
 
+        /**
+         * Identifies the text of a JSON document: its length and two independent 64-bit hashes of
+         * its bytes, so that distinct documents colliding is not a practical concern.
+         */
+        struct JsonDataKey {
+            size_t length;
+            uint64_t fnvHash;
+            uint64_t polyHash;
+
+            JsonDataKey(const char *data, size_t length) : length(length), fnvHash(14695981039346656037ULL), polyHash(0) {
+                for (size_t i = 0; i < length; i++) {
+                    auto c = static_cast<uint8_t>(data[i]);
+                    fnvHash = (fnvHash ^ c) * 1099511628211ULL;
+                    polyHash = polyHash * 31 + c;
+                }
+            }
+
+            bool operator==(const JsonDataKey &other) const {
+                return length == other.length && fnvHash == other.fnvHash && polyHash == other.polyHash;
+            }
+        };
+
+        struct JsonDataKeyHash {
+            size_t operator()(const JsonDataKey &key) const {
+                return static_cast<size_t>(key.fnvHash);
+            }
+        };
+
+        /**
+         * Parsed JSON documents by text, so that the same package imported by many documents is
+         * parsed once. The cache doesn't own the documents: a document lives as long as any
+         * APLJSONData refers to it, and is parsed again once they are all gone. Cached documents
+         * are never modified, core only reads packages and data payloads.
+         */
+        static std::mutex sJsonDataCacheMutex;
+        static std::unordered_map<JsonDataKey, std::weak_ptr<JsonData>, JsonDataKeyHash> sJsonDataCache;
+        // Expired entries are swept whenever the cache grows past this size.
+        static const size_t JSON_DATA_CACHE_SWEEP_SIZE = 32;
+        static size_t sJsonDataCacheSweepSize = JSON_DATA_CACHE_SWEEP_SIZE;
+
+        static std::atomic<jlong> sJsonDataCacheHits(0);
+        static std::atomic<jlong> sJsonDataCacheMisses(0);
+        static std::atomic<jlong> sJsonDataCacheBytesSaved(0);
+
+        static std::shared_ptr<JsonData> findJsonData(const JsonDataKey &key) {
+            std::lock_guard<std::mutex> lock(sJsonDataCacheMutex);
+            auto it = sJsonDataCache.find(key);
+            if (it == sJsonDataCache.end()) {
+                return nullptr;
+            }
+            auto jsonData = it->second.lock();
+            if (!jsonData) {
+                sJsonDataCache.erase(it);
+            }
+            return jsonData;
+        }
+
+        static void cacheJsonData(const JsonDataKey &key, const std::shared_ptr<JsonData> &jsonData) {
+            std::lock_guard<std::mutex> lock(sJsonDataCacheMutex);
+            sJsonDataCache[key] = jsonData;
+            if (sJsonDataCache.size() > sJsonDataCacheSweepSize) {
+                for (auto it = sJsonDataCache.begin(); it != sJsonDataCache.end();) {
+                    if (it->second.expired()) {
+                        it = sJsonDataCache.erase(it);
+                    } else {
+                        ++it;
+                    }
+                }
+                sJsonDataCacheSweepSize = std::max(JSON_DATA_CACHE_SWEEP_SIZE, sJsonDataCache.size() * 2);
+            }
+        }
+
+        /**
+         * Returns the parsed document for the given text, parsing it only if no live document was
+         * parsed from the same text.
+         */
+        template<typename Parse>
+        static std::shared_ptr<JsonData> obtainJsonData(const char *data, size_t length, Parse parse) {
+            JsonDataKey key(data, length);
+            auto jsonData = findJsonData(key);
+            if (jsonData) {
+                sJsonDataCacheHits++;
+                sJsonDataCacheBytesSaved += static_cast<jlong>(length);
+                return jsonData;
+            }
+            sJsonDataCacheMisses++;
+            // Parse outside of the lock, identical documents parsed concurrently just race to be cached.
+            jsonData = std::make_shared<JsonData>(parse());
+            cacheJsonData(key, jsonData);
+            return jsonData;
+        }
+
 #ifdef __cplusplus
         extern "C" {
 #endif
@@ -407,15 +504,13 @@ namespace apl {
             return static_cast<jint>(value.asNumber());
         }
 
-        JNIEXPORT jfloatArray JNICALL
-        Java_com_amazon_apl_android_PropertyMap_nGetTransform(JNIEnv *env, jclass clazz, jlong handle,
-                                                              jint propertyId) {
+        JNIEXPORT void JNICALL
+        Java_com_amazon_apl_android_PropertyMap_nGetTransformValues(JNIEnv *env, jclass clazz, jlong handle,
+                                                                    jint propertyId, jfloatArray out) {
             auto lookup = getLookup<PropertyLookup>(handle);
             auto value = lookup->getObject(static_cast<int>(propertyId), handle);
             auto transform = value.get<Transform2D>().get();
-            jfloatArray ret = env->NewFloatArray(6);
-            env->SetFloatArrayRegion(ret, 0, 6, transform.data());
-            return ret;
+            env->SetFloatArrayRegion(out, 0, 6, transform.data());
         }
 
         JNIEXPORT jboolean JNICALL
@@ -495,9 +590,11 @@ namespace apl {
         JNIEXPORT jlong JNICALL
         Java_com_amazon_apl_android_APLJSONData_nCreate(JNIEnv *env, jclass clazz, jstring data_) {
             const char* data = env->GetStringUTFChars(data_, nullptr);
-            auto jsonData = JsonData(data);
+            auto jsonData = obtainJsonData(data, strlen(data), [data]() {
+                return JsonData(data);
+            });
             env->ReleaseStringUTFChars(data_, data);
-            return createHandle(std::make_shared<JsonData>(std::move(jsonData)));
+            return createHandle(jsonData);
         }
 
         JNIEXPORT jlong JNICALL
@@ -505,19 +602,42 @@ namespace apl {
                 auto elements = env->GetByteArrayElements(byteArray, nullptr);
                 auto length = static_cast<std::string::size_type>(env->GetArrayLength(byteArray));
 
-                rapidjson::Document doc;
-                rapidjson::ParseResult ok = doc.Parse<
-                        rapidjson::kParseValidateEncodingFlag | rapidjson::kParseStopWhenDoneFlag>(
-                        reinterpret_cast<const char *>(elements), length);
+                auto jsonData = obtainJsonData(reinterpret_cast<const char *>(elements), length, [elements, length]() {
+                    rapidjson::Document doc;
+                    rapidjson::ParseResult ok = doc.Parse<
+                            rapidjson::kParseValidateEncodingFlag | rapidjson::kParseStopWhenDoneFlag>(
+                            reinterpret_cast<const char *>(elements), length);
+                    if (ok.IsError()) {
+                        LOG(apl::LogLevel::kError)
+                                << "Parsing error: " << rapidjson::GetParseError_En(ok.Code());
+                    }
+                    return JsonData(std::move(doc));
+                });
                 env->ReleaseByteArrayElements(byteArray, elements, JNI_ABORT);
-                if (ok.IsError()) {
-                    LOG(apl::LogLevel::kError)
-                            << "Parsing error: " << rapidjson::GetParseError_En(ok.Code());
-                }
-                auto jsonData = JsonData(std::move(doc));
-                return createHandle(std::make_shared<JsonData>(std::move(jsonData)));
+                return createHandle(jsonData);
+        }
+
+        JNIEXPORT jboolean JNICALL
+        Java_com_amazon_apl_android_APLJSONData_nIsValid(JNIEnv *env, jclass clazz, jlong handle) {
+            auto jsonData = get<JsonData>(handle);
+            return static_cast<jboolean>(static_cast<bool>(*jsonData));
         }
 
+        /**
+         * Returns the hits, misses and bytes not parsed thanks to hits of the parsed JSON cache
+         * since the last call.
+         */
+        JNIEXPORT jlongArray JNICALL
+        Java_com_amazon_apl_android_APLJSONData_nGetAndResetCacheStats(JNIEnv *env, jclass clazz) {
+            jlong stats[3] = {
+                    sJsonDataCacheHits.exchange(0),
+                    sJsonDataCacheMisses.exchange(0),
+                    sJsonDataCacheBytesSaved.exchange(0)
+            };
+            jlongArray result = env->NewLongArray(3);
+            env->SetLongArrayRegion(result, 0, 3, stats);
+            return result;
+        }
 
 #pragma clang diagnostic pop
 
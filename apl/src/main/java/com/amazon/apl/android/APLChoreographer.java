@@ -7,52 +7,156 @@ package com.amazon.apl.android;
 
 import android.view.Choreographer;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.UiThread;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * This is an implementation of IClock that is powered by the Android Choreographer.
  * It should run at 60 frames per second.
+ *
+ * An adaptive choreographer, see {@link #adaptive(IClockCallback, int)}, stops requesting frames
+ * while the document is idle and can be limited to a lower frame rate.
  */
 public class APLChoreographer implements IClock, Choreographer.FrameCallback  {
     
     final IClockCallback callback;
     Boolean running = false;
     Boolean scheduled = false;
+    long scheduledDelayMs = 0;
+
+    private final boolean mAdaptive;
+    private final long mMinFrameIntervalNanos;
+    // Obtained on start, as the Choreographer is per looper thread.
+    private Choreographer mChoreographer;
+    private long mLastFrameTimeNanos = 0;
+    private long mIdleDelayMs = 0;
 
     public APLChoreographer(IClockCallback callback) {
+        this(callback, false, 0);
+    }
+
+    private APLChoreographer(IClockCallback callback, boolean adaptive, long minFrameIntervalNanos) {
         this.callback = callback;
+        mAdaptive = adaptive;
+        mMinFrameIntervalNanos = minFrameIntervalNanos;
+    }
+
+    /**
+     * Creates a choreographer that skips frames while the document is idle, waking for the next
+     * core timer or on input, and ticks at most {@code maxFramesPerSecond}.
+     *
+     * @param callback              the clock callback
+     * @param maxFramesPerSecond    the maximum frame rate, or 0 to tick on every vsync
+     * @return an adaptive choreographer
+     */
+    @NonNull
+    @UiThread
+    public static APLChoreographer adaptive(@NonNull IClockCallback callback, int maxFramesPerSecond) {
+        long minFrameIntervalNanos = maxFramesPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxFramesPerSecond : 0;
+        return new APLChoreographer(callback, true, minFrameIntervalNanos);
     }
 
     @Override
     @UiThread
-    public void start() {
+    public synchronized void start() {
         if (!running) {
+            if (mChoreographer == null) {
+                mChoreographer = Choreographer.getInstance();
+            }
             running = true;
-            scheduled = true;
-            Choreographer.getInstance().postFrameCallback(this);
+            mIdleDelayMs = 0;
+            schedule(0);
         }
     }
 
     @Override
     @UiThread
-    public void stop() {
+    public synchronized void stop() {
         running = false;
 
         if (scheduled) {
             //Optimistically try and prevent the doFrame from happening.
-            Choreographer.getInstance().removeFrameCallback(this);
+            mChoreographer.removeFrameCallback(this);
             scheduled = false;
         }
     }
 
+    @Override
+    public boolean supportsIdle() {
+        return mAdaptive;
+    }
+
+    @Override
+    public synchronized void idle(long delayMs) {
+        if (mAdaptive) {
+            mIdleDelayMs = delayMs;
+        }
+    }
+
+    @Override
+    public synchronized void wake() {
+        if (!mAdaptive || !running) {
+            return;
+        }
+        mIdleDelayMs = 0;
+        if (scheduled) {
+            mChoreographer.removeFrameCallback(this);
+        }
+        schedule(0);
+    }
+
     @Override
     public void doFrame(long frameTime) {
-        scheduled = false;
+        synchronized (this) {
+            scheduled = false;
+            // Drop frames to stay under the maximum frame rate, waiting out the rest of the interval
+            // rather than waking on every vsync.
+            if (mMinFrameIntervalNanos > 0 && mLastFrameTimeNanos != 0
+                    && frameTime - mLastFrameTimeNanos < mMinFrameIntervalNanos) {
+                if (running) {
+                    schedule(remainingIntervalMs(frameTime));
+                }
+                return;
+            }
+            mLastFrameTimeNanos = frameTime;
+            mIdleDelayMs = 0;
+        }
+
         callback.onTick(frameTime);
 
-        if (running) {
-            Choreographer.getInstance().postFrameCallback(this);
-            scheduled = true;
+        synchronized (this) {
+            // A wake during the tick has already scheduled the next frame.
+            if (running && !scheduled) {
+                schedule(Math.max(mIdleDelayMs, remainingIntervalMs(System.nanoTime())));
+            }
+        }
+    }
+
+    /**
+     * @return the time from {@code timeNanos} until the next frame allowed by the maximum frame rate.
+     */
+    private long remainingIntervalMs(long timeNanos) {
+        if (mMinFrameIntervalNanos == 0) {
+            return 0;
+        }
+        long remainingNanos = mMinFrameIntervalNanos - (timeNanos - mLastFrameTimeNanos);
+        remainingNanos = Math.max(0, Math.min(remainingNanos, mMinFrameIntervalNanos));
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos);
+    }
+
+    private void schedule(long delayMs) {
+        if (delayMs == Long.MAX_VALUE) {
+            // Sleep until woken.
+            return;
+        }
+        scheduledDelayMs = delayMs;
+        if (delayMs > 0) {
+            mChoreographer.postFrameCallbackDelayed(this, delayMs);
+        } else {
+            mChoreographer.postFrameCallback(this);
         }
+        scheduled = true;
     }
 }
@@ -25,6 +25,7 @@ import com.amazon.apl.android.dependencies.IPackageCache;
 import com.amazon.apl.android.ExtensionMediator.ILoadExtensionCallback;
 import com.amazon.apl.android.font.TypefaceResolver;
 import com.amazon.apl.android.functional.Consumer;
+import com.amazon.apl.android.image.filters.bitmap.PixelBufferPool;
 import com.amazon.apl.android.providers.ITelemetryProvider;
 import com.amazon.apl.android.providers.ITelemetryProvider.Type;
 import com.amazon.apl.android.scaling.Scaling;
@@ -139,6 +140,7 @@ public class APLController implements IDocumentLifecycleListener, IAPLController
         if (bitmapCache instanceof ComponentCallbacks2) {
             context.registerComponentCallbacks((ComponentCallbacks2) bitmapCache);
         }
+        context.registerComponentCallbacks(PixelBufferPool.getDefault());
     }
 
     /**
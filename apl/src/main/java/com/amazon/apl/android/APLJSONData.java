@@ -6,13 +6,27 @@
 package com.amazon.apl.android;
 
 import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.amazon.apl.android.providers.ITelemetryProvider;
 import com.amazon.common.BoundObject;
 
+import static com.amazon.apl.android.providers.ITelemetryProvider.APL_DOMAIN;
+import static com.amazon.apl.android.providers.ITelemetryProvider.Type.COUNTER;
+
 /**
  * The JSONData class is a wrapper class that indicates the content is JSON,
  * instead of a standard Android string.
+ *
+ * Parsed JSON is shared: creating JSONData from the same content as a live JSONData, e.g. the
+ * same package imported by several documents, reuses the parsed tree instead of parsing again.
  */
 public class APLJSONData extends BoundObject {
+    private static final String TAG = "APLJSONData";
+    private static final String METRIC_CACHE_HIT = TAG + ".parseCacheHit";
+    private static final String METRIC_CACHE_MISS = TAG + ".parseCacheMiss";
+    private static final String METRIC_CACHE_BYTES_SAVED = TAG + ".parseCacheBytesSaved";
 
     private final int mSize;
 
@@ -55,7 +69,39 @@ public class APLJSONData extends BoundObject {
         return mSize;
     }
 
+    /**
+     * @return true if the content parsed to valid JSON.
+     */
+    public boolean isValid() {
+        return nIsValid(getNativeHandle());
+    }
+
+    /**
+     * Reports the parse cache hits, misses and bytes not parsed thanks to hits since the last
+     * report.
+     *
+     * @param telemetryProvider the telemetry provider.
+     */
+    public static void reportMetrics(@NonNull ITelemetryProvider telemetryProvider) {
+        final long[] stats = nGetAndResetCacheStats();
+        final long hits = stats[0];
+        final long misses = stats[1];
+        final long bytesSaved = stats[2];
+        if (hits > 0) {
+            telemetryProvider.incrementCount(telemetryProvider.createMetricId(APL_DOMAIN, METRIC_CACHE_HIT, COUNTER), (int) hits);
+            telemetryProvider.incrementCount(telemetryProvider.createMetricId(APL_DOMAIN, METRIC_CACHE_BYTES_SAVED, COUNTER),
+                    (int) Math.min(bytesSaved, Integer.MAX_VALUE));
+        }
+        if (misses > 0) {
+            telemetryProvider.incrementCount(telemetryProvider.createMetricId(APL_DOMAIN, METRIC_CACHE_MISS, COUNTER), (int) misses);
+        }
+    }
+
     private static native long nCreate(String data);
 
     private static native long nCreateWithByteArray(byte[] byteArray);
+
+    private static native boolean nIsValid(long handle);
+
+    private static native long[] nGetAndResetCacheStats();
 }
@@ -12,6 +12,7 @@ import android.content.IntentFilter;
 import android.content.res.TypedArray;
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.Matrix;
 import android.graphics.Shader;
 import android.graphics.drawable.ColorDrawable;
 import android.graphics.drawable.Drawable;
@@ -63,8 +64,10 @@ import com.amazon.apl.android.utils.TracePoint;
 import com.amazon.apl.android.utils.TransformUtils;
 import com.amazon.apl.android.views.APLAbsoluteLayout;
 import com.amazon.apl.android.views.APLImageView;
+import com.amazon.apl.android.views.LayerPolicy;
 import com.amazon.apl.enums.ComponentType;
 import com.amazon.apl.enums.FocusDirection;
+import com.amazon.apl.enums.PointerEventType;
 import com.amazon.apl.enums.PropertyKey;
 import com.amazon.apl.enums.RootProperty;
 import com.amazon.apl.enums.ScreenShape;
@@ -136,6 +139,9 @@ public class APLLayout extends FrameLayout implements AccessibilityManager.Acces
     // Maps views to the components that own them
     private final Map<View, Component> mComponents = new HashMap<>();
 
+    // Reused for the transform of every child drawn.
+    private final Matrix mChildTransform = new Matrix();
+
     // Theme.name() is used to sent String representation to core. Do not rename.
     enum Theme {
         light,
@@ -549,6 +555,8 @@ public class APLLayout extends FrameLayout implements AccessibilityManager.Acces
         private boolean mIsRenderStartTimeSet = false;
 
         private ShadowBitmapRenderer mShadowRenderer;
+        @Nullable
+        private LayerPolicy mLayerPolicy;
         @NonNull
         private IBitmapFactory mBitmapFactory;
         private MotionEvent mLastMotionEvent;
@@ -605,13 +613,16 @@ public class APLLayout extends FrameLayout implements AccessibilityManager.Acces
                     return;
                 }
                 adapter.refreshProperties(component, view, dirtyProperties);
+                if (mLayerPolicy != null) {
+                    mLayerPolicy.onPropertiesChanged(view, dirtyProperties);
+                }
             } else if (component.getComponentType() == ComponentType.kComponentTypeVectorGraphic) {
                 // The vector graphic is cached, so even if the view isn't available (not inflated), we need to notify the
                 // vector graphic that it is dirty.
                 final VectorGraphic vcComponent = (VectorGraphic)component;
                 final GraphicContainerElement graphicContainerElement = vcComponent.getOrCreateGraphicContainerElement();
                 if (graphicContainerElement != null) {
-                    graphicContainerElement.applyDirtyProperties(vcComponent.getDirtyGraphics());
+                    graphicContainerElement.applyDirtyProperties(vcComponent.getDirtyGraphicIds());
                 }
             }
         }
@@ -710,6 +721,8 @@ public class APLLayout extends FrameLayout implements AccessibilityManager.Acces
             mBitmapFactory = rootContext.getRenderingContext().getBitmapFactory();
             ShadowCache shadowCache = rootContext.getRenderingContext().getShadowCache();
             mShadowRenderer = new ShadowBitmapRenderer(shadowCache, mBitmapFactory);
+            mLayerPolicy = new LayerPolicy(mTelemetryProvider);
+            getContext().registerComponentCallbacks(mLayerPolicy);
 
             tRenderDocument = mTelemetryProvider.createMetricId(ITelemetryProvider.APL_DOMAIN,
                     ITelemetryProvider.RENDER_DOCUMENT, TIMER);
@@ -811,6 +824,8 @@ public class APLLayout extends FrameLayout implements AccessibilityManager.Acces
             if (view != null) {
                 view.setId(0);
                 mComponents.remove(view);
+                // Don't leave the transform for the next component bound to a recycled view
+                TransformUtils.clearViewTransform(view);
             }
 
             // TODO we could consider Image component manages its own memory
@@ -822,6 +837,11 @@ public class APLLayout extends FrameLayout implements AccessibilityManager.Acces
         @Override
         public void onDocumentFinish() {
             APLLayout.this.onFinish();
+            if (mLayerPolicy != null) {
+                getContext().unregisterComponentCallbacks(mLayerPolicy);
+                mLayerPolicy.release();
+                mLayerPolicy = null;
+            }
             tRenderDocument = ITelemetryProvider.UNKNOWN_METRIC_ID;
             mTelemetryProvider = NoOpTelemetryProvider.getInstance();
             if (mShadowRenderer != null) {
@@ -845,6 +865,12 @@ public class APLLayout extends FrameLayout implements AccessibilityManager.Acces
             return mShadowRenderer;
         }
 
+        @Override
+        @Nullable
+        public LayerPolicy getLayerPolicy() {
+            return mLayerPolicy;
+        }
+
         @Override
         public IBitmapFactory getBitmapFactory() {
             return mBitmapFactory;
@@ -925,7 +951,12 @@ public class APLLayout extends FrameLayout implements AccessibilityManager.Acces
                 int xOffset = -metricsTransform.getViewportOffsetX();
                 int yOffset = -metricsTransform.getViewportOffsetY();
                 pointer.translate(xOffset, yOffset);
-                boolean handled = mRootContext.handlePointer(pointer);
+                final boolean handled;
+                if (pointer.getPointerEventType() == PointerEventType.kPointerMove && mRootContext.isPointerBatchingEnabled()) {
+                    handled = queuePointerMove(event, pointer, xOffset, yOffset);
+                } else {
+                    handled = mRootContext.handlePointer(pointer, event.getEventTime());
+                }
                 mAplTrace.endTrace();
                 return handled;
             }
@@ -933,6 +964,23 @@ public class APLLayout extends FrameLayout implements AccessibilityManager.Acces
             return false;
         }
 
+        /**
+         * Queue the move samples of the primary pointer, including the historical samples
+         * batched into the event, to be delivered to core with the next frame.
+         */
+        private boolean queuePointerMove(@NonNull MotionEvent event, @NonNull Pointer pointer, int xOffset, int yOffset) {
+            final int pointerIndex = mPointerTracker.getPointerIndex();
+            if (pointerIndex >= 0) {
+                for (int h = 0; h < event.getHistorySize(); h++) {
+                    mRootContext.queuePointerMove(pointer,
+                            event.getHistoricalX(pointerIndex, h) + xOffset,
+                            event.getHistoricalY(pointerIndex, h) + yOffset,
+                            event.getHistoricalEventTime(h));
+                }
+            }
+            return mRootContext.queuePointerMove(pointer, pointer.getX(), pointer.getY(), event.getEventTime());
+        }
+
         @Override
         public void onClick(View view) {
             if (mIsAccessibilityActive) {
@@ -1424,8 +1472,9 @@ public class APLLayout extends FrameLayout implements AccessibilityManager.Acces
     protected boolean drawChild(Canvas canvas, View child, long drawingTime) {
         final Component childComponent = mAplViewPresenter.findComponent(child);
         int saveCount = canvas.save();
-        if (childComponent != null && childComponent.hasTransform()) {
-            TransformUtils.applyChildTransformToParentCanvas(childComponent.getTransform(), child, canvas);
+        if (childComponent != null && childComponent.hasTransform() && !TransformUtils.hasViewTransform(child)) {
+            childComponent.getTransform(mChildTransform);
+            TransformUtils.applyChildTransformToParentCanvas(mChildTransform, child, canvas);
         }
         boolean result;
         result = super.drawChild(canvas, child, drawingTime);
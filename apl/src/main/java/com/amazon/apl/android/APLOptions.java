@@ -44,6 +44,7 @@ import com.amazon.apl.android.providers.impl.LoggingTelemetryProvider;
 import com.amazon.apl.android.providers.impl.MediaPlayerProvider;
 import com.amazon.apl.android.providers.impl.NoOpTelemetryProvider;
 import com.amazon.apl.android.providers.impl.NoOpTtsPlayerProvider;
+import com.amazon.apl.android.thread.Threading;
 import com.amazon.apl.viewhost.Viewhost;
 import com.amazon.apl.viewhost.config.EmbeddedDocumentFactory;
 import com.amazon.apl.viewhost.config.NoOpEmbeddedDocumentFactory;
@@ -52,6 +53,7 @@ import com.google.auto.value.extension.memoized.Memoized;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.concurrent.Executor;
 
 /**
  * APLOptions are runtime configurable providers, callbacks, and listeners.
@@ -134,6 +136,12 @@ public abstract class APLOptions {
     public abstract IContentDataRetriever getContentDataRetriever();
     public abstract IContentRetriever<Uri, String> getAvgRetriever();
 
+    /**
+     * @return the executor parsing and validating fetched packages and data, see
+     * {@link Builder#contentParseExecutor(Executor)}.
+     */
+    public abstract Executor getContentParseExecutor();
+
     // Listeners
     public abstract IVisualContextListener getVisualContextListener();
     public abstract IScreenLockListener getScreenLockListener();
@@ -144,6 +152,16 @@ public abstract class APLOptions {
 
     public abstract IClockProvider getAplClockProvider();
 
+    /**
+     * @return true if pointer moves are batched and delivered to core once per frame.
+     */
+    public abstract boolean isPointerBatchingEnabled();
+
+    /**
+     * @return true if Sequences expose children without views as virtual accessibility nodes.
+     */
+    public abstract boolean isVirtualAccessibilityEnabled();
+
     /**
      * @return options that are {@link IDocumentLifecycleListener}s.
      */
@@ -185,9 +203,12 @@ public abstract class APLOptions {
                 .visualContextListener(visualContext -> {})
                 .dataSourceContextListener(dataSourceContext -> {})
                 .aplClockProvider(callback -> new APLChoreographer(callback))
+                .pointerBatchingEnabled(false)
+                .virtualAccessibilityEnabled(false)
                 .packageLoader((importRequest, successCallback, failureCallback) -> failureCallback.onFailure(importRequest, "Content package loading not implemented."))
                 .contentDataRetriever((request, successCallback, failureCallback) -> failureCallback.onFailure(request, "Content datasources not implemented."))
                 .avgRetriever((request, successCallback, failureCallback) -> failureCallback.onFailure(request, "AVG source not implemented."))
+                .contentParseExecutor(Threading.THREAD_POOL_EXECUTOR)
                 .embeddedDocumentFactory(new NoOpEmbeddedDocumentFactory())
                 .viewportSizeUpdateCallback((width, height) ->{});
     }
@@ -392,10 +413,44 @@ public abstract class APLOptions {
          */
         public abstract Builder avgRetriever(IContentRetriever<Uri, String> avgRetriever);
 
+        /**
+         * Executor parsing and validating the packages and data delivered to the main thread by
+         * the package loader and data retriever, so that only adding them to the document runs
+         * there. Packages and data delivered on another thread are parsed on that thread.
+         *
+         * Defaults to {@link Threading#THREAD_POOL_EXECUTOR}.
+         * @param executor the parse executor.
+         * @return this builder.
+         */
+        public abstract Builder contentParseExecutor(@NonNull Executor executor);
+
         public abstract Builder extensionRegistration(IExtensionRegistration registration);
 
         public abstract Builder aplClockProvider(@NonNull  IClockProvider clockProvider);
 
+        /**
+         * Batch pointer move samples, including the historical samples of each
+         * {@link android.view.MotionEvent}, and deliver them to core in a single call at the next
+         * frame. Down, up and cancel are always delivered immediately.
+         *
+         * Defaults to false.
+         * @param enabled true to batch pointer moves.
+         * @return this builder
+         */
+        public abstract Builder pointerBatchingEnabled(boolean enabled);
+
+        /**
+         * Expose the children of a Sequence that have no attached view, for example children
+         * scrolled off screen, as virtual nodes of the Sequence's
+         * {@link android.view.accessibility.AccessibilityNodeProvider}. Accessibility services
+         * can then reach every child without views being inflated for them.
+         *
+         * Defaults to false.
+         * @param enabled true to expose virtual accessibility nodes.
+         * @return this builder
+         */
+        public abstract Builder virtualAccessibilityEnabled(boolean enabled);
+
         /**
          * Allow runtime to fulfill embedded document requests
          * @param embeddedDocumentFactory handler of embedded document requests
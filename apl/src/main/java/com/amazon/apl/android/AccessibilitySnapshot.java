@@ -0,0 +1,313 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.core.view.accessibility.AccessibilityNodeInfoCompat;
+import androidx.core.view.accessibility.AccessibilityNodeInfoCompat.AccessibilityActionCompat;
+
+import com.amazon.apl.android.primitive.AccessibilityActions;
+import com.amazon.apl.enums.PropertyKey;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable accessibility state of a {@link Component}, applied to its
+ * {@link AccessibilityNodeInfoCompat}.
+ *
+ * Accessibility services query the node tree repeatedly, so the state is read from core once and
+ * cached on the component until one of the properties it depends on is reported dirty, see
+ * {@link #isInvalidatedBy(Collection)}. Action objects are created with the snapshot and reused
+ * for every query.
+ */
+final class AccessibilitySnapshot {
+    private static final int ACTION_BASE_ID = 0x3f000000;
+    private static final Map<String, Integer> STANDARD_ACTION_MAP;  // apl actionName -> android actionId
+
+    // apl actionName -> android actionId for custom actions, shared so that ids stay stable.
+    private static final Map<String, Integer> sCustomActionIds = new HashMap<>();
+
+    static {
+        STANDARD_ACTION_MAP = new HashMap<>();
+        STANDARD_ACTION_MAP.put("activate", AccessibilityNodeInfoCompat.ACTION_CLICK);
+        STANDARD_ACTION_MAP.put("doubletap", R.id.action_double_tap);
+        STANDARD_ACTION_MAP.put("longpress", AccessibilityNodeInfoCompat.ACTION_LONG_CLICK);
+        STANDARD_ACTION_MAP.put("scrollbackward", AccessibilityNodeInfoCompat.ACTION_SCROLL_BACKWARD);
+        STANDARD_ACTION_MAP.put("scrollforward", AccessibilityNodeInfoCompat.ACTION_SCROLL_FORWARD);
+        STANDARD_ACTION_MAP.put("swipeaway", R.id.action_swipe_away);
+    }
+
+    @Nullable
+    private final String mClassName;
+    @Nullable
+    private final String mRoleDescription;
+    private final boolean mIsClickable;
+    private final boolean mIsCheckable;
+    private final boolean mIsChecked;
+    private final boolean mIsEnabled;
+    @Nullable
+    private final String mResourceId;
+    @Nullable
+    private final String mText;
+    @Nullable
+    private final String mLabel;
+    private final List<AccessibilityActionCompat> mActions;
+    private final Map<Integer, String> mActionIdToActionName;
+
+    private AccessibilitySnapshot(@NonNull Component component, @NonNull Context context) {
+        String className = null;
+        String description = null;
+        boolean isClickable = false;
+        boolean isCheckable = false;
+
+        // TODO: For specific components, we'll likely need to add additional accessibility information,
+        //       then we can dive into each component individually to see what needs to be added in the view host.
+        switch (component.getRole()) {
+            case kRoleAdjustable:
+                className = "android.widget.SeekBar";
+                break;
+            case kRoleAlert:
+                description = context.getString(R.string.accessibility_role_alert_description);
+                break;
+            case kRoleButton:
+                className = "android.widget.Button";
+                description = context.getString(R.string.accessibility_role_button_description);
+                isClickable = true;
+                break;
+            case kRoleCheckBox:
+                className = "android.widget.CheckBox";
+                isClickable = true;
+                isCheckable = true;
+                break;
+            case kRoleComboBox:
+                description = context.getString(R.string.accessibility_role_combobox_description);
+                isClickable = true;
+                break;
+            case kRoleHeader:
+                description = context.getString(R.string.accessibility_role_header_description);
+                break;
+            case kRoleImage:
+                className = "android.widget.ImageView";
+                description = context.getString(R.string.accessibility_role_image_description);
+                break;
+            case kRoleImageButton:
+                className = "android.widget.ImageButton";
+                description = context.getString(R.string.accessibility_role_imagebutton_description);
+                isClickable = true;
+                break;
+            case kRoleKeyboardKey:
+                className = "android.inputmethodservice.Keyboard$Key";
+                isClickable = true;
+                break;
+            case kRoleLink:
+                description = context.getString(R.string.accessibility_role_link_description);
+                isClickable = true;
+                break;
+            case kRoleMenu:
+                description = context.getString(R.string.accessibility_role_menu_description);
+                break;
+            case kRoleMenuItem:
+                description = context.getString(R.string.accessibility_role_menuitem_description);
+                break;
+            case kRoleProgressBar:
+                description = context.getString(R.string.accessibility_role_progressbar_description);
+                break;
+            case kRoleRadio:
+                className = "android.widget.RadioButon";
+                isClickable = true;
+                isCheckable = true;
+                break;
+            case kRoleRadioGroup:
+                description = context.getString(R.string.accessibility_role_radiogroup_description);
+                break;
+            case kRoleScrollBar:
+                description = context.getString(R.string.accessibility_role_scrollbar_description);
+                break;
+            case kRoleSearch:
+                className = "android.widget.EditText";
+                description = context.getString(R.string.accessibility_role_search_description);
+                isClickable = true;
+                break;
+            case kRoleSpinButton:
+                className = "android.widget.Spinner";
+                isClickable = true;
+                break;
+            case kRoleSwitch:
+                className = "android.widget.Switch";
+                isClickable = true;
+                isCheckable = true;
+                break;
+            case kRoleTab:
+                description = context.getString(R.string.accessibility_role_tab_description);
+                break;
+            case kRoleTabList:
+                description = context.getString(R.string.accessibility_role_tablist_description);
+                break;
+            case kRoleText:
+                className = "android.widget.TextView";
+                break;
+            case kRoleTimer:
+                description = context.getString(R.string.accessibility_role_timer_description);
+                break;
+            case kRoleToolBar:
+                description = context.getString(R.string.accessibility_role_toolbar_description);
+                break;
+            case kRoleNone:
+            default:
+        }
+
+        mClassName = className;
+        mRoleDescription = description;
+        mIsClickable = isClickable;
+        mIsCheckable = isCheckable;
+        mIsChecked = isCheckable && component.isChecked();
+        mIsEnabled = !component.isDisabled();
+
+        String componentId = component.getId();
+        mResourceId = "".equals(componentId) ? null : componentId;
+        mText = component.hasProperty(PropertyKey.kPropertyText)
+                ? component.getProperties().getString(PropertyKey.kPropertyText)
+                : null;
+        mLabel = component.getAccessibilityLabel();
+
+        List<AccessibilityActionCompat> actions = new ArrayList<>();
+        Map<Integer, String> actionNames = new HashMap<>();
+        for (AccessibilityActions.AccessibilityAction action : component.getAccessibilityActions()) {
+            // ignore repeated action names. Consider only the first one.
+            if (actionNames.containsValue(action.name())) {
+                continue;
+            }
+            int actionId = getActionId(action.name());
+            actionNames.put(actionId, action.name());
+            actions.add(new AccessibilityActionCompat(actionId, action.label()));
+        }
+        mActions = Collections.unmodifiableList(actions);
+        mActionIdToActionName = actionNames;
+    }
+
+    /**
+     * @param component the component
+     * @param context   the context to read role descriptions from
+     * @return the cached snapshot of the component, created if there is none.
+     */
+    @NonNull
+    static AccessibilitySnapshot of(@NonNull Component component, @NonNull Context context) {
+        AccessibilitySnapshot snapshot = component.mAccessibilitySnapshot;
+        if (snapshot == null) {
+            snapshot = new AccessibilitySnapshot(component, context);
+            component.mAccessibilitySnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Drops the cached snapshot of a component.
+     *
+     * @param component the component
+     */
+    static void invalidate(@NonNull Component component) {
+        component.mAccessibilitySnapshot = null;
+    }
+
+    /**
+     * @param dirtyProperties the properties that changed
+     * @return true if a snapshot depends on any of the properties.
+     */
+    static boolean isInvalidatedBy(@NonNull Collection<PropertyKey> dirtyProperties) {
+        for (PropertyKey key : dirtyProperties) {
+            switch (key) {
+                case kPropertyRole:
+                case kPropertyAccessibilityActions:
+                case kPropertyAccessibilityLabel:
+                case kPropertyChecked:
+                case kPropertyDisabled:
+                case kPropertyText:
+                    return true;
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
+    private static synchronized int getActionId(String actionName) {
+        Integer actionId = STANDARD_ACTION_MAP.get(actionName);
+        if (actionId == null) {
+            actionId = sCustomActionIds.get(actionName);
+        }
+        if (actionId == null) {
+            actionId = ACTION_BASE_ID + sCustomActionIds.size();
+            sCustomActionIds.put(actionName, actionId);
+        }
+        return actionId;
+    }
+
+    @VisibleForTesting
+    static synchronized void resetCustomActionIds() {
+        sCustomActionIds.clear();
+    }
+
+    /**
+     * Applies the role, state, id, text and actions to a node.
+     *
+     * @param info the node
+     */
+    void applyTo(@NonNull AccessibilityNodeInfoCompat info) {
+        if (mClassName != null) {
+            info.setClassName(mClassName);
+        }
+        if (mRoleDescription != null) {
+            info.setRoleDescription(mRoleDescription);
+        }
+        info.setClickable(mIsClickable);
+        info.setCheckable(mIsCheckable);
+        info.setChecked(mIsChecked);
+        info.setEnabled(mIsEnabled);
+        if (mResourceId != null) {
+            info.setViewIdResourceName(mResourceId);
+        }
+        if (mText != null) {
+            info.setText(mText);
+        }
+        for (AccessibilityActionCompat action : mActions) {
+            info.addAction(action);
+        }
+    }
+
+    /**
+     * @param actionId an android action id
+     * @return the APL action name registered for the id, or null if there is none.
+     */
+    @Nullable
+    String getActionName(int actionId) {
+        return mActionIdToActionName.get(actionId);
+    }
+
+    /**
+     * @return the component text, or null if it has none.
+     */
+    @Nullable
+    String getText() {
+        return mText;
+    }
+
+    /**
+     * @return the component accessibility label, or null if it has none.
+     */
+    @Nullable
+    String getLabel() {
+        return mLabel;
+    }
+}
@@ -78,6 +78,12 @@ public abstract class Component extends BoundObject {
 
     private Bitmap mShadowBitmap;
 
+    /**
+     * Cached accessibility state of this component, see {@link AccessibilitySnapshot}.
+     */
+    @Nullable
+    volatile AccessibilitySnapshot mAccessibilitySnapshot;
+
     /**
      * Component constructor.
      * @param nativeHandle      the native handle to bind
@@ -269,10 +275,21 @@ public abstract class Component extends BoundObject {
         }
         if (DEBUG) Log.d(TAG, "updateType: " + updateType + ", " + "value: " + value);
         nUpdate(getNativeHandle(), updateType.getIndex(), value);
+        requestFrame();
     }
 
     public void update(@NonNull UpdateType updateType, String value) {
         nUpdate(getNativeHandle(), updateType.getIndex(), (value + "\0").getBytes(StandardCharsets.UTF_8));
+        requestFrame();
+    }
+
+    /**
+     * Wakes the document so core processes a change made to this component.
+     */
+    void requestFrame() {
+        if (mRootContext != null) {
+            mRootContext.requestFrame();
+        }
     }
 
     public void update(@NonNull UpdateType updateType, boolean value) {
@@ -438,6 +455,15 @@ public abstract class Component extends BoundObject {
         return mProperties.getRect(PropertyKey.kPropertyBounds);
     }
 
+    /**
+     * Reads the component bounds without allocating.
+     *
+     * @param out set to the component bounds in DP.
+     */
+    public final void getBounds(@NonNull RectF out) {
+        mProperties.getRect(PropertyKey.kPropertyBounds, out);
+    }
+
     /**
      * @return true if the component has a transform applied, that is not an identity transform.
      */
@@ -452,6 +478,15 @@ public abstract class Component extends BoundObject {
         return mProperties.getScaledTransform(PropertyKey.kPropertyTransform);
     }
 
+    /**
+     * Reads the component's 2D transform without allocating.
+     *
+     * @param out set to the component's 2D transform.
+     */
+    public final void getTransform(@NonNull Matrix out) {
+        mProperties.getScaledTransform(PropertyKey.kPropertyTransform, out);
+    }
+
     /**
      * @return The component inner bounds in DP. This is the bounds minus padding.
      */
@@ -459,6 +494,15 @@ public abstract class Component extends BoundObject {
         return mProperties.getRect(PropertyKey.kPropertyInnerBounds);
     }
 
+    /**
+     * Reads the component inner bounds without allocating.
+     *
+     * @param out set to the component inner bounds in DP.
+     */
+    public final void getInnerBounds(@NonNull RectF out) {
+        mProperties.getRect(PropertyKey.kPropertyInnerBounds, out);
+    }
+
     /**
      * @return Indicates if component can directly receive input from touch, cursor, or keyboard events.
      *         NOTE: A Component may have Android Focus (for purpose of remote or keyboard navigation)
@@ -21,17 +21,23 @@ import com.amazon.apl.android.primitive.Gradient;
 import com.amazon.apl.android.providers.ITelemetryProvider;
 import com.amazon.apl.android.providers.impl.NoOpTelemetryProvider;
 import com.amazon.apl.android.scaling.ViewportMetrics;
+import com.amazon.apl.android.thread.Threading;
 import com.amazon.apl.android.utils.ColorUtils;
 import com.amazon.common.BoundObject;
 import com.amazon.apl.enums.GradientType;
+import com.amazon.apl.viewhost.internal.ViewhostImpl;
 import com.google.auto.value.AutoValue;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import static com.amazon.apl.android.providers.ITelemetryProvider.APL_DOMAIN;
 import static com.amazon.apl.android.providers.ITelemetryProvider.Type.COUNTER;
@@ -40,6 +46,13 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * Access to APL Document Contents.  These methods are called from the APLInflater worker thread.
+ *
+ * Threading: the content is owned by the main thread, where packages and data are added to core.
+ * {@link #addPackage(ImportRequest, String)} and {@link #addData(String, String)} parse on the
+ * calling thread. Packages and data from the package loader and data retriever are parsed and
+ * validated off the main thread, on the fetching thread or on
+ * {@link APLOptions#getContentParseExecutor()} when delivered on the main thread, and only the
+ * parsed result is added on the main thread.
  */
 @SuppressWarnings("WeakerAccess")
 public final class Content extends BoundObject {
@@ -69,12 +82,16 @@ public final class Content extends BoundObject {
     private final ITelemetryProvider mTelemetryProvider;
     @NonNull
     private final Handler mMainHandler;
+    @NonNull
+    private final Executor mParseExecutor;
 
     private IPackageLoader mPackageLoader;
     private IContentDataRetriever mDataRetriever;
     private CallbackV2 mCallback;
 
     private Map<ImportRef, APLJSONData> mPackages = new ConcurrentHashMap<>();
+    // Parsed data referenced by core, possibly shared with other documents, see APLJSONData.
+    private final List<APLJSONData> mData = new ArrayList<>();
 
     /**
      * This Exception is thrown when a Content object cannot be created.
@@ -97,6 +114,7 @@ public final class Content extends BoundObject {
     private Content(@NonNull ITelemetryProvider telemetryProvider,
                     @Nullable IPackageLoader packageLoader,
                     @Nullable IContentDataRetriever dataRetriever,
+                    @NonNull Executor parseExecutor,
                     long entryTime) {
         // private constructor
         mImportRequests = Collections.newSetFromMap(new ConcurrentHashMap<>());
@@ -111,6 +129,7 @@ public final class Content extends BoundObject {
         mTelemetryProvider.startTimer(tContentCreate, NANOSECONDS, currentTime - entryTime);
         mDataRetriever = dataRetriever;
         setPackageLoader(packageLoader);
+        mParseExecutor = parseExecutor;
         mMainHandler = new Handler(Looper.getMainLooper());
     }
 
@@ -297,7 +316,7 @@ public final class Content extends BoundObject {
         }
         Content content = null;
         try {
-            content = new Content(getTelemetryProvider(aplOptions), getPackageLoader(aplOptions), getDataRetriever(aplOptions), entryTime);
+            content = new Content(getTelemetryProvider(aplOptions), getPackageLoader(aplOptions), getDataRetriever(aplOptions), getParseExecutor(aplOptions), entryTime);
             content.setCallbacks(callbackV2, callback);
             content.importDocument(mainTemplate, rootConfig, session);
         } catch (Exception e) {
@@ -430,6 +449,26 @@ public final class Content extends BoundObject {
         nAddData(getNativeHandle(), dataId, dataPayload);
     }
 
+    /**
+     * Add a data payload parsed by {@link #parseData(String)}.
+     */
+    synchronized private void addData(String dataId, String dataPayload, APLJSONData jsonData) {
+        if (nAddParsedData(getNativeHandle(), dataId, jsonData.getNativeHandle())) {
+            mData.add(jsonData);
+        } else {
+            // Malformed, let core parse it again to report the error as usual
+            nAddData(getNativeHandle(), dataId, dataPayload);
+        }
+    }
+
+    /**
+     * Parses a data payload from its UTF-8 bytes, as the modified UTF-8 of the String would mangle
+     * characters outside of the BMP, e.g. emoji.
+     */
+    private static APLJSONData parseData(String dataPayload) {
+        return APLJSONData.create(dataPayload.getBytes(StandardCharsets.UTF_8));
+    }
+
 
     /**
      * Notifies the callback of new ImportRequests.
@@ -488,21 +527,48 @@ public final class Content extends BoundObject {
         Log.i(TAG, String.format("Package '%s' took %d milliseconds to download.",
                 request.getPackageName(),
                 duration));
-        invokeOnMyThread(() -> addPackage(request, result));
+        invokeOffMyThread(() -> {
+            if (!result.isValid()) {
+                // Still added, so that core fails the document as usual
+                Log.e(TAG, String.format("Package %s:%s is not valid JSON.",
+                        request.getPackageName(),
+                        request.getVersion()));
+            }
+            invokeOnMyThread(() -> addPackage(request, result));
+        });
     }
 
     private void handleDataSuccess(String param, String result) {
-        invokeOnMyThread(() -> addData(param, result));
+        invokeOffMyThread(() -> {
+            final APLJSONData jsonData = parseData(result);
+            invokeOnMyThread(() -> addData(param, result, jsonData));
+        });
+    }
+
+    /**
+     * Runs the parse or validation of fetched content off the main thread: in place when already
+     * on a worker, otherwise on the parse executor.
+     */
+    private void invokeOffMyThread(Runnable runnable) {
+        if (isOnMyThread()) {
+            mParseExecutor.execute(runnable);
+        } else {
+            runnable.run();
+        }
     }
 
     private void invokeOnMyThread(Runnable runnable) {
-        if (Thread.currentThread() == mMainHandler.getLooper().getThread()) {
+        if (isOnMyThread()) {
             runnable.run();
         } else {
             mMainHandler.post(runnable);
         }
     }
 
+    private boolean isOnMyThread() {
+        return Thread.currentThread() == mMainHandler.getLooper().getThread();
+    }
+
     private void tryAddPackage(ImportRequest request, APLJSONData result) {
         addPackage(request, result);
     }
@@ -799,12 +865,24 @@ public final class Content extends BoundObject {
 
     private static IPackageLoader getPackageLoader(@Nullable APLOptions options) {
         if (options != null) {
+            // Share packages with the embedded documents of the viewhost
+            if (options.getViewhost() instanceof ViewhostImpl) {
+                return ((ViewhostImpl) options.getViewhost()).getSharedPackageLoader(options.getPackageLoader());
+            }
             return options.getPackageLoader();
         }
 
         return ((importRequest, successCallback, failureCallback) -> failureCallback.onFailure(importRequest, "Not implemented."));
     }
 
+    private static Executor getParseExecutor(@Nullable APLOptions options) {
+        if (options != null) {
+            return options.getContentParseExecutor();
+        }
+
+        return Threading.THREAD_POOL_EXECUTOR;
+    }
+
     private static IContentDataRetriever getDataRetriever(@Nullable APLOptions options) {
         if (options != null) {
             return options.getContentDataRetriever();
@@ -866,6 +944,8 @@ public final class Content extends BoundObject {
 
     private native void nAddData(long nativeHandle, String dataId, String dataPayload);
 
+    private native boolean nAddParsedData(long nativeHandle, String dataId, long aplJsonData);
+
     private static native boolean nIsWaiting(long nativeHandle);
 
     private static native boolean nIsReady(long nativeHandle);
@@ -6,6 +6,7 @@
 package com.amazon.apl.android;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.amazon.apl.android.scaling.MetricsTransform;
 import com.amazon.common.BoundObject;
@@ -15,11 +16,19 @@ import com.amazon.common.BoundObject;
  * state.
  */
 public class DocumentState extends BoundObject {
+    // Rough per component footprint of the core component tree (properties, layout node, context).
+    static final long NATIVE_BYTES_PER_COMPONENT = 4 * 1024;
+    // Rough per component footprint of view-side caches (text layouts, paths, shadows).
+    static final long VIEW_BYTES_PER_COMPONENT = 2 * 1024;
+
     @NonNull
     private APLOptions mOptions;
     private final MetricsTransform mMetricsTransform;
     private final RootConfig mRootConfig;
     private final Content mContent;
+    private final int mComponentCount;
+    @Nullable
+    private RenderingContext mRenderingContext;
 
     /**
      * Creates a document state to cache.
@@ -31,6 +40,55 @@ public class DocumentState extends BoundObject {
         mMetricsTransform = rootContext.getMetricsTransform();
         mRootConfig = rootContext.getRootConfig();
         mContent = content;
+        mComponentCount = rootContext.getComponentCount();
+        mRenderingContext = rootContext.getRenderingContext();
+    }
+
+    /**
+     * Release the view-side caches (text layouts, shadow bitmaps and paths) built for this
+     * document. The core document state is kept, and the caches are rebuilt when the document is
+     * restored.
+     */
+    public void releaseViewResources() {
+        if (mRenderingContext == null) {
+            return;
+        }
+        mRenderingContext.getShadowCache().clear();
+        mRenderingContext.getPathCache().clear();
+        TextLayoutFactory textLayoutFactory = mRenderingContext.getTextLayoutFactory();
+        // The default factory is shared with other documents, leave it alone.
+        if (textLayoutFactory != null && textLayoutFactory != TextLayoutFactory.defaultFactory()) {
+            textLayoutFactory.clear();
+        }
+        mRenderingContext = null;
+    }
+
+    /**
+     * @return true if the view-side caches for this document have been released.
+     */
+    public boolean isViewResourcesReleased() {
+        return mRenderingContext == null;
+    }
+
+    /**
+     * @return the approximate native memory retained by this document, in bytes.
+     */
+    public long getApproximateNativeMemoryBytes() {
+        return mComponentCount * NATIVE_BYTES_PER_COMPONENT;
+    }
+
+    /**
+     * @return the approximate Java memory retained by this document, in bytes.
+     */
+    public long getApproximateJavaMemoryBytes() {
+        return isViewResourcesReleased() ? 0 : mComponentCount * VIEW_BYTES_PER_COMPONENT;
+    }
+
+    /**
+     * @return the approximate total memory retained by this document, in bytes.
+     */
+    public long getApproximateMemoryBytes() {
+        return getApproximateNativeMemoryBytes() + getApproximateJavaMemoryBytes();
     }
 
     /**
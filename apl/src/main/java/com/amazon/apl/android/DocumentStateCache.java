@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded back-stack of {@link DocumentState}s for runtimes that restore previously rendered
+ * documents with {@link APLController#restoreDocument(DocumentState, IAPLViewPresenter)}.
+ *
+ * The cache keeps the most recently used documents, bounded by both a maximum number of documents
+ * and an approximate memory budget. When a document is added its view-side caches are released,
+ * since they are rebuilt on restore, while the core document state is kept.
+ *
+ * Register the cache with {@link android.content.Context#registerComponentCallbacks} to evict
+ * documents under memory pressure.
+ *
+ * This class is thread-safe.
+ */
+public class DocumentStateCache implements ComponentCallbacks2 {
+    private static final String TAG = "DocumentStateCache";
+
+    private final int mMaxDocuments;
+    private final long mMemoryBudgetBytes;
+
+    // Access ordered, so iteration starts from the least recently used document.
+    private final LinkedHashMap<String, DocumentState> mStates = new LinkedHashMap<>(8, 0.75f, true);
+
+    /**
+     * @param maxDocuments      the maximum number of documents to keep
+     * @param memoryBudgetBytes the approximate memory budget for all kept documents
+     */
+    public DocumentStateCache(int maxDocuments, long memoryBudgetBytes) {
+        mMaxDocuments = maxDocuments;
+        mMemoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    /**
+     * Adds a document to the cache, evicting the least recently used documents to stay within
+     * the limits.
+     *
+     * @param key   the key to restore the document with, for example the document token
+     * @param state the document state
+     * @return true if the document was cached, false if it exceeds the memory budget.
+     */
+    public synchronized boolean put(@NonNull String key, @NonNull DocumentState state) {
+        state.releaseViewResources();
+        if (mMaxDocuments <= 0 || state.getApproximateMemoryBytes() > mMemoryBudgetBytes) {
+            Log.i(TAG, "Document exceeds cache limits, not caching it");
+            return false;
+        }
+        mStates.put(key, state);
+        trimTo(mMaxDocuments, mMemoryBudgetBytes);
+        return true;
+    }
+
+    /**
+     * @param key the document key
+     * @return the cached document, or null if there is none. The document stays in the cache.
+     */
+    @Nullable
+    public synchronized DocumentState get(@NonNull String key) {
+        return mStates.get(key);
+    }
+
+    /**
+     * @param key the document key
+     * @return the removed document, or null if there was none.
+     */
+    @Nullable
+    public synchronized DocumentState remove(@NonNull String key) {
+        return mStates.remove(key);
+    }
+
+    /**
+     * Removes all documents.
+     */
+    public synchronized void clear() {
+        mStates.clear();
+    }
+
+    /**
+     * @return the number of cached documents.
+     */
+    public synchronized int size() {
+        return mStates.size();
+    }
+
+    /**
+     * @return the approximate memory retained by the cached documents, in bytes.
+     */
+    public synchronized long getApproximateMemoryBytes() {
+        long total = 0;
+        for (DocumentState state : mStates.values()) {
+            total += state.getApproximateMemoryBytes();
+        }
+        return total;
+    }
+
+    /**
+     * Evicts half of the cache when the system is critically low on memory while running, and
+     * all of it when the process is one of the first to be killed in the background.
+     *
+     * @param level the memory level.
+     */
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_COMPLETE) {
+            clear();
+        } else if (level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            synchronized (this) {
+                trimTo(mStates.size() / 2, mMemoryBudgetBytes / 2);
+            }
+        }
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+
+    }
+
+    @Override
+    public void onLowMemory() {
+        clear();
+    }
+
+    private void trimTo(int maxDocuments, long maxBytes) {
+        long size = getApproximateMemoryBytes();
+        Iterator<Map.Entry<String, DocumentState>> it = mStates.entrySet().iterator();
+        while (it.hasNext() && (mStates.size() > maxDocuments || size > maxBytes)) {
+            DocumentState eldest = it.next().getValue();
+            it.remove();
+            size -= eldest.getApproximateMemoryBytes();
+        }
+    }
+}
@@ -114,11 +114,13 @@ public abstract class Event extends BoundObject {
      */
     final public void resolve() {
         nResolve(getNativeHandle());
+        mRootContext.requestFrame();
         destroy();
     }
 
     final public void resolve(int arg) {
         nResolveArg(getNativeHandle(), arg);
+        mRootContext.requestFrame();
         destroy();
     }
 
@@ -137,6 +139,7 @@ public abstract class Event extends BoundObject {
                 transform.toCore(y),
                 transform.toCore(width),
                 transform.toCore(height));
+        mRootContext.requestFrame();
     }
 
     /**
@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android;
+
+import androidx.annotation.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reusable result of a focusable area query, see
+ * {@link RootContext#queryFocusableAreas(FocusableAreas, float, float, float, float, com.amazon.apl.enums.FocusDirection)}.
+ *
+ * Areas are stored as packed [x, y, width, height] rects in core coordinates, with a parallel
+ * table of component ids that are decoded only when asked for. Buffers are reused across queries
+ * and only reallocated when they grow, so repeated key navigation doesn't allocate.
+ */
+public final class FocusableAreas {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int BYTES_PER_ID = 8;
+
+    float[] mRects;
+    int[] mIdOffsets;
+    byte[] mIds;
+    private String[] mDecodedIds;
+    private int mSize;
+
+    public FocusableAreas() {
+        ensureCapacity(DEFAULT_CAPACITY, DEFAULT_CAPACITY * BYTES_PER_ID);
+    }
+
+    /**
+     * @return the number of areas.
+     */
+    public int size() {
+        return mSize;
+    }
+
+    public float getX(int index) {
+        return mRects[checkIndex(index) * 4];
+    }
+
+    public float getY(int index) {
+        return mRects[checkIndex(index) * 4 + 1];
+    }
+
+    public float getWidth(int index) {
+        return mRects[checkIndex(index) * 4 + 2];
+    }
+
+    public float getHeight(int index) {
+        return mRects[checkIndex(index) * 4 + 3];
+    }
+
+    /**
+     * @param index the area index
+     * @return the id of the component for the area, to use as the target of
+     *          {@link RootContext#setFocus(com.amazon.apl.enums.FocusDirection, float, float, float, float, String)}.
+     */
+    @NonNull
+    public String getId(int index) {
+        checkIndex(index);
+        String id = mDecodedIds[index];
+        if (id == null) {
+            int start = mIdOffsets[index];
+            id = new String(mIds, start, mIdOffsets[index + 1] - start, StandardCharsets.UTF_8);
+            mDecodedIds[index] = id;
+        }
+        return id;
+    }
+
+    /**
+     * Accepts the result of a native query.
+     *
+     * @param result the area count in the upper 32 bits and the id blob size in the lower 32 bits
+     * @return true if the result fit in the buffers, false if they need to grow first.
+     */
+    boolean setResult(long result) {
+        final int count = (int) (result >>> 32);
+        final int idBytes = (int) result;
+        if (!hasCapacity(count, idBytes)) {
+            ensureCapacity(count, idBytes);
+            return false;
+        }
+        Arrays.fill(mDecodedIds, 0, mSize, null);
+        mSize = count;
+        return true;
+    }
+
+    private boolean hasCapacity(int count, int idBytes) {
+        return mRects.length >= count * 4 && mIdOffsets.length >= count + 1 && mIds.length >= idBytes;
+    }
+
+    private void ensureCapacity(int count, int idBytes) {
+        if (mDecodedIds != null) {
+            Arrays.fill(mDecodedIds, 0, mSize, null);
+        }
+        mSize = 0;
+        if (mRects == null || mRects.length < count * 4) {
+            final int capacity = mRects == null ? count : Math.max(count, mRects.length / 2);
+            mRects = new float[capacity * 4];
+            mIdOffsets = new int[capacity + 1];
+            mDecodedIds = new String[capacity];
+        }
+        if (mIds == null || mIds.length < idBytes) {
+            mIds = new byte[mIds == null ? idBytes : Math.max(idBytes, mIds.length * 2)];
+        }
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= mSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + mSize);
+        }
+        return index;
+    }
+}
@@ -22,6 +22,7 @@ import com.amazon.apl.android.scaling.Scaling;
 import com.amazon.apl.android.scaling.ViewportMetrics;
 import com.amazon.apl.android.shadow.ShadowBitmapRenderer;
 import com.amazon.apl.android.utils.APLTrace;
+import com.amazon.apl.android.views.LayerPolicy;
 import com.amazon.apl.enums.PropertyKey;
 import com.amazon.apl.enums.UpdateType;
 
@@ -136,6 +137,13 @@ public interface IAPLViewPresenter extends View.OnClickListener, IDocumentLifecy
      */
     ShadowBitmapRenderer getShadowRenderer();
 
+    /**
+     * Returns the {@link LayerPolicy} deciding which views of the document render through hardware
+     * layers, or null if there is no document.
+     */
+    @Nullable
+    LayerPolicy getLayerPolicy();
+
     /**
      * Inflates a hierarchy of Components from given root Component in their corresponding Android
      * Views by calling
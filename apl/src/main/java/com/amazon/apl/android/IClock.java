@@ -19,6 +19,29 @@ public interface IClock {
      */
     void stop();
 
+    /**
+     * Hint that no frame is needed for a while. Clocks that support adaptive scheduling may skip
+     * frames until the delay elapses or {@link #wake()} is called. Called from within
+     * {@link IClockCallback#onTick(long)}.
+     *
+     * @param delayMs the time until the next frame is needed, {@link Long#MAX_VALUE} if no frame is
+     *                needed until woken.
+     */
+    default void idle(long delayMs) {}
+
+    /**
+     * @return true if the clock acts on {@link #idle(long)}. Callers can skip working out the
+     * idle delay otherwise.
+     */
+    default boolean supportsIdle() {
+        return false;
+    }
+
+    /**
+     * Request a frame as soon as possible, ending any idle period.
+     */
+    default void wake() {}
+
     interface IClockCallback {
         void onTick(long frameTime);
     }
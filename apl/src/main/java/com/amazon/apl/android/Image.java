@@ -214,6 +214,13 @@ public class Image extends Component {
         return mProperties.getFilters(PropertyKey.kPropertyFilters);
     }
 
+    /**
+     * @return true if the loaded bitmaps are filtered or processed before being displayed.
+     */
+    public boolean needsProcessing() {
+        return getFilters().size() > 0 || getImageProcessor() != null;
+    }
+
     /**
      * @return - Shadow corner radius as a float array
      */
@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android;
+
+import androidx.annotation.NonNull;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Describes a Component hierarchy to inflate, built by the native layer in a single call.
+ *
+ * Only the components that don't have a Java peer yet are listed, in breadth first order. Each
+ * entry has its {@link com.amazon.apl.enums.ComponentType} and the offset of its unique id. Unique
+ * ids are stored in a single UTF-8 blob and only decoded when asked for. Native handles are not part
+ * of the manifest, they are created once the manifest has been received.
+ */
+final class InflationManifest {
+    private static final int STRIDE = 2;
+    private static final int TYPE = 0;
+    private static final int ID_OFFSET = 1;
+
+    private final int[] mEntries;
+    private final byte[] mIds;
+    private final String[] mComponentIds;
+
+    @SuppressWarnings("unused") // Created by the native layer.
+    InflationManifest(@NonNull int[] entries, @NonNull byte[] ids) {
+        mEntries = entries;
+        mIds = ids;
+        mComponentIds = new String[entries.length / STRIDE];
+    }
+
+    /**
+     * @return the number of components in the manifest.
+     */
+    int size() {
+        return mComponentIds.length;
+    }
+
+    /**
+     * @param index the component index
+     * @return the component type id.
+     */
+    int getTypeId(int index) {
+        return mEntries[index * STRIDE + TYPE];
+    }
+
+    /**
+     * @param index the component index
+     * @return the unique id of the component.
+     */
+    @NonNull
+    String getComponentId(int index) {
+        String id = mComponentIds[index];
+        if (id == null) {
+            int start = mEntries[index * STRIDE + ID_OFFSET];
+            int end = index + 1 < size() ? mEntries[(index + 1) * STRIDE + ID_OFFSET] : mIds.length;
+            id = new String(mIds, start, end - start, StandardCharsets.UTF_8);
+            mComponentIds[index] = id;
+        }
+        return id;
+    }
+}
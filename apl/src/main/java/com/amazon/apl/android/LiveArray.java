@@ -36,6 +36,11 @@ public class LiveArray extends BoundObject implements List<Object> {
      */
     private ArrayList<Object> mBackingArray;
 
+    /**
+     * Notified after every change, so idle documents using this array pick it up.
+     */
+    private final LiveDataListeners mListeners = new LiveDataListeners();
+
     /**
      * Exception class for unrecoverable exceptions
      *
@@ -96,6 +101,7 @@ public class LiveArray extends BoundObject implements List<Object> {
     public boolean add(Object element) {
         mBackingArray.add(element);
         nPushBack(getNativeHandle(), element);
+        mListeners.notifyChanged();
         return true;
     }
 
@@ -104,6 +110,7 @@ public class LiveArray extends BoundObject implements List<Object> {
         mBackingArray.add(index, element);
         if (!nInsert(getNativeHandle(), index, element))
             throw new LiveArrayException("Insert at index="+index+" should not fail");
+        mListeners.notifyChanged();
     }
 
     @Override
@@ -112,6 +119,7 @@ public class LiveArray extends BoundObject implements List<Object> {
             return false;
 
         nPushBackRange(getNativeHandle(), collection.toArray());
+        mListeners.notifyChanged();
         return true;
     }
 
@@ -122,6 +130,7 @@ public class LiveArray extends BoundObject implements List<Object> {
 
         if (!nInsertRange(getNativeHandle(), index, collection.toArray()))
             throw new LiveArrayException("Insert range at index="+index+" should not fail");
+        mListeners.notifyChanged();
 
         return true;
     }
@@ -130,6 +139,7 @@ public class LiveArray extends BoundObject implements List<Object> {
     public void clear() {
         mBackingArray.clear();
         nClear(getNativeHandle());
+        mListeners.notifyChanged();
     }
 
     @Override
@@ -191,6 +201,7 @@ public class LiveArray extends BoundObject implements List<Object> {
         Object result = mBackingArray.remove(index);
         if (!nRemove(getNativeHandle(), index, 1))
             throw new LiveArrayException("Illegal remove at index="+index);
+        mListeners.notifyChanged();
         return result;
     }
 
@@ -203,6 +214,7 @@ public class LiveArray extends BoundObject implements List<Object> {
         mBackingArray.remove(index);
         if (!nRemove(getNativeHandle(), index, 1))
             throw new LiveArrayException("Illegal remove of element by value at index="+index);
+        mListeners.notifyChanged();
         return true;
     }
 
@@ -221,6 +233,7 @@ public class LiveArray extends BoundObject implements List<Object> {
         Object result = mBackingArray.set(index, element);
         if (!nUpdate(getNativeHandle(), index, element))
             throw new LiveArrayException("Illegal set at index="+index);
+        mListeners.notifyChanged();
         return result;
     }
 
@@ -360,6 +373,7 @@ public class LiveArray extends BoundObject implements List<Object> {
 
         if (!nRemove(getNativeHandle(), position, count))
             throw new LiveArrayException("Unexpected removeRange position="+position+" count="+count);
+        mListeners.notifyChanged();
     }
 
     /**
@@ -379,9 +393,18 @@ public class LiveArray extends BoundObject implements List<Object> {
 
             if (!nUpdateRange(getNativeHandle(), position, array))
                 throw new LiveArrayException("Unexpected update range error position="+position);
+            mListeners.notifyChanged();
         }
     }
 
+    /**
+     * @return the listeners notified after this array was changed.
+     */
+    @NonNull
+    LiveDataListeners getListeners() {
+        return mListeners;
+    }
+
     /**
      * @return The size of the C++ array.  This method is for testing.
      */
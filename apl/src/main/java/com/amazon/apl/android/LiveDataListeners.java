@@ -0,0 +1,35 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android;
+
+import androidx.annotation.NonNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Listeners notified after a {@link LiveArray} or {@link LiveMap} was changed, so documents
+ * using the live data pick up the change even when their clock is idle.
+ *
+ * This class is thread-safe.
+ */
+final class LiveDataListeners {
+    private final List<Runnable> mListeners = new CopyOnWriteArrayList<>();
+
+    void add(@NonNull Runnable listener) {
+        mListeners.add(listener);
+    }
+
+    void remove(@NonNull Runnable listener) {
+        mListeners.remove(listener);
+    }
+
+    void notifyChanged() {
+        for (Runnable listener : mListeners) {
+            listener.run();
+        }
+    }
+}
@@ -43,6 +43,11 @@ import java.util.Set;
 public class LiveMap extends BoundObject implements Map<String,Object> {
     private final Map<String,Object> mBackingMap = new HashMap<>();
 
+    /**
+     * Notified after every change, so idle documents using this map pick it up.
+     */
+    private final LiveDataListeners mListeners = new LiveDataListeners();
+
     /**
      * Construct an empty LiveMap
      * @return the LiveMap
@@ -73,6 +78,14 @@ public class LiveMap extends BoundObject implements Map<String,Object> {
         bind(handle);
     }
 
+    /**
+     * @return the listeners notified after this map was changed.
+     */
+    @NonNull
+    LiveDataListeners getListeners() {
+        return mListeners;
+    }
+
     @Override
     public int size() {
         return mBackingMap.size();
@@ -102,14 +115,18 @@ public class LiveMap extends BoundObject implements Map<String,Object> {
     @Nullable
     public Object put(@NonNull String key, @NonNull Object value) {
         nSet(getNativeHandle(), key, value);
-        return mBackingMap.put(key, value);
+        final Object previous = mBackingMap.put(key, value);
+        mListeners.notifyChanged();
+        return previous;
     }
 
     @Override
     @Nullable
     public Object remove(@Nullable Object key) {
         nRemove(getNativeHandle(), (String) key);
-        return mBackingMap.remove(key);
+        final Object previous = mBackingMap.remove(key);
+        mListeners.notifyChanged();
+        return previous;
     }
 
     @Override
@@ -118,11 +135,13 @@ public class LiveMap extends BoundObject implements Map<String,Object> {
         for (Entry<? extends String, ? extends Object> entry: m.entrySet()) {
             nSet(getNativeHandle(), entry.getKey(), entry.getValue());
         }
+        mListeners.notifyChanged();
     }
 
     public void clear() {
         mBackingMap.clear();
         nClear(getNativeHandle());
+        mListeners.notifyChanged();
     }
 
     @NonNull
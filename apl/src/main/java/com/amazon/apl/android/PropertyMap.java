@@ -6,6 +6,7 @@
 package com.amazon.apl.android;
 
 import android.graphics.Matrix;
+import android.graphics.RectF;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -83,38 +84,79 @@ public abstract class PropertyMap<B extends BoundObject, K extends APLEnum> {
 
     @NonNull
     public final Matrix getScaledTransform(K property) {
-        final IMetricsTransform transform = Objects.requireNonNull(getMetricsTransform());
         Matrix m = new Matrix();
-        float[] toMatrix = toMatrix(nGetTransform(getNativeHandle(), property.getIndex()));
+        getScaledTransform(property, m);
+        return m;
+    }
+
+    /**
+     * Reads a transform, with its translation scaled to the viewhost, without allocating.
+     *
+     * @param property the transform property.
+     * @param out      the matrix set to the transform.
+     */
+    public final void getScaledTransform(K property, @NonNull Matrix out) {
+        final IMetricsTransform transform = Objects.requireNonNull(getMetricsTransform());
+        final float[] toMatrix = readMatrix(property);
         // Tx and Ty are scaled.
         toMatrix[2] = transform.toViewhost(toMatrix[2]);
         toMatrix[5] = transform.toViewhost(toMatrix[5]);
-        m.setValues(toMatrix);
-        return m;
+        out.setValues(toMatrix);
     }
 
     @NonNull
     public final Matrix getTransform(K property) {
         Matrix m = new Matrix();
-        float[] toMatrix = toMatrix(nGetTransform(getNativeHandle(), property.getIndex()));
-        m.setValues(toMatrix);
+        getTransform(property, m);
         return m;
     }
 
     /**
-     * Converts a core transform2D array into a float[9] in {@link Matrix} order.
+     * Reads a transform without allocating.
      *
-     * @param transform2D a float array representing a matrix in the order:
-     *                    arr[0]  arr[2]  arr[4]
-     *                    arr[1]  arr[3]  arr[5]
-     * @return the float array in Matrix order.
+     * @param property the transform property.
+     * @param out      the matrix set to the transform.
      */
-    private static float[] toMatrix(float[] transform2D) {
-        return new float[] {
-                transform2D[0], transform2D[2], transform2D[4],
-                transform2D[1], transform2D[3], transform2D[5],
-                0,              0,              1
-        };
+    public final void getTransform(K property, @NonNull Matrix out) {
+        out.setValues(readMatrix(property));
+    }
+
+    /**
+     * Reads a core transform2D into the calling thread's scratch array in {@link Matrix} order.
+     * The core transform2D is in the order:
+     *      arr[0]  arr[2]  arr[4]
+     *      arr[1]  arr[3]  arr[5]
+     *
+     * @return the scratch array, valid until the next read on this thread.
+     */
+    private float[] readMatrix(K property) {
+        final TransformScratch scratch = sTransformScratch.get();
+        final float[] transform2D = scratch.transform2D;
+        nGetTransformValues(getNativeHandle(), property.getIndex(), transform2D);
+        final float[] matrix = scratch.matrix;
+        matrix[0] = transform2D[0];
+        matrix[1] = transform2D[2];
+        matrix[2] = transform2D[4];
+        matrix[3] = transform2D[1];
+        matrix[4] = transform2D[3];
+        matrix[5] = transform2D[5];
+        matrix[6] = 0;
+        matrix[7] = 0;
+        matrix[8] = 1;
+        return matrix;
+    }
+
+    // Transforms are read on every frame of an animation, so reuse the arrays.
+    private static final ThreadLocal<TransformScratch> sTransformScratch = new ThreadLocal<TransformScratch>() {
+        @Override
+        protected TransformScratch initialValue() {
+            return new TransformScratch();
+        }
+    };
+
+    private static final class TransformScratch {
+        final float[] transform2D = new float[6];
+        final float[] matrix = new float[9];
     }
 
     public final int getInt(K property) {
@@ -196,6 +238,17 @@ public abstract class PropertyMap<B extends BoundObject, K extends APLEnum> {
         return Rect.create(getMapOwner(), property, transform);
     }
 
+    /**
+     * Reads a rectangle without allocating.
+     *
+     * @param property the rectangle property.
+     * @param out      the rectangle set to the property, scaled to the viewhost.
+     */
+    public final void getRect(K property, @NonNull RectF out) {
+        final IMetricsTransform transform = Objects.requireNonNull(getMetricsTransform());
+        Rect.get(getMapOwner(), property, transform, out);
+    }
+
     public final AccessibilityActions getAccessibilityActions(K property) {
         return AccessibilityActions.create(getMapOwner(), property);
     }
@@ -222,8 +275,7 @@ public abstract class PropertyMap<B extends BoundObject, K extends APLEnum> {
     private static native boolean nIsGradient(long nativeHandle, int propertyKey);
     private static native boolean nIsGraphicPattern(long nativeHandle, int propertyKey);
 
-    @NonNull
-    private static native float[] nGetTransform(long nativeHandle, int propertyKey);
+    private static native void nGetTransformValues(long nativeHandle, int propertyKey, float[] out);
     private static native boolean nHasTransform(long nativeHandle, int propertyKey);
     static native int nGetEnum(long nativeHandle, int propertyId);
     private static native boolean nHasProperty(long nativeHandle, int propertyKey);
@@ -9,6 +9,7 @@ import android.graphics.Path;
 import android.net.Uri;
 
 import com.amazon.alexaext.ExtensionResourceProvider;
+import com.amazon.apl.android.bitmap.BitmapConfigPolicy;
 import com.amazon.apl.android.bitmap.IBitmapCache;
 import com.amazon.apl.android.bitmap.IBitmapFactory;
 import com.amazon.apl.android.bitmap.NoOpBitmapCache;
@@ -48,12 +49,14 @@ public class RenderingContext {
     private final IExtensionImageFilterCallback extensionImageFilterCallback;
     private final IBitmapFactory bitmapFactory;
     private final IBitmapCache bitmapCache;
+    private final BitmapConfigPolicy bitmapConfigPolicy;
     private final ShadowCache mShadowCache;
     private final WeakCache<String, Path> mPathCache;
     private final IContentRetriever<Uri, String> avgRetriever;
     private final IExtensionEventCallback extensionEventCallback;
     private final APLTrace aplTrace;
     private final boolean mediaPlayerV2Enabled;
+    private final boolean virtualAccessibilityEnabled;
 
     private RenderingContext(
             int docVersion,
@@ -68,10 +71,12 @@ public class RenderingContext {
             IExtensionImageFilterCallback extensionImageFilterCallback,
             IBitmapFactory bitmapFactory,
             IBitmapCache bitmapCache,
+            BitmapConfigPolicy bitmapConfigPolicy,
             IContentRetriever<Uri, String> avgRetriever,
             IExtensionEventCallback extensionEventCallback,
             APLTrace aplTrace,
-            boolean mediaPlayerV2Enabled) {
+            boolean mediaPlayerV2Enabled,
+            boolean virtualAccessibilityEnabled) {
         this.docVersion = docVersion;
         this.metricsTransform = metricsTransform;
         this.textLayoutFactory = textLayoutFactory;
@@ -84,10 +89,12 @@ public class RenderingContext {
         this.extensionImageFilterCallback = extensionImageFilterCallback;
         this.bitmapFactory = bitmapFactory;
         this.bitmapCache = bitmapCache;
+        this.bitmapConfigPolicy = bitmapConfigPolicy;
         this.avgRetriever = avgRetriever;
         this.extensionEventCallback = extensionEventCallback;
         this.aplTrace = aplTrace;
         this.mediaPlayerV2Enabled = mediaPlayerV2Enabled;
+        this.virtualAccessibilityEnabled = virtualAccessibilityEnabled;
         mShadowCache = new ShadowCache();
         this.mPathCache = new WeakCache<>();
     }
@@ -148,6 +155,10 @@ public class RenderingContext {
         return bitmapCache;
     }
 
+    public BitmapConfigPolicy getBitmapConfigPolicy() {
+        return bitmapConfigPolicy;
+    }
+
     public ShadowCache getShadowCache() {
         return mShadowCache;
     }
@@ -166,6 +177,8 @@ public class RenderingContext {
 
     public boolean isMediaPlayerV2Enabled() { return mediaPlayerV2Enabled; }
 
+    public boolean isVirtualAccessibilityEnabled() { return virtualAccessibilityEnabled; }
+
     // Defaults are no-ops
     public static Builder builder() {
         return new Builder()
@@ -180,7 +193,8 @@ public class RenderingContext {
                 .imageUriSchemeValidator((scheme, version) -> true)
                 .extensionImageFilterCallback(((sourceBitmap, destinationBitmap, params) -> sourceBitmap))
                 .bitmapFactory(new SimpleBitmapFactory())
-                .bitmapCache(new NoOpBitmapCache());
+                .bitmapCache(new NoOpBitmapCache())
+                .bitmapConfigPolicy(BitmapConfigPolicy.argb8888());
     }
 
     public static final class Builder {
@@ -196,10 +210,12 @@ public class RenderingContext {
         private IExtensionImageFilterCallback extensionImageFilterCallback;
         private IBitmapFactory bitmapFactory;
         private IBitmapCache bitmapCache;
+        private BitmapConfigPolicy bitmapConfigPolicy;
         private IContentRetriever<Uri, String> avgRetriever;
         private IExtensionEventCallback extensionEventCallback;
         private APLTrace aplTrace;
         private boolean isMediaPlayerV2Enabled;
+        private boolean isVirtualAccessibilityEnabled;
 
         Builder() {
         }
@@ -265,6 +281,11 @@ public class RenderingContext {
             return this;
         }
 
+        public RenderingContext.Builder bitmapConfigPolicy(BitmapConfigPolicy bitmapConfigPolicy) {
+            this.bitmapConfigPolicy = bitmapConfigPolicy;
+            return this;
+        }
+
         public RenderingContext.Builder avgContentRetriever(IContentRetriever<Uri, String> avgContentRetriever) {
             this.avgRetriever = avgContentRetriever;
             return this;
@@ -285,6 +306,11 @@ public class RenderingContext {
             return this;
         }
 
+        public RenderingContext.Builder isVirtualAccessibilityEnabled(boolean isVirtualAccessibilityEnabled) {
+            this.isVirtualAccessibilityEnabled = isVirtualAccessibilityEnabled;
+            return this;
+        }
+
         public RenderingContext build() {
             return new RenderingContext(
                     this.docVersion,
@@ -299,10 +325,12 @@ public class RenderingContext {
                     this.extensionImageFilterCallback,
                     this.bitmapFactory,
                     this.bitmapCache,
+                    this.bitmapConfigPolicy,
                     this.avgRetriever,
                     this.extensionEventCallback,
                     this.aplTrace,
-                    this.isMediaPlayerV2Enabled);
+                    this.isMediaPlayerV2Enabled,
+                    this.isVirtualAccessibilityEnabled);
         }
     }
 }
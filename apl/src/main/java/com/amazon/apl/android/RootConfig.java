@@ -26,9 +26,11 @@ import com.amazon.apl.enums.AnimationQuality;
 import com.amazon.apl.enums.RootProperty;
 import com.amazon.apl.enums.ScreenMode;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -70,6 +72,11 @@ public class RootConfig extends BoundObject {
 
     private DocumentManager mDocumentManager;
 
+    /**
+     * Listeners of the live data set on this config, so documents can wake up on changes.
+     */
+    private final List<LiveDataListeners> mLiveDataListeners = new ArrayList<>();
+
     /**
      * Creates a default RootConfig.
      */
@@ -273,6 +280,7 @@ public class RootConfig extends BoundObject {
     @NonNull
     public RootConfig liveData(@NonNull String name, @NonNull LiveArray liveArray) {
         nLiveData(getNativeHandle(), name, liveArray.getNativeHandle());
+        mLiveDataListeners.add(liveArray.getListeners());
         return this;
     }
 
@@ -286,6 +294,7 @@ public class RootConfig extends BoundObject {
     @NonNull
     public RootConfig liveData(@NonNull String name, @NonNull LiveMap liveMap) {
         nLiveData(getNativeHandle(), name, liveMap.getNativeHandle());
+        mLiveDataListeners.add(liveMap.getListeners());
         return this;
     }
 
@@ -586,6 +595,14 @@ public class RootConfig extends BoundObject {
         return mMediaPlayerFactoryProxy;
     }
 
+    /**
+     * @return the listeners of the live data set on this config.
+     */
+    @NonNull
+    List<LiveDataListeners> getLiveDataListeners() {
+        return mLiveDataListeners;
+    }
+
     /**
      * Gets the Audio Player Factory to create TTSPlayer instances.
      * @return Proxy for storing the AudioPlayerFactory
@@ -16,6 +16,7 @@ import androidx.annotation.Nullable;
 import androidx.annotation.UiThread;
 import androidx.annotation.VisibleForTesting;
 
+import com.amazon.apl.android.audio.AudioPlayerFactoryProxy;
 import com.amazon.apl.android.bitmap.PooledBitmapFactory;
 import com.amazon.apl.android.configuration.ConfigurationChange;
 import com.amazon.apl.android.dependencies.IExtensionEventCallback;
@@ -37,13 +38,16 @@ import com.amazon.apl.android.events.RequestFirstLineBounds;
 import com.amazon.apl.android.events.RequestLineBoundsEvent;
 import com.amazon.apl.android.events.SendEvent;
 import com.amazon.apl.android.events.SpeakEvent;
+import com.amazon.apl.android.font.TypefaceResolver;
 import com.amazon.apl.android.primitive.Rect;
+import com.amazon.apl.android.media.MediaClock;
 import com.amazon.apl.android.providers.AbstractMediaPlayerProvider;
 import com.amazon.apl.android.providers.ITelemetryProvider;
 import com.amazon.apl.android.scaling.MetricsTransform;
 import com.amazon.apl.android.scaling.Scaling;
 import com.amazon.apl.android.scaling.ViewportMetrics;
 import com.amazon.apl.android.touch.Pointer;
+import com.amazon.apl.android.touch.PointerBatch;
 import com.amazon.apl.android.utils.APLTrace;
 import com.amazon.apl.android.utils.JNIUtils;
 import com.amazon.apl.android.utils.TracePoint;
@@ -52,6 +56,7 @@ import com.amazon.apl.enums.DisplayState;
 import com.amazon.apl.enums.EventScrollAlign;
 import com.amazon.apl.enums.EventType;
 import com.amazon.apl.enums.FocusDirection;
+import com.amazon.apl.enums.PointerEventType;
 import com.amazon.apl.enums.PropertyKey;
 import com.amazon.apl.enums.RootProperty;
 import com.amazon.apl.viewhost.Viewhost;
@@ -62,6 +67,8 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -163,6 +170,13 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
     private final APLTrace mAplTrace;
 
     private final IClock mAplClock;
+    // Samples playing media once per frame, waking the clock when playback starts.
+    private final MediaClock mMediaClock = new MediaClock(this::requestFrame);
+    // Registered with live data and the viewhost, kept to unregister the same instance.
+    private final Runnable mFrameRequest = this::requestFrame;
+    // Pointer moves waiting for the next frame, when pointer batching is enabled.
+    @Nullable
+    private final PointerBatch mPointerBatch;
 
     /**
      * We need to hold a reference to Content to ensure that it gets cleaned up *after* the RootContext.
@@ -197,6 +211,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
         try (APLTrace.AutoTrace autoTrace = mAplTrace.startAutoTrace(TracePoint.ROOT_CONTEXT_CREATE)) {
             mOptions = options;
             mAplClock = options.getAplClockProvider().create(this);
+            mPointerBatch = options.isPointerBatchingEnabled() ? new PointerBatch() : null;
             mContent = content;
             mTelemetryProvider = mOptions.getTelemetryProvider();
             mViewPresenter = viewPresenter;
@@ -207,6 +222,8 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
             mTextMeasureCallback = TextMeasureCallback.factory().create(mMetricsTransform, new TextMeasure(mRenderingContext));
             mAgentName = (String) rootConfig.getProperty(RootProperty.kAgentName);
             preBindInit();
+            attachMediaClock();
+            attachFrameRequests();
             final long nativeHandle = createHandle(metrics, rootConfig, mTextMeasureCallback);
             mTextMeasureCallback.onRootContextCreated();
             bind(nativeHandle);
@@ -248,6 +265,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
         try (APLTrace.AutoTrace autoTrace = mAplTrace.startAutoTrace(TracePoint.ROOT_CONTEXT_CREATE)) {
             mOptions = options;
             mAplClock = options.getAplClockProvider().create(this);
+            mPointerBatch = options.isPointerBatchingEnabled() ? new PointerBatch() : null;
             mTelemetryProvider = mOptions.getTelemetryProvider();
             mMetricsTransform = metricsTransform;
             mRootConfig = rootConfig;
@@ -261,6 +279,8 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
             mTextMeasureCallback.onRootContextCreated();
             mAgentName = (String) rootConfig.getProperty(RootProperty.kAgentName);
             preBindInit();
+            attachMediaClock();
+            attachFrameRequests();
             inflate();
             autoSize(nativeHandle);
         }
@@ -288,11 +308,13 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
                 .mediaPlayerProvider(getMediaPlayerProvider(options))
                 .bitmapFactory(PooledBitmapFactory.create(options.getTelemetryProvider(), APLController.getRuntimeConfig().getBitmapPool()))
                 .bitmapCache(APLController.getRuntimeConfig().getBitmapCache())
+                .bitmapConfigPolicy(APLController.getRuntimeConfig().getBitmapConfigPolicy())
                 .textLayoutFactory(TextLayoutFactory.create(metricsTransform))
                 .extensionImageFilterCallback(ifCB)
                 .extensionEventCallback(eeCB)
                 .aplTrace(mAplTrace)
-                .isMediaPlayerV2Enabled(config.isMediaPlayerV2Enabled());
+                .isMediaPlayerV2Enabled(config.isMediaPlayerV2Enabled())
+                .isVirtualAccessibilityEnabled(options.isVirtualAccessibilityEnabled());
 
         if (extensionMediator != null) {
             ctxBuilder.extensionResourceProvider(extensionMediator.extensionResourceProvider);
@@ -346,6 +368,10 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
                 mRenderingContext.setMetricsTransform(mMetricsTransform);
             }
         } while(retry);
+        // text is measured during inflation, so most typefaces are resolved by now
+        TypefaceResolver.getInstance().reportMetrics(mTelemetryProvider);
+        // as are the packages of the document
+        APLJSONData.reportMetrics(mTelemetryProvider);
         return rootContextHandle;
     }
 
@@ -411,6 +437,54 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
         cComponent = mTelemetryProvider.createMetricId(APL_DOMAIN, METRIC_COMPONENT_COUNT, COUNTER);
     }
 
+    /**
+     * Let changes made outside of the frame loop by live data and embedded documents wake the
+     * clock of this document.
+     */
+    private void attachFrameRequests() {
+        for (LiveDataListeners listeners : mRootConfig.getLiveDataListeners()) {
+            listeners.add(mFrameRequest);
+        }
+        final Viewhost viewhost = mOptions.getViewhost();
+        if (viewhost instanceof ViewhostImpl) {
+            ((ViewhostImpl) viewhost).setFrameRequester(mFrameRequest);
+        }
+    }
+
+    private void detachFrameRequests() {
+        for (LiveDataListeners listeners : mRootConfig.getLiveDataListeners()) {
+            listeners.remove(mFrameRequest);
+        }
+        final Viewhost viewhost = mOptions.getViewhost();
+        if (viewhost instanceof ViewhostImpl) {
+            ((ViewhostImpl) viewhost).setFrameRequester(null);
+        }
+    }
+
+    /**
+     * Hand the media clock to the players of this document, so media progress is sampled on
+     * the document's frames rather than by per player timers.
+     */
+    private void attachMediaClock() {
+        mRenderingContext.getMediaPlayerProvider().setMediaClock(mMediaClock);
+        final AudioPlayerFactoryProxy audioPlayerFactoryProxy = mRootConfig.getAudioPlayerFactoryProxy();
+        if (audioPlayerFactoryProxy != null) {
+            audioPlayerFactoryProxy.setMediaClock(mMediaClock);
+        }
+    }
+
+    /**
+     * Take the media clock back from the players, so that providers shared with or reused by other
+     * documents don't keep sampling into this finished document's clock.
+     */
+    private void detachMediaClock() {
+        mRenderingContext.getMediaPlayerProvider().clearMediaClock(mMediaClock);
+        final AudioPlayerFactoryProxy audioPlayerFactoryProxy = mRootConfig.getAudioPlayerFactoryProxy();
+        if (audioPlayerFactoryProxy != null) {
+            audioPlayerFactoryProxy.clearMediaClock(mMediaClock);
+        }
+    }
+
     /**
      * Request to create a RootContext.
      *
@@ -445,11 +519,11 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
 
     /**
      * Inflate the layout.
-     * This results in core calling back to {@link #buildComponent(String, long, int)}.
+     * This builds components from the {@link InflationManifest} returned by core.
      */
     private void inflate() {
         try {
-            nInflate(getNativeHandle());
+            inflateManifest(nInflate(getNativeHandle()), null);
         } catch (Exception e) {
             mTelemetryProvider.fail(tInflate);
             throw (e);
@@ -458,7 +532,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
 
     /**
      * Reinflate the layout.
-     * This results in core calling back to #buildComponent(String, long, int)}.
+     * This builds components from the {@link InflationManifest} returned by core.
      */
     public void reinflate() {
         Log.i(TAG, "Reinflating");
@@ -515,10 +589,12 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
     private void reinflateAndNotify() {
         // Java components and views reinflation
         try {
-            if (!nReinflate(getNativeHandle())) {
+            InflationManifest manifest = nReinflate(getNativeHandle());
+            if (manifest == null) {
                 Log.w(TAG, "Reinflation failed because document cannot be rendered");
                 return;
             }
+            inflateManifest(manifest, null);
             notifyContext();
         } catch (Exception e) {
             mTelemetryProvider.fail(tReinflate);
@@ -533,6 +609,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
         mWorkQueue.clear();
         mPending.clear();
         mAplComponents.clear();
+        nForgetComponents(getNativeHandle(), null);
         mRenderingContext.getMediaPlayerProvider().releasePlayers();
     }
 
@@ -583,6 +660,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
             // mark the context as finished to block any per frame loop.
             mIsFinished.set(true);
             mAplClock.stop();
+            detachFrameRequests();
 
             // End all active events
             cancelExecution();
@@ -592,12 +670,23 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
 
             // clear all work
             mWorkQueue.clear();
+            mMediaClock.clear();
+            detachMediaClock();
+            if (mPointerBatch != null) {
+                synchronized (mPointerBatch) {
+                    mPointerBatch.clear();
+                }
+            }
 
             // clean up any pending events
             mPending.clear();
 
             // clean up Components
             mAplComponents.clear();
+            nForgetComponents(getNativeHandle(), null);
+
+            TypefaceResolver.getInstance().reportMetrics(mTelemetryProvider);
+            APLJSONData.reportMetrics(mTelemetryProvider);
 
             //send notification to runtime
             Viewhost viewhost = mOptions.getViewhost();
@@ -653,18 +742,47 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
                 mMetricsTransform.toCore(w),
                 mMetricsTransform.toCore(h),
                 align.getIndex());
+        requestFrame();
     }
 
     /**
-     * Returns the native handle for a component if it exists
+     * Builds the components described by an inflation manifest. The manifest only lists the
+     * components that don't exist yet, native handles are created for all of them.
+     * <p>
+     * Must be called right after building the manifest, on the same thread, so that the hierarchy
+     * still matches the manifest when the handles are created.
      *
-     * @param componentId the component id
-     * @return the native handle
+     * @param manifest the manifest, may be null if there is nothing to inflate
+     * @param rootId the unique id of the root of the manifest, null for the top component
      */
-    @SuppressWarnings("unused")
-    private long getComponentHandle(String componentId) {
-        Component component = mAplComponents.get(componentId);
-        return component != null ? component.getNativeHandle() : 0;
+    private void inflateManifest(@Nullable InflationManifest manifest, @Nullable String rootId) {
+        if (manifest == null || manifest.size() == 0) {
+            return;
+        }
+        final int size = manifest.size();
+        final long[] handles = nCreateComponentHandles(getNativeHandle(), rootId, size);
+        // A handle is owned by its component once passed to buildComponent
+        int consumed = 0;
+        try {
+            while (consumed < size) {
+                final int index = consumed;
+                final long handle = handles[consumed++];
+                if (handle == 0) {
+                    continue;
+                }
+                final String componentId = manifest.getComponentId(index);
+                try {
+                    buildComponent(componentId, handle, manifest.getTypeId(index));
+                } catch (RuntimeException e) {
+                    Log.e(TAG, "Failed to build component. type:" + manifest.getTypeId(index) + " id:" + componentId, e);
+                    nForgetComponents(getNativeHandle(), new String[]{componentId});
+                }
+            }
+        } finally {
+            if (consumed < size) {
+                nReleaseComponentHandles(getNativeHandle(), Arrays.copyOfRange(handles, consumed, size));
+            }
+        }
     }
 
     /**
@@ -702,7 +820,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
     /**
      * Build a Component and pair it with the native Component.
      * <p>
-     * This method is also called from the native layer during {@link #inflate()}.
+     * This method is called for each new component in an {@link InflationManifest}.
      * <p>
      * TODO extract this into a ComponentFactory when moving Components to package
      *
@@ -710,12 +828,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
      * @param nativeHandle  the pointer to the native Component
      * @param typeId        the type of component to inflate
      */
-    @SuppressWarnings("unused")
     private void buildComponent(String componentId, long nativeHandle, int typeId) {
-        if (mAplComponents.containsKey(componentId)) {
-            return;
-        }
-
         Component component = null;
         ComponentType type = ComponentType.valueOf(typeId);
         switch (type) {
@@ -797,6 +910,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
     @Nullable
     public Action executeCommands(@NonNull String commands) {
         long handle = nExecuteCommands(getNativeHandle(), commands);
+        requestFrame();
         if (handle == 0) {
             return null;
         }
@@ -811,6 +925,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
 
         long handle = nInvokeExtensionEventHandler(getNativeHandle(),
                 uri, name, data, fastmode);
+        requestFrame();
 
         if (handle == 0) {
             return null;
@@ -827,7 +942,9 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
      * @return true if data source has been updated successfully, otherwise - false
      */
     public boolean updateDataSource(@NonNull final String type, @NonNull final String data) {
-        return nUpdateDataSource(getNativeHandle(), type, data);
+        boolean updated = nUpdateDataSource(getNativeHandle(), type, data);
+        requestFrame();
+        return updated;
     }
 
 
@@ -842,6 +959,9 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
         if (ensureLayout) {
             component.ensureLayout();
         }
+        if (AccessibilitySnapshot.isInvalidatedBy(dirtyProperties)) {
+            AccessibilitySnapshot.invalidate(component);
+        }
         // Inflate a Java component if the change is insert.
         if (dirtyProperties.contains(PropertyKey.kPropertyNotifyChildrenChanged)) {
             Object[] changes = component.getChangedChildren();
@@ -864,7 +984,12 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
                     if (toRemove == null) {
                         Log.w(TAG, "Invalid component to remove in kPropertyNotifyChildrenChanged, ignoring.");
                     } else {
-                        APLLayout.traverseComponentHierarchy(toRemove, child -> mAplComponents.remove(child.getComponentId()));
+                        final List<String> removedIds = new ArrayList<>();
+                        APLLayout.traverseComponentHierarchy(toRemove, child -> {
+                            mAplComponents.remove(child.getComponentId());
+                            removedIds.add(child.getComponentId());
+                        });
+                        nForgetComponents(getNativeHandle(), removedIds.toArray(new String[0]));
                     }
                 }
             }
@@ -1120,6 +1245,52 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
      */
     public void post(Runnable r) {
         mWorkQueue.add(r);
+        requestFrame();
+    }
+
+    /**
+     * Request a frame as soon as possible. Call this after changing document state outside of
+     * the frame loop (for example resolving events or updating components), so that a clock
+     * idling while the document has nothing to do picks up the change. Live data and embedded
+     * documents request frames on their own.
+     */
+    public void requestFrame() {
+        mAplClock.wake();
+    }
+
+    /**
+     * @return true if embedded documents need to be checked on the next frame.
+     */
+    private boolean hasPendingViewhostTick() {
+        final Viewhost viewhost = mOptions.getViewhost();
+        return viewhost instanceof ViewhostImpl && ((ViewhostImpl) viewhost).hasPendingTick();
+    }
+
+    /**
+     * Tell the clock how long the document can go without a frame. The document is idle when
+     * core has nothing dirty, no pending events, work or context notifications, and nothing
+     * playing, in which case the next frame is only needed for the next core timer.
+     */
+    private void idleIfPossible(long nativeHandle) {
+        if (!mAplClock.supportsIdle()) {
+            return;
+        }
+        if (!mWorkQueue.isEmpty()
+                || mMediaClock.isActive()
+                || (mPointerBatch != null && mPointerBatch.size() > 0)
+                || lastScreenLockStatus
+                || hasPendingViewhostTick()
+                || nIsDirty(nativeHandle)
+                || nHasEvent(nativeHandle)
+                || nIsVisualContextDirty(nativeHandle)
+                || nIsDataSourceContextDirty(nativeHandle)) {
+            return;
+        }
+        final long nextTime = nNextTime(nativeHandle);
+        final long delay = nextTime < 0 ? Long.MAX_VALUE : nextTime - getElapsedTime();
+        if (delay > 0) {
+            mAplClock.idle(delay);
+        }
     }
 
     /**
@@ -1141,6 +1312,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
      * Order and set of operations in this method should be preserved.
      * Order is the following:
      * * Update time and adjust TimeZone if required.
+     * * Sample playing media, so their progress updates are processed together.
      * * Call **clearPending** method on RootConfig to give Core possibility to execute all pending actions and updates.
      * * Process dirty properties. Side note: this can inflate Views which are required by an Event in the same frame.
      * * Process requested events.
@@ -1160,10 +1332,19 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
         updateTime(nativeHandle, time, currentUtcTime);
         mAplTrace.endTrace();
 
+        mMediaClock.onFrame(time);
+
         mAplTrace.startTrace(TracePoint.ROOT_CONTEXT_CLEAR_PENDING);
         nClearPending(nativeHandle);
         mAplTrace.endTrace();
 
+        ViewhostImpl viewhost = (ViewhostImpl)mOptions.getViewhost();
+        if (viewhost != null && viewhost.hasDocuments()
+                && (nIsDirty(nativeHandle) || nHasEvent(nativeHandle))) {
+            // Embedded documents share core with this document, so they may have changed too
+            viewhost.markAllDocumentsDirty();
+        }
+
         mAplTrace.startTrace(TracePoint.ROOT_CONTEXT_HANDLE_DIRTY_PROPERTIES);
         nHandleDirtyProperties(nativeHandle);
         mAplTrace.endTrace();
@@ -1188,8 +1369,8 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
         }
         mAplTrace.endTrace();
 
-        // Allow embedded documents a chance to update their visual and data source context
-        ViewhostImpl viewhost = (ViewhostImpl)mOptions.getViewhost();
+        // Allow embedded documents a chance to update their visual and data source context and
+        // report their data source errors
         if (viewhost != null) {
             mAplTrace.startTrace(TracePoint.ROOT_CONTEXT_NEW_VIEWHOST_TICK);
             viewhost.tick();
@@ -1202,11 +1383,6 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
         if (errors != null) {
             mOptions.getDataSourceErrorCallback().onDataSourceError(errors);
         }
-        //check for errors in embedded docs
-        ViewhostImpl viewhost = (ViewhostImpl)mOptions.getViewhost();
-        if (viewhost != null) {
-            viewhost.checkAndReportDataSourceErrors();
-        }
     }
 
     /**
@@ -1237,7 +1413,9 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
             // convert to ms
             long time = (frameTimeNanos - mStartLoopTime) / 1000000;
 
+            flushPointerMoves(time);
             coreFrameUpdate(time);
+            idleIfPossible(getNativeHandle());
 
             final long end = System.nanoTime();
             final long doFrameTime = end - frameTimeNanos;
@@ -1329,6 +1507,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
                         keyboard.alt(),
                         keyboard.ctrl(),
                         keyboard.meta());
+        requestFrame();
 
         if (DEBUG) Log.d(TAG, "keyboard: " + keyboard + ", isAplConsumed: " + isAplConsumed);
         return isAplConsumed;
@@ -1341,6 +1520,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
      * @return boolean if a next element has been found
      */
     boolean nextFocus(FocusDirection focusDirection) {
+        requestFrame();
         return nNextFocus(getNativeHandle(), focusDirection.getIndex());
     }
 
@@ -1349,6 +1529,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
      */
     void clearFocus() {
         nClearFocus(getNativeHandle());
+        requestFrame();
     }
 
     /**
@@ -1360,6 +1541,34 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
         return nGetFocusableAreas(getNativeHandle());
     }
 
+    /**
+     * Get the focusable areas from APLCore that match a query, reusing the buffers of the result.
+     * Directional queries return the areas beyond the origin in that direction, other queries
+     * return the areas intersecting the origin, or all areas when the origin is empty. Runtimes
+     * navigating focus themselves pick a target from the result and pass it to
+     * {@link #setFocus(FocusDirection, float, float, float, float, String)}. Coordinates are in
+     * core coordinates.
+     *
+     * @param out       the result to fill
+     * @param x         coordinate of origin
+     * @param y         coordinate of origin
+     * @param width     width of origin
+     * @param height    height of origin
+     * @param direction the direction to search in
+     */
+    public void queryFocusableAreas(@NonNull FocusableAreas out, float x, float y, float width, float height,
+                                    @NonNull FocusDirection direction) {
+        final long nativeHandle = getNativeHandle();
+        long result = nQueryFocusableAreas(nativeHandle, x, y, width, height, direction.getIndex(),
+                out.mRects, out.mIdOffsets, out.mIds);
+        if (!out.setResult(result)) {
+            // The buffers have grown to fit, query again.
+            result = nQueryFocusableAreas(nativeHandle, x, y, width, height, direction.getIndex(),
+                    out.mRects, out.mIdOffsets, out.mIds);
+            out.setResult(result);
+        }
+    }
+
     /**
      * Sets focus to an element in core
      *
@@ -1369,9 +1578,11 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
      * @param width     width of origin
      * @param height    height of origin
      * @param target_id targetId ID of area selected by runtime from list provided by getFocusableAreas()
+     *                  or {@link #queryFocusableAreas}
      * @return true if focus was accepted, false otherwise
      */
-    boolean setFocus(FocusDirection direction, float x, float y, float width, float height, String target_id) {
+    public boolean setFocus(FocusDirection direction, float x, float y, float width, float height, String target_id) {
+        requestFrame();
         return nSetFocus(getNativeHandle(),
                 direction.getIndex(),
                 x,
@@ -1411,13 +1622,27 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
     }
 
     /**
-     * Handle a pointer event.
+     * Handle a pointer event happening now.
      *
      * @param pointer the pointer.
      * @return true if pointer was processed, false otherwise.
      */
     @VisibleForTesting
     public boolean handlePointer(@NonNull final Pointer pointer) {
+        return handlePointer(pointer, SystemClock.uptimeMillis());
+    }
+
+    /**
+     * Handle a pointer event.
+     *
+     * @param pointer   the pointer.
+     * @param eventTime the time of the event, in the {@link SystemClock#uptimeMillis()} timebase.
+     * @return true if pointer was processed, false otherwise.
+     */
+    public boolean handlePointer(@NonNull final Pointer pointer, long eventTime) {
+        requestFrame();
+        // Keep the order of events, queued moves go first.
+        flushPointerMoves(toDocumentTime(eventTime));
         return nHandlePointerEvent(getNativeHandle(),
                 pointer.getId(),
                 pointer.getPointerType().getIndex(),
@@ -1426,6 +1651,76 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
                 mMetricsTransform.toCore(pointer.getY()));
     }
 
+    /**
+     * @return true if pointer moves should be queued with {@link #queuePointerMove}.
+     */
+    public boolean isPointerBatchingEnabled() {
+        return mPointerBatch != null;
+    }
+
+    /**
+     * Queue a pointer move sample to be delivered to core with the next frame. Samples of the
+     * same pointer are delivered in a single call, each at its own time, so core can track the
+     * velocity of the gesture. Delivered immediately when pointer batching is disabled.
+     *
+     * @param pointer   the pointer that moved.
+     * @param x         the x position of the sample.
+     * @param y         the y position of the sample.
+     * @param eventTime the time of the sample, in the {@link SystemClock#uptimeMillis()} timebase.
+     * @return true if the move was queued. Core handles it later, the pointer's target was
+     *         already decided when it went down.
+     */
+    public boolean queuePointerMove(@NonNull final Pointer pointer, float x, float y, long eventTime) {
+        if (mPointerBatch == null || mStartLoopTime == 0) {
+            return handlePointer(Pointer.create(pointer.getId(), pointer.getPointerType(), PointerEventType.kPointerMove, x, y), eventTime);
+        }
+        final long documentTime = toDocumentTime(eventTime);
+        synchronized (mPointerBatch) {
+            if (!mPointerBatch.accepts(pointer)) {
+                flushPointerMoves(documentTime);
+            }
+            mPointerBatch.add(pointer, mMetricsTransform.toCore(x), mMetricsTransform.toCore(y), documentTime);
+        }
+        requestFrame();
+        return true;
+    }
+
+    /**
+     * @param eventTime an input event time, in the {@link SystemClock#uptimeMillis()} timebase.
+     * @return the event time in document time. Event times and frame times share the monotonic clock.
+     */
+    private long toDocumentTime(long eventTime) {
+        return mStartLoopTime == 0 ? getElapsedTime() : eventTime - mStartLoopTime / 1000000;
+    }
+
+    /**
+     * Deliver queued pointer moves to core. Sample times are clamped between the current core
+     * time and the given time, since core time can't go backwards.
+     *
+     * @param frameTime the time of the frame, or of the pointer event, the moves are delivered
+     *                  before.
+     */
+    private void flushPointerMoves(long frameTime) {
+        if (mPointerBatch == null) {
+            return;
+        }
+        synchronized (mPointerBatch) {
+            if (mPointerBatch.isEmpty()) {
+                return;
+            }
+            mAplTrace.startTrace(TracePoint.ROOT_CONTEXT_HANDLE_POINTER_MOVES);
+            nHandlePointerMoves(getNativeHandle(),
+                    mPointerBatch.getPointerId(),
+                    mPointerBatch.getPointerType().getIndex(),
+                    mPointerBatch.getPoints(),
+                    mPointerBatch.getTimes(),
+                    mPointerBatch.size(),
+                    frameTime);
+            mPointerBatch.clear();
+            mAplTrace.endTrace();
+        }
+    }
+
     /**
      * Creates a {@link ConfigurationChange} object with values filled with current ViewportMetrics and RootConfig values.
      * This needs to be used by Runtime to fill new values, which are available with Runtime.
@@ -1484,6 +1779,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
                 configurationChange.screenReaderEnabled(),
                 configurationChange.disallowVideo(),
                 configurationChange.environmentValues());
+        requestFrame();
 
         // If we have a scaled viewport and we're undergoing a configuration change,
         // then our metrics are changing and the existing layouts need to be cleared and re-laid out.
@@ -1505,6 +1801,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
         if (DEBUG) Log.d(TAG, "Update Display State: " + displayState.name());
 
         nUpdateDisplayState(getNativeHandle(), displayState.getIndex());
+        requestFrame();
 
         // When the display state changes, we want to ensure that the document is notified promptly
         // and that any resulting events are processed immediately, rather than waiting for the next
@@ -1569,7 +1866,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
         if (component != null) {
             return component;
         }
-        nInflateComponentWithUniqueId(getNativeHandle(), componentId);
+        inflateManifest(nInflateComponentWithUniqueId(getNativeHandle(), componentId), componentId);
         return mAplComponents.get(componentId);
     }
 
@@ -1612,6 +1909,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
      */
     public void mediaLoaded(final String source) {
         nMediaLoaded(getNativeHandle(), source);
+        requestFrame();
     }
 
     /**
@@ -1622,6 +1920,7 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
      */
     public void mediaLoadFailed(final String source, int errorCode, String failureReason) {
         nMediaLoadFailed(getNativeHandle(), source, errorCode, failureReason);
+        requestFrame();
     }
 
     /**
@@ -1636,15 +1935,27 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
 
     private static native boolean nIsDirty(long nativeHandle);
 
+    private static native boolean nHasEvent(long nativeHandle);
+
+    private static native long nNextTime(long nativeHandle);
+
     private static native Object nSetting(long nativeHandle, String settingName);
 
     private static native boolean nIsScreenLocked(long nativeHandle);
 
-    private native void nInflate(long nativeHandle);
+    private static native InflationManifest nInflate(long nativeHandle);
 
-    private native boolean nReinflate(long nativeHandle);
+    @Nullable
+    private static native InflationManifest nReinflate(long nativeHandle);
+
+    @Nullable
+    private static native InflationManifest nInflateComponentWithUniqueId(long nativeHandle, String componentId);
+
+    private static native long[] nCreateComponentHandles(long nativeHandle, String rootId, int count);
 
-    private native void nInflateComponentWithUniqueId(long nativeHandle, String componentId);
+    private static native void nReleaseComponentHandles(long nativeHandle, long[] handles);
+
+    private static native void nForgetComponents(long nativeHandle, String[] componentIds);
 
     private native void nClearPending(long nativeHandle);
 
@@ -1683,6 +1994,8 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
 
     private static native boolean nHandlePointerEvent(long nativeHandle, int pointerId, int pointerType, int pointerEventType, float x, float y);
 
+    private static native boolean nHandlePointerMoves(long nativeHandle, int pointerId, int pointerType, float[] points, long[] times, int count, long frameTime);
+
     private static native void nHandleConfigurationChange(long nativeHandle, int width, int minWidth, int maxWidth, int height, int minHeight, int maxHeight, String theme, int viewportMode, float fontScale, int screenMode, boolean screenReaderEnabled, boolean disallowVideo, Map<String, Object> environmentValues);
 
     private static native void nUpdateDisplayState(long nativeHandle, int displayState);
@@ -1707,6 +2020,9 @@ public class RootContext extends BoundObject implements IClock.IClockCallback {
 
     private static native LinkedHashMap<String, float[]> nGetFocusableAreas(long nativeHandle);
 
+    private static native long nQueryFocusableAreas(long nativeHandle, float x, float y, float width, float height,
+                                                    int focusDirection, float[] rects, int[] idOffsets, byte[] ids);
+
     private static native boolean nSetFocus(long nativeHandle, int focus_direction, float origin_x, float origin_y, float origin_width, float origin_height, String targetId);
 
     private static native String nGetFocusedComponent(long nativeHandle);
@@ -8,6 +8,7 @@ package com.amazon.apl.android;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.amazon.apl.android.bitmap.BitmapConfigPolicy;
 import com.amazon.apl.android.bitmap.IBitmapCache;
 import com.amazon.apl.android.bitmap.IBitmapPool;
 import com.amazon.apl.android.bitmap.NoOpBitmapCache;
@@ -31,6 +32,8 @@ public abstract class RuntimeConfig {
 
     public abstract IBitmapCache getBitmapCache();
 
+    public abstract BitmapConfigPolicy getBitmapConfigPolicy();
+
     @Nullable
     public abstract IPackageCache getPackageCache();
 
@@ -53,9 +56,10 @@ public abstract class RuntimeConfig {
         IBitmapPool bitmapPool = new NoOpBitmapPool();
         return new AutoValue_RuntimeConfig.Builder()
                 .fontResolver(new CompatFontResolver())
-                .preloadingFontsEnabled(true)
+                .preloadingFontsEnabled(false)
                 .bitmapCache(bitmapCache)
                 .bitmapPool(bitmapPool)
+                .bitmapConfigPolicy(BitmapConfigPolicy.argb8888())
                 .embeddedFontResolverEnabled(true)
                 .clearViewsOnFinish(true);
     }
@@ -70,7 +74,7 @@ public abstract class RuntimeConfig {
         public abstract Builder fontResolver(@NonNull IFontResolver fontResolver);
 
         /**
-         * Defaults to true
+         * Defaults to false, fonts are loaded on first use.
          * @param shouldPreloadFonts specifies whether the viewhost should preload common fonts
          * @return this builder
          */
@@ -92,6 +96,15 @@ public abstract class RuntimeConfig {
          */
         public abstract Builder bitmapCache(IBitmapCache bitmapCache);
 
+        /**
+         * Defaults to {@link BitmapConfigPolicy#argb8888()}.
+         * Policy used to choose the config of decoded images and cached vector graphics.
+         *
+         * @param bitmapConfigPolicy bitmap config policy
+         * @return this builder
+         */
+        public abstract Builder bitmapConfigPolicy(@NonNull BitmapConfigPolicy bitmapConfigPolicy);
+
 
         /**
          * A memory cache for import requests
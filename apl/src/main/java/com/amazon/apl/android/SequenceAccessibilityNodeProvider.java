@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android;
+
+import android.content.Context;
+import android.graphics.Rect;
+import android.os.Bundle;
+import android.text.TextUtils;
+import android.view.View;
+import android.view.ViewParent;
+import android.view.accessibility.AccessibilityEvent;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.core.view.ViewCompat;
+import androidx.core.view.accessibility.AccessibilityNodeInfoCompat;
+import androidx.core.view.accessibility.AccessibilityNodeProviderCompat;
+
+import com.amazon.apl.android.views.APLAbsoluteLayout;
+import com.amazon.apl.enums.UpdateType;
+
+/**
+ * Accessibility node provider for a Sequence that exposes children without an attached view as
+ * virtual nodes of the Sequence, so that accessibility services can reach every child without
+ * views being inflated for children that are off screen.
+ *
+ * Children with attached views are reported by the Sequence view as usual. Virtual node ids are
+ * child indices.
+ */
+final class SequenceAccessibilityNodeProvider extends AccessibilityNodeProviderCompat {
+    private static final int NO_ID = Integer.MIN_VALUE;
+
+    private final Component mSequence;
+    private final View mHost;
+    private final Context mContext;
+    private final int[] mHostLocation = new int[2];
+    private int mAccessibilityFocusedId = NO_ID;
+
+    SequenceAccessibilityNodeProvider(@NonNull Component sequence, @NonNull View host, @NonNull Context context) {
+        mSequence = sequence;
+        mHost = host;
+        mContext = context;
+    }
+
+    @Nullable
+    @Override
+    public AccessibilityNodeInfoCompat createAccessibilityNodeInfo(int virtualViewId) {
+        if (virtualViewId == HOST_VIEW_ID) {
+            return createHostNode();
+        }
+        final Component child = getChild(virtualViewId);
+        return child != null ? createVirtualNode(virtualViewId, child) : null;
+    }
+
+    @Override
+    public boolean performAction(int virtualViewId, int action, Bundle arguments) {
+        if (virtualViewId == HOST_VIEW_ID) {
+            return ViewCompat.performAccessibilityAction(mHost, action, arguments);
+        }
+        final Component child = getChild(virtualViewId);
+        if (child == null) {
+            return false;
+        }
+        switch (action) {
+            case AccessibilityNodeInfoCompat.ACTION_ACCESSIBILITY_FOCUS:
+                if (mAccessibilityFocusedId == virtualViewId) {
+                    return false;
+                }
+                mAccessibilityFocusedId = virtualViewId;
+                mHost.invalidate();
+                sendEvent(virtualViewId, AccessibilityEvent.TYPE_VIEW_ACCESSIBILITY_FOCUSED);
+                return true;
+            case AccessibilityNodeInfoCompat.ACTION_CLEAR_ACCESSIBILITY_FOCUS:
+                if (mAccessibilityFocusedId != virtualViewId) {
+                    return false;
+                }
+                mAccessibilityFocusedId = NO_ID;
+                mHost.invalidate();
+                sendEvent(virtualViewId, AccessibilityEvent.TYPE_VIEW_ACCESSIBILITY_FOCUS_CLEARED);
+                return true;
+            default:
+                String actionName = AccessibilitySnapshot.of(child, mContext).getActionName(action);
+                if (actionName == null) {
+                    return false;
+                }
+                child.update(UpdateType.kUpdateAccessibilityAction, actionName);
+                return true;
+        }
+    }
+
+    private AccessibilityNodeInfoCompat createHostNode() {
+        // Reports the Sequence and its attached child views, through the view and its delegate.
+        AccessibilityNodeInfoCompat info = AccessibilityNodeInfoCompat.obtain(mHost);
+        ViewCompat.onInitializeAccessibilityNodeInfo(mHost, info);
+        final int count = mSequence.getChildCount();
+        for (int i = 0; i < count; i++) {
+            // Children that core hasn't inflated yet are left out.
+            Component child = mSequence.getChildAt(i);
+            if (child != null && !hasAttachedView(child)) {
+                info.addChild(mHost, i);
+            }
+        }
+        return info;
+    }
+
+    private AccessibilityNodeInfoCompat createVirtualNode(int virtualViewId, @NonNull Component child) {
+        AccessibilityNodeInfoCompat info = AccessibilityNodeInfoCompat.obtain();
+        info.setSource(mHost, virtualViewId);
+        info.setParent(mHost);
+        info.setPackageName(mContext.getPackageName());
+        AccessibilitySnapshot.of(child, mContext).applyTo(info);
+        info.setContentDescription(describe(child));
+
+        Rect bounds = getBoundsInHost(child);
+        info.setBoundsInParent(bounds);
+        info.setVisibleToUser(Rect.intersects(bounds, new Rect(0, 0, mHost.getWidth(), mHost.getHeight())));
+        mHost.getLocationOnScreen(mHostLocation);
+        bounds.offset(mHostLocation[0], mHostLocation[1]);
+        info.setBoundsInScreen(bounds);
+
+        final boolean isAccessibilityFocused = mAccessibilityFocusedId == virtualViewId;
+        info.setAccessibilityFocused(isAccessibilityFocused);
+        info.addAction(isAccessibilityFocused
+                ? AccessibilityNodeInfoCompat.ACTION_CLEAR_ACCESSIBILITY_FOCUS
+                : AccessibilityNodeInfoCompat.ACTION_ACCESSIBILITY_FOCUS);
+        return info;
+    }
+
+    /**
+     * Virtual nodes have no descendants, so they are described by their own label, or the labels
+     * and text of their descendants.
+     */
+    @VisibleForTesting
+    String describe(@NonNull Component component) {
+        AccessibilitySnapshot snapshot = AccessibilitySnapshot.of(component, mContext);
+        if (!TextUtils.isEmpty(snapshot.getLabel())) {
+            return snapshot.getLabel();
+        }
+        StringBuilder description = new StringBuilder();
+        appendDescription(component, description);
+        return description.toString();
+    }
+
+    private void appendDescription(Component component, StringBuilder description) {
+        AccessibilitySnapshot snapshot = AccessibilitySnapshot.of(component, mContext);
+        String text = !TextUtils.isEmpty(snapshot.getLabel()) ? snapshot.getLabel() : snapshot.getText();
+        if (!TextUtils.isEmpty(text)) {
+            if (description.length() > 0) {
+                description.append(", ");
+            }
+            description.append(text);
+            return;
+        }
+        final int count = component.getChildCount();
+        for (int i = 0; i < count; i++) {
+            Component child = component.getChildAt(i);
+            if (child != null) {
+                appendDescription(child, description);
+            }
+        }
+    }
+
+    private Rect getBoundsInHost(Component child) {
+        com.amazon.apl.android.primitive.Rect bounds = child.getBounds();
+        Rect rect = new Rect(bounds.intLeft(), bounds.intTop(), bounds.intRight(), bounds.intBottom());
+        if (mHost instanceof APLAbsoluteLayout) {
+            APLAbsoluteLayout layout = (APLAbsoluteLayout) mHost;
+            rect.offset(-layout.getScrollOffsetX(), -layout.getScrollOffsetY());
+        }
+        return rect;
+    }
+
+    private boolean hasAttachedView(Component child) {
+        View view = child.getViewPresenter().findView(child);
+        return view != null && view.getParent() == mHost;
+    }
+
+    @Nullable
+    private Component getChild(int virtualViewId) {
+        if (virtualViewId < 0 || virtualViewId >= mSequence.getChildCount()) {
+            return null;
+        }
+        return mSequence.getChildAt(virtualViewId);
+    }
+
+    private void sendEvent(int virtualViewId, int eventType) {
+        ViewParent parent = mHost.getParent();
+        if (parent == null) {
+            return;
+        }
+        AccessibilityEvent event = AccessibilityEvent.obtain(eventType);
+        event.setPackageName(mContext.getPackageName());
+        event.setSource(mHost, virtualViewId);
+        parent.requestSendAccessibilityEvent(mHost, event);
+    }
+}
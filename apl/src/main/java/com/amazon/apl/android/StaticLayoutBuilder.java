@@ -95,17 +95,7 @@ public abstract class StaticLayoutBuilder {
     public StaticLayout build() throws LayoutBuilderException {
         StaticLayout layout;
         if (Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
-
-            // including extra padding in the old school StaticLayouts breaks vertically centering
-            // text. However, prior to APL 1.4, we were including the extra padding so we will
-            // continue to maintain that behavior for docs referencing earlier versions of APL.
-            boolean includePadding;
-            if (aplVersionCode() < APLVersionCodes.APL_1_4) {
-                includePadding = true;
-            } else {
-                includePadding = false;
-            }
-
+            final boolean includePadding = includesFontPadding(aplVersionCode());
             try {
                 layout = (StaticLayout) sConstructor.newInstance(text(), 0, text().length(),
                         textPaint(), innerWidth(), alignment(), textDirection(),
@@ -161,6 +151,21 @@ public abstract class StaticLayoutBuilder {
         return Math.abs(lineSpacing() * fontMetrics.ascent) / sum;
     }
 
+    /**
+     * @param aplVersionCode The document version.
+     * @return true if the layouts built for the document version include the font padding.
+     */
+    static boolean includesFontPadding(int aplVersionCode) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+            // including extra padding in the old school StaticLayouts breaks vertically centering
+            // text. However, prior to APL 1.4, we were including the extra padding so we will
+            // continue to maintain that behavior for docs referencing earlier versions of APL.
+            return aplVersionCode < APLVersionCodes.APL_1_4;
+        }
+        // StaticLayout.Builder includes the padding by default.
+        return true;
+    }
+
     public static class LayoutBuilderException extends Exception {
         public LayoutBuilderException(String message, Throwable cause) {
             super(message, cause);
@@ -7,6 +7,7 @@ package com.amazon.apl.android;
 
 import android.graphics.Paint;
 import android.graphics.Typeface;
+import android.text.BoringLayout;
 import android.text.Layout;
 import android.text.StaticLayout;
 import android.text.TextPaint;
@@ -38,6 +39,10 @@ public final class TextLayoutCache {
      * A LruCache of measured text widths using the visual hash and scaling as a key.
      */
     private final LruCache<String, Integer> mMeasuredTextWidths = new LruCache<>(512);
+    /**
+     * A LruCache of boring text metrics using the visual hash and scaling as a key.
+     */
+    private final LruCache<String, BoringLayout.Metrics> mBoringMetrics = new LruCache<>(512);
 
     /**
      * Writes a layout to the cache
@@ -80,6 +85,26 @@ public final class TextLayoutCache {
         return mMeasuredTextWidths.get(key);
     }
 
+    /**
+     * Add boring text metrics to the cache.
+     *
+     * @param key the visual hash
+     * @param metrics the metrics
+     */
+    public void putBoringMetrics(String key, BoringLayout.Metrics metrics) {
+        mBoringMetrics.put(key, metrics);
+    }
+
+    /**
+     * Get boring text metrics from the cache.
+     * @param key the visual hash
+     * @return the metrics, or null if not there.
+     */
+    @Nullable
+    public BoringLayout.Metrics getBoringMetrics(String key) {
+        return mBoringMetrics.get(key);
+    }
+
     /**
      * Gets a cached {@link TextPaint} or creates one if necessary.
      *
@@ -140,6 +165,7 @@ public final class TextLayoutCache {
         mLayoutCache.evictAll();
         mPaintCache.evictAll();
         mMeasuredTextWidths.evictAll();
+        mBoringMetrics.evictAll();
     }
 
     private static boolean shouldDisableHinting(String fontFamily) {
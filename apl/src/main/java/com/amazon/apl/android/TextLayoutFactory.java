@@ -4,8 +4,10 @@
  */
 package com.amazon.apl.android;
 
+import android.os.Build;
 import android.text.BoringLayout;
 import android.text.Layout;
+import android.text.Spanned;
 import android.text.StaticLayout;
 import android.text.TextDirectionHeuristic;
 import android.text.TextDirectionHeuristics;
@@ -13,6 +15,7 @@ import android.text.TextPaint;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
 import com.amazon.apl.android.scaling.IMetricsTransform;
@@ -38,9 +41,18 @@ public class TextLayoutFactory {
     // equivalent to DisplayMetrics.DENSITY_MEDIUM / 160;
     static float DEFAULT_DENSITY = 1.0f;
 
+    // Cached in place of the metrics of text that isn't boring.
+    private static final BoringLayout.Metrics NOT_BORING = new BoringLayout.Metrics();
+
+    // Scripts below this code point are covered by the fonts themselves, so they don't need the
+    // fallback line spacing StaticLayout uses from P.
+    private static final char MAX_BORING_CHAR = '\u0250';
+
     private final TextLayoutCache mTextLayoutCache;
     private final float mDensity;
     private final AndroidTextMeasure mAndroidTextMeasure;
+    // EditText layouts are only measured, so each thread reuses one.
+    private final ThreadLocal<MeasureLayout> mEditTextMeasureLayout = new ThreadLocal<>();
 
     /**
      * @return factory for use with specified display density metrics.
@@ -172,13 +184,28 @@ public class TextLayoutFactory {
         String text = editTextProxy.getMeasureText();
         TextPaint textPaint = editTextProxy.getTextPaint(mDensity);
 
-        final BoringLayout.Metrics boring = BoringLayout.isBoring(text, textPaint);
+        MeasureLayout measureLayout = mEditTextMeasureLayout.get();
+        if (measureLayout == null) {
+            measureLayout = new MeasureLayout();
+            mEditTextMeasureLayout.set(measureLayout);
+        }
+        final BoringLayout.Metrics boring = BoringLayout.isBoring(text, textPaint, measureLayout.metrics);
         final int boringTextWidth = (boring != null) ? boring.width :
                 (int) Math.ceil(Layout.getDesiredWidth(text, textPaint));
         final int layoutWidth = Math.min(innerWidth, boringTextWidth);
 
+        if (boring != null) {
+            // Only the size is used, so the text isn't ellipsized.
+            final boolean includePad = StaticLayoutBuilder.includesFontPadding(versionCode);
+            measureLayout.layout = measureLayout.layout == null
+                    ? BoringLayout.make(text, textPaint, layoutWidth, Layout.Alignment.ALIGN_NORMAL,
+                            1.0f, 0.0f, boring, includePad)
+                    : measureLayout.layout.replaceOrMake(text, textPaint, layoutWidth, Layout.Alignment.ALIGN_NORMAL,
+                            1.0f, 0.0f, boring, includePad);
+            return measureLayout.layout;
+        }
+
         try {
-            // TODO should be BoringLayout
             StaticLayout textLayout = StaticLayoutBuilder.create().
                     text(text).
                     textPaint(textPaint).
@@ -216,9 +243,18 @@ public class TextLayoutFactory {
             desiredTextWidth = getOrCalculateDesiredWidth(key, text, textPaint);
         }
 
+        // Single line text without spans doesn't need the features of StaticLayout.
+        final BoringLayout.Metrics boring = getOrCalculateBoringMetrics(key, text, textPaint);
+        if (boring != null) {
+            final Layout boringLayout = createBoringLayout(versionCode, text, textPaint, textProxy,
+                    widthMode, innerWidth, innerHeight, desiredTextWidth, boring);
+            if (boringLayout != null) {
+                return boringLayout;
+            }
+        }
+
         // Create a new StaticLayout.
         try {
-            //TODO - return a boring layout if we don't need all the features of StaticLayout
             final StaticLayout textLayout = createStaticLayout(versionCode,
                     text, textPaint, textProxy,
                     widthMode, innerWidth, innerHeight, desiredTextWidth);
@@ -230,6 +266,37 @@ public class TextLayoutFactory {
         return null;
     }
 
+    /**
+     * Creates a new boring layout for a Text component, if it lays out the same as a static layout.
+     *
+     * @return the layout, or null if a static layout is needed.
+     */
+    @Nullable
+    private BoringLayout createBoringLayout(int versionCode, CharSequence text,
+                                            TextPaint textPaint, TextProxy proxy,
+                                            TextMeasure.MeasureMode widthMode,
+                                            int innerWidth, int innerHeight,
+                                            int boringTextWidth, BoringLayout.Metrics boring) {
+        final int layoutWidth = getLayoutWidthForWidthMode(widthMode, innerWidth, boringTextWidth);
+        if (boring.width > layoutWidth
+                || proxy.getDirectionHeuristic() != TextDirectionHeuristics.LTR
+                || hasSpans(text)
+                || (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P && !isCoveredByFont(text))) {
+            return null;
+        }
+
+        // A static layout doesn't apply line spacing to its last line, so a single line has none.
+        final BoringLayout layout = BoringLayout.make(text, textPaint, layoutWidth,
+                proxy.getTextAlignment(), 1.0f, 0.0f, boring,
+                StaticLayoutBuilder.includesFontPadding(versionCode));
+
+        // Text that doesn't fit vertically is truncated by the static layout.
+        if (!proxy.limitLines() && layout.getHeight() > innerHeight) {
+            return null;
+        }
+        return layout;
+    }
+
     /**
      * Creates a new static layout for a Text component
      */
@@ -283,11 +350,36 @@ public class TextLayoutFactory {
         if (desiredTextWidth != null) {
             return desiredTextWidth;
         }
-        desiredTextWidth = mAndroidTextMeasure.getDesiredTextWidth(text, paint);
+        final BoringLayout.Metrics boring = getOrCalculateBoringMetrics(key, text, paint);
+        desiredTextWidth = boring != null ? boring.width : mAndroidTextMeasure.getDesiredTextWidth(text, paint);
         mTextLayoutCache.putTextWidth(key, desiredTextWidth);
         return desiredTextWidth;
     }
 
+    @Nullable
+    private BoringLayout.Metrics getOrCalculateBoringMetrics(String key, CharSequence text, TextPaint paint) {
+        BoringLayout.Metrics boring = mTextLayoutCache.getBoringMetrics(key);
+        if (boring == null) {
+            boring = mAndroidTextMeasure.isBoring(text, paint);
+            mTextLayoutCache.putBoringMetrics(key, boring != null ? boring : NOT_BORING);
+        }
+        return boring != NOT_BORING ? boring : null;
+    }
+
+    private static boolean hasSpans(CharSequence text) {
+        return text instanceof Spanned
+                && ((Spanned) text).nextSpanTransition(0, text.length(), Object.class) < text.length();
+    }
+
+    private static boolean isCoveredByFont(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= MAX_BORING_CHAR) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private int getLayoutWidthForWidthMode(TextMeasure.MeasureMode widthMode, int innerWidth, int boringTextWidth) {
         switch (widthMode) {
             case Exactly:
@@ -310,6 +402,19 @@ public class TextLayoutFactory {
             return (boring != null) ? boring.width :
                     (int) Math.ceil(Layout.getDesiredWidth(text, textPaint));
         }
+
+        @Nullable
+        default BoringLayout.Metrics isBoring(CharSequence text, TextPaint textPaint) {
+            return BoringLayout.isBoring(text, textPaint);
+        }
+    }
+
+    /**
+     * A layout reused for measurement, with its metrics.
+     */
+    private static final class MeasureLayout {
+        final BoringLayout.Metrics metrics = new BoringLayout.Metrics();
+        BoringLayout layout;
     }
 
     @VisibleForTesting
@@ -162,7 +162,7 @@ public class TextMeasure {
     }
 
     /**
-     * Measure the Text Component. This method builds a StaticLayout based on the Component
+     * Measure the Text Component. This method builds a text layout based on the Component
      * properties and saves it in {@link TextLayoutCache}.
      *
      * @param type       Component type to determine property access to the text DOM
@@ -5,6 +5,7 @@
 
 package com.amazon.apl.android;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import android.net.Uri;
@@ -12,12 +13,14 @@ import android.util.Log;
 
 import com.amazon.apl.android.content.MediaCallbackContentRetrieverDecorator;
 import com.amazon.apl.android.dependencies.IContentRetriever;
+import com.amazon.apl.android.graphic.DirtyGraphicIds;
 import com.amazon.apl.android.graphic.GraphicContainerElement;
 import com.amazon.apl.android.primitive.UrlRequests;
 import com.amazon.apl.enums.PropertyKey;
 import com.amazon.apl.enums.VectorGraphicAlign;
 import com.amazon.apl.enums.VectorGraphicScale;
 
+import java.util.HashSet;
 import java.util.Set;
 
 
@@ -30,6 +33,9 @@ public class VectorGraphic extends Component{
 
     private final IContentRetriever<Uri, String> mContentRetriever;
     private GraphicContainerElement mGraphicContainerElement;
+    // Reused every frame while the graphic animates.
+    private final DirtyGraphicIds mDirtyGraphicIds = new DirtyGraphicIds();
+    private final DirtyGraphicIds.Source mDirtyGraphicsSource = buffer -> nGetDirtyGraphics(getNativeHandle(), buffer);
 
     /**
      * VectorGraphic constructor.
@@ -63,8 +69,27 @@ public class VectorGraphic extends Component{
         nUpdateGraphic(getNativeHandle(), content);
     }
 
+    /**
+     * @deprecated use {@link #getDirtyGraphicIds()}.
+     */
+    @Deprecated
     public Set<Integer> getDirtyGraphics() {
-        return nGetDirtyGraphics(getNativeHandle());
+        DirtyGraphicIds ids = getDirtyGraphicIds();
+        Set<Integer> dirtyGraphics = new HashSet<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            dirtyGraphics.add(ids.get(i));
+        }
+        return dirtyGraphics;
+    }
+
+    /**
+     * @return the unique ids of the dirty graphic elements. The returned list is reused and only
+     * valid until the next call.
+     */
+    @NonNull
+    public DirtyGraphicIds getDirtyGraphicIds() {
+        mDirtyGraphicIds.fill(mDirtyGraphicsSource);
+        return mDirtyGraphicIds;
     }
 
     private native void nUpdateGraphic(long handle, String content);
@@ -118,7 +143,7 @@ public class VectorGraphic extends Component{
 
     private native long nGetGraphic(long nativeHandle, int propertyKey);
 
-    private native Set<Integer> nGetDirtyGraphics(long nativeHandle);
+    private static native int nGetDirtyGraphics(long nativeHandle, int[] buffer);
 }
 
 
@@ -160,6 +160,7 @@ public class Video extends Component implements IMediaPlayer.IMediaListener {
                 mFromEvent,
                 player.getTrackState(),
                 player.getCurrentError());
+        requestFrame();
         // Reset the fromEvent flag after a PlayMedia or ControlMedia command have been applied
         if (state == MediaState.PLAYING) {
             mFromEvent = false;
@@ -7,7 +7,10 @@ package com.amazon.apl.android.audio;
 import android.os.Handler;
 import android.os.Looper;
 
+import androidx.annotation.Nullable;
+
 import com.amazon.apl.android.dependencies.ITtsPlayer;
+import com.amazon.apl.android.media.MediaClock;
 import com.amazon.apl.android.media.MediaTrack;
 import com.amazon.apl.android.media.TextTrack;
 import com.amazon.apl.android.providers.ITtsPlayerProvider;
@@ -23,6 +26,8 @@ public class AudioPlayer extends BoundObject implements ITtsPlayer.IStateChangeL
 
     private final Handler mMainHandler = new Handler(Looper.getMainLooper());
     private final ITtsPlayerProvider mTtsPlayerProvider;
+    @Nullable
+    private final MediaClock mMediaClock;
     private final AtomicBoolean mIsReleased = new AtomicBoolean();
     private TrackState mLastPublishedTrackState = TrackState.kTrackNotReady;
     private long mStartTime;
@@ -30,7 +35,18 @@ public class AudioPlayer extends BoundObject implements ITtsPlayer.IStateChangeL
     private boolean mTimeUpdatesStarted = false;
 
     public AudioPlayer(long nativeHandle, ITtsPlayerProvider provider) {
+        this(nativeHandle, provider, null);
+    }
+
+    /**
+     * @param nativeHandle the native audio player
+     * @param provider     the tts player provider
+     * @param mediaClock   the document's media clock to send time updates with, or null to
+     *                     send them from a timer.
+     */
+    public AudioPlayer(long nativeHandle, ITtsPlayerProvider provider, @Nullable MediaClock mediaClock) {
         mTtsPlayerProvider = provider;
+        mMediaClock = mediaClock;
         bind(nativeHandle);
     }
 
@@ -42,6 +58,9 @@ public class AudioPlayer extends BoundObject implements ITtsPlayer.IStateChangeL
     private void release() {
         mIsReleased.set(true);
         mMainHandler.removeCallbacksAndMessages(null);
+        if (mMediaClock != null) {
+            mMediaClock.unregister(mTimeUpdateSampler);
+        }
         final ITtsPlayer ttsPlayer = mTtsPlayerProvider.getPlayer();
         ttsPlayer.stop();
         ttsPlayer.setStateChangeListener(null);
@@ -108,14 +127,34 @@ public class AudioPlayer extends BoundObject implements ITtsPlayer.IStateChangeL
     }
 
     private synchronized void startTimeUpdates() {
-        if (mIsReleased.get() || mLastPublishedTrackState != TrackState.kTrackReady) {
+        if (mMediaClock != null) {
+            mMediaClock.register(mTimeUpdateSampler, UPDATE_TIME_INTERVAL_MS);
             return;
         }
+        if (publishTimeUpdate()) {
+            mMainHandler.postDelayed(this::startTimeUpdates, UPDATE_TIME_INTERVAL_MS);
+        }
+    }
+
+    private final MediaClock.Sampler mTimeUpdateSampler = frameTime -> publishTimeUpdate();
+
+    /**
+     * Publishes the current offset if it changed since the last update.
+     *
+     * @return true while the track is playing and time updates should continue.
+     */
+    private synchronized boolean publishTimeUpdate() {
+        if (mIsReleased.get() || mLastPublishedTrackState != TrackState.kTrackReady) {
+            return false;
+        }
 
         long now = System.currentTimeMillis();
-        mCurrentOffset = (int) (now - mStartTime);
-        publishTrackState(new AudioPlayerEvent(AudioPlayerEventType.kAudioPlayerEventTimeUpdate, TrackState.kTrackReady, mCurrentOffset));
-        mMainHandler.postDelayed(this::startTimeUpdates, UPDATE_TIME_INTERVAL_MS);
+        int offset = (int) (now - mStartTime);
+        if (offset != mCurrentOffset) {
+            mCurrentOffset = offset;
+            publishTrackState(new AudioPlayerEvent(AudioPlayerEventType.kAudioPlayerEventTimeUpdate, TrackState.kTrackReady, mCurrentOffset));
+        }
+        return true;
     }
 
     public synchronized void publishTrackState(AudioPlayerEvent audioPlayerEvent) {
@@ -5,6 +5,9 @@
 package com.amazon.apl.android.audio;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amazon.apl.android.media.MediaClock;
 
 import com.amazon.apl.android.providers.ITtsPlayerProvider;
 import com.amazon.common.BoundObject;
@@ -18,6 +21,8 @@ import java.util.List;
  */
 public class AudioPlayerFactoryProxy extends BoundObject {
     private final IAudioPlayerFactory mAudioPlayerFactory;
+    @Nullable
+    private MediaClock mMediaClock;
 
     public AudioPlayerFactoryProxy(@NonNull IAudioPlayerFactory audioPlayerFactory) {
         final long handle = nCreate();
@@ -29,12 +34,34 @@ public class AudioPlayerFactoryProxy extends BoundObject {
         return mAudioPlayerFactory.getTtsPlayerProvider();
     }
 
+    /**
+     * Sets the clock that new players report time updates with. Called internally by viewhost
+     * when the document is created.
+     *
+     * @param clock the document's media clock, or null to let players use their own timers.
+     */
+    public void setMediaClock(@Nullable MediaClock clock) {
+        mMediaClock = clock;
+    }
+
+    /**
+     * Stops handing a document's media clock to new players, unless another document has set its
+     * own clock since. Called internally by viewhost when the document is finished.
+     *
+     * @param clock the finished document's media clock.
+     */
+    public void clearMediaClock(@NonNull MediaClock clock) {
+        if (mMediaClock == clock) {
+            mMediaClock = null;
+        }
+    }
+
     /**
      * Construct an audio-only player.
      */
     @SuppressWarnings("unused")
     private AudioPlayer createPlayer(long nativeHandle) {
-        return new AudioPlayer(nativeHandle, getAudioProvider());
+        return new AudioPlayer(nativeHandle, getAudioProvider(), mMediaClock);
     }
 
     private native long nCreate();
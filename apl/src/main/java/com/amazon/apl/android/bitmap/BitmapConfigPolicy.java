@@ -0,0 +1,156 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.bitmap;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Chooses the {@link Bitmap.Config} to use for a bitmap based on how it will be used.
+ *
+ * The inputs are:
+ * <ul>
+ *     <li>whether the source is known to be opaque (no alpha channel),</li>
+ *     <li>whether the pixels will be read or drawn into after decode (filters, shadows, caches).</li>
+ * </ul>
+ *
+ * {@link Bitmap.Config#RGB_565} halves the memory of opaque bitmaps and
+ * {@link Bitmap.Config#HARDWARE} moves the pixels out of the Java/native heap entirely, but
+ * hardware bitmaps are immutable and can't be read or drawn on a software canvas.
+ *
+ * The default policy ({@link #argb8888()}) preserves the legacy behavior of always using
+ * {@link Bitmap.Config#ARGB_8888}.
+ */
+public class BitmapConfigPolicy {
+    private static final BitmapConfigPolicy ARGB_8888 = new BitmapConfigPolicy(false, false);
+
+    private final boolean mAllowRgb565;
+    private final boolean mAllowHardware;
+
+    @VisibleForTesting
+    BitmapConfigPolicy(boolean allowRgb565, boolean allowHardware) {
+        mAllowRgb565 = allowRgb565;
+        mAllowHardware = allowHardware && Build.VERSION.SDK_INT >= Build.VERSION_CODES.O;
+    }
+
+    /**
+     * @return a policy that always uses {@link Bitmap.Config#ARGB_8888}.
+     */
+    @NonNull
+    public static BitmapConfigPolicy argb8888() {
+        return ARGB_8888;
+    }
+
+    /**
+     * @return a policy that uses hardware bitmaps where possible and {@link Bitmap.Config#RGB_565}
+     *          for opaque content.
+     */
+    @NonNull
+    public static BitmapConfigPolicy memoryOptimized() {
+        return new BitmapConfigPolicy(true, true);
+    }
+
+    /**
+     * Create a policy appropriate for the device. Low RAM devices use {@link #memoryOptimized()},
+     * other devices allow hardware bitmaps but keep full color depth.
+     *
+     * @param context Android context
+     * @return a policy for this device
+     */
+    @NonNull
+    public static BitmapConfigPolicy forDevice(@NonNull Context context) {
+        ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        boolean isLowRamDevice = activityManager != null && activityManager.isLowRamDevice();
+        return new BitmapConfigPolicy(isLowRamDevice, true);
+    }
+
+    /**
+     * @return true if opaque sources may be decoded as {@link Bitmap.Config#RGB_565}.
+     */
+    public boolean allowsRgb565() {
+        return mAllowRgb565;
+    }
+
+    /**
+     * @param requiresPixelAccess true if the bitmap will be filtered, copied or drawn on a software canvas
+     * @return true if the bitmap may be a {@link Bitmap.Config#HARDWARE} bitmap.
+     */
+    public boolean allowsHardware(boolean requiresPixelAccess) {
+        return mAllowHardware && !requiresPixelAccess;
+    }
+
+    /**
+     * Chooses a config for a decoded image.
+     *
+     * @param isOpaque              true if the source has no alpha channel
+     * @param requiresPixelAccess   true if the bitmap will be filtered, copied or drawn on a software canvas
+     * @return the config to use
+     */
+    @NonNull
+    public Bitmap.Config getImageConfig(boolean isOpaque, boolean requiresPixelAccess) {
+        if (allowsHardware(requiresPixelAccess)) {
+            return Bitmap.Config.HARDWARE;
+        }
+        // Filters operate on ARGB pixels, so keep full depth for them.
+        if (isOpaque && mAllowRgb565 && !requiresPixelAccess) {
+            return Bitmap.Config.RGB_565;
+        }
+        return Bitmap.Config.ARGB_8888;
+    }
+
+    /**
+     * Chooses a config for a cached Alexa Vector Graphic bitmap. The bitmap is always drawn into
+     * with a software canvas so hardware bitmaps are never used.
+     *
+     * @param hasAlpha true if the rendered graphic has any non-opaque pixels
+     * @return the config to use
+     */
+    @NonNull
+    public Bitmap.Config getVectorGraphicCacheConfig(boolean hasAlpha) {
+        return !hasAlpha && mAllowRgb565 ? Bitmap.Config.RGB_565 : Bitmap.Config.ARGB_8888;
+    }
+
+    /**
+     * Calculates how many bytes a bitmap uses compared with an {@link Bitmap.Config#ARGB_8888}
+     * bitmap of the same size.
+     *
+     * @param width     the bitmap width
+     * @param height    the bitmap height
+     * @param config    the bitmap config
+     * @return the bytes saved, 0 if none.
+     */
+    public static long getBytesSaved(int width, int height, Bitmap.Config config) {
+        return (long) width * height * (4 - getBytesPerPixel(config));
+    }
+
+    /**
+     * @param config the bitmap config
+     * @return the number of bytes per pixel held on the Java/native heap for this config.
+     */
+    static int getBytesPerPixel(Bitmap.Config config) {
+        if (config == null) {
+            return 4;
+        }
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O && config == Bitmap.Config.HARDWARE) {
+            // Pixels live in graphics memory only.
+            return 0;
+        }
+        switch (config) {
+            case ALPHA_8:
+                return 1;
+            case RGB_565:
+            case ARGB_4444:
+                return 2;
+            default:
+                return 4;
+        }
+    }
+}
@@ -13,6 +13,26 @@ import androidx.annotation.Nullable;
 public interface IBitmapFactory {
     Bitmap createBitmap(int width, int height) throws BitmapCreationException;
 
+    /**
+     * Create a bitmap with a specific config, for example one chosen by {@link BitmapConfigPolicy}.
+     *
+     * @param width     bitmap width
+     * @param height    bitmap height
+     * @param config    bitmap config
+     * @return a mutable bitmap
+     * @throws BitmapCreationException if there's not enough memory to create the bitmap
+     */
+    default Bitmap createBitmap(int width, int height, @NonNull Bitmap.Config config) throws BitmapCreationException {
+        if (config == Bitmap.Config.ARGB_8888) {
+            return createBitmap(width, height);
+        }
+        try {
+            return Bitmap.createBitmap(width, height, config);
+        } catch (OutOfMemoryError e) {
+            throw new BitmapCreationException("Unable to create bitmap.", e);
+        }
+    }
+
     Bitmap createBitmap(Bitmap sourceBitmap) throws BitmapCreationException;
 
     Bitmap createScaledBitmap(@NonNull Bitmap src, int dstWidth, int dstHeight, boolean filter) throws BitmapCreationException;
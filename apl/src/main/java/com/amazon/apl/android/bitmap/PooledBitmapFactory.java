@@ -23,10 +23,12 @@ public class PooledBitmapFactory implements IBitmapFactory {
     private static final String TAG = "PooledBitmapFactory";
     static final String METRIC_BITMAP_FAIL = TAG + ".bitmap.fail";
     static final String METRIC_BITMAP_SUCCESS = TAG + ".bitmap.success";
+    static final String METRIC_BITMAP_BYTES_SAVED = TAG + ".bitmap.bytesSaved";
 
     private final ITelemetryProvider mTelemetryProvider;
     private final int cBitmapMetricSuccess;
     private final int cBitmapMetricFail;
+    private final int cBitmapMetricBytesSaved;
 
     private final IBitmapPool pool;
 
@@ -35,6 +37,7 @@ public class PooledBitmapFactory implements IBitmapFactory {
         this.pool = pool;
         cBitmapMetricSuccess = mTelemetryProvider.createMetricId(ITelemetryProvider.APL_DOMAIN, METRIC_BITMAP_SUCCESS, ITelemetryProvider.Type.COUNTER);
         cBitmapMetricFail = mTelemetryProvider.createMetricId(ITelemetryProvider.APL_DOMAIN, METRIC_BITMAP_FAIL, ITelemetryProvider.Type.COUNTER);
+        cBitmapMetricBytesSaved = mTelemetryProvider.createMetricId(ITelemetryProvider.APL_DOMAIN, METRIC_BITMAP_BYTES_SAVED, ITelemetryProvider.Type.COUNTER);
     }
 
     /**
@@ -62,6 +65,28 @@ public class PooledBitmapFactory implements IBitmapFactory {
         }
     }
 
+    /**
+     * See {@link Bitmap#createBitmap(int, int, Bitmap.Config)}. Bytes saved relative to
+     * {@link Bitmap.Config#ARGB_8888} are reported through telemetry.
+     *
+     * @throws BitmapCreationException if there's not enough memory to create the bitmap
+     */
+    @Override
+    public synchronized Bitmap createBitmap(int width, int height, @NonNull Bitmap.Config config) throws BitmapCreationException {
+        try {
+            Bitmap result = pool.get(width, height, config);
+            mTelemetryProvider.incrementCount(cBitmapMetricSuccess);
+            long bytesSaved = BitmapConfigPolicy.getBytesSaved(width, height, config);
+            if (bytesSaved > 0) {
+                mTelemetryProvider.incrementCount(cBitmapMetricBytesSaved, (int) Math.min(bytesSaved, Integer.MAX_VALUE));
+            }
+            return result;
+        } catch (OutOfMemoryError e) {
+            mTelemetryProvider.incrementCount(cBitmapMetricFail);
+            throw new BitmapCreationException(createErrorMessage(width, height), e);
+        }
+    }
+
     /**
      * See {@link Bitmap#createBitmap(Bitmap)} with {@link Bitmap.Config#ARGB_8888}.
      *
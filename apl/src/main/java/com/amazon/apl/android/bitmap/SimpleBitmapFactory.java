@@ -23,6 +23,11 @@ public class SimpleBitmapFactory implements IBitmapFactory {
         return Bitmap.createBitmap(width, height, CONFIG);
     }
 
+    @Override
+    public Bitmap createBitmap(int width, int height, @NonNull Bitmap.Config config) throws BitmapCreationException {
+        return Bitmap.createBitmap(width, height, config);
+    }
+
     @Override
     public Bitmap createBitmap(Bitmap sourceBitmap) throws BitmapCreationException {
         return Bitmap.createBitmap(sourceBitmap);
@@ -6,6 +6,7 @@
 package com.amazon.apl.android.component;
 
 import android.content.Context;
+import android.graphics.Matrix;
 import android.text.TextUtils;
 import android.util.Log;
 import android.view.View;
@@ -18,6 +19,7 @@ import androidx.annotation.VisibleForTesting;
 import androidx.core.view.ViewCompat;
 
 import com.amazon.apl.android.APLAccessibilityDelegate;
+import com.amazon.apl.android.APLLayout;
 import com.amazon.apl.android.BuildConfig;
 import com.amazon.apl.android.Component;
 import com.amazon.apl.android.IAPLViewPresenter;
@@ -26,13 +28,15 @@ import com.amazon.apl.android.primitive.Rect;
 import com.amazon.apl.android.utils.APLTrace;
 import com.amazon.apl.android.utils.AccessibilitySettingsUtil;
 import com.amazon.apl.android.utils.TracePoint;
+import com.amazon.apl.android.utils.TransformUtils;
+import com.amazon.apl.android.views.APLAbsoluteLayout;
+import com.amazon.apl.android.views.LayerPolicy;
 import com.amazon.apl.enums.PropertyKey;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * Base class for ComponentViewAdapters.
@@ -47,13 +51,23 @@ public abstract class ComponentViewAdapter<C extends Component, V extends View>
     private final Map<PropertyKey, BiConsumer<C,V>> mDynamicPropertyFunctionMap;
     private static AccessibilitySettingsUtil sAccessibilitySettingsUtil = AccessibilitySettingsUtil.getInstance();
 
+    // Properties are applied on every frame of an animation, so reuse these on the UI thread.
+    private final List<BiConsumer<C,V>> mDirtyFunctions = new ArrayList<>();
+    private boolean mRefreshingProperties;
+    private final Matrix mTransform = new Matrix();
+
     ComponentViewAdapter() {
         mDynamicPropertyFunctionMap = new HashMap<>();
         mDynamicPropertyFunctionMap.put(PropertyKey.kPropertyOpacity, this::applyAlpha);
         mDynamicPropertyFunctionMap.put(PropertyKey.kPropertyDisplay, this::applyDisplay);
         mDynamicPropertyFunctionMap.put(PropertyKey.kPropertyAccessibilityLabel, this::applyAccessibility);
         mDynamicPropertyFunctionMap.put(PropertyKey.kPropertyDisabled, this::applyDisabled);
-        mDynamicPropertyFunctionMap.put(PropertyKey.kPropertyTransform, this::applyTransform);
+        // Box shadows move the transform to the parent, the same function handles both.
+        final BiConsumer<C,V> applyTransform = this::applyTransform;
+        mDynamicPropertyFunctionMap.put(PropertyKey.kPropertyTransform, applyTransform);
+        mDynamicPropertyFunctionMap.put(PropertyKey.kPropertyShadowHorizontalOffset, applyTransform);
+        mDynamicPropertyFunctionMap.put(PropertyKey.kPropertyShadowVerticalOffset, applyTransform);
+        mDynamicPropertyFunctionMap.put(PropertyKey.kPropertyShadowRadius, applyTransform);
         mDynamicPropertyFunctionMap.put(PropertyKey.kPropertyBounds, this::requestLayout);
         mDynamicPropertyFunctionMap.put(PropertyKey.kPropertyInnerBounds, this::requestLayout);
     }
@@ -81,6 +95,8 @@ public abstract class ComponentViewAdapter<C extends Component, V extends View>
         applyAccessibility(component, view);
         applyDisabled(component, view);
         applyPadding(component, view);
+        resetTransform(view);
+        resetLayer(component, view);
     }
 
     /**
@@ -90,19 +106,59 @@ public abstract class ComponentViewAdapter<C extends Component, V extends View>
      * @param dirtyProperties a list of dirty properties to process
      */
     public void refreshProperties(C component, V view, List<PropertyKey> dirtyProperties) {
-        Set<BiConsumer<C,V>> biConsumers = new HashSet<>();
-        for (PropertyKey propertyKey : dirtyProperties) {
+        // A property function may refresh another component with this adapter, don't reuse the list then.
+        final boolean reuse = !mRefreshingProperties;
+        final List<BiConsumer<C,V>> biConsumers = reuse ? mDirtyFunctions : new ArrayList<>();
+        for (int i = 0; i < dirtyProperties.size(); i++) {
+            PropertyKey propertyKey = dirtyProperties.get(i);
             BiConsumer<C,V> consumer = mDynamicPropertyFunctionMap.get(propertyKey);
             if (consumer != null) {
-                biConsumers.add(consumer);
+                // Avoid duplicate calls
+                if (!biConsumers.contains(consumer)) {
+                    biConsumers.add(consumer);
+                }
             } else if (BuildConfig.DEBUG) {
                 Log.w(TAG, "Property function not implemented for: " + propertyKey + ".");
             }
         }
 
-        // Use set to avoid duplicate calls
-        for (BiConsumer<C,V> consumer : biConsumers) {
-            consumer.accept(component,view);
+        mRefreshingProperties = true;
+        try {
+            for (int i = 0; i < biConsumers.size(); i++) {
+                biConsumers.get(i).accept(component, view);
+            }
+        } finally {
+            if (reuse) {
+                mRefreshingProperties = false;
+                biConsumers.clear();
+            }
+        }
+    }
+
+    /**
+     * Drops the layer of a view bound to a component, e.g. a recycled view, which the
+     * {@link LayerPolicy} decides on again for the new component.
+     */
+    private void resetLayer(C component, V view) {
+        final IAPLViewPresenter presenter = component.getViewPresenter();
+        final LayerPolicy layerPolicy = presenter != null ? presenter.getLayerPolicy() : null;
+        if (layerPolicy != null) {
+            layerPolicy.forget(view);
+        }
+        // Only the layer policy layers views, possibly the one of a previous document
+        if (view.getLayerType() != View.LAYER_TYPE_NONE) {
+            view.setLayerType(View.LAYER_TYPE_NONE, null);
+        }
+    }
+
+    /**
+     * Marks the view as having expensive static content, see {@link LayerPolicy#markExpensive(View)}.
+     */
+    void markExpensive(C component, V view) {
+        final IAPLViewPresenter presenter = component.getViewPresenter();
+        final LayerPolicy layerPolicy = presenter != null ? presenter.getLayerPolicy() : null;
+        if (layerPolicy != null) {
+            layerPolicy.markExpensive(view);
         }
     }
 
@@ -115,14 +171,54 @@ public abstract class ComponentViewAdapter<C extends Component, V extends View>
         mDynamicPropertyFunctionMap.put(key, function);
     }
 
+    /**
+     * Apply a changed transform to the view. Transforms are animated by core, which changes them
+     * on every frame, so they are applied to the view's render properties when possible; these are
+     * applied by the render thread without redrawing the view or its parent. Otherwise the parent
+     * applies the transform when drawing the view.
+     *
+     * @param component the component
+     * @param view      the view
+     */
     private void applyTransform(C component, V view) {
-        view.invalidate();
         ViewParent parent = view.getParent();
+        // Only APL layouts apply transforms to their children, and box shadows are drawn by the parent
+        if ((parent instanceof APLAbsoluteLayout || parent instanceof APLLayout)
+                && !component.shouldDrawBoxShadow()) {
+            // Until now the parent may have applied the transform when drawing the view
+            final boolean parentApplied = !TransformUtils.hasViewTransform(view);
+            component.getTransform(mTransform);
+            if (TransformUtils.applyTransformToView(mTransform, view)) {
+                if (parentApplied) {
+                    ((View) parent).invalidate();
+                }
+                return;
+            }
+        } else if (TransformUtils.hasViewTransform(view)) {
+            TransformUtils.clearViewTransform(view);
+        }
+        view.invalidate();
         if (parent instanceof View) {
             ((View)parent).invalidate();
         }
     }
 
+    /**
+     * Drop a transform left on the view's render properties, e.g. by the previous component of a
+     * recycled view. The parent applies the component's transform until it changes.
+     *
+     * @param view the view
+     */
+    private void resetTransform(V view) {
+        if (TransformUtils.hasViewTransform(view)) {
+            TransformUtils.clearViewTransform(view);
+            ViewParent parent = view.getParent();
+            if (parent instanceof View) {
+                ((View) parent).invalidate();
+            }
+        }
+    }
+
     /**
      * Apply opacity to the view.
      * @param component the component
@@ -6,13 +6,6 @@
 package com.amazon.apl.android.component;
 
 import android.content.Context;
-import android.graphics.RectF;
-import android.graphics.drawable.Drawable;
-import android.graphics.drawable.InsetDrawable;
-import android.graphics.drawable.LayerDrawable;
-import android.graphics.drawable.ShapeDrawable;
-import android.graphics.drawable.shapes.RectShape;
-import android.graphics.drawable.shapes.RoundRectShape;
 
 import com.amazon.apl.android.primitive.Gradient;
 import com.amazon.apl.android.primitive.Rect;
@@ -21,6 +14,7 @@ import com.amazon.apl.android.Frame;
 import com.amazon.apl.android.IAPLViewPresenter;
 import com.amazon.apl.android.primitive.Dimension;
 import com.amazon.apl.android.primitive.Radii;
+import com.amazon.apl.android.views.FrameBackgroundDrawable;
 
 import static com.amazon.apl.enums.PropertyKey.kPropertyBackground;
 import static com.amazon.apl.enums.PropertyKey.kPropertyBorderColor;
@@ -59,126 +53,64 @@ public class FrameViewAdapter extends MultiChildViewAdapter<Frame> {
     @Override
     public APLAbsoluteLayout createView(Context context, IAPLViewPresenter presenter) {
         final APLAbsoluteLayout frame = new APLAbsoluteLayout(context, presenter);
-        frame.setBackground(createDrawables());
+        frame.setBackground(new FrameBackgroundDrawable());
         return frame;
     }
 
-    private Drawable createDrawables() {
-        InsetDrawable borderInsetDrawable = new InsetDrawable(
-                new ShapeDrawable(new RectShape()),
-                0, 0, 0, 0);
-        LayerDrawable parentDrawable = new LayerDrawable(new Drawable[]{
-                new ShapeDrawable(),
-                borderInsetDrawable
-        });
-        parentDrawable.setId(1, 1);
-        return parentDrawable;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public void applyAllProperties(Frame component, APLAbsoluteLayout view) {
         super.applyAllProperties(component, view);
+        applyDrawnBorderWidth(component, view);
         applyBackground(component, view);
         applyBorderRadii(component, view);
         applyBorderColor(component, view);
-        applyDrawnBorderInternal(component, view);
     }
 
-    private ShapeDrawable getBackgroundDrawable(APLAbsoluteLayout view) {
-        LayerDrawable parentLayout = (LayerDrawable)view.getBackground();
-        InsetDrawable borderInset = (InsetDrawable)parentLayout.getDrawable(1);
-        return (ShapeDrawable)borderInset.getDrawable();
-    }
-
-    private ShapeDrawable getBorderDrawable(APLAbsoluteLayout view) {
-        return (ShapeDrawable) ((LayerDrawable)view.getBackground()).getDrawable(0);
-    }
-
-    private void applyDrawableBorderVisibility(ShapeDrawable drawable, int inset) {
-        Boolean currentlyVisible = drawable.getAlpha() > 0;
-        Boolean shouldShowDrawable = inset > 0;
-
-        if (shouldShowDrawable && !currentlyVisible) {
-            // show
-            drawable.setAlpha(255);
-        } else if (!shouldShowDrawable && currentlyVisible) {
-            // hide
-            drawable.setAlpha(0);
-        }
+    private FrameBackgroundDrawable getBackgroundDrawable(APLAbsoluteLayout view) {
+        return (FrameBackgroundDrawable) view.getBackground();
     }
 
     private void applyBackground(Frame component, APLAbsoluteLayout view) {
-        ShapeDrawable backgroundDrawable = getBackgroundDrawable(view);
-        Dimension drawnBorderWidth = component.getDrawnBorderWidth();
-        backgroundDrawable.getPaint().setShader(null);
+        FrameBackgroundDrawable backgroundDrawable = getBackgroundDrawable(view);
 
         if (component.isGradientBackground()) {
+            // The gradient fills the inside of the drawn border
+            Dimension drawnBorderWidth = component.getDrawnBorderWidth();
             Rect shaderSize = component.getBounds().inset(drawnBorderWidth.value());
             Gradient gradient = component.getBackgroundGradient();
-            backgroundDrawable.getPaint().setShader(gradient.getShader(
+            backgroundDrawable.setBackgroundShader(gradient.getShader(
                     shaderSize.intWidth(), shaderSize.intHeight()));
+            markExpensive(component, view);
         } else {
-            backgroundDrawable.getPaint().setColor(component.getBackgroundColor());
+            backgroundDrawable.setBackgroundShader(null);
+            backgroundDrawable.setBackgroundColor(component.getBackgroundColor());
         }
-
-        backgroundDrawable.invalidateSelf();
-    }
-
-    private RectF getInsetRect(Frame component) {
-        Dimension drawnBorderWidth = component.getDrawnBorderWidth();
-        float inset = drawnBorderWidth.value();
-        return new RectF(inset, inset, inset, inset);
     }
 
     private void applyBorderRadii(Frame component, APLAbsoluteLayout view) {
         Radii radii = component.getBorderRadii();
         if (radii != null) {
-            RectF inset = getInsetRect(component);
-
-            ShapeDrawable gradientDrawable = getBackgroundDrawable(view);
-            ShapeDrawable borderDrawable = getBorderDrawable(view);
-            Radii backgroundInsetRadii = radii.inset(inset.left);
-
-            borderDrawable.setShape(new RoundRectShape(radii.toFloatArray(), inset, backgroundInsetRadii.toFloatArray()));
-            gradientDrawable.setShape(new RoundRectShape(backgroundInsetRadii.toFloatArray(), null, null));
+            getBackgroundDrawable(view).setBorderRadii(radii);
             view.requestChildClippingPathUpdate();
         }
     }
 
-    private void applyDrawnBorderInternal(Frame component, APLAbsoluteLayout view) {
-        Dimension drawnBorderWidth = component.getDrawnBorderWidth();
-        ShapeDrawable borderDrawable = getBorderDrawable(view);
-        borderDrawable.getPaint().setStrokeWidth(drawnBorderWidth.value());
-
-        int inset = drawnBorderWidth.intValue();
-
-        applyDrawableBorderVisibility(borderDrawable, inset);
-
-        // Replace inset
-        LayerDrawable parentLayout = (LayerDrawable)view.getBackground();
-        ShapeDrawable backgroundDrawable = getBackgroundDrawable(view);
-        parentLayout.setDrawableByLayerId(1, new InsetDrawable(
-                backgroundDrawable,
-                inset, inset, inset, inset));
+    private void applyDrawnBorderWidth(Frame component, APLAbsoluteLayout view) {
+        getBackgroundDrawable(view).setBorderWidth(component.getDrawnBorderWidth().value());
     }
 
     private void applyDrawnBorder(Frame component, APLAbsoluteLayout view) {
-        applyDrawnBorderInternal(component, view);
-
-        // Re-adjust radii as it should take drawn border inset into account
-        applyBorderRadii(component, view);
+        applyDrawnBorderWidth(component, view);
 
         // Also resize the shader to properly fit (as it fills inside of the drawn border)
         applyBackground(component, view);
     }
 
     private void applyBorderColor(Frame component, APLAbsoluteLayout view) {
-        ShapeDrawable borderDrawable = getBorderDrawable(view);
-        borderDrawable.getPaint().setColor(component.getBorderColor());
-        borderDrawable.invalidateSelf();
+        getBackgroundDrawable(view).setBorderColor(component.getBorderColor());
     }
 
     private void applyBorder(Frame component, APLAbsoluteLayout view) {
@@ -88,6 +88,7 @@ public class VectorGraphicViewAdapter extends ComponentViewAdapter<VectorGraphic
         AlexaVectorDrawable vectorDrawable = AlexaVectorDrawable.create(component.getOrCreateGraphicContainerElement());
         vectorDrawable.setScale(component.getScale());
         view.setImageDrawable(vectorDrawable);
+        markExpensive(component, view);
     }
 
     void resetDrawableGraphics(VectorGraphic component, APLVectorGraphicView view) {
@@ -101,7 +102,7 @@ public class VectorGraphicViewAdapter extends ComponentViewAdapter<VectorGraphic
             if (component.hasGraphic())
                 createVectorDrawable(component, view);
         } else {
-            vectorDrawable.updateDirtyGraphics(component.getDirtyGraphics());
+            vectorDrawable.updateDirtyGraphics(component.getDirtyGraphicIds());
         }
     }
 }
@@ -192,8 +192,15 @@ public interface IImageLoader {
          */
         public abstract boolean allowUpscaling();
 
+        /**
+         * @return whether the decoded bitmap will be read or drawn on a software canvas after
+         *      loading, for example by Filters. Such bitmaps can't be hardware bitmaps.
+         */
+        public abstract boolean requiresPixelAccess();
+
         public static Builder builder() {
-            return new AutoValue_IImageLoader_LoadImageParams.Builder();
+            return new AutoValue_IImageLoader_LoadImageParams.Builder()
+                    .requiresPixelAccess(false);
         }
 
         @AutoValue.Builder
@@ -204,6 +211,7 @@ public interface IImageLoader {
             public abstract Builder needsScaling(boolean needsScaling);
             public abstract Builder headers(Map<String, String> headers);
             public abstract Builder allowUpscaling(boolean allowUpscaling);
+            public abstract Builder requiresPixelAccess(boolean requiresPixelAccess);
             public abstract LoadImageParams build();
         }
     }
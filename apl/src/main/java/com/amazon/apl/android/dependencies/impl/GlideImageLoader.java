@@ -18,6 +18,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
+import com.amazon.apl.android.bitmap.BitmapConfigPolicy;
 import com.amazon.apl.android.dependencies.IImageLoader;
 import com.amazon.apl.android.providers.ITelemetryProvider;
 import com.bumptech.glide.Glide;
@@ -67,22 +68,36 @@ public class GlideImageLoader implements IImageLoader {
 
     static final String METRIC_IMAGE_SUCCESS  = TAG + ".loadImage.success";
     static final String METRIC_IMAGE_FAIL = TAG + ".loadImage.fail";
+    static final String METRIC_IMAGE_BYTES_SAVED = TAG + ".loadImage.bytesSaved";
 
     private final Map<ImageView, List<Target<?>>> mTargets = new HashMap<>();
     private ITelemetryProvider mTelemetryProvider;
 
     private int cImageSuccess = ITelemetryProvider.UNKNOWN_METRIC_ID;
     private int cImageFail = ITelemetryProvider.UNKNOWN_METRIC_ID;
+    private int cImageBytesSaved = ITelemetryProvider.UNKNOWN_METRIC_ID;
 
     private static final NoUpscalingDownsampleStrategy DOWNSAMPLE_STRATEGY = new NoUpscalingDownsampleStrategy();
 
     private final Context mContext;
+    private final BitmapConfigPolicy mBitmapConfigPolicy;
 
     /**
      * GlideImageDownloader constructor.
      */
     public GlideImageLoader(@NonNull final Context context) {
+        this(context, BitmapConfigPolicy.argb8888());
+    }
+
+    /**
+     * GlideImageDownloader constructor.
+     *
+     * @param context               Android context
+     * @param bitmapConfigPolicy    policy for choosing the decoded bitmap config
+     */
+    public GlideImageLoader(@NonNull final Context context, @NonNull final BitmapConfigPolicy bitmapConfigPolicy) {
         mContext = context.getApplicationContext();
+        mBitmapConfigPolicy = bitmapConfigPolicy;
     }
 
     @Override
@@ -92,6 +107,7 @@ public class GlideImageLoader implements IImageLoader {
             mTelemetryProvider = telemetryProvider;
             cImageSuccess = telemetryProvider.createMetricId(ITelemetryProvider.APL_DOMAIN, METRIC_IMAGE_SUCCESS, ITelemetryProvider.Type.COUNTER);
             cImageFail = telemetryProvider.createMetricId(ITelemetryProvider.APL_DOMAIN, METRIC_IMAGE_FAIL, ITelemetryProvider.Type.COUNTER);
+            cImageBytesSaved = telemetryProvider.createMetricId(ITelemetryProvider.APL_DOMAIN, METRIC_IMAGE_BYTES_SAVED, ITelemetryProvider.Type.COUNTER);
         }
         return this;
     }
@@ -101,8 +117,12 @@ public class GlideImageLoader implements IImageLoader {
         if (load != null) loadImageInternal(load, Glide.with(mContext));
     }
 
-    private RequestOptions buildLoadImageRequestOptions(Map<String, String> headers, boolean allowUpscaling) {
-        RequestOptions requestOptions = new RequestOptions().format(DecodeFormat.PREFER_ARGB_8888);
+    @VisibleForTesting
+    RequestOptions buildLoadImageRequestOptions(Map<String, String> headers, boolean allowUpscaling, boolean requiresPixelAccess) {
+        // Glide only decodes to RGB_565 when the source has no alpha channel.
+        DecodeFormat decodeFormat = mBitmapConfigPolicy.allowsRgb565() && !requiresPixelAccess
+                ? DecodeFormat.PREFER_RGB_565 : DecodeFormat.PREFER_ARGB_8888;
+        RequestOptions requestOptions = new RequestOptions().format(decodeFormat);
         ImageLoaderRequestOptions options = new ImageLoaderRequestOptions();
         Drawable placeholderDrawable = options.getPlaceholderDrawable();
         Drawable errorDrawable = options.getErrorDrawable();
@@ -115,7 +135,7 @@ public class GlideImageLoader implements IImageLoader {
             requestOptions = requestOptions.error(errorDrawable);
         }
 
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O && !mBitmapConfigPolicy.allowsHardware(requiresPixelAccess)) {
             requestOptions = requestOptions.disallowHardwareConfig();
         }
 
@@ -145,6 +165,7 @@ public class GlideImageLoader implements IImageLoader {
         final String url = load.path();
         final boolean allowUpscaling = load.allowUpscaling();
         final Map<String, String> headers = load.headers();
+        final boolean requiresPixelAccess = load.requiresPixelAccess();
 
         ViewGroup.LayoutParams layoutParams = imageView.getLayoutParams();
         if (layoutParams == null) {
@@ -164,7 +185,7 @@ public class GlideImageLoader implements IImageLoader {
 
         try {
             RequestBuilder<Bitmap> requestBuilder = requestManager
-                    .setDefaultRequestOptions(buildLoadImageRequestOptions(headers, allowUpscaling))
+                    .setDefaultRequestOptions(buildLoadImageRequestOptions(headers, allowUpscaling, requiresPixelAccess))
                     .asBitmap();
 
             // GlideUrl class only works for loading HTTP urls
@@ -326,6 +347,10 @@ public class GlideImageLoader implements IImageLoader {
         public void onResourceReady(@NonNull Bitmap resource, @Nullable Transition<? super Bitmap> transition) {
             if (mTelemetryProvider != null) {
                 mTelemetryProvider.incrementCount(cImageSuccess);
+                long bytesSaved = BitmapConfigPolicy.getBytesSaved(resource.getWidth(), resource.getHeight(), resource.getConfig());
+                if (bytesSaved > 0) {
+                    mTelemetryProvider.incrementCount(cImageBytesSaved, (int) Math.min(bytesSaved, Integer.MAX_VALUE));
+                }
             }
 
             mCallback.onSuccess(resource, mUrl);
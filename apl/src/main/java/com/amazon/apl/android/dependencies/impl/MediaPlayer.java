@@ -28,6 +28,7 @@ import android.view.Surface;
 import android.view.TextureView;
 import android.view.TextureView.SurfaceTextureListener;
 
+import com.amazon.apl.android.media.MediaClock;
 import com.amazon.apl.android.primitive.MediaSources;
 import com.amazon.apl.android.primitive.MediaSources.MediaSource;
 import com.amazon.apl.android.dependencies.IMediaPlayer;
@@ -44,7 +45,7 @@ import java.util.Map;
 /**
  * Default media player for APL.
  */
-public class MediaPlayer implements IMediaPlayer<TextureView> {
+public class MediaPlayer implements IMediaPlayer<TextureView>, MediaClock.Client {
 
     /**
      * Lists all the actions that can be initiated on the media player.
@@ -87,6 +88,8 @@ public class MediaPlayer implements IMediaPlayer<TextureView> {
     private final List<IMediaListener> mListeners;
     private AudioManager mAudioManager;
     private Handler mHandler;
+    @Nullable
+    private MediaClock mMediaClock;
     @NonNull
     private AudioTrack mAudioTrack = AudioTrack.kAudioTrackForeground;
     @NonNull
@@ -103,6 +106,7 @@ public class MediaPlayer implements IMediaPlayer<TextureView> {
     private int mCurrentTrackIndex = 0;
     private int mLoopCount = 0;
     private int mCurrentSeekPosition = 0;
+    private int mLastReportedPosition = -1;
 
     public MediaPlayer() {
         mMediaPlayer = new android.media.MediaPlayer();
@@ -634,16 +638,41 @@ public class MediaPlayer implements IMediaPlayer<TextureView> {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setMediaClock(@Nullable MediaClock clock) {
+        if (mMediaClock == clock) {
+            return;
+        }
+        final boolean wasNotifying = mShouldNotifyProgress;
+        stopProgressUpdateTask();
+        mMediaClock = clock;
+        if (wasNotifying) {
+            startProgressUpdateTask();
+        }
+    }
+
     private void startProgressUpdateTask() {
         if (!mShouldNotifyProgress) {
-            mHandler.postDelayed(mProgressUpdateTask, 0);
             mShouldNotifyProgress = true;
+            mLastReportedPosition = -1;
+            if (mMediaClock != null) {
+                mMediaClock.register(mProgressSampler, POSITION_UPDATE_INTERVAL_MS);
+            } else {
+                mHandler.postDelayed(mProgressUpdateTask, 0);
+            }
         }
     }
 
     private void stopProgressUpdateTask() {
         if (mShouldNotifyProgress) {
-            mHandler.removeCallbacks(mProgressUpdateTask);
+            if (mMediaClock != null) {
+                mMediaClock.unregister(mProgressSampler);
+            } else {
+                mHandler.removeCallbacks(mProgressUpdateTask);
+            }
             mShouldNotifyProgress = false;
         }
     }
@@ -771,10 +800,30 @@ public class MediaPlayer implements IMediaPlayer<TextureView> {
     private final OnCompletionListener mOnCompletionListener = mp -> onTrackCompletion();
 
     private final Runnable mProgressUpdateTask = () -> {
+        if (mShouldNotifyProgress) {
+            mHandler.postDelayed(this.mProgressUpdateTask, POSITION_UPDATE_INTERVAL_MS);
+        }
+        updateProgress(false);
+    };
+
+    private final MediaClock.Sampler mProgressSampler = frameTime -> {
+        if (mShouldNotifyProgress) {
+            updateProgress(true);
+        }
+        return mShouldNotifyProgress;
+    };
+
+    /**
+     * Reports the playback position and checks if the player has completed the track duration.
+     *
+     * @param coalesce true to skip the report when the position hasn't changed since the last one.
+     */
+    private void updateProgress(boolean coalesce) {
         try {
-            notifyMediaState();
-            if (mShouldNotifyProgress) {
-                mHandler.postDelayed(this.mProgressUpdateTask, POSITION_UPDATE_INTERVAL_MS);
+            final int position = getCurrentSeekPosition();
+            if (!coalesce || position != mLastReportedPosition) {
+                mLastReportedPosition = position;
+                notifyMediaState();
             }
 
             // check if the player has completed the track duration
@@ -791,7 +840,7 @@ public class MediaPlayer implements IMediaPlayer<TextureView> {
         } catch (Exception e) {
             onPlayerError("Error on progress update", e);
         }
-    };
+    }
 
     @VisibleForTesting
     OnAudioFocusChangeListener getAudioFocusChangeListener() {
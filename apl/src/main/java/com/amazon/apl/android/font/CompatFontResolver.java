@@ -5,6 +5,7 @@
 
 package com.amazon.apl.android.font;
 
+import android.content.Context;
 import android.graphics.Typeface;
 import android.util.Log;
 
@@ -33,7 +34,7 @@ public class CompatFontResolver implements IFontResolver {
      * @return the location of ttf file representing the closest font or null.
      */
     @Nullable
-    static synchronized Typeface getMatchingFont(final FontKey key) {
+    static Typeface getMatchingFont(final FontKey key) {
         try {
             Typeface typeface = FontListParser.getMatchingTypeface(key);
             return typeface;
@@ -52,4 +53,14 @@ public class CompatFontResolver implements IFontResolver {
             Log.e(TAG, "Failed to load system fonts");
         }
     }
+
+    @Override
+    public void initialize(@NonNull Context context) {
+        // the font index is persisted, so only the first start after a system update parses the font config
+        boolean result = FontListParser.initialize(context.getCacheDir());
+
+        if (!result) {
+            Log.e(TAG, "Failed to load system fonts");
+        }
+    }
 }
\ No newline at end of file
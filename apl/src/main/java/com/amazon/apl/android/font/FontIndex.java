@@ -0,0 +1,230 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.font;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compact, immutable index of the device font families, built once from the system font config
+ * and persisted, so that the config does not need to be parsed on every cold start.
+ *
+ * Families are stored in config order with their fonts in flat arrays. Lookups only read final
+ * fields, so an index can be shared between threads without locking.
+ */
+final class FontIndex {
+    private static final int MAGIC = 0x41504c46; // "APLF"
+    private static final int VERSION = 1;
+
+    private final String mFingerprint;
+    private final String[] mFamilyNames;
+    private final String[] mFamilyLangs;
+    // Fonts of family i are in [mFontStart[i], mFontStart[i + 1]).
+    private final int[] mFontStart;
+    private final int[] mWeights;
+    private final boolean[] mItalics;
+    private final String[] mFileNames;
+    // lower case family name or language -> first family with the name or language
+    private final Map<String, Integer> mFamilyByName;
+    private final Map<String, Integer> mFamilyByLang;
+
+    private FontIndex(String fingerprint, String[] familyNames, String[] familyLangs, int[] fontStart,
+                      int[] weights, boolean[] italics, String[] fileNames) {
+        mFingerprint = fingerprint;
+        mFamilyNames = familyNames;
+        mFamilyLangs = familyLangs;
+        mFontStart = fontStart;
+        mWeights = weights;
+        mItalics = italics;
+        mFileNames = fileNames;
+        mFamilyByName = new HashMap<>();
+        mFamilyByLang = new HashMap<>();
+        for (int i = familyNames.length - 1; i >= 0; i--) {
+            if (familyNames[i] != null) {
+                mFamilyByName.put(familyNames[i].toLowerCase(Locale.US), i);
+            }
+            if (familyLangs[i] != null) {
+                mFamilyByLang.put(familyLangs[i].toLowerCase(Locale.US), i);
+            }
+        }
+    }
+
+    /**
+     * Builds an index from parsed font families.
+     *
+     * @param fingerprint identifies the font config the families were parsed from.
+     * @param families    the families in config order.
+     * @return the index.
+     */
+    @NonNull
+    static FontIndex create(@NonNull String fingerprint, @NonNull List<FontListParser.Family> families) {
+        final int familyCount = families.size();
+        String[] names = new String[familyCount];
+        String[] langs = new String[familyCount];
+        int[] fontStart = new int[familyCount + 1];
+        int fontCount = 0;
+        for (int i = 0; i < familyCount; i++) {
+            FontListParser.Family family = families.get(i);
+            names[i] = family.name;
+            langs[i] = family.lang;
+            fontStart[i] = fontCount;
+            fontCount += family.fonts.size();
+        }
+        fontStart[familyCount] = fontCount;
+
+        int[] weights = new int[fontCount];
+        boolean[] italics = new boolean[fontCount];
+        String[] fileNames = new String[fontCount];
+        int font = 0;
+        for (FontListParser.Family family : families) {
+            for (FontListParser.FileFontKey fileFont : family.fonts) {
+                weights[font] = fileFont.weight;
+                italics[font] = fileFont.italic;
+                fileNames[font] = fileFont.fileName;
+                font++;
+            }
+        }
+        return new FontIndex(fingerprint, names, langs, fontStart, weights, italics, fileNames);
+    }
+
+    /**
+     * Reads an index written by {@link #write(DataOutput)}.
+     *
+     * @param in                  the input.
+     * @param expectedFingerprint the fingerprint of the current font config.
+     * @return the index, or null if it was written by another version or for another font config.
+     * @throws IOException if the input can't be read.
+     */
+    @Nullable
+    static FontIndex read(@NonNull DataInput in, @NonNull String expectedFingerprint) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            return null;
+        }
+        final String fingerprint = in.readUTF();
+        if (!expectedFingerprint.equals(fingerprint)) {
+            return null;
+        }
+        final int familyCount = in.readInt();
+        String[] names = new String[familyCount];
+        String[] langs = new String[familyCount];
+        int[] fontStart = new int[familyCount + 1];
+        for (int i = 0; i < familyCount; i++) {
+            names[i] = readNullableString(in);
+            langs[i] = readNullableString(in);
+            fontStart[i + 1] = in.readInt();
+        }
+        final int fontCount = fontStart[familyCount];
+        int[] weights = new int[fontCount];
+        boolean[] italics = new boolean[fontCount];
+        String[] fileNames = new String[fontCount];
+        for (int i = 0; i < fontCount; i++) {
+            weights[i] = in.readShort();
+            italics[i] = in.readBoolean();
+            fileNames[i] = in.readUTF();
+        }
+        return new FontIndex(fingerprint, names, langs, fontStart, weights, italics, fileNames);
+    }
+
+    /**
+     * Writes the index in its binary form.
+     *
+     * @param out the output.
+     * @throws IOException if the output can't be written.
+     */
+    void write(@NonNull DataOutput out) throws IOException {
+        final int familyCount = mFamilyNames.length;
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(mFingerprint);
+        out.writeInt(familyCount);
+        for (int i = 0; i < familyCount; i++) {
+            writeNullableString(out, mFamilyNames[i]);
+            writeNullableString(out, mFamilyLangs[i]);
+            out.writeInt(mFontStart[i + 1]);
+        }
+        for (int i = 0; i < mFileNames.length; i++) {
+            out.writeShort(mWeights[i]);
+            out.writeBoolean(mItalics[i]);
+            out.writeUTF(mFileNames[i]);
+        }
+    }
+
+    /**
+     * Finds the font file for a family, or for the language if no family before one for the
+     * language matches. Within the family, fonts of the requested style are preferred, then the
+     * closest weight.
+     *
+     * @param family   the font family.
+     * @param weight   the font weight.
+     * @param italic   whether the font is italic.
+     * @param language the language, e.g. "ja-JP".
+     * @return the location of the font file that best matches, or null.
+     */
+    @Nullable
+    String findFontFile(@Nullable String family, int weight, boolean italic, @NonNull String language) {
+        if (family == null) {
+            return null;
+        }
+        final Integer byName = mFamilyByName.get(family.toLowerCase(Locale.US));
+        final Integer byLang = mFamilyByLang.get(language.split("-")[0].toLowerCase(Locale.US));
+        if (byName == null && byLang == null) {
+            return null;
+        }
+        final int index = byName == null ? byLang : byLang == null ? byName : Math.min(byName, byLang);
+        return filter(index, weight, italic);
+    }
+
+    @Nullable
+    private String filter(int family, int weight, boolean italic) {
+        final int start = mFontStart[family];
+        final int end = mFontStart[family + 1];
+
+        // Fallback to the other style if the family has no font of the requested one.
+        boolean hasStyle = false;
+        for (int i = start; i < end && !hasStyle; i++) {
+            hasStyle = mItalics[i] == italic;
+        }
+
+        String bestMatch = null;
+        int minDiff = Integer.MAX_VALUE;
+        for (int i = start; i < end; i++) {
+            if (hasStyle && mItalics[i] != italic) {
+                continue;
+            }
+            final int diff = Math.abs(mWeights[i] - weight);
+            if (diff < minDiff) {
+                bestMatch = mFileNames[i];
+                minDiff = diff;
+            }
+        }
+        return bestMatch;
+    }
+
+    @NonNull
+    String getFingerprint() {
+        return mFingerprint;
+    }
+
+    private static void writeNullableString(DataOutput out, @Nullable String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    @Nullable
+    private static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
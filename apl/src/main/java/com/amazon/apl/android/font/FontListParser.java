@@ -6,6 +6,7 @@
 package com.amazon.apl.android.font;
 
 import android.graphics.Typeface;
+import android.os.Build;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
@@ -15,12 +16,18 @@ import android.util.Xml;
 import org.xmlpull.v1.XmlPullParser;
 import org.xmlpull.v1.XmlPullParserException;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Helper class to get the current font families on an Android device.</p>
@@ -34,18 +41,48 @@ final class FontListParser {
 
     private static final File SYSTEM_FONTS_XML = new File("/system/etc/system_fonts.xml");
 
-    private static List<Family> deviceFonts;
+    private static final String INDEX_FILE_NAME = "apl_fonts.idx";
+
+    // Published once initialized, lookups read it without locking.
+    @Nullable
+    private static volatile FontIndex sIndex;
+
+    // font file -> typeface, created on first use.
+    private static final ConcurrentHashMap<String, Typeface> sTypefaces = new ConcurrentHashMap<>();
 
     /**
      * Loads the device system fonts. Once loaded, no additional attempts are made on subsequent calls.
      *
      * @return true if the fonts were loaded successfully.
      */
-    static synchronized boolean initialize() {
+    static boolean initialize() {
+        return initialize(null);
+    }
+
+    /**
+     * Loads the device system fonts, from the index persisted in indexDir if it was built for the
+     * current font config. Otherwise the font config is parsed and the index persisted for the
+     * next start. Once loaded, no additional attempts are made on subsequent calls.
+     *
+     * @param indexDir the directory the index is persisted in, or null to not persist it.
+     * @return true if the fonts were loaded successfully.
+     */
+    static synchronized boolean initialize(@Nullable File indexDir) {
+        if (sIndex != null) {
+            return true;
+        }
         try {
-            if (deviceFonts == null) {
-                deviceFonts = getFontFamilies();
+            final File fontsXml = getFontsXml();
+            final String fingerprint = getFingerprint(fontsXml);
+            final File indexFile = indexDir != null ? new File(indexDir, INDEX_FILE_NAME) : null;
+            FontIndex index = indexFile != null ? readIndex(indexFile, fingerprint) : null;
+            if (index == null) {
+                index = FontIndex.create(fingerprint, getFontFamilies(fontsXml));
+                if (indexFile != null) {
+                    writeIndex(indexFile, index);
+                }
             }
+            sIndex = index;
             return true;
         } catch (final IOException | XmlPullParserException | RuntimeException e) {
             Log.e(TAG, "Failed to load system fonts", e);
@@ -54,13 +91,21 @@ final class FontListParser {
     }
 
     @Nullable
-    static synchronized Typeface getMatchingTypeface(final FontKey key) {
+    static Typeface getMatchingTypeface(final FontKey key) {
         String fontFile = safelyGetMatchingFont(key);
+        if (fontFile == null) {
+            return null;
+        }
 
+        Typeface font = sTypefaces.get(fontFile);
+        if (font != null) {
+            return font;
+        }
         try {
-            final Typeface font = Typeface.createFromFile(fontFile);
+            font = Typeface.createFromFile(fontFile);
             if (font != null) {
-                return font;
+                Typeface existing = sTypefaces.putIfAbsent(fontFile, font);
+                return existing != null ? existing : font;
             }
         } catch (final RuntimeException e) {
             Log.e(TAG, "FileFontKey file " + fontFile + " not found on the device", e);
@@ -70,7 +115,7 @@ final class FontListParser {
     }
 
     /**
-     * Parse the font families, filters by fontFamily name and style parameter, returns the closest
+     * Looks up the font families, filters by fontFamily name and style parameter, returns the closest
      * absolute weight available.
      *
      * @param key The font family, weight and italicisation.
@@ -78,73 +123,63 @@ final class FontListParser {
      */
     @Nullable
     private static String getMatchingFont(final FontKey key) {
-        if (key == null || key.getFamily() == null) {
+        final FontIndex index = sIndex;
+        if (key == null || index == null) {
             return null;
         }
+        return index.findFontFile(key.getFamily(), key.getWeight(), key.isItalic(), key.getLanguage());
+    }
 
-        for (Family family : deviceFonts) {
-            if (key.getFamily().equalsIgnoreCase(family.name)) {
-                return filter(family.fonts, key.getWeight(), key.isItalic());
-            }
-            if (family.lang != null) {
-                String langCode = key.getLanguage().split("-")[0];
-                if (langCode.equalsIgnoreCase(family.lang)) {
-                    return filter(family.fonts, key.getWeight(), key.isItalic());
-                }
-            }
+    @NonNull
+    private static File getFontsXml() {
+        if (FONTS_XML.exists()) {
+            return FONTS_XML;
+        } else if (SYSTEM_FONTS_XML.exists()) {
+            return SYSTEM_FONTS_XML;
         }
-        return null;
+        throw new RuntimeException("fonts.xml does not exist on this system");
     }
 
     /**
-     * Filters and returns the closest font in the font family given the desired font weight
-     * and whether the style is italic or not.
-     *
-     * @param fontList list of font list.
-     * @param weight   weight of the font desired
-     * @param isItalic whether or not the font style is italics
-     * @return the location of the font file that best matches the search parameters or null.
+     * The font config only changes with a system update, which changes the build fingerprint.
+     * The file size and modification time cover devices where it doesn't.
      */
+    @NonNull
+    private static String getFingerprint(@NonNull File fontsXml) {
+        return Build.FINGERPRINT + "|" + fontsXml.getAbsolutePath() + "|" + fontsXml.length() + "|" + fontsXml.lastModified();
+    }
+
     @Nullable
-    private static String filter(final List<FileFontKey> fontList, final int weight, final boolean isItalic) {
-        String bestMatch = null;
-        List<FileFontKey> matches = new ArrayList<>();
-        for (FileFontKey font : fontList) {
-            if (font.italic == isItalic) {
-                matches.add(font);
-            }
+    private static FontIndex readIndex(@NonNull File indexFile, @NonNull String fingerprint) {
+        if (!indexFile.exists()) {
+            return null;
         }
-
-        // Fallback to regular system fonts (instead of returning null and resolving with embedded fonts.
-        // if a font-family in fonts.xml does not contain any italic variation.
-        if (matches.size() == 0) {
-            matches = fontList;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            return FontIndex.read(in, fingerprint);
+        } catch (final IOException | RuntimeException e) {
+            Log.w(TAG, "Failed to read font index, rebuilding", e);
+            return null;
         }
+    }
 
-        if (matches.size() != 0) {
-            //return the best match based on weight.
-            int minDiff = Integer.MAX_VALUE;
-            for (FileFontKey match : matches) {
-                if (minDiff > Math.abs(match.weight - weight)) {
-                    bestMatch = match.fileName;
-                    minDiff = Math.abs(match.weight - weight);
-                }
-            }
+    private static void writeIndex(@NonNull File indexFile, @NonNull FontIndex index) {
+        // Write to a temporary file first so that a partially written index is never read.
+        final File tmpFile = new File(indexFile.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+            index.write(out);
+        } catch (final IOException e) {
+            Log.w(TAG, "Failed to write font index", e);
+            tmpFile.delete();
+            return;
+        }
+        if (!tmpFile.renameTo(indexFile)) {
+            Log.w(TAG, "Failed to persist font index");
+            tmpFile.delete();
         }
-
-        return bestMatch;
     }
 
     @NonNull
-    private static List<Family> getFontFamilies() throws IOException, XmlPullParserException {
-        String fontsXml;
-        if (FONTS_XML.exists()) {
-            fontsXml = FONTS_XML.getAbsolutePath();
-        } else if (SYSTEM_FONTS_XML.exists()) {
-            fontsXml = SYSTEM_FONTS_XML.getAbsolutePath();
-        } else {
-            throw new RuntimeException("fonts.xml does not exist on this system");
-        }
+    private static List<Family> getFontFamilies(@NonNull File fontsXml) throws IOException, XmlPullParserException {
         Config parser = parse(new FileInputStream(fontsXml));
 
         if (parser.families == null) {
@@ -164,8 +199,8 @@ final class FontListParser {
         try {
             return getMatchingFont(key);
         } catch (final RuntimeException e) {
-            Log.e(TAG, "Could not load /system/etc/fonts.xml file");
-            return "";
+            Log.e(TAG, "Could not find a font in the font index", e);
+            return null;
         }
     }
 
@@ -5,6 +5,7 @@
 
 package com.amazon.apl.android.font;
 
+import android.content.Context;
 import android.graphics.Typeface;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -27,4 +28,14 @@ public interface IFontResolver {
 
     void initialize();
 
+    /**
+     * Initializes the resolver with access to app storage, e.g. to persist an index of the
+     * available fonts. Called off the main thread.
+     *
+     * @param context       The Android context.
+     */
+    default void initialize(@NonNull Context context) {
+        initialize();
+    }
+
 }
@@ -7,12 +7,15 @@ package com.amazon.apl.android.font;
 
 import android.content.Context;
 import android.graphics.Typeface;
+import android.os.SystemClock;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import androidx.collection.LruCache;
 
+import com.amazon.apl.android.providers.ITelemetryProvider;
 import com.amazon.apl.android.utils.ConcurrencyUtils;
 import com.amazon.apl.android.BuildConfig;
 import com.amazon.apl.android.RuntimeConfig;
@@ -24,6 +27,12 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.amazon.apl.android.providers.ITelemetryProvider.APL_DOMAIN;
+import static com.amazon.apl.android.providers.ITelemetryProvider.Type.COUNTER;
+import static com.amazon.apl.android.providers.ITelemetryProvider.Type.TIMER;
 
 /**
  * The ViewHost internal typeface resolver API.
@@ -37,6 +46,14 @@ public class TypefaceResolver {
     private Future<Boolean> mInitializeResolvers;
     static final LruCache<FontKey, Typeface> FONT_CACHE = new LruCache<>(150);
 
+    // Typeface resolution metrics, accumulated across documents until reported.
+    private static final String METRIC_CACHE_HIT = TAG + ".cacheHit";
+    private static final String METRIC_CACHE_MISS = TAG + ".cacheMiss";
+    private static final String METRIC_RESOLVE_TIME = TAG + ".resolveTime";
+    private final AtomicInteger mCacheHits = new AtomicInteger();
+    private final AtomicInteger mCacheMisses = new AtomicInteger();
+    private final AtomicLong mResolveTimeNanos = new AtomicLong();
+
     private enum  InitializationState {
         UNINITIALIZED,
         INITIALIZING,
@@ -72,13 +89,17 @@ public class TypefaceResolver {
             // set state to initializing
             mInitializationState = InitializationState.INITIALIZING;
             mRuntimeFontResolver = runtimeConfig.getFontResolver();
-            mInitializeResolvers = FontUtil.SEQUENTIAL_EXECUTOR.submit(new InitializeResolvers(runtimeConfig.isPreloadingFontsEnabled()));
+            mInitializeResolvers = FontUtil.SEQUENTIAL_EXECUTOR.submit(new InitializeResolvers(context, runtimeConfig.isPreloadingFontsEnabled()));
         }
     }
 
     private boolean waitUntilFontsAvailable() {
+        final Future<Boolean> initializeResolvers = mInitializeResolvers;
+        if (initializeResolvers == null) {
+            return false;
+        }
         try {
-            return mInitializeResolvers.get(ConcurrencyUtils.SMALL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return initializeResolvers.get(ConcurrencyUtils.SMALL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         } catch (final TimeoutException ex) {
             Log.wtf(TAG, String.format("System fonts failed to load with a %d timeout", ConcurrencyUtils.SMALL_TIMEOUT_SECONDS), ex);
         } catch (final ExecutionException ex) {
@@ -91,16 +112,18 @@ public class TypefaceResolver {
     }
 
     private class InitializeResolvers implements Callable<Boolean> {
+        private final Context mContext;
         private final boolean mShouldPreloadFonts;
 
-        private InitializeResolvers(final boolean shouldPreloadFonts) {
+        private InitializeResolvers(final Context context, final boolean shouldPreloadFonts) {
+            mContext = context;
             mShouldPreloadFonts = shouldPreloadFonts;
         }
 
         @Override
         public Boolean call() {
             // call resolver heavy initializers
-            mRuntimeFontResolver.initialize();
+            mRuntimeFontResolver.initialize(mContext);
 
             // cache commonly used Amazon system fonts
             if (mShouldPreloadFonts) {
@@ -142,8 +165,11 @@ public class TypefaceResolver {
                 final Typeface cachedFont = TypefaceResolver.FONT_CACHE.get(fontKey);
 
                 if (cachedFont != null) {
+                    mCacheHits.incrementAndGet();
                     return cachedFont;
                 }
+                mCacheMisses.incrementAndGet();
+                final long startTime = SystemClock.elapsedRealtimeNanos();
                 Typeface typeface;
 
                 typeface = getTypefaceFromFontFamily(fontKey, getRuntimeResolver());
@@ -152,6 +178,7 @@ public class TypefaceResolver {
                             isAPLOneZero ? null : DEFAULT_TYPEFACE,
                             italic ? Typeface.ITALIC : Typeface.NORMAL);
                 }
+                mResolveTimeNanos.addAndGet(SystemClock.elapsedRealtimeNanos() - startTime);
 
                 if (typeface != null) {
                     TypefaceResolver.FONT_CACHE.put(fontKey, typeface);
@@ -201,6 +228,39 @@ public class TypefaceResolver {
         }
     }
 
+    /**
+     * Reports the typeface cache hits and misses, and the time spent resolving misses, since the
+     * last report.
+     *
+     * @param telemetryProvider the telemetry provider to report to.
+     */
+    public void reportMetrics(@NonNull ITelemetryProvider telemetryProvider) {
+        final int hits = mCacheHits.getAndSet(0);
+        final int misses = mCacheMisses.getAndSet(0);
+        final long resolveTimeNanos = mResolveTimeNanos.getAndSet(0);
+        if (hits > 0) {
+            telemetryProvider.incrementCount(telemetryProvider.createMetricId(APL_DOMAIN, METRIC_CACHE_HIT, COUNTER), hits);
+        }
+        if (misses > 0) {
+            telemetryProvider.incrementCount(telemetryProvider.createMetricId(APL_DOMAIN, METRIC_CACHE_MISS, COUNTER), misses);
+            telemetryProvider.reportTimer(telemetryProvider.createMetricId(APL_DOMAIN, METRIC_RESOLVE_TIME, TIMER), TimeUnit.NANOSECONDS, resolveTimeNanos);
+        }
+    }
+
+    /**
+     * Resets the resolver to its uninitialized state.
+     */
+    @VisibleForTesting
+    public synchronized void reset() {
+        mInitializationState = InitializationState.UNINITIALIZED;
+        mRuntimeFontResolver = null;
+        mInitializeResolvers = null;
+        FONT_CACHE.evictAll();
+        mCacheHits.set(0);
+        mCacheMisses.set(0);
+        mResolveTimeNanos.set(0);
+    }
+
     /**
      * Explicitly add a font to the cache for the defined key. Use this if your resolver knows that
      * multiple FontKeys will map to the same Typeface object.
@@ -26,6 +26,7 @@ import androidx.core.view.ViewCompat;
 import android.util.Log;
 
 import com.amazon.apl.android.RenderingContext;
+import com.amazon.apl.android.bitmap.BitmapConfigPolicy;
 import com.amazon.apl.android.bitmap.BitmapCreationException;
 import com.amazon.apl.android.bitmap.IBitmapFactory;
 import com.amazon.apl.enums.VectorGraphicScale;
@@ -117,7 +118,9 @@ public class AlexaVectorDrawable extends Drawable {
     /**
      * Applies {@link GraphicElement} properties to each dirty graphic supplied in the set of ids.
      * @param dirtyGraphicUniqueIds the set of unique ids of dirty graphics.
+     * @deprecated use {@link #updateDirtyGraphics(DirtyGraphicIds)}.
      */
+    @Deprecated
     public void updateDirtyGraphics(@NonNull Set<Integer> dirtyGraphicUniqueIds) {
         mVectorState.setDirty(true);
         mVectorState.mPathRenderer.applyBaseAndViewportDimensions();
@@ -125,6 +128,17 @@ public class AlexaVectorDrawable extends Drawable {
         invalidateSelf();
     }
 
+    /**
+     * Applies {@link GraphicElement} properties to each dirty graphic supplied in the list of ids.
+     * @param dirtyGraphicUniqueIds the unique ids of dirty graphics.
+     */
+    public void updateDirtyGraphics(@NonNull DirtyGraphicIds dirtyGraphicUniqueIds) {
+        mVectorState.setDirty(true);
+        mVectorState.mPathRenderer.applyBaseAndViewportDimensions();
+        mVectorState.mPathRenderer.getRootGroup().applyDirtyProperties(dirtyGraphicUniqueIds);
+        invalidateSelf();
+    }
+
     @Override
     public void draw(@NonNull Canvas canvas) {
         // We will offset the bounds for drawBitmap, so copyBounds() here instead
@@ -353,6 +367,11 @@ public class AlexaVectorDrawable extends Drawable {
         Bitmap mCachedBitmap;
         private boolean mIsDirty = true;
         private IBitmapFactory mBitmapFactory;
+        private BitmapConfigPolicy mBitmapConfigPolicy;
+        // Whether the cached bitmap needs an alpha channel. Only static graphics that render
+        // fully opaque are cached without one.
+        private boolean mCacheHasAlpha = true;
+        private boolean mCacheOpacityChecked = false;
 
         /**
          * Temporary mPaint object used to draw cached bitmaps.
@@ -361,13 +380,20 @@ public class AlexaVectorDrawable extends Drawable {
 
         @VisibleForTesting
         VectorDrawableCompatState(PathRenderer pathRenderer, IBitmapFactory bitmapFactory) {
+            this(pathRenderer, bitmapFactory, BitmapConfigPolicy.argb8888());
+        }
+
+        @VisibleForTesting
+        VectorDrawableCompatState(PathRenderer pathRenderer, IBitmapFactory bitmapFactory, BitmapConfigPolicy bitmapConfigPolicy) {
             mPathRenderer = pathRenderer;
             mBitmapFactory = bitmapFactory;
+            mBitmapConfigPolicy = bitmapConfigPolicy;
         }
 
         VectorDrawableCompatState(GraphicContainerElement element) {
             mPathRenderer = new PathRenderer(element);
             mBitmapFactory = element.getRenderingContext().getBitmapFactory();
+            mBitmapConfigPolicy = element.getRenderingContext().getBitmapConfigPolicy();
         }
 
         // Deep copy for mutate() or implicitly mutate.
@@ -379,6 +405,9 @@ public class AlexaVectorDrawable extends Drawable {
                 mAutoMirrored = copy.mAutoMirrored;
                 mCachedBitmap = copy.mCachedBitmap;
                 mBitmapFactory = copy.mBitmapFactory;
+                mBitmapConfigPolicy = copy.mBitmapConfigPolicy;
+                mCacheHasAlpha = copy.mCacheHasAlpha;
+                mCacheOpacityChecked = copy.mCacheOpacityChecked;
             }
         }
 
@@ -406,20 +435,84 @@ public class AlexaVectorDrawable extends Drawable {
          * @param height    height of bitmap
          */
         void createOrEraseCachedBitmap(int width, int height) {
+            if (mIsDirty && !mCacheHasAlpha) {
+                // The graphic changed so it may no longer be opaque. Go back to a bitmap
+                // with an alpha channel and don't check again.
+                mCacheHasAlpha = true;
+                mBitmapFactory.disposeBitmap(mCachedBitmap);
+                mCachedBitmap = null;
+            }
+
             if (mCachedBitmap == null || !canReuseBitmap(width, height)) {
                 try {
-                    mCachedBitmap = mBitmapFactory.createBitmap(width, height);
+                    mCachedBitmap = createCacheBitmap(width, height,
+                            mBitmapConfigPolicy.getVectorGraphicCacheConfig(mCacheHasAlpha));
                 } catch (BitmapCreationException e) {
                     Log.e(TAG, "Error creating bitmap for AVG.", e);
                     return;
                 }
                 drawAVGToCachedBitmap();
+                compactCachedBitmapIfOpaque();
             } else if (mIsDirty) {
                 mCachedBitmap.eraseColor(Color.TRANSPARENT);
                 drawAVGToCachedBitmap();
             }
         }
 
+        /**
+         * Checks once whether the first render of the graphic is fully opaque and if so, and
+         * the {@link BitmapConfigPolicy} allows it, replaces the cached bitmap with one without an
+         * alpha channel.
+         */
+        private void compactCachedBitmapIfOpaque() {
+            if (mCacheOpacityChecked || !mCacheHasAlpha || !mBitmapConfigPolicy.allowsRgb565()) {
+                return;
+            }
+            mCacheOpacityChecked = true;
+
+            final Bitmap.Config config = mBitmapConfigPolicy.getVectorGraphicCacheConfig(false);
+            if (config == mCachedBitmap.getConfig() || !isOpaque(mCachedBitmap)) {
+                return;
+            }
+
+            final Bitmap opaqueBitmap;
+            try {
+                opaqueBitmap = createCacheBitmap(mCachedBitmap.getWidth(), mCachedBitmap.getHeight(), config);
+            } catch (BitmapCreationException e) {
+                Log.e(TAG, "Error creating opaque bitmap for AVG.", e);
+                return;
+            }
+            final Canvas tmpCanvas = new Canvas(opaqueBitmap);
+            tmpCanvas.drawBitmap(mCachedBitmap, 0, 0, null);
+            tmpCanvas.setBitmap(null);
+            mBitmapFactory.disposeBitmap(mCachedBitmap);
+            mCachedBitmap = opaqueBitmap;
+            mCacheHasAlpha = false;
+        }
+
+        private Bitmap createCacheBitmap(int width, int height, Bitmap.Config config) throws BitmapCreationException {
+            return config == Bitmap.Config.ARGB_8888
+                    ? mBitmapFactory.createBitmap(width, height)
+                    : mBitmapFactory.createBitmap(width, height, config);
+        }
+
+        /**
+         * @return true if every pixel of the bitmap is fully opaque.
+         */
+        private static boolean isOpaque(@NonNull Bitmap bitmap) {
+            final int width = bitmap.getWidth();
+            final int[] row = new int[width];
+            for (int y = 0; y < bitmap.getHeight(); y++) {
+                bitmap.getPixels(row, 0, width, 0, y, width, 1);
+                for (int pixel : row) {
+                    if (Color.alpha(pixel) != 255) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
         /**
          * Draws the AVG to the bitmap. Needs to be done if bitmap is erased or recreated.
          */
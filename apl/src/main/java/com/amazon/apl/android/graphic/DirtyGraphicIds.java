@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.graphic;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Reusable list of the unique ids of dirty graphic elements in an AVG.
+ *
+ * The ids are stored in a primitive array that is only reallocated when it grows, so that
+ * animated graphics can be updated every frame without allocating.
+ */
+public final class DirtyGraphicIds {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] mIds;
+    private int mSize;
+
+    /**
+     * Writes ids into a buffer.
+     */
+    public interface Source {
+        /**
+         * @param buffer the buffer to write the ids into
+         * @return the total number of ids, which may be larger than the buffer.
+         */
+        int fill(@NonNull int[] buffer);
+    }
+
+    public DirtyGraphicIds() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DirtyGraphicIds(int capacity) {
+        mIds = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * @param ids the unique ids
+     * @return a list of the given ids
+     */
+    @NonNull
+    public static DirtyGraphicIds of(int... ids) {
+        DirtyGraphicIds dirtyGraphicIds = new DirtyGraphicIds(ids.length);
+        dirtyGraphicIds.fill(buffer -> {
+            System.arraycopy(ids, 0, buffer, 0, ids.length);
+            return ids.length;
+        });
+        return dirtyGraphicIds;
+    }
+
+    /**
+     * Replaces the ids with those from a source, growing the buffer if they do not fit.
+     *
+     * @param source the source of ids
+     */
+    public void fill(@NonNull Source source) {
+        int count = source.fill(mIds);
+        if (count > mIds.length) {
+            mIds = new int[Math.max(count, mIds.length * 2)];
+            count = source.fill(mIds);
+        }
+        mSize = Math.min(count, mIds.length);
+    }
+
+    /**
+     * @return the number of ids.
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * @param index the index, less than {@link #size()}
+     * @return the unique id at the index.
+     */
+    public int get(int index) {
+        if (index < 0 || index >= mSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + mSize);
+        }
+        return mIds[index];
+    }
+}
@@ -136,14 +136,33 @@ public abstract class GraphicElement extends BoundObject {
         return mProperties;
     }
 
+    /**
+     * @deprecated use {@link #applyDirtyProperties(DirtyGraphicIds)}.
+     */
+    @Deprecated
     public void applyDirtyProperties(@NonNull Set<Integer> dirtyGraphicUniqueIds) {
         for (Integer graphicElementId : dirtyGraphicUniqueIds) {
-            GraphicElement element = mGraphicElementMap.get(graphicElementId);
-            if (element != null) {
-                element.applyProperties();
-            } else {
-                Log.w(TAG, "Cannot find graphic for unique id: " + graphicElementId);
-            }
+            applyDirtyProperties(graphicElementId);
+        }
+    }
+
+    /**
+     * Applies properties to each dirty graphic element.
+     *
+     * @param dirtyGraphicUniqueIds the unique ids of dirty graphics.
+     */
+    public void applyDirtyProperties(@NonNull DirtyGraphicIds dirtyGraphicUniqueIds) {
+        for (int i = 0; i < dirtyGraphicUniqueIds.size(); i++) {
+            applyDirtyProperties(dirtyGraphicUniqueIds.get(i));
+        }
+    }
+
+    private void applyDirtyProperties(int graphicElementId) {
+        GraphicElement element = mGraphicElementMap.get(graphicElementId);
+        if (element != null) {
+            element.applyProperties();
+        } else {
+            Log.w(TAG, "Cannot find graphic for unique id: " + graphicElementId);
         }
     }
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.image.filters.bitmap;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pool of ARGB pixel buffers for filters that work on pixel arrays, keyed by buffer length.
+ *
+ * Filters are applied to images of the same size over and over, e.g. when a Sequence of filtered
+ * Images is scrolled, so buffers are borrowed with {@link #acquire(int)} and returned with
+ * {@link #release(int[])} instead of being allocated per filter. Buffers are not cleared between
+ * uses.
+ *
+ * Kept buffers are unused memory, so they are dropped on memory pressure. Register the pool with
+ * {@link android.content.Context#registerComponentCallbacks} for this.
+ */
+public final class PixelBufferPool implements ComponentCallbacks2 {
+    // 4MB of pixels, enough for the buffers of a filter on a large image.
+    private static final int DEFAULT_MAX_RETAINED_PIXELS = 1024 * 1024;
+
+    private static final PixelBufferPool sDefault = new PixelBufferPool(DEFAULT_MAX_RETAINED_PIXELS);
+
+    private final Map<Integer, ArrayDeque<int[]>> mBuffers = new HashMap<>();
+    private final int mMaxRetainedPixels;
+    private int mRetainedPixels;
+    private int mAllocationCount;
+    private int mReuseCount;
+
+    /**
+     * @param maxRetainedPixels the maximum total length of the buffers kept for reuse.
+     */
+    public PixelBufferPool(int maxRetainedPixels) {
+        mMaxRetainedPixels = maxRetainedPixels;
+    }
+
+    /**
+     * @return the pool shared by the image filters.
+     */
+    @NonNull
+    public static PixelBufferPool getDefault() {
+        return sDefault;
+    }
+
+    /**
+     * Borrows a buffer, allocating one if there is none of the length available.
+     *
+     * @param length the number of pixels.
+     * @return a buffer of exactly length pixels, with undefined contents.
+     */
+    @NonNull
+    public synchronized int[] acquire(int length) {
+        ArrayDeque<int[]> buffers = mBuffers.get(length);
+        if (buffers != null && !buffers.isEmpty()) {
+            mReuseCount++;
+            mRetainedPixels -= length;
+            return buffers.pop();
+        }
+        mAllocationCount++;
+        return new int[length];
+    }
+
+    /**
+     * Returns a buffer borrowed with {@link #acquire(int)}. The buffer must not be used afterwards.
+     *
+     * @param buffer the buffer.
+     */
+    public synchronized void release(@NonNull int[] buffer) {
+        if (mRetainedPixels + buffer.length > mMaxRetainedPixels) {
+            return;
+        }
+        ArrayDeque<int[]> buffers = mBuffers.get(buffer.length);
+        if (buffers == null) {
+            buffers = new ArrayDeque<>();
+            mBuffers.put(buffer.length, buffers);
+        }
+        buffers.push(buffer);
+        mRetainedPixels += buffer.length;
+    }
+
+    /**
+     * Drops all buffers kept for reuse.
+     */
+    public synchronized void clear() {
+        mBuffers.clear();
+        mRetainedPixels = 0;
+    }
+
+    /**
+     * Drops all buffers kept for reuse once the system runs low on memory. The buffers aren't in
+     * use, so there is no point in keeping them until the process is at risk of being killed.
+     *
+     * @param level the memory level.
+     */
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            clear();
+        }
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+        // no-op
+    }
+
+    @Override
+    public void onLowMemory() {
+        clear();
+    }
+
+    /**
+     * @return the number of buffers allocated by {@link #acquire(int)}.
+     */
+    @VisibleForTesting
+    public synchronized int getAllocationCount() {
+        return mAllocationCount;
+    }
+
+    /**
+     * @return the number of buffers reused by {@link #acquire(int)}.
+     */
+    @VisibleForTesting
+    public synchronized int getReuseCount() {
+        return mReuseCount;
+    }
+}
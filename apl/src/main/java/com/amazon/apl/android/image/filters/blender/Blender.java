@@ -7,6 +7,9 @@ package com.amazon.apl.android.image.filters.blender;
 
 import android.graphics.Bitmap;
 
+import androidx.annotation.VisibleForTesting;
+
+import com.amazon.apl.android.image.filters.bitmap.PixelBufferPool;
 import com.amazon.apl.enums.BlendMode;
 
 public abstract class Blender {
@@ -14,34 +17,41 @@ public abstract class Blender {
     private static final String TAG = "Blender";
 
     protected BlendMode mBlendMode;
+    private final PixelBufferPool mBufferPool;
 
     public Blender(BlendMode blendMode) {
+        this(blendMode, PixelBufferPool.getDefault());
+    }
+
+    @VisibleForTesting
+    Blender(BlendMode blendMode, PixelBufferPool bufferPool) {
         mBlendMode = blendMode;
+        mBufferPool = bufferPool;
     }
 
-    // TODO: Migrate all low level pixel operations to JNI layer for speed.
+    // Blends in Java, pixel by pixel. See NativeBlender for the native implementation.
     // APL Spec: https://developer.amazon.com/en-US/docs/alexa/alexa-presentation-language/apl-filters.html#blend
     public Bitmap performBlending(Bitmap source, Bitmap destination, Bitmap result) {
         int width = Math.min(source.getWidth(), destination.getWidth());
         int height = Math.min(source.getHeight(), destination.getHeight());
 
-        final int[] srcPixels = new int[width * height];
-        final int[] destPixels = new int[width * height];
-        final int[] resultPixels = new int[width * height];
-
-        source.getPixels(srcPixels, 0, width, 0, 0, width, height);
-        destination.getPixels(destPixels, 0, width, 0, 0, width, height);
+        // The pixel buffers are borrowed from the pool, and the result is blended into the
+        // destination buffer, as destination pixels are only read before they are blended.
+        final int[] srcPixels = mBufferPool.acquire(width * height);
+        final int[] destPixels = mBufferPool.acquire(width * height);
+        try {
+            source.getPixels(srcPixels, 0, width, 0, 0, width, height);
+            destination.getPixels(destPixels, 0, width, 0, 0, width, height);
 
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                int rgbS = srcPixels[y * width + x];
-                int rgbD = destPixels[y * width + x];
-
-                resultPixels[y * width + x] = blendPixels(rgbS, rgbD);
+            for (int i = 0; i < width * height; i++) {
+                destPixels[i] = blendPixels(srcPixels[i], destPixels[i]);
             }
-        }
 
-        result.setPixels(resultPixels, 0, result.getWidth(), 0, 0, result.getWidth(), result.getHeight());
+            result.setPixels(destPixels, 0, width, 0, 0, width, height);
+        } finally {
+            mBufferPool.release(srcPixels);
+            mBufferPool.release(destPixels);
+        }
         return result;
     }
 
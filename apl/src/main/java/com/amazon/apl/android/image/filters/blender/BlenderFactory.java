@@ -16,15 +16,20 @@ public class BlenderFactory {
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
             return new CanvasBlender(mode);
         } else {
-            switch (mode) {
-                case kBlendModeHue:
-                case kBlendModeLuminosity:
-                case kBlendModeColor:
-                case kBlendModeSaturation:
-                    return new NonSeparableBlender(mode);
-                default:
-                    return new SeparableBlender(mode);
-            }
+            // Blend natively, with the Java blenders as fallback.
+            return new NativeBlender(mode, getJavaBlender(mode));
+        }
+    }
+
+    static Blender getJavaBlender(BlendMode mode) {
+        switch (mode) {
+            case kBlendModeHue:
+            case kBlendModeLuminosity:
+            case kBlendModeColor:
+            case kBlendModeSaturation:
+                return new NonSeparableBlender(mode);
+            default:
+                return new SeparableBlender(mode);
         }
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.image.filters.blender;
+
+import android.graphics.Bitmap;
+import android.util.Log;
+
+import androidx.annotation.VisibleForTesting;
+
+import com.amazon.apl.enums.BlendMode;
+
+// Blends in native code, directly on the locked pixels of the bitmaps, using the same equations
+// as the Java blenders. Bitmaps that can't be blended natively are blended by the Java blender.
+public class NativeBlender extends Blender {
+
+    private static final String TAG = "NativeBlender";
+
+    // Set once the native library turns out not to provide the blend functions.
+    private static volatile boolean sNativeUnavailable;
+
+    private final Blender mFallback;
+
+    public NativeBlender(BlendMode blendMode, Blender fallback) {
+        super(blendMode);
+        mFallback = fallback;
+    }
+
+    @Override
+    public Bitmap performBlending(Bitmap source, Bitmap destination, Bitmap result) {
+        if (!sNativeUnavailable && isArgb8888(source) && isArgb8888(destination) && isArgb8888(result)) {
+            try {
+                if (nativeBlendBitmaps(source, source.isPremultiplied(),
+                        destination, destination.isPremultiplied(),
+                        result, result.isPremultiplied(),
+                        mBlendMode.getIndex())) {
+                    return result;
+                }
+            } catch (UnsatisfiedLinkError e) {
+                Log.w(TAG, "Native blending unavailable, blending in Java.", e);
+                sNativeUnavailable = true;
+            }
+        }
+        return mFallback.performBlending(source, destination, result);
+    }
+
+    @Override
+    int blendPixels(int sourceColor, int destinationColor) {
+        return mFallback.blendPixels(sourceColor, destinationColor);
+    }
+
+    /**
+     * Blends source colors into destination colors in native code.
+     *
+     * @param blendMode   the blend mode
+     * @param source      the source colors
+     * @param destination the destination colors, replaced with the blended colors
+     * @return false if the blend mode isn't supported natively.
+     */
+    @VisibleForTesting
+    static boolean blendPixels(BlendMode blendMode, int[] source, int[] destination) {
+        return nativeBlendPixels(source, destination, blendMode.getIndex());
+    }
+
+    private static boolean isArgb8888(Bitmap bitmap) {
+        return bitmap.getConfig() == Bitmap.Config.ARGB_8888;
+    }
+
+    private static native boolean nativeBlendPixels(int[] source, int[] destination, int mode);
+    private static native boolean nativeBlendBitmaps(Bitmap source, boolean sourcePremultiplied,
+                                                     Bitmap destination, boolean destinationPremultiplied,
+                                                     Bitmap result, boolean resultPremultiplied,
+                                                     int mode);
+}
@@ -14,6 +14,9 @@ import com.amazon.apl.enums.BlendMode;
 // https://www.w3.org/TR/compositing-1/#blendingnonseparable
 public class NonSeparableBlender extends Blender {
 
+    // Blenders are created per blend, so the channels of the blended pixel can be reused.
+    private final float[] mRgb = new float[3];
+
     public NonSeparableBlender(BlendMode blendMode) {
         super(blendMode);
     }
@@ -31,7 +34,7 @@ public class NonSeparableBlender extends Blender {
         float dstB = Color.blue(destinationColor) / 255f;
         float dstA = Color.alpha(destinationColor) / 255f;
 
-        float[] rgb = new float[3];
+        final float[] rgb = mRgb;
 
         switch (mBlendMode) {
             case kBlendModeHue:
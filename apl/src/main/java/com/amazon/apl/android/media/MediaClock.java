@@ -0,0 +1,175 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.media;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Samples the progress of active media players once per document frame.
+ *
+ * Players register a {@link Sampler} while they play instead of scheduling their own progress
+ * timers. The document calls {@link #onFrame(long)} from its frame update before core processes
+ * pending changes, so progress updates from every player land in core in the same frame. When no
+ * player is registered the clock does no work, and the document is free to stop ticking.
+ *
+ * This class is thread-safe.
+ */
+public final class MediaClock {
+    /**
+     * Samples a player's progress.
+     */
+    public interface Sampler {
+        /**
+         * Called on the document's frame thread when the sampler is due.
+         *
+         * Implementations should only report to core when their position actually changed.
+         *
+         * @param frameTime the document frame time in milliseconds.
+         * @return true to keep sampling, false to unregister.
+         */
+        boolean sample(long frameTime);
+    }
+
+    /**
+     * Implemented by players that can be driven by a {@link MediaClock}.
+     */
+    public interface Client {
+        /**
+         * @param clock the clock to sample progress with, or null to use the player's own timer.
+         */
+        void setMediaClock(@Nullable MediaClock clock);
+    }
+
+    private final List<Entry> mEntries = new ArrayList<>();
+    // Only touched by the frame thread, reused to avoid allocating every frame.
+    private final List<Sampler> mDue = new ArrayList<>();
+    @Nullable
+    private final Runnable mOnActive;
+    private long mLastFrameTime = -1;
+
+    /**
+     * @param onActive wakes the document clock, called when the first sampler is registered.
+     */
+    public MediaClock(@Nullable Runnable onActive) {
+        mOnActive = onActive;
+    }
+
+    /**
+     * Registers a sampler, it is first sampled on the next frame. Registering a sampler that is
+     * already registered updates its interval.
+     *
+     * @param sampler    the sampler
+     * @param intervalMs the minimum time between samples, 0 to sample every frame.
+     */
+    public void register(@NonNull Sampler sampler, long intervalMs) {
+        final boolean wasIdle;
+        synchronized (this) {
+            Entry entry = find(sampler);
+            if (entry != null) {
+                entry.intervalMs = intervalMs;
+                return;
+            }
+            wasIdle = mEntries.isEmpty();
+            mEntries.add(new Entry(sampler, intervalMs));
+        }
+        if (wasIdle && mOnActive != null) {
+            mOnActive.run();
+        }
+    }
+
+    /**
+     * Wakes the document, e.g. after a player reported a state change to core outside of a
+     * frame.
+     */
+    public void requestFrame() {
+        if (mOnActive != null) {
+            mOnActive.run();
+        }
+    }
+
+    /**
+     * @param sampler the sampler to stop sampling.
+     */
+    public synchronized void unregister(@NonNull Sampler sampler) {
+        Entry entry = find(sampler);
+        if (entry != null) {
+            mEntries.remove(entry);
+        }
+    }
+
+    /**
+     * @return true if any sampler is registered.
+     */
+    public synchronized boolean isActive() {
+        return !mEntries.isEmpty();
+    }
+
+    /**
+     * Samples every registered sampler that is due. Must be called from a single thread.
+     *
+     * Samplers are called without holding the clock's lock, since they usually take their
+     * player's lock and players register from their own threads.
+     *
+     * @param frameTime the document frame time in milliseconds.
+     */
+    public void onFrame(long frameTime) {
+        synchronized (this) {
+            if (mEntries.isEmpty() || frameTime == mLastFrameTime) {
+                return;
+            }
+            mLastFrameTime = frameTime;
+            for (Entry entry : mEntries) {
+                if (entry.lastSampleTime < 0 || frameTime - entry.lastSampleTime >= entry.intervalMs) {
+                    entry.lastSampleTime = frameTime;
+                    mDue.add(entry.sampler);
+                }
+            }
+        }
+
+        try {
+            for (int i = 0; i < mDue.size(); i++) {
+                Sampler sampler = mDue.get(i);
+                if (!sampler.sample(frameTime)) {
+                    unregister(sampler);
+                }
+            }
+        } finally {
+            mDue.clear();
+        }
+    }
+
+    /**
+     * Unregisters every sampler.
+     */
+    public synchronized void clear() {
+        mEntries.clear();
+    }
+
+    @Nullable
+    private Entry find(Sampler sampler) {
+        for (Entry entry : mEntries) {
+            if (entry.sampler == sampler) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static final class Entry {
+        final Sampler sampler;
+        long intervalMs;
+        long lastSampleTime = -1;
+
+        Entry(Sampler sampler, long intervalMs) {
+            this.sampler = sampler;
+            this.intervalMs = intervalMs;
+        }
+    }
+}
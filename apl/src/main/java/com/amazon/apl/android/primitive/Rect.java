@@ -5,6 +5,8 @@
 
 package com.amazon.apl.android.primitive;
 
+import android.graphics.RectF;
+
 import androidx.annotation.NonNull;
 
 import com.amazon.apl.android.scaling.IMetricsTransform;
@@ -65,6 +67,17 @@ public abstract class Rect {
                 .build();
     }
 
+    /**
+     * Reads the rectangle of a property into an existing {@link RectF}, without allocating.
+     */
+    public static void get(BoundObject boundObject, APLEnum propertyKey, @NonNull IMetricsTransform transform, @NonNull RectF out) {
+        final float[] bounds = sScratch.get();
+        nGetRectValues(boundObject.getNativeHandle(), propertyKey.getIndex(), bounds);
+        final float left = transform.toViewhost(bounds[0]);
+        final float top = transform.toViewhost(bounds[1]);
+        out.set(left, top, left + transform.toViewhost(bounds[2]), top + transform.toViewhost(bounds[3]));
+    }
+
     public Rect inset(float inset) {
         return builder()
                 .left(getLeft() + inset)
@@ -87,6 +100,15 @@ public abstract class Rect {
         public abstract Rect build();
     }
 
+    private static final ThreadLocal<float[]> sScratch = new ThreadLocal<float[]>() {
+        @Override
+        protected float[] initialValue() {
+            return new float[4];
+        }
+    };
+
     private static native float[] nGetRect(long componentHandle, int componentPropertyKey);
 
+    private static native void nGetRectValues(long componentHandle, int componentPropertyKey, float[] out);
+
 }
\ No newline at end of file
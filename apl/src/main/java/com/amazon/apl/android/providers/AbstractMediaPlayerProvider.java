@@ -10,6 +10,7 @@ import android.view.View;
 
 import com.amazon.apl.android.IDocumentLifecycleListener;
 import com.amazon.apl.android.dependencies.IMediaPlayer;
+import com.amazon.apl.android.media.MediaClock;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -19,6 +20,7 @@ import java.util.Set;
 
 import androidx.annotation.CallSuper;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 /**
  * Abstact class that manages media player lifecycle. Extend this class to implement a custom
@@ -32,6 +34,8 @@ public abstract class AbstractMediaPlayerProvider<T extends View> implements IMe
     private final Set<IMediaPlayer> mPlayingSet = new HashSet<>();
     @NonNull
     private final Collection<IMediaPlayer> mPausedSet = new LinkedList<>();
+    @Nullable
+    private MediaClock mMediaClock;
 
     /**
      * Called internally by viewhost to get and track new players.
@@ -43,9 +47,39 @@ public abstract class AbstractMediaPlayerProvider<T extends View> implements IMe
         IMediaPlayer player = createPlayer(context, view);
         mPlayers.add(player);
         player.addMediaStateListener(this);
+        if (player instanceof MediaClock.Client) {
+            ((MediaClock.Client) player).setMediaClock(mMediaClock);
+        }
         return player;
     }
 
+    /**
+     * Sets the clock that players supporting {@link MediaClock.Client} report progress with.
+     * Called internally by viewhost when the document is created.
+     *
+     * @param clock the document's media clock, or null to let players use their own timers.
+     */
+    public void setMediaClock(@Nullable MediaClock clock) {
+        mMediaClock = clock;
+        for (IMediaPlayer player : mPlayers) {
+            if (player instanceof MediaClock.Client) {
+                ((MediaClock.Client) player).setMediaClock(clock);
+            }
+        }
+    }
+
+    /**
+     * Stops handing a document's media clock to players, unless another document has set its own
+     * clock since. Called internally by viewhost when the document is finished.
+     *
+     * @param clock the finished document's media clock.
+     */
+    public void clearMediaClock(@NonNull MediaClock clock) {
+        if (mMediaClock == clock) {
+            setMediaClock(null);
+        }
+    }
+
     /**
      * Checks if any media player is playing.
      * @return true if mPlayngSet is not empty, false otherwise.
@@ -146,5 +180,10 @@ public abstract class AbstractMediaPlayerProvider<T extends View> implements IMe
         } else {
             mPlayingSet.remove(player);
         }
+
+        // The player reports the new state to core, make sure an idle document processes it
+        if (mMediaClock != null) {
+            mMediaClock.requestFrame();
+        }
     }
 }
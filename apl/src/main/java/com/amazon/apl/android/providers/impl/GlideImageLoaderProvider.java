@@ -8,6 +8,9 @@ package com.amazon.apl.android.providers.impl;
 import android.content.Context;
 import androidx.annotation.Nullable;
 
+import com.amazon.apl.android.APLController;
+import com.amazon.apl.android.RuntimeConfig;
+import com.amazon.apl.android.bitmap.BitmapConfigPolicy;
 import com.amazon.apl.android.dependencies.IImageLoader;
 import com.amazon.apl.android.dependencies.impl.GlideImageLoader;
 import com.amazon.apl.android.providers.IImageLoaderProvider;
@@ -36,7 +39,11 @@ public class GlideImageLoaderProvider implements IImageLoaderProvider {
     @Override
     public synchronized IImageLoader get(Context context) {
         if(mImageLoader == null) {
-            mImageLoader = new GlideImageLoader(context);
+            RuntimeConfig runtimeConfig = APLController.getRuntimeConfig();
+            BitmapConfigPolicy bitmapConfigPolicy = runtimeConfig != null
+                    ? runtimeConfig.getBitmapConfigPolicy()
+                    : BitmapConfigPolicy.argb8888();
+            mImageLoader = new GlideImageLoader(context, bitmapConfigPolicy);
         }
         return mImageLoader;
     }
@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.touch;
+
+import androidx.annotation.NonNull;
+
+import com.amazon.apl.enums.PointerType;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffer of move samples for a single pointer, waiting to be delivered to core.
+ *
+ * Points are stored as interleaved x, y pairs alongside their times, so the buffers can be
+ * handed to core as is.
+ */
+public final class PointerBatch {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int mPointerId;
+    @NonNull
+    private PointerType mPointerType = PointerType.kTouchPointer;
+    private float[] mPoints = new float[INITIAL_CAPACITY * 2];
+    private long[] mTimes = new long[INITIAL_CAPACITY];
+    private int mSize;
+
+    /**
+     * @param pointer the pointer to check
+     * @return true if samples of this pointer can be added to the batch.
+     */
+    public boolean accepts(@NonNull Pointer pointer) {
+        return mSize == 0 || (mPointerId == pointer.getId() && mPointerType == pointer.getPointerType());
+    }
+
+    /**
+     * Adds a move sample. Check {@link #accepts(Pointer)} first.
+     *
+     * @param pointer the pointer that moved
+     * @param x       the x position
+     * @param y       the y position
+     * @param time    the sample time
+     */
+    public void add(@NonNull Pointer pointer, float x, float y, long time) {
+        if (mSize == mTimes.length) {
+            mTimes = Arrays.copyOf(mTimes, mSize * 2);
+            mPoints = Arrays.copyOf(mPoints, mSize * 4);
+        }
+        mPointerId = pointer.getId();
+        mPointerType = pointer.getPointerType();
+        mPoints[mSize * 2] = x;
+        mPoints[mSize * 2 + 1] = y;
+        mTimes[mSize] = time;
+        mSize++;
+    }
+
+    /**
+     * Removes all samples, keeping the buffers.
+     */
+    public void clear() {
+        mSize = 0;
+    }
+
+    /**
+     * @return the number of samples.
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * @return true if there are no samples.
+     */
+    public boolean isEmpty() {
+        return mSize == 0;
+    }
+
+    /**
+     * @return the id of the pointer the samples belong to.
+     */
+    public int getPointerId() {
+        return mPointerId;
+    }
+
+    /**
+     * @return the type of the pointer the samples belong to.
+     */
+    @NonNull
+    public PointerType getPointerType() {
+        return mPointerType;
+    }
+
+    /**
+     * @return the x, y pairs of the samples. Only the first {@link #size()} pairs are valid.
+     */
+    @NonNull
+    public float[] getPoints() {
+        return mPoints;
+    }
+
+    /**
+     * @return the sample times. Only the first {@link #size()} entries are valid.
+     */
+    @NonNull
+    public long[] getTimes() {
+        return mTimes;
+    }
+}
@@ -57,6 +57,13 @@ public final class PointerInfo {
         return mPrimaryPointer;
     }
 
+    /**
+     * @return the index of the primary pointer in the motion event, or -1 if it isn't in the event.
+     */
+    int getPointerIndex() {
+        return mPrimaryPointerIndex;
+    }
+
     private void translate() {
         final int actionMasked = mMotionEvent.getActionMasked();
         switch (actionMasked) {
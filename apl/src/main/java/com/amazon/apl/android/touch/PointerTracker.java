@@ -42,6 +42,14 @@ public final class PointerTracker {
         return mPointerInfo.getPointer();
     }
 
+    /**
+     * @return the index of the primary pointer in the last tracked motion event,
+     *      or -1 if it isn't in the event.
+     */
+    public int getPointerIndex() {
+        return mPointerInfo != null ? mPointerInfo.getPointerIndex() : -1;
+    }
+
     /**
      * @return the active pointer as a cancel pointer,
      *      or null if no pointer is active.
@@ -36,11 +36,13 @@ public class LazyImageLoader {
         }
 
         boolean needsScaling = (image.getScale() != ImageScale.kImageScaleNone);
+        // Processed bitmaps are copied and filtered in software.
+        boolean requiresPixelAccess = image.needsProcessing() || image.shouldDrawBoxShadow();
 
         IImageLoader provider = image.getImageLoader(view.getContext());
         List<UrlRequests.UrlRequest> sources = image.getSourceRequests();
         if (sources.size() > 0) {
-            ImageLoad loadImage = new ImageLoad(adapter, view, sources, provider, needsScaling);
+            ImageLoad loadImage = new ImageLoad(adapter, view, sources, provider, needsScaling, requiresPixelAccess);
             loadImage.load();
         }
     }
@@ -70,12 +72,14 @@ public class LazyImageLoader {
         private final List<UrlRequests.UrlRequest> mSources = new ArrayList<>();
         private final Bitmap[] mBitmaps;
         private final boolean mNeedsScaling;
+        private final boolean mRequiresPixelAccess;
 
-        ImageLoad(ImageViewAdapter imageViewAdapter, APLImageView imageView, List<UrlRequests.UrlRequest> sources, IImageLoader loader, boolean needsScaling) {
+        ImageLoad(ImageViewAdapter imageViewAdapter, APLImageView imageView, List<UrlRequests.UrlRequest> sources, IImageLoader loader, boolean needsScaling, boolean requiresPixelAccess) {
             mImageViewAdapter = imageViewAdapter;
             mImageView = imageView;
             mImageLoader = loader;
             mNeedsScaling = needsScaling;
+            mRequiresPixelAccess = requiresPixelAccess;
             mBitmaps = new Bitmap[sources.size()];
             mSources.addAll(sources);
         }
@@ -106,6 +110,7 @@ public class LazyImageLoader {
                         //  existing behavior where both bitmaps are scaled to fill the target view
                         //  prior to Filters.
                         .allowUpscaling(mSources.size() > 1)
+                        .requiresPixelAccess(mRequiresPixelAccess)
                         .headers(mSources.get(index).headers())
                         .callback(callback)
                         .build();
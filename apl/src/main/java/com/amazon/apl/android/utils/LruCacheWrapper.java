@@ -89,4 +89,11 @@ public abstract class LruCacheWrapper<K,V> implements ICache<K,V> {
     public int getSize() {
         return mLruCacheInternal.size();
     }
+
+    /**
+     * Evict all entries from the cache.
+     */
+    public void clear() {
+        mLruCacheInternal.evictAll();
+    }
 }
@@ -18,6 +18,7 @@ public enum TracePoint {
     // Frame loop
     ROOT_CONTEXT_DO_FRAME("RootContext", "doFrame"),
     ROOT_CONTEXT_UPDATE_TIME("RootContext", "updateTime"),
+    ROOT_CONTEXT_HANDLE_POINTER_MOVES("RootContext", "handlePointerMoves"),
     ROOT_CONTEXT_CLEAR_PENDING("RootContext", "clearPending"),
     ROOT_CONTEXT_HANDLE_DIRTY_PROPERTIES("RootContext", "handleDirtyProperties"),
     ROOT_CONTEXT_HANDLE_EVENTS("RootContext", "handleEvents"),
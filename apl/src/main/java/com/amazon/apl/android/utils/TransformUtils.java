@@ -4,9 +4,16 @@ import android.graphics.Canvas;
 import android.graphics.Matrix;
 import android.view.View;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
 import com.amazon.apl.android.Component;
 
 public class TransformUtils {
+    // Tolerance for the columns of a transform to count as perpendicular.
+    private static final float SKEW_TOLERANCE = 1e-4f;
+
+    private static final float[] sValues = new float[9];
 
     /**
      * This function applies the child's transformation, to the parent view's canvas.
@@ -26,4 +33,70 @@ public class TransformUtils {
         transform.postTranslate(left, top);
         parentCanvas.concat(transform);
     }
+
+    /**
+     * Applies a child's transformation to the render properties of its view, i.e. translation,
+     * rotation and scale about its top left corner. The render thread applies these without the
+     * parent redrawing, so this is much cheaper than {@link #applyChildTransformToParentCanvas}
+     * when the transformation changes on every frame of an animation.
+     *
+     * @param transform the transformation in the coordinates of the child view.
+     * @param child     the child view.
+     * @return true if applied, false if the transformation skews and can't be expressed with view
+     * properties, in which case the view is left untransformed.
+     */
+    @UiThread
+    public static boolean applyTransformToView(@NonNull Matrix transform, @NonNull View child) {
+        final float[] values = sValues;
+        transform.getValues(values);
+        final float a = values[Matrix.MSCALE_X];
+        final float b = values[Matrix.MSKEW_Y];
+        final float c = values[Matrix.MSKEW_X];
+        final float d = values[Matrix.MSCALE_Y];
+        final float scaleX = (float) Math.hypot(a, b);
+        final float scaleY = (float) Math.hypot(c, d);
+        final boolean perspective = values[Matrix.MPERSP_0] != 0 || values[Matrix.MPERSP_1] != 0
+                || values[Matrix.MPERSP_2] != 1;
+        if (perspective || scaleX == 0 || scaleY == 0
+                || Math.abs(a * c + b * d) > SKEW_TOLERANCE * scaleX * scaleY) {
+            clearViewTransform(child);
+            return false;
+        }
+
+        child.setPivotX(0);
+        child.setPivotY(0);
+        child.setTranslationX(values[Matrix.MTRANS_X]);
+        child.setTranslationY(values[Matrix.MTRANS_Y]);
+        child.setRotation((float) Math.toDegrees(Math.atan2(b, a)));
+        child.setScaleX(scaleX);
+        // The sign of the determinant tells whether the transformation mirrors.
+        child.setScaleY((a * d - b * c) / scaleX);
+        return true;
+    }
+
+    /**
+     * Resets the render properties set by {@link #applyTransformToView(Matrix, View)}.
+     *
+     * @param child the child view.
+     */
+    public static void clearViewTransform(@NonNull View child) {
+        child.setTranslationX(0);
+        child.setTranslationY(0);
+        child.setRotation(0);
+        child.setScaleX(1);
+        child.setScaleY(1);
+    }
+
+    /**
+     * @param child the child view.
+     * @return true if the child's transformation is applied by its view, see
+     * {@link #applyTransformToView(Matrix, View)}, so that the parent must not apply it again.
+     */
+    public static boolean hasViewTransform(@NonNull View child) {
+        return child.getTranslationX() != 0
+                || child.getTranslationY() != 0
+                || child.getRotation() != 0
+                || child.getScaleX() != 1
+                || child.getScaleY() != 1;
+    }
 }
@@ -11,16 +11,20 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.graphics.Canvas;
 import android.graphics.Matrix;
+import android.graphics.Outline;
 import android.graphics.Path;
 import android.graphics.RectF;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import androidx.collection.LruCache;
 
 import android.util.AttributeSet;
 import android.util.Log;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewOutlineProvider;
 
 import com.amazon.apl.android.APLVersionCodes;
 import com.amazon.apl.android.Component;
@@ -34,6 +38,7 @@ import com.amazon.apl.android.utils.TransformUtils;
 import com.amazon.apl.enums.ComponentType;
 import com.amazon.apl.enums.PropertyKey;
 import com.amazon.apl.enums.ScrollDirection;
+import com.google.auto.value.AutoValue;
 
 import static com.amazon.apl.android.providers.ITelemetryProvider.APL_DOMAIN;
 import static com.amazon.apl.android.providers.ITelemetryProvider.Type.COUNTER;
@@ -47,6 +52,10 @@ import java.util.Map;
 
 /**
  * Simple absolute layout.
+ *
+ * Children are clipped to the inside of the border of the Component. Rectangular clips are applied
+ * as rectangles, uniformly rounded clips without a border through the outline of the view, and
+ * other rounded clips as paths shared between all layouts with the same clip shape.
  */
 @SuppressLint("ViewConstructor")
 public class APLAbsoluteLayout extends ViewGroup {
@@ -54,14 +63,46 @@ public class APLAbsoluteLayout extends ViewGroup {
 
     private final static String METRIC_INCORRECTLY_CLIPPED_COMPONENTS = TAG + ".incorrectlyClippedComponents";
 
+    // Rounded clips tend to come in a handful of shapes, e.g. the items of a Sequence.
+    private static final int CLIP_PATH_CACHE_SIZE = 64;
+    private static final LruCache<ClipPathKey, Path> sClipPathCache = new LruCache<>(CLIP_PATH_CACHE_SIZE);
+
+    @VisibleForTesting
+    enum ClipMode {
+        // Children are not clipped
+        NONE,
+        // Children are clipped to mClipRect
+        RECT,
+        // The view is clipped to its outline, a round rect of mClipRect and mOutlineRadius
+        OUTLINE,
+        // Children are clipped to mClipPath
+        PATH
+    }
+
     final IAPLViewPresenter mPresenter;
 
     private final ShadowBitmapRenderer mShadowRenderer;
-    private Path mPath = new Path();
+    private ClipMode mClipMode = ClipMode.NONE;
+    private final RectF mClipRect = new RectF();
+    private float mOutlineRadius;
+    // Shared with other layouts, never modified.
+    @Nullable
+    private Path mClipPath;
+    private final ViewOutlineProvider mClipOutlineProvider = new ViewOutlineProvider() {
+        @Override
+        public void getOutline(View view, Outline outline) {
+            outline.setRoundRect((int) mClipRect.left, (int) mClipRect.top,
+                    (int) mClipRect.right, (int) mClipRect.bottom, mOutlineRadius);
+        }
+    };
+    // Shadows of children are drawn by this view, so they must not be clipped by its outline.
+    private boolean mChildrenDrawShadows = false;
     private boolean mNeedClippingPathUpdate = false;
     private int cIncorrectlyClippedComponents;
     private Map<Integer, WeakReference<View>> mDetachedViews = new HashMap<>();
     private boolean mClipComponent;
+    // Reused for the transform of every child drawn.
+    private final Matrix mChildTransform = new Matrix();
 
     /**
      * Construct an absolute layout for a Component.
@@ -157,7 +198,13 @@ public class APLAbsoluteLayout extends ViewGroup {
                 // 2. When number of children is manipulated from core in lazy loading.
 
                 if (childComponent.shouldDrawBoxShadow()) {
+                    onChildDrawsShadow();
                     mShadowRenderer.prepareShadow(childComponent);
+                    // Shadows are drawn by the parent
+                    final LayerPolicy layerPolicy = mPresenter.getLayerPolicy();
+                    if (layerPolicy != null) {
+                        layerPolicy.markExpensive(this);
+                    }
                 }
             }
         }
@@ -183,19 +230,17 @@ public class APLAbsoluteLayout extends ViewGroup {
             componentType == ComponentType.kComponentTypePager ||
             componentType == ComponentType.kComponentTypeScrollView) {
 
-            resetPath();
             if (component.getProperties().hasProperty(PropertyKey.kPropertyBorderRadii)) {
                 Radii radii = component.getProperties().getRadii(PropertyKey.kPropertyBorderRadii);
-                RectF clippingRegion = new RectF(0, 0, width, height);
+                int inset = 0;
                 // Clipping of children should take into account border width
                 if (component.getProperties().hasProperty(PropertyKey.kPropertyBorderWidth)) {
-                    int inset = component.getProperties().getDimension(PropertyKey.kPropertyBorderWidth).intValue();
-                    clippingRegion.inset(inset, inset);
+                    inset = component.getProperties().getDimension(PropertyKey.kPropertyBorderWidth).intValue();
                     radii = radii.inset(inset);
                 }
-                mPath.addRoundRect(clippingRegion, radii.toFloatArray(), Path.Direction.CW);
+                setClip(width, height, radii, inset);
             } else {
-                mPath.addRect(new RectF(0, 0, width, height), Path.Direction.CW);
+                setClip(width, height, null, 0);
             }
             for (int i = 0; i < this.getChildCount(); i++) {
                 View childView = this.getChildAt(i);
@@ -204,8 +249,7 @@ public class APLAbsoluteLayout extends ViewGroup {
                 }
             }
         } else if (isAtLeastAPL16) {
-            resetPath();
-            mPath.addRect(new RectF(0, 0, width, height), Path.Direction.CW);
+            setClip(width, height, null, 0);
         } else {
             // This is APL <= 1.5, which is subject to the clipping quirk mentioned above.
             // Check to see if the quirk is potentially impacting this component
@@ -221,11 +265,141 @@ public class APLAbsoluteLayout extends ViewGroup {
                 }
             }
             if (mClipComponent) {
-                resetPath();
-                mPath.addRect(new RectF(0, 0, width, height), Path.Direction.CW);
+                setClip(width, height, null, 0);
+            } else {
+                setClipMode(ClipMode.NONE);
+            }
+        }
+    }
+
+    /**
+     * Clips children to the given size, inset on all sides.
+     *
+     * @param radii the radii of the clip, null for a rectangle.
+     */
+    private void setClip(int width, int height, @Nullable Radii radii, int inset) {
+        mClipRect.set(inset, inset, width - inset, height - inset);
+        if (radii == null || !hasCorners(radii)) {
+            setClipMode(ClipMode.RECT);
+        } else if (inset == 0 && isUniform(radii) && !mChildrenDrawShadows) {
+            mOutlineRadius = radii.topLeft();
+            setClipMode(ClipMode.OUTLINE);
+        } else {
+            mClipPath = obtainClipPath(width, height, radii, inset);
+            setClipMode(ClipMode.PATH);
+        }
+    }
+
+    private void setClipMode(ClipMode clipMode) {
+        if (clipMode != ClipMode.PATH) {
+            mClipPath = null;
+        }
+        if (clipMode == ClipMode.OUTLINE) {
+            if (getOutlineProvider() != mClipOutlineProvider) {
+                setOutlineProvider(mClipOutlineProvider);
             } else {
-                mPath = null;
+                invalidateOutline();
+            }
+            setClipToOutline(true);
+        } else if (mClipMode == ClipMode.OUTLINE) {
+            setClipToOutline(false);
+            setOutlineProvider(ViewOutlineProvider.BACKGROUND);
+        }
+        mClipMode = clipMode;
+    }
+
+    private void onChildDrawsShadow() {
+        if (!mChildrenDrawShadows) {
+            mChildrenDrawShadows = true;
+            if (mClipMode == ClipMode.OUTLINE) {
+                requestChildClippingPathUpdate();
+                invalidate();
+            }
+        }
+    }
+
+    @VisibleForTesting
+    ClipMode getClipMode() {
+        return mClipMode;
+    }
+
+    /**
+     * @return true if this layout only draws within its bounds: its children are clipped, and the
+     * shadows it draws for them don't overflow.
+     */
+    boolean isContentWithinBounds() {
+        if (mClipMode == ClipMode.NONE || mNeedClippingPathUpdate) {
+            return false;
+        }
+        if (!mChildrenDrawShadows) {
+            return true;
+        }
+        // Shadows are drawn around the children before clipping
+        final int count = getChildCount();
+        for (int i = 0; i < count; i++) {
+            final View child = getChildAt(i);
+            final Component childComponent = mPresenter.findComponent(child);
+            if (child.getVisibility() == GONE || childComponent == null || !childComponent.shouldDrawBoxShadow()) {
+                continue;
             }
+            if (childComponent.hasTransform()) {
+                return false;
+            }
+            final int radius = childComponent.getShadowRadius();
+            final int left = child.getLeft() + childComponent.getShadowOffsetHorizontal();
+            final int top = child.getTop() + childComponent.getShadowOffsetVertical();
+            if (left - radius < 0 || top - radius < 0
+                    || left + child.getWidth() + radius > getWidth()
+                    || top + child.getHeight() + radius > getHeight()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @VisibleForTesting
+    RectF getClipRect() {
+        return mClipRect;
+    }
+
+    @VisibleForTesting
+    @Nullable
+    Path getClipPath() {
+        return mClipPath;
+    }
+
+    private static boolean hasCorners(Radii radii) {
+        return radii.topLeft() > 0 || radii.topRight() > 0
+                || radii.bottomRight() > 0 || radii.bottomLeft() > 0;
+    }
+
+    private static boolean isUniform(Radii radii) {
+        return radii.topLeft() == radii.topRight() && radii.topLeft() == radii.bottomRight()
+                && radii.topLeft() == radii.bottomLeft();
+    }
+
+    @VisibleForTesting
+    static Path obtainClipPath(int width, int height, @NonNull Radii radii, int inset) {
+        final ClipPathKey key = ClipPathKey.create(width, height, radii, inset);
+        Path path = sClipPathCache.get(key);
+        if (path == null) {
+            path = new Path();
+            path.addRoundRect(new RectF(inset, inset, width - inset, height - inset),
+                    radii.toFloatArray(), Path.Direction.CW);
+            sClipPathCache.put(key, path);
+        }
+        return path;
+    }
+
+    @AutoValue
+    abstract static class ClipPathKey {
+        abstract int width();
+        abstract int height();
+        abstract Radii radii();
+        abstract int inset();
+
+        static ClipPathKey create(int width, int height, Radii radii, int inset) {
+            return new AutoValue_APLAbsoluteLayout_ClipPathKey(width, height, radii, inset);
         }
     }
 
@@ -235,14 +409,6 @@ public class APLAbsoluteLayout extends ViewGroup {
         calculateClippingPath(width, height);
     }
 
-    private void resetPath() {
-        if (mPath == null) {
-            mPath = new Path();
-        } else {
-            mPath.rewind();
-        }
-    }
-
     private int mScrollOffsetX = 0;
     private int mScrollOffsetY = 0;
     private ScrollDirection mScrollDirection;
@@ -270,6 +436,20 @@ public class APLAbsoluteLayout extends ViewGroup {
         updateScrollPosition(scrollPosition);
     }
 
+    /**
+     * @return the horizontal scroll offset children are laid out with.
+     */
+    public int getScrollOffsetX() {
+        return mScrollOffsetX;
+    }
+
+    /**
+     * @return the vertical scroll offset children are laid out with.
+     */
+    public int getScrollOffsetY() {
+        return mScrollOffsetY;
+    }
+
     @NonNull
     @Override
     public ViewGroup.LayoutParams generateLayoutParams(AttributeSet attrs) {
@@ -376,6 +556,7 @@ public class APLAbsoluteLayout extends ViewGroup {
     protected boolean drawChild(Canvas canvas, View child, long drawingTime) {
         final Component childComponent = mPresenter.findComponent(child);
         if (childComponent != null && childComponent.shouldDrawBoxShadow()) {
+            onChildDrawsShadow();
             mShadowRenderer.drawShadow(canvas, childComponent, this);
         }
         int saveCount = canvas.save();
@@ -393,11 +574,14 @@ public class APLAbsoluteLayout extends ViewGroup {
             mNeedClippingPathUpdate = false;
         }
 
-        if (mPath != null) {
-            canvas.clipPath(mPath);
+        if (mClipMode == ClipMode.RECT) {
+            canvas.clipRect(mClipRect);
+        } else if (mClipMode == ClipMode.PATH) {
+            canvas.clipPath(mClipPath);
         }
-        if (childComponent != null && childComponent.hasTransform()) {
-            TransformUtils.applyChildTransformToParentCanvas(childComponent.getTransform(), child, canvas);
+        if (childComponent != null && childComponent.hasTransform() && !TransformUtils.hasViewTransform(child)) {
+            childComponent.getTransform(mChildTransform);
+            TransformUtils.applyChildTransformToParentCanvas(mChildTransform, child, canvas);
         }
         boolean result;
         result = super.drawChild(canvas, child, drawingTime);
@@ -0,0 +1,272 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.views;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.ColorFilter;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.PixelFormat;
+import android.graphics.RectF;
+import android.graphics.Shader;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.collection.LruCache;
+
+import com.amazon.apl.android.primitive.Radii;
+import com.google.auto.value.AutoValue;
+
+/**
+ * Background of a Frame: the background color or gradient inside the border, and the border.
+ *
+ * Both are drawn in a single pass from geometry that only depends on the size, border radii and
+ * border width of the Frame. The geometry is immutable and shared between all Frames with the same
+ * shape. Layers that wouldn't be visible are not drawn at all.
+ */
+public class FrameBackgroundDrawable extends Drawable {
+    // Frames of a document tend to come in a handful of shapes, e.g. the items of a Sequence.
+    private static final int GEOMETRY_CACHE_SIZE = 128;
+
+    private static final LruCache<GeometryKey, Geometry> sGeometryCache = new LruCache<>(GEOMETRY_CACHE_SIZE);
+
+    private final Paint mBackgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint mBorderPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    private int mBackgroundColor = Color.TRANSPARENT;
+    @Nullable
+    private Shader mBackgroundShader;
+    private int mBorderColor = Color.TRANSPARENT;
+    private float mBorderWidth;
+    @Nullable
+    private Radii mBorderRadii;
+    private int mAlpha = 255;
+
+    // Looked up on the next draw after the shape or size changes.
+    @Nullable
+    private Geometry mGeometry;
+
+    /**
+     * @param color the color filling the inside of the border, ignored while there is a shader.
+     */
+    public void setBackgroundColor(int color) {
+        if (mBackgroundColor != color) {
+            mBackgroundColor = color;
+            invalidateSelf();
+        }
+    }
+
+    /**
+     * @param shader the shader filling the inside of the border, sized to the inside of the border,
+     *               or null to fill it with the background color.
+     */
+    public void setBackgroundShader(@Nullable Shader shader) {
+        if (mBackgroundShader != shader) {
+            mBackgroundShader = shader;
+            invalidateSelf();
+        }
+    }
+
+    public void setBorderColor(int color) {
+        if (mBorderColor != color) {
+            mBorderColor = color;
+            invalidateSelf();
+        }
+    }
+
+    public void setBorderWidth(float width) {
+        if (mBorderWidth != width) {
+            mBorderWidth = width;
+            mGeometry = null;
+            invalidateSelf();
+        }
+    }
+
+    /**
+     * @param radii the outer radii of the border, or null for square corners.
+     */
+    public void setBorderRadii(@Nullable Radii radii) {
+        if (mBorderRadii == null ? radii != null : !mBorderRadii.equals(radii)) {
+            mBorderRadii = radii;
+            mGeometry = null;
+            invalidateSelf();
+        }
+    }
+
+    public int getBackgroundColor() {
+        return mBackgroundColor;
+    }
+
+    @Nullable
+    public Shader getBackgroundShader() {
+        return mBackgroundShader;
+    }
+
+    public int getBorderColor() {
+        return mBorderColor;
+    }
+
+    public float getBorderWidth() {
+        return mBorderWidth;
+    }
+
+    @Nullable
+    public Radii getBorderRadii() {
+        return mBorderRadii;
+    }
+
+    @VisibleForTesting
+    public boolean isBackgroundVisible() {
+        return mAlpha > 0 && (mBackgroundShader != null || Color.alpha(mBackgroundColor) > 0);
+    }
+
+    @VisibleForTesting
+    public boolean isBorderVisible() {
+        return mAlpha > 0 && mBorderWidth > 0 && Color.alpha(mBorderColor) > 0;
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas) {
+        final boolean drawBackground = isBackgroundVisible();
+        final boolean drawBorder = isBorderVisible();
+        if ((!drawBackground && !drawBorder) || getBounds().isEmpty()) {
+            return;
+        }
+
+        if (mGeometry == null) {
+            mGeometry = obtainGeometry(getBounds().width(), getBounds().height(), mBorderRadii, mBorderWidth);
+        }
+
+        final int saveCount = canvas.save();
+        canvas.translate(getBounds().left, getBounds().top);
+        if (drawBorder) {
+            mBorderPaint.setColor(mBorderColor);
+            mBorderPaint.setAlpha(modulateAlpha(Color.alpha(mBorderColor)));
+            canvas.drawPath(mGeometry.borderPath, mBorderPaint);
+        }
+        if (drawBackground) {
+            // The shader is sized to the inside of the border, so draw relative to it.
+            canvas.translate(mGeometry.inset, mGeometry.inset);
+            mBackgroundPaint.setShader(mBackgroundShader);
+            mBackgroundPaint.setColor(mBackgroundShader != null ? Color.BLACK : mBackgroundColor);
+            mBackgroundPaint.setAlpha(modulateAlpha(mBackgroundShader != null ? 255 : Color.alpha(mBackgroundColor)));
+            if (mGeometry.backgroundPath != null) {
+                canvas.drawPath(mGeometry.backgroundPath, mBackgroundPaint);
+            } else {
+                canvas.drawRect(mGeometry.backgroundRect, mBackgroundPaint);
+            }
+        }
+        canvas.restoreToCount(saveCount);
+    }
+
+    @Override
+    protected void onBoundsChange(android.graphics.Rect bounds) {
+        if (mGeometry != null && (mGeometry.width != bounds.width() || mGeometry.height != bounds.height())) {
+            mGeometry = null;
+        }
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        if (mAlpha != alpha) {
+            mAlpha = alpha;
+            invalidateSelf();
+        }
+    }
+
+    @Override
+    public int getAlpha() {
+        return mAlpha;
+    }
+
+    @Override
+    public void setColorFilter(@Nullable ColorFilter colorFilter) {
+        mBackgroundPaint.setColorFilter(colorFilter);
+        mBorderPaint.setColorFilter(colorFilter);
+        invalidateSelf();
+    }
+
+    @Override
+    public int getOpacity() {
+        return PixelFormat.TRANSLUCENT;
+    }
+
+    private int modulateAlpha(int alpha) {
+        return alpha * (mAlpha + (mAlpha >> 7)) >> 8;
+    }
+
+    @VisibleForTesting
+    static Geometry obtainGeometry(int width, int height, @Nullable Radii radii, float borderWidth) {
+        final GeometryKey key = GeometryKey.create(width, height, radii, borderWidth);
+        Geometry geometry = sGeometryCache.get(key);
+        if (geometry == null) {
+            geometry = new Geometry(width, height, radii, borderWidth);
+            sGeometryCache.put(key, geometry);
+        }
+        return geometry;
+    }
+
+    @AutoValue
+    abstract static class GeometryKey {
+        abstract int width();
+        abstract int height();
+        @Nullable
+        abstract Radii radii();
+        abstract float borderWidth();
+
+        static GeometryKey create(int width, int height, @Nullable Radii radii, float borderWidth) {
+            return new AutoValue_FrameBackgroundDrawable_GeometryKey(width, height, radii, borderWidth);
+        }
+    }
+
+    /**
+     * The paths of a Frame shape. Never modified once built, so it can be drawn by any number of
+     * Frames.
+     */
+    @VisibleForTesting
+    static final class Geometry {
+        final int width;
+        final int height;
+        final float inset;
+        // The border, i.e. the outer shape minus the inner shape.
+        final Path borderPath;
+        // The inner shape relative to its top left corner, null if it's a rectangle.
+        @Nullable
+        final Path backgroundPath;
+        final RectF backgroundRect;
+
+        private Geometry(int width, int height, @Nullable Radii radii, float borderWidth) {
+            this.width = width;
+            this.height = height;
+            inset = Math.min(borderWidth, Math.min(width, height) / 2f);
+
+            final RectF outer = new RectF(0, 0, width, height);
+            final RectF inner = new RectF(inset, inset, width - inset, height - inset);
+            backgroundRect = new RectF(0, 0, inner.width(), inner.height());
+
+            borderPath = new Path();
+            if (radii != null && hasCorners(radii)) {
+                final float[] innerRadii = radii.inset(inset).toFloatArray();
+                borderPath.addRoundRect(outer, radii.toFloatArray(), Path.Direction.CW);
+                borderPath.addRoundRect(inner, innerRadii, Path.Direction.CCW);
+                backgroundPath = new Path();
+                backgroundPath.addRoundRect(backgroundRect, innerRadii, Path.Direction.CW);
+            } else {
+                borderPath.addRect(outer, Path.Direction.CW);
+                borderPath.addRect(inner, Path.Direction.CCW);
+                backgroundPath = null;
+            }
+        }
+
+        private static boolean hasCorners(Radii radii) {
+            return radii.topLeft() > 0 || radii.topRight() > 0
+                    || radii.bottomRight() > 0 || radii.bottomLeft() > 0;
+        }
+    }
+}
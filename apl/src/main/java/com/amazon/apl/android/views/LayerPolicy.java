@@ -0,0 +1,354 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.views;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.DisplayMetrics;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+import androidx.annotation.VisibleForTesting;
+
+import com.amazon.apl.android.providers.ITelemetryProvider;
+import com.amazon.apl.enums.PropertyKey;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static com.amazon.apl.android.providers.ITelemetryProvider.APL_DOMAIN;
+import static com.amazon.apl.android.providers.ITelemetryProvider.Type.COUNTER;
+
+/**
+ * Decides which views of a document are rendered through hardware layers.
+ *
+ * A view group animating its opacity or transform is promoted while it animates, so that the render
+ * thread composes its cached layer instead of redrawing its children on every frame. Views with
+ * expensive static content (e.g. shadows, vector graphics, gradients) are promoted once their
+ * content has settled, and demoted as soon as it changes again. A layer clips to the bounds of
+ * its view, so only views drawing within their bounds are promoted. Layers are bounded by a memory
+ * budget, and static layers are dropped on memory pressure. Views are forgotten, and their layers
+ * dropped, when they are detached from the window or bound to a component again.
+ *
+ * This class is not thread-safe, it is only used on the UI thread.
+ */
+public class LayerPolicy implements ComponentCallbacks2 {
+    private static final String TAG = "LayerPolicy";
+    public static final String METRIC_PROMOTIONS = TAG + ".promotions";
+    public static final String METRIC_TRIMMED_LAYERS = TAG + ".trimmedLayers";
+    public static final String METRIC_PEAK_LAYER_KB = TAG + ".peakLayerKb";
+
+    // An animating layer is demoted once its view hasn't changed for this long.
+    @VisibleForTesting
+    static final long ANIMATION_IDLE_MS = 300;
+    // A static layer is promoted once its view hasn't changed for this long.
+    @VisibleForTesting
+    static final long STATIC_SETTLE_MS = 500;
+    // Layers may use at most this many screens worth of pixels.
+    private static final int LAYER_BUDGET_SCREENS = 2;
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Runnable mSweep = this::sweep;
+    private boolean mSweepScheduled;
+
+    // Weak keys, so views that were never attached aren't kept until the next sweep or release.
+    // Layered views are attached, and forgotten on detach, so their layers are always accounted.
+    private final Map<View, Record> mRecords = new WeakHashMap<>();
+    private final View.OnAttachStateChangeListener mDetachListener = new View.OnAttachStateChangeListener() {
+        @Override
+        public void onViewAttachedToWindow(@NonNull View view) {
+        }
+
+        @Override
+        public void onViewDetachedFromWindow(@NonNull View view) {
+            forget(view);
+        }
+    };
+    private final ITelemetryProvider mTelemetryProvider;
+    private final int cPromotions;
+    private final int cTrimmedLayers;
+    private long mLayerBytes;
+    private long mPeakLayerBytes;
+
+    private static final class Record {
+        // Whether the view has expensive content worth keeping in a layer while it doesn't change.
+        boolean expensive;
+        // Whether the view is currently animating its opacity or transform.
+        boolean animating;
+        long lastChangeMs;
+        // The size of the layer, 0 if the view is not layered by this policy.
+        long layerBytes;
+    }
+
+    public LayerPolicy(@NonNull ITelemetryProvider telemetryProvider) {
+        mTelemetryProvider = telemetryProvider;
+        cPromotions = telemetryProvider.createMetricId(APL_DOMAIN, METRIC_PROMOTIONS, COUNTER);
+        cTrimmedLayers = telemetryProvider.createMetricId(APL_DOMAIN, METRIC_TRIMMED_LAYERS, COUNTER);
+    }
+
+    /**
+     * Marks a view as having expensive static content, so that it gets a layer while its content
+     * doesn't change.
+     *
+     * @param view the view.
+     */
+    @UiThread
+    public void markExpensive(@NonNull View view) {
+        Record record = obtainRecord(view);
+        if (!record.expensive) {
+            record.expensive = true;
+            record.lastChangeMs = SystemClock.uptimeMillis();
+            scheduleSweep();
+        }
+    }
+
+    /**
+     * Called when properties of a view's component were applied to the view.
+     *
+     * @param view            the view.
+     * @param dirtyProperties the applied properties.
+     */
+    @UiThread
+    public void onPropertiesChanged(@NonNull View view, @NonNull List<PropertyKey> dirtyProperties) {
+        final long now = SystemClock.uptimeMillis();
+        final Record record = mRecords.get(view);
+        if (isAnimation(dirtyProperties)) {
+            if (view instanceof ViewGroup && ((ViewGroup) view).getChildCount() > 0
+                    && isContentWithinBounds(view)) {
+                Record animated = record != null ? record : obtainRecord(view);
+                animated.animating = true;
+                animated.lastChangeMs = now;
+                promote(view, animated);
+                scheduleSweep();
+            } else if (record != null) {
+                record.lastChangeMs = now;
+            }
+        } else if (record != null) {
+            record.lastChangeMs = now;
+            if (!record.animating) {
+                // The content changed, the layer would be redrawn anyway
+                demote(view, record);
+                scheduleSweep();
+            }
+        }
+
+        // A layered ancestor would redraw its layer for any change of its subtree
+        ViewParent parent = view.getParent();
+        while (parent instanceof View) {
+            final Record ancestor = mRecords.get(parent);
+            if (ancestor != null && !ancestor.animating) {
+                ancestor.lastChangeMs = now;
+                if (ancestor.layerBytes > 0) {
+                    demote((View) parent, ancestor);
+                    scheduleSweep();
+                }
+            }
+            parent = parent.getParent();
+        }
+    }
+
+    /**
+     * Demotes the layer of a view and forgets it, e.g. when the view is bound to a component again.
+     *
+     * @param view the view.
+     */
+    @UiThread
+    public void forget(@NonNull View view) {
+        final Record record = mRecords.remove(view);
+        if (record != null) {
+            demote(view, record);
+            view.removeOnAttachStateChangeListener(mDetachListener);
+        }
+    }
+
+    /**
+     * Demotes all layers and forgets all views.
+     */
+    @UiThread
+    public void release() {
+        for (Map.Entry<View, Record> entry : mRecords.entrySet()) {
+            demote(entry.getKey(), entry.getValue());
+            entry.getKey().removeOnAttachStateChangeListener(mDetachListener);
+        }
+        mRecords.clear();
+        mHandler.removeCallbacks(mSweep);
+        mSweepScheduled = false;
+        if (mPeakLayerBytes > 0) {
+            // The peak of this document, in a metric of its own rather than summed with other documents
+            final int cPeakLayerKb = mTelemetryProvider.createMetricId(APL_DOMAIN, METRIC_PEAK_LAYER_KB, COUNTER);
+            mTelemetryProvider.incrementCount(cPeakLayerKb, (int) Math.min(mPeakLayerBytes / 1024, Integer.MAX_VALUE));
+            mPeakLayerBytes = 0;
+        }
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        if (level < ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            return;
+        }
+        // Static layers are only an optimization, animating ones are dropped at the end of the animation.
+        int trimmed = 0;
+        final boolean critical = level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL;
+        for (Map.Entry<View, Record> entry : mRecords.entrySet()) {
+            final Record record = entry.getValue();
+            if (record.layerBytes > 0 && (critical || !record.animating)) {
+                demote(entry.getKey(), record);
+                // Don't promote it again right away
+                record.expensive = false;
+                trimmed++;
+            }
+        }
+        if (trimmed > 0) {
+            mTelemetryProvider.incrementCount(cTrimmedLayers, trimmed);
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+        // Layers follow the size of their views, which are laid out again.
+    }
+
+    @VisibleForTesting
+    long getLayerBytes() {
+        return mLayerBytes;
+    }
+
+    /**
+     * @return whether the view only draws within its bounds, so a layer doesn't cut off its content.
+     */
+    @VisibleForTesting
+    boolean isContentWithinBounds(View view) {
+        if (view instanceof APLAbsoluteLayout) {
+            return ((APLAbsoluteLayout) view).isContentWithinBounds();
+        }
+        if (view instanceof ViewGroup) {
+            return ((ViewGroup) view).getClipChildren();
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the view may render through a hardware layer.
+     */
+    @VisibleForTesting
+    boolean canUseLayer(View view) {
+        return view.isHardwareAccelerated();
+    }
+
+    private void sweep() {
+        mSweepScheduled = false;
+        final long now = SystemClock.uptimeMillis();
+        final Iterator<Map.Entry<View, Record>> it = mRecords.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry<View, Record> entry = it.next();
+            final View view = entry.getKey();
+            final Record record = entry.getValue();
+            if (!view.isAttachedToWindow()) {
+                demote(view, record);
+                view.removeOnAttachStateChangeListener(mDetachListener);
+                it.remove();
+                continue;
+            }
+            final long idleMs = now - record.lastChangeMs;
+            if (record.animating && idleMs >= ANIMATION_IDLE_MS) {
+                record.animating = false;
+                if (!record.expensive) {
+                    demote(view, record);
+                    view.removeOnAttachStateChangeListener(mDetachListener);
+                    it.remove();
+                    continue;
+                }
+            }
+            if (record.expensive && !record.animating && record.layerBytes == 0 && idleMs >= STATIC_SETTLE_MS) {
+                if (!isContentWithinBounds(view)) {
+                    // Checked again if the view is marked expensive again
+                    view.removeOnAttachStateChangeListener(mDetachListener);
+                    it.remove();
+                    continue;
+                }
+                promote(view, record);
+            }
+            if (record.animating || (record.expensive && record.layerBytes == 0)) {
+                mSweepScheduled = true;
+            }
+        }
+        if (mSweepScheduled) {
+            mHandler.postDelayed(mSweep, ANIMATION_IDLE_MS);
+        }
+    }
+
+    private void scheduleSweep() {
+        if (!mSweepScheduled) {
+            mSweepScheduled = true;
+            mHandler.postDelayed(mSweep, ANIMATION_IDLE_MS);
+        }
+    }
+
+    private Record obtainRecord(View view) {
+        Record record = mRecords.get(view);
+        if (record == null) {
+            record = new Record();
+            mRecords.put(view, record);
+            view.addOnAttachStateChangeListener(mDetachListener);
+        }
+        return record;
+    }
+
+    private void promote(View view, Record record) {
+        // Only attached views are layered, so that the layer is demoted when the view detaches
+        if (record.layerBytes > 0 || view.getLayerType() != View.LAYER_TYPE_NONE
+                || !view.isAttachedToWindow() || !canUseLayer(view)) {
+            return;
+        }
+        final long bytes = (long) view.getWidth() * view.getHeight() * BYTES_PER_PIXEL;
+        if (bytes == 0 || mLayerBytes + bytes > getLayerBudget(view)) {
+            return;
+        }
+        view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+        record.layerBytes = bytes;
+        mLayerBytes += bytes;
+        mPeakLayerBytes = Math.max(mPeakLayerBytes, mLayerBytes);
+        mTelemetryProvider.incrementCount(cPromotions);
+    }
+
+    private void demote(View view, Record record) {
+        if (record.layerBytes == 0) {
+            return;
+        }
+        view.setLayerType(View.LAYER_TYPE_NONE, null);
+        mLayerBytes -= record.layerBytes;
+        record.layerBytes = 0;
+    }
+
+    private static long getLayerBudget(View view) {
+        final DisplayMetrics metrics = view.getResources().getDisplayMetrics();
+        return (long) LAYER_BUDGET_SCREENS * metrics.widthPixels * metrics.heightPixels * BYTES_PER_PIXEL;
+    }
+
+    private static boolean isAnimation(List<PropertyKey> dirtyProperties) {
+        for (int i = 0; i < dirtyProperties.size(); i++) {
+            final PropertyKey key = dirtyProperties.get(i);
+            if (key != PropertyKey.kPropertyOpacity && key != PropertyKey.kPropertyTransform) {
+                return false;
+            }
+        }
+        return !dirtyProperties.isEmpty();
+    }
+}
@@ -29,6 +29,20 @@ public abstract class Viewhost {
      */
     public abstract PreparedDocument prepare(PrepareDocumentRequest request);
 
+    /**
+     * Speculatively prepare an APL document ahead of time. The prepared document is kept in a
+     * bounded pool (see {@link ViewhostConfig#getPreparedDocumentPoolSize()}) and handed out by a
+     * later call to {@link #prepare(PrepareDocumentRequest)} for the same token, or for the same
+     * document and data when no token is set. Unused documents are evicted least recently used
+     * first.
+     *
+     * @param request The request object describing the document to prepare.
+     *
+     * @return @c true if the document is pooled, @c false if speculative preparation is disabled
+     *         or the document does not fit in the pool.
+     */
+    public abstract boolean prewarm(PrepareDocumentRequest request);
+
     /**
      * Renders the document specified by the request. The request is typically processed
      * asynchronously. The returned document may not be rendered once this call returns. The
@@ -8,6 +8,7 @@ import com.amazon.alexaext.ExtensionRegistrar;
 import com.amazon.apl.viewhost.message.MessageHandler;
 import com.amazon.apl.android.dependencies.IContentRetriever;
 import com.amazon.apl.android.dependencies.IPackageLoader;
+import com.amazon.apl.android.providers.ITelemetryProvider;
 import com.google.auto.value.AutoValue;
 
 import java.util.List;
@@ -19,6 +20,8 @@ import javax.annotation.Nullable;
  */
 @AutoValue
 public abstract class ViewhostConfig {
+    private static final long DEFAULT_PREPARED_DOCUMENT_POOL_MEMORY_BUDGET = 4 * 1024 * 1024;
+
     /**
      * Default document options for prepare/render document requests that do not supply their own.
      */
@@ -68,8 +71,29 @@ public abstract class ViewhostConfig {
     @Nullable
     public abstract IContentRetriever getIContentRetriever();
 
+    /**
+     * Maximum number of speculatively prepared documents kept ready by the viewhost (defaults to
+     * 0, which disables speculative preparation).
+     *
+     * @see com.amazon.apl.viewhost.Viewhost#prewarm
+     */
+    public abstract int getPreparedDocumentPoolSize();
+
+    /**
+     * Approximate memory budget in bytes for speculatively prepared documents.
+     */
+    public abstract long getPreparedDocumentPoolMemoryBudget();
+
+    /**
+     * Telemetry provider for viewhost level metrics (optional).
+     */
+    @Nullable
+    public abstract ITelemetryProvider getTelemetryProvider();
+
     public static Builder builder() {
-        return new AutoValue_ViewhostConfig.Builder();
+        return new AutoValue_ViewhostConfig.Builder()
+                .preparedDocumentPoolSize(0)
+                .preparedDocumentPoolMemoryBudget(DEFAULT_PREPARED_DOCUMENT_POOL_MEMORY_BUDGET);
     }
 
     @AutoValue.Builder
@@ -81,6 +105,9 @@ public abstract class ViewhostConfig {
         public abstract Builder embeddedDocumentFactory(EmbeddedDocumentFactory factory);
         public abstract Builder IPackageLoader(IPackageLoader packageLoader);
         public abstract Builder IContentRetriever(IContentRetriever contentRetriever);
+        public abstract Builder preparedDocumentPoolSize(int size);
+        public abstract Builder preparedDocumentPoolMemoryBudget(long bytes);
+        public abstract Builder telemetryProvider(ITelemetryProvider telemetryProvider);
         public abstract ViewhostConfig build();
     }
 }
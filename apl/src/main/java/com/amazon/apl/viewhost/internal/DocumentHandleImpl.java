@@ -192,6 +192,7 @@ class DocumentHandleImpl extends DocumentHandle {
         ViewhostImpl viewhost = mViewhost.get();
         mCoreWorker.post(() -> {
             Action action = mDocumentContext.executeCommands(commands);
+            viewhost.markDocumentDirty(this);
             ExecuteCommandsCallback callback = request.getCallback();
             if (callback != null) {
                 if (action != null) {
@@ -243,6 +244,9 @@ class DocumentHandleImpl extends DocumentHandle {
                 } else {
                     String type = jsonObject.getString("type");
                     boolean updated = nUpdateDataSource(type,  payload, getDocumentConfig().getNativeHandle());
+                    if (viewhost != null) {
+                        viewhost.notifyDataSourceUpdated(this);
+                    }
                     if (callback != null) {
                         if (updated) {
                             viewhost.publish(() -> {
@@ -284,6 +288,10 @@ class DocumentHandleImpl extends DocumentHandle {
         final ViewhostImpl viewhost = mViewhost.get();
         if (viewhost != null) {
             viewhost.notifyDocumentStateChanged(this, state);
+            if (!isValid()) {
+                // Let the viewhost forget about the document on its next tick
+                viewhost.markDocumentDirty(this);
+            }
         }
     }
 
@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.amazon.apl.viewhost.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import com.amazon.apl.android.content.CachingPackageLoader;
+import com.amazon.apl.android.content.LruPackageCache;
+import com.amazon.apl.android.dependencies.IPackageLoader;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Resources shared by the documents of a viewhost, i.e. the host document and all of its embedded
+ * documents.
+ *
+ * Identical embedded documents tend to import the same packages (e.g. alexa-layouts), so packages
+ * are loaded and parsed once for the scope, and the same parsed {@link com.amazon.apl.android.APLJSONData}
+ * is added to every document importing it. Text layouts, images and fonts of embedded documents are
+ * already shared, as they are rendered by the host document.
+ *
+ * Embedded documents hold the scope from the time they are prepared until they finish (or are
+ * garbage collected). The shared packages are released when the last of them finishes, or when the
+ * host document finishes and no embedded document holds the scope.
+ *
+ * This class is thread-safe.
+ */
+final class DocumentResourceScope {
+    private final LruPackageCache mPackageCache;
+    private final IPackageLoader mPackageLoader;
+    // Documents holding the scope. Weak, so that documents never finished don't hold it forever.
+    private final Map<Object, Boolean> mHolders = new WeakHashMap<>();
+
+    DocumentResourceScope(@NonNull IPackageLoader packageLoader) {
+        this(packageLoader, new LruPackageCache());
+    }
+
+    @VisibleForTesting
+    DocumentResourceScope(@NonNull IPackageLoader packageLoader, @NonNull LruPackageCache packageCache) {
+        mPackageCache = packageCache;
+        mPackageLoader = new CachingPackageLoader(packageLoader, mPackageCache);
+    }
+
+    /**
+     * @return a package loader sharing packages within the scope, loading missing packages with
+     * the viewhost's package loader.
+     */
+    @NonNull
+    IPackageLoader getPackageLoader() {
+        return mPackageLoader;
+    }
+
+    /**
+     * @param packageLoader the package loader of the host document.
+     * @return a package loader sharing packages within the scope, loading missing packages with
+     * the given package loader.
+     */
+    @NonNull
+    IPackageLoader getPackageLoader(@NonNull IPackageLoader packageLoader) {
+        return new CachingPackageLoader(packageLoader, mPackageCache);
+    }
+
+    /**
+     * Holds the scope until {@link #release(Object)} is called for the same document.
+     *
+     * @param document the document.
+     */
+    synchronized void acquire(@NonNull Object document) {
+        mHolders.put(document, Boolean.TRUE);
+    }
+
+    /**
+     * Stops holding the scope, releasing the shared resources if no other document holds it.
+     * Does nothing if the document doesn't hold the scope.
+     *
+     * @param document the document.
+     */
+    synchronized void release(@NonNull Object document) {
+        if (mHolders.remove(document) != null && mHolders.isEmpty()) {
+            mPackageCache.clear();
+        }
+    }
+
+    /**
+     * Releases the shared resources if no document holds the scope.
+     */
+    synchronized void releaseIfUnused() {
+        if (mHolders.isEmpty()) {
+            mPackageCache.clear();
+        }
+    }
+
+    @VisibleForTesting
+    synchronized int getHolderCount() {
+        return mHolders.size();
+    }
+
+    @VisibleForTesting
+    int getPackageCacheSize() {
+        return mPackageCache.getSize();
+    }
+}
@@ -46,4 +46,8 @@ class PreparedDocumentImpl extends PreparedDocument {
     public DocumentHandle getHandle() {
         return mDocument;
     }
+
+    DocumentHandleImpl getHandleImpl() {
+        return mDocument;
+    }
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.amazon.apl.viewhost.internal;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.amazon.apl.android.providers.ITelemetryProvider;
+import com.amazon.apl.viewhost.config.DocumentOptions;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded pool of documents that were prepared ahead of time, so that a later prepare request for
+ * the same document can be handed a document that is already (or nearly) ready.
+ *
+ * Documents are keyed either by their token, or by a hash of the document and data payloads when
+ * there is no token. A pooled document is only handed out for the same payloads and document
+ * options it was prepared with. Pooled documents are single use: {@link #take} removes them from
+ * the pool. The pool is bounded by both a maximum number of documents and an approximate memory
+ * budget, evicting least recently used documents first. Documents removed without being handed
+ * out are finished, releasing their resources.
+ *
+ * This class is thread-safe.
+ */
+class PreparedDocumentPool {
+    private static final String TAG = "PreparedDocumentPool";
+    static final String METRIC_HIT = TAG + ".hit";
+    static final String METRIC_MISS = TAG + ".miss";
+    static final String METRIC_EVICTION = TAG + ".eviction";
+
+    private final int mMaxDocuments;
+    private final long mMemoryBudgetBytes;
+    private final ITelemetryProvider mTelemetryProvider;
+    private final int cHit;
+    private final int cMiss;
+    private final int cEviction;
+
+    // Access ordered, so iteration starts from the least recently used document.
+    private final LinkedHashMap<String, Entry> mEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long mSizeBytes = 0;
+
+    PreparedDocumentPool(int maxDocuments, long memoryBudgetBytes, @NonNull ITelemetryProvider telemetryProvider) {
+        mMaxDocuments = maxDocuments;
+        mMemoryBudgetBytes = memoryBudgetBytes;
+        mTelemetryProvider = telemetryProvider;
+        cHit = telemetryProvider.createMetricId(ITelemetryProvider.APL_DOMAIN, METRIC_HIT, ITelemetryProvider.Type.COUNTER);
+        cMiss = telemetryProvider.createMetricId(ITelemetryProvider.APL_DOMAIN, METRIC_MISS, ITelemetryProvider.Type.COUNTER);
+        cEviction = telemetryProvider.createMetricId(ITelemetryProvider.APL_DOMAIN, METRIC_EVICTION, ITelemetryProvider.Type.COUNTER);
+    }
+
+    /**
+     * @return true if the pool may hold documents.
+     */
+    boolean isEnabled() {
+        return mMaxDocuments > 0 && mMemoryBudgetBytes > 0;
+    }
+
+    /**
+     * Creates the pool key for a document. The token is used when present, otherwise a hash of
+     * the document and data payloads.
+     *
+     * @param token     the document token, may be null
+     * @param document  the document payload
+     * @param data      the data payload
+     * @return the pool key
+     */
+    @NonNull
+    static String keyFor(@Nullable String token, @NonNull String document, @NonNull String data) {
+        if (token != null && !token.isEmpty()) {
+            return "token:" + token;
+        }
+        return "hash:" + Integer.toHexString(document.hashCode()) + ":" + Integer.toHexString(data.hashCode());
+    }
+
+    /**
+     * Approximate memory held by a prepared document. The payload strings are retained on the
+     * Java heap and parsed again in native, so this counts both copies.
+     */
+    static long estimateSizeBytes(@NonNull String document, @NonNull String data) {
+        return 4L * (document.length() + data.length());
+    }
+
+    /**
+     * @param key the pool key
+     * @return true if a document is pooled for this key
+     */
+    synchronized boolean contains(@NonNull String key) {
+        return mEntries.containsKey(key);
+    }
+
+    /**
+     * @return true if a document prepared from these payloads and options is pooled for this key.
+     */
+    synchronized boolean contains(@NonNull String key, @NonNull String documentPayload, @NonNull String dataPayload,
+                                  @Nullable DocumentOptions documentOptions) {
+        Entry entry = mEntries.get(key);
+        return entry != null && entry.matches(documentPayload, dataPayload, documentOptions);
+    }
+
+    /**
+     * Adds a speculatively prepared document, evicting least recently used documents to stay
+     * within budget.
+     *
+     * @return true if the document was pooled, false if it can never fit.
+     */
+    boolean put(@NonNull String key, @NonNull PreparedDocumentImpl document,
+                @NonNull String documentPayload, @NonNull String dataPayload,
+                @Nullable DocumentOptions documentOptions) {
+        if (!isEnabled()) {
+            return false;
+        }
+        final long size = estimateSizeBytes(documentPayload, dataPayload);
+        if (size > mMemoryBudgetBytes) {
+            Log.i(TAG, "Document exceeds pool memory budget, not pooling it");
+            return false;
+        }
+
+        final List<PreparedDocumentImpl> removed = new ArrayList<>();
+        synchronized (this) {
+            Entry previous = mEntries.remove(key);
+            if (previous != null) {
+                mSizeBytes -= previous.sizeBytes;
+                removed.add(previous.document);
+            }
+            mEntries.put(key, new Entry(document, documentPayload, dataPayload, documentOptions, size));
+            mSizeBytes += size;
+            trimToBudget(removed);
+        }
+        finish(removed);
+        return true;
+    }
+
+    /**
+     * Removes and returns a pooled document matching the request, if there is one that is
+     * still valid. Reports a hit or miss.
+     *
+     * @return the pooled document, or null on a miss.
+     */
+    @Nullable
+    PreparedDocumentImpl take(@NonNull String key, @NonNull String documentPayload, @NonNull String dataPayload,
+                              @Nullable DocumentOptions documentOptions) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        final Entry entry;
+        synchronized (this) {
+            entry = mEntries.remove(key);
+            if (entry != null) {
+                mSizeBytes -= entry.sizeBytes;
+            }
+        }
+
+        // Hash keys can collide and a token may be reused for another document, so confirm the
+        // document was prepared from the same payloads and options.
+        boolean matches = entry != null && entry.matches(documentPayload, dataPayload, documentOptions);
+        if (!matches || !entry.document.getHandleImpl().isValid()) {
+            mTelemetryProvider.incrementCount(cMiss);
+            if (entry != null) {
+                finish(entry.document);
+            }
+            return null;
+        }
+
+        mTelemetryProvider.incrementCount(cHit);
+        return entry.document;
+    }
+
+    /**
+     * Removes and finishes all pooled documents.
+     */
+    void clear() {
+        final List<PreparedDocumentImpl> removed = new ArrayList<>();
+        synchronized (this) {
+            for (Entry entry : mEntries.values()) {
+                removed.add(entry.document);
+            }
+            mEntries.clear();
+            mSizeBytes = 0;
+        }
+        finish(removed);
+    }
+
+    @VisibleForTesting
+    synchronized int size() {
+        return mEntries.size();
+    }
+
+    @VisibleForTesting
+    synchronized long getSizeBytes() {
+        return mSizeBytes;
+    }
+
+    private void trimToBudget(List<PreparedDocumentImpl> evicted) {
+        Iterator<Map.Entry<String, Entry>> it = mEntries.entrySet().iterator();
+        while (it.hasNext() && (mEntries.size() > mMaxDocuments || mSizeBytes > mMemoryBudgetBytes)) {
+            Entry eldest = it.next().getValue();
+            it.remove();
+            mSizeBytes -= eldest.sizeBytes;
+            evicted.add(eldest.document);
+            mTelemetryProvider.incrementCount(cEviction);
+        }
+    }
+
+    /**
+     * Finishes documents that leave the pool without being handed out. Called outside of the pool
+     * lock, as finishing notifies the document's listeners.
+     */
+    private static void finish(List<PreparedDocumentImpl> documents) {
+        for (PreparedDocumentImpl document : documents) {
+            finish(document);
+        }
+    }
+
+    private static void finish(PreparedDocumentImpl document) {
+        DocumentHandleImpl handle = document.getHandleImpl();
+        if (handle.isValid()) {
+            handle.setDocumentState(DocumentState.FINISHED);
+        }
+    }
+
+    private static class Entry {
+        final PreparedDocumentImpl document;
+        final String documentPayload;
+        final String dataPayload;
+        @Nullable
+        final DocumentOptions documentOptions;
+        final long sizeBytes;
+
+        Entry(PreparedDocumentImpl document, String documentPayload, String dataPayload,
+              @Nullable DocumentOptions documentOptions, long sizeBytes) {
+            this.document = document;
+            this.documentPayload = documentPayload;
+            this.dataPayload = dataPayload;
+            this.documentOptions = documentOptions;
+            this.sizeBytes = sizeBytes;
+        }
+
+        boolean matches(String documentPayload, String dataPayload, @Nullable DocumentOptions documentOptions) {
+            return Objects.equals(this.documentPayload, documentPayload)
+                    && Objects.equals(this.dataPayload, dataPayload)
+                    && Objects.equals(this.documentOptions, documentOptions);
+        }
+    }
+}
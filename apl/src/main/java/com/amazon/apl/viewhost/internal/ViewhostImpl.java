@@ -8,6 +8,9 @@ import android.os.Handler;
 import android.os.Looper;
 import android.util.Log;
 
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
 import com.amazon.alexaext.ExtensionRegistrar;
 import com.amazon.apl.android.APLOptions;
 import com.amazon.apl.android.Content;
@@ -23,6 +26,7 @@ import com.amazon.apl.android.events.DataSourceFetchEvent;
 import com.amazon.apl.android.events.OpenURLEvent;
 import com.amazon.apl.android.events.RefreshEvent;
 import com.amazon.apl.android.events.SendEvent;
+import com.amazon.apl.android.providers.impl.NoOpTelemetryProvider;
 import com.amazon.apl.android.thread.Threading;
 import com.amazon.apl.viewhost.DocumentHandle;
 import com.amazon.apl.viewhost.PreparedDocument;
@@ -46,10 +50,15 @@ import com.amazon.apl.viewhost.request.RenderDocumentRequest;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -63,21 +72,78 @@ public class ViewhostImpl extends Viewhost {
     private final ViewhostConfig mConfig;
     private final Executor mRuntimeInteractionWorker;
     private final Handler mCoreWorker;
+    private final Executor mContentParseExecutor;
     private final AtomicInteger mNextMessageId;
     private static final String EMPTY = "";
 
+    /**
+     * Guards the document map and the dirty and awaiting data sets. Documents are marked dirty
+     * from core frames, events and runtime updates, which don't all run on the same thread as
+     * {@link #tick()}.
+     */
+    private final Object mDocumentsLock = new Object();
+
     /**
      * Maintain a map of documents that are known to the new viewhost. This is needed for event
      * routing.
      */
-    private final Map<Long, WeakReference<DocumentHandleImpl>> mDocumentMap;
+    private final Map<Long, DocumentReference> mDocumentMap;
+
+    /**
+     * Receives the references of documents that have been garbage collected, so that they can be
+     * dropped from the map without scanning it.
+     */
+    private final ReferenceQueue<DocumentHandleImpl> mCollectedDocuments;
+
+    /**
+     * Documents that may have changed since the last tick, keyed by document context id. Only
+     * these are checked for context changes and data source errors on the next tick.
+     */
+    private final Set<Long> mDirtyDocuments;
+
+    /**
+     * Documents that have requested data and may report a fetch error before the data arrives.
+     * These stay dirty until they get a data update or report an error.
+     */
+    private final Set<Long> mDocumentsAwaitingData;
+
+    /**
+     * Documents prepared ahead of time through {@link #prewarm(PrepareDocumentRequest)}.
+     */
+    private final PreparedDocumentPool mPreparedDocumentPool;
+
+    /**
+     * Resources shared by the host document and the embedded documents of this viewhost.
+     */
+    private final DocumentResourceScope mResourceScope;
+
+    /**
+     * Requests a frame of the host document, so changes to embedded documents are processed even
+     * when the host document is idle.
+     */
+    @Nullable
+    private Runnable mFrameRequester;
 
     public ViewhostImpl(ViewhostConfig config, Executor runtimeInteractionWorker, Handler coreWorker) {
+        this(config, runtimeInteractionWorker, coreWorker, Threading.THREAD_POOL_EXECUTOR);
+    }
+
+    public ViewhostImpl(ViewhostConfig config, Executor runtimeInteractionWorker, Handler coreWorker, Executor contentParseExecutor) {
         mConfig = config;
         mDocumentMap = new HashMap<>();
+        mCollectedDocuments = new ReferenceQueue<>();
+        mDirtyDocuments = new LinkedHashSet<>();
+        mDocumentsAwaitingData = new HashSet<>();
         mRuntimeInteractionWorker = runtimeInteractionWorker;
         mCoreWorker = coreWorker;
+        mContentParseExecutor = contentParseExecutor;
         mNextMessageId = new AtomicInteger(1);
+        mPreparedDocumentPool = new PreparedDocumentPool(
+                config.getPreparedDocumentPoolSize(),
+                config.getPreparedDocumentPoolMemoryBudget(),
+                config.getTelemetryProvider() != null ? config.getTelemetryProvider() : NoOpTelemetryProvider.getInstance());
+        IPackageLoader packageLoader = config.getIPackageLoader() == null ? (importRequest, successCallback, failureCallback) -> failureCallback.onFailure(importRequest, "Content package loading not implemented.") : config.getIPackageLoader();
+        mResourceScope = new DocumentResourceScope(packageLoader);
     }
 
     public ViewhostImpl(ViewhostConfig config) {
@@ -86,11 +152,60 @@ public class ViewhostImpl extends Viewhost {
 
     @Override
     public PreparedDocument prepare(final PrepareDocumentRequest request) {
+        String document = getDocumentPayload(request);
+        if (mPreparedDocumentPool.isEnabled()) {
+            String data = getDataPayload(request);
+            String key = PreparedDocumentPool.keyFor(request.getToken(), document, data);
+            PreparedDocumentImpl pooled = mPreparedDocumentPool.take(key, document, data, request.getDocumentOptions());
+            if (pooled != null) {
+                Log.i(TAG, "Using speculatively prepared document");
+                return pooled;
+            }
+        }
+        return prepareInternal(request, document);
+    }
+
+    @Override
+    public boolean prewarm(final PrepareDocumentRequest request) {
+        if (!mPreparedDocumentPool.isEnabled()) {
+            return false;
+        }
+
+        String document = getDocumentPayload(request);
+        String data = getDataPayload(request);
+        String key = PreparedDocumentPool.keyFor(request.getToken(), document, data);
+        if (mPreparedDocumentPool.contains(key, document, data, request.getDocumentOptions())) {
+            return true;
+        }
+        PreparedDocumentImpl prepared = prepareInternal(request, document);
+        if (!mPreparedDocumentPool.put(key, prepared, document, data, request.getDocumentOptions())) {
+            // Nobody can take it, so release it right away
+            prepared.getHandleImpl().setDocumentState(DocumentState.FINISHED);
+            return false;
+        }
+        return true;
+    }
+
+    private static String getDocumentPayload(final PrepareDocumentRequest request) {
+        return request.getDocument() != null ? ((JsonStringDecodable) request.getDocument()).getString() : EMPTY;
+    }
+
+    private static String getDataPayload(final PrepareDocumentRequest request) {
+        return request.getData() != null ? ((JsonStringDecodable) request.getData()).getString() : EMPTY;
+    }
+
+    private PreparedDocumentImpl prepareInternal(final PrepareDocumentRequest request, final String document) {
         // For first iteration of M1 milestone we are keeping the content creation in this block. May move it later
-        String document = request.getDocument() != null ? ((JsonStringDecodable) request.getDocument()).getString() : EMPTY;
         APLOptions options = createAPLOptions(request);
 
         DocumentHandleImpl handle = new DocumentHandleImpl(this, mCoreWorker);
+        // The document shares resources with the other documents until it finishes
+        mResourceScope.acquire(handle);
+        handle.registerStateChangeListener(state -> {
+            if (!handle.isValid()) {
+                mResourceScope.release(handle);
+            }
+        });
         Content.create(document, options, new Content.CallbackV2() {
 
             @Override
@@ -169,27 +284,18 @@ public class ViewhostImpl extends Viewhost {
     private APLOptions createAPLOptions(final PrepareDocumentRequest request) {
         // Since Data is optional, if it is not included, this will be serialized into a null content in APLOptions,
         // and ignored later in the content creation process
-        String data = request.getData() != null ? ((JsonStringDecodable) request.getData()).getString() : EMPTY;
+        final JsonStringDecodable data = request.getData() != null ? (JsonStringDecodable) request.getData() : new JsonStringDecodable(EMPTY);
         // In order to re-use the existing Content::Create methods creating an APLOptions instance here
         // This wil be eventually phased out in favor of other unified Viewhost APIs
-        IPackageLoader packageLoader = mConfig.getIPackageLoader() == null ? (importRequest, successCallback, failureCallback) -> failureCallback.onFailure(importRequest, "Content package loading not implemented.") : mConfig.getIPackageLoader();
         APLOptions options = APLOptions.builder()
-                .packageLoader(packageLoader)
+                .packageLoader(mResourceScope.getPackageLoader())
+                .contentParseExecutor(mContentParseExecutor)
                 .contentDataRetriever((source, successCallback, failureCallback) -> {
-                    JSONObject currentData;
-                    try {
-                        // attempts to create a JSONObject with the data to adhere with the existing implementation of contentretriever
-                        // data is bundled into APLOptions here
-                        currentData = new JSONObject(data);
-                    } catch (JSONException e) {
-                        // if data cannot be serialized into a JSONObject then use an empty object
-                        currentData = new JSONObject();
-                    }
-                    String result;
-                    if (currentData.has(source)) {
-                        result = currentData.optString(source);
-                    } else {
-                        result = currentData.toString();
+                    // The data is indexed once per request, each parameter is sliced from the index.
+                    // If data has no member for the parameter, or isn't an object, the whole object is used.
+                    String result = data.getMemberString(source);
+                    if (result == null) {
+                        result = data.getObjectString();
                     }
                     successCallback.onSuccess(source, result);
                 })
@@ -216,14 +322,98 @@ public class ViewhostImpl extends Viewhost {
      * @param handle The document handle
      */
     public void updateDocumentMap(DocumentHandle handle) {
-        cleanDocumentMap();
+        purgeCollectedDocuments();
 
         Long key = ((DocumentHandleImpl)handle).getDocumentContext().getId();
-        mDocumentMap.put(key, new WeakReference<>(((DocumentHandleImpl)handle)));
+        synchronized (mDocumentsLock) {
+            mDocumentMap.put(key, new DocumentReference(key, (DocumentHandleImpl)handle, mCollectedDocuments));
+            mDirtyDocuments.add(key);
+        }
+    }
+
+    /**
+     * Internal method for notifying viewhost that a document may have changed its visual context,
+     * data source context or data source errors, so that it is checked on the next tick.
+     *
+     * @param handle The document handle
+     */
+    public void markDocumentDirty(DocumentHandleImpl handle) {
+        DocumentContext documentContext = handle.getDocumentContext();
+        if (documentContext != null) {
+            synchronized (mDocumentsLock) {
+                mDirtyDocuments.add(documentContext.getId());
+            }
+        }
+        requestFrame();
+    }
+
+    /**
+     * Internal method for notifying viewhost that a document has received a data update, so it
+     * no longer needs to be checked for fetch errors on every tick.
+     *
+     * @param handle The document handle
+     */
+    public void notifyDataSourceUpdated(DocumentHandleImpl handle) {
+        DocumentContext documentContext = handle.getDocumentContext();
+        if (documentContext != null) {
+            synchronized (mDocumentsLock) {
+                mDocumentsAwaitingData.remove(documentContext.getId());
+                mDirtyDocuments.add(documentContext.getId());
+            }
+        }
+        requestFrame();
+    }
+
+    /**
+     * Internal method for notifying viewhost that core has processed changes during this frame.
+     * Embedded documents share core with the host document, so any of them may have changed.
+     */
+    public void markAllDocumentsDirty() {
+        synchronized (mDocumentsLock) {
+            mDirtyDocuments.addAll(mDocumentMap.keySet());
+        }
+    }
+
+    /**
+     * @return true if any document is known to the viewhost, so there is something to mark dirty.
+     */
+    public boolean hasDocuments() {
+        synchronized (mDocumentsLock) {
+            return !mDocumentMap.isEmpty();
+        }
+    }
+
+    /**
+     * Internal method for the host document to be woken up when embedded documents change.
+     *
+     * @param frameRequester requests a frame of the host document, or null once it finished.
+     */
+    public void setFrameRequester(@Nullable Runnable frameRequester) {
+        mFrameRequester = frameRequester;
+    }
+
+    /**
+     * @return true if a document needs to be checked on the next tick.
+     */
+    public boolean hasPendingTick() {
+        synchronized (mDocumentsLock) {
+            return !mDirtyDocuments.isEmpty();
+        }
+    }
+
+    private void requestFrame() {
+        final Runnable frameRequester = mFrameRequester;
+        if (frameRequester != null) {
+            frameRequester.run();
+        }
     }
 
     public void notifyRootContextFinished() {
-        for (WeakReference<DocumentHandleImpl> weakDocumentHandle : mDocumentMap.values()) {
+        final List<DocumentReference> documents;
+        synchronized (mDocumentsLock) {
+            documents = new ArrayList<>(mDocumentMap.values());
+        }
+        for (WeakReference<DocumentHandleImpl> weakDocumentHandle : documents) {
             if (null == weakDocumentHandle) {
                 continue;
             }
@@ -232,6 +422,23 @@ public class ViewhostImpl extends Viewhost {
                 document.setDocumentState(DocumentState.FINISHED);
             }
         }
+        mResourceScope.releaseIfUnused();
+    }
+
+    /**
+     * Internal method for sharing packages between the host document and its embedded documents.
+     *
+     * @param packageLoader The package loader of the host document
+     * @return A package loader that uses packages already loaded by the documents of this viewhost,
+     * and loads missing packages with the given package loader.
+     */
+    public IPackageLoader getSharedPackageLoader(@NonNull IPackageLoader packageLoader) {
+        return mResourceScope.getPackageLoader(packageLoader);
+    }
+
+    @VisibleForTesting
+    DocumentResourceScope getResourceScope() {
+        return mResourceScope;
     }
 
     /**
@@ -244,10 +451,14 @@ public class ViewhostImpl extends Viewhost {
     public boolean interceptEventIfNeeded(Event event) {
         Log.i(TAG, "intercepting event: " + event.getClass().getName());
         Long key = event.getDocumentContextId();
-        WeakReference<DocumentHandleImpl> weakDocumentHandle = mDocumentMap.get(key);
-        if (null == weakDocumentHandle) {
-            // Event is not related to a known document
-            return true;
+        final WeakReference<DocumentHandleImpl> weakDocumentHandle;
+        synchronized (mDocumentsLock) {
+            weakDocumentHandle = mDocumentMap.get(key);
+            if (null == weakDocumentHandle) {
+                // Event is not related to a known document
+                return true;
+            }
+            mDirtyDocuments.add(key);
         }
 
         DocumentHandleImpl documentHandle = weakDocumentHandle.get();
@@ -268,20 +479,17 @@ public class ViewhostImpl extends Viewhost {
         return false;
     }
 
-    public void checkAndReportDataSourceErrors() {
-        for (WeakReference<DocumentHandleImpl> weakDocumentHandle : mDocumentMap.values()) {
-            if (null == weakDocumentHandle) {
-                continue;
-            }
-            final DocumentHandleImpl document = weakDocumentHandle.get();
-            if (document != null) {
-                DocumentConfig documentConfig = document.getDocumentConfig();;
-                if (documentConfig == null && documentConfig.getNativeHandle() == 0) {
-                    Log.e(TAG, "document config does not exist, hence ignoring the request");
-                }
-                Object errors = nGetDataSourceErrors(document.getDocumentConfig().getNativeHandle());
-                handleDataErrorRequest(document, errors);
+    private void checkAndReportDataSourceErrors(Long key, DocumentHandleImpl document) {
+        DocumentConfig documentConfig = document.getDocumentConfig();
+        if (documentConfig == null || documentConfig.getNativeHandle() == 0) {
+            return;
+        }
+        Object errors = nGetDataSourceErrors(documentConfig.getNativeHandle());
+        if (errors != null) {
+            synchronized (mDocumentsLock) {
+                mDocumentsAwaitingData.remove(key);
             }
+            handleDataErrorRequest(document, errors);
         }
     }
 
@@ -307,17 +515,38 @@ public class ViewhostImpl extends Viewhost {
     }
 
     /**
-     * Tick in frame loop (bridged from RootContext)
+     * Tick in frame loop (bridged from RootContext). Only documents marked dirty since the last
+     * tick are checked.
      */
     public void tick() {
-        MessageHandler handler = mConfig.getMessageHandler();
-        if (null == handler) {
-            return;
+        purgeCollectedDocuments();
+        final Long[] keys;
+        final DocumentReference[] references;
+        synchronized (mDocumentsLock) {
+            if (mDirtyDocuments.isEmpty()) {
+                return;
+            }
+            keys = mDirtyDocuments.toArray(new Long[0]);
+            mDirtyDocuments.clear();
+            references = new DocumentReference[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                references[i] = mDocumentMap.get(keys[i]);
+            }
         }
 
-        for (WeakReference<DocumentHandleImpl> weakHandle : mDocumentMap.values()) {
-            DocumentHandleImpl handle = weakHandle.get();
+        MessageHandler handler = mConfig.getMessageHandler();
+        for (int i = 0; i < keys.length; i++) {
+            final Long key = keys[i];
+            DocumentHandleImpl handle = references[i] != null ? references[i].get() : null;
             if (null == handle || !handle.isValid()) {
+                // Expired documents are forgotten, they can't change anymore
+                forgetDocument(key);
+                continue;
+            }
+
+            checkAndReportDataSourceErrors(key, handle);
+
+            if (null == handler) {
                 continue;
             }
 
@@ -329,6 +558,9 @@ public class ViewhostImpl extends Viewhost {
                 notifyDataSourceContextChanged(handler, handle);
             }
         }
+        synchronized (mDocumentsLock) {
+            mDirtyDocuments.addAll(mDocumentsAwaitingData);
+        }
     }
 
     private void notifyVisualContextChanged(MessageHandler handler, DocumentHandle handle) {
@@ -373,22 +605,30 @@ public class ViewhostImpl extends Viewhost {
     }
 
     /**
-     * Clean up expired documents from the map. We can forget about documents that have entered a
-     * terminal state (are no longer valid). We can also forget about documents that have been
-     * garbage collected.
+     * Clean up documents that have been garbage collected, as reported by the reference queue.
+     * Documents that have entered a terminal state (are no longer valid) are forgotten when they
+     * are next ticked.
      */
-    private void cleanDocumentMap() {
-        Iterator<Map.Entry<Long, WeakReference<DocumentHandleImpl>>> it =
-                mDocumentMap.entrySet().iterator();
-        while (it.hasNext()) {
-            Map.Entry<Long, WeakReference<DocumentHandleImpl>> entry = it.next();
-            DocumentHandle handle = entry.getValue().get();
-            if (null == handle || !handle.isValid()) {
-                it.remove();
+    private void purgeCollectedDocuments() {
+        DocumentReference reference;
+        while ((reference = (DocumentReference) mCollectedDocuments.poll()) != null) {
+            synchronized (mDocumentsLock) {
+                // The document context may have been reassigned to another handle since
+                if (mDocumentMap.get(reference.key) == reference) {
+                    forgetDocument(reference.key);
+                }
             }
         }
     }
 
+    private void forgetDocument(Long key) {
+        synchronized (mDocumentsLock) {
+            mDocumentMap.remove(key);
+            mDirtyDocuments.remove(key);
+            mDocumentsAwaitingData.remove(key);
+        }
+    }
+
     private boolean handle(DocumentHandleImpl document, DataSourceFetchEvent event) {
         if (null == document) {
             Log.w(TAG, "Received DataSourceFetchEvent for expired document handle, ignoring it");
@@ -403,6 +643,7 @@ public class ViewhostImpl extends Viewhost {
         }
 
         Log.i(TAG, "Overriding DataSourceFetchEvent callback to route to message handler");
+        final Long key = event.getDocumentContextId();
         event.overrideCallback(new IDataSourceFetchCallback() {
             @Override
             public void onDataSourceFetchRequest(String type, Map<String, Object> payload) {
@@ -424,6 +665,11 @@ public class ViewhostImpl extends Viewhost {
                         new ActionMessageImpl(mNextMessageId.getAndIncrement(), document,
                                 "FetchDataRequest", messagePayload);
                 mRuntimeInteractionWorker.execute(() -> handler.handleAction(actionMessage));
+                // The fetch may time out, keep checking the document for errors until data arrives
+                synchronized (mDocumentsLock) {
+                    mDocumentsAwaitingData.add(key);
+                    mDirtyDocuments.add(key);
+                }
             }
         });
 
@@ -543,4 +789,17 @@ public class ViewhostImpl extends Viewhost {
         return true;
     }
     private static native Object nGetDataSourceErrors(long nativeHandle);
+
+    /**
+     * Weak reference to a document that remembers its key in the document map, so that it can be
+     * removed once the document has been garbage collected.
+     */
+    private static class DocumentReference extends WeakReference<DocumentHandleImpl> {
+        final Long key;
+
+        DocumentReference(Long key, DocumentHandleImpl handle, ReferenceQueue<DocumentHandleImpl> queue) {
+            super(handle, queue);
+            this.key = key;
+        }
+    }
 }
@@ -0,0 +1,284 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.amazon.apl.viewhost.primitives;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of the top-level members of a JSON object string, built in a single scan of the string
+ * without materializing any values. Values are kept as ranges of the string and sliced out on
+ * demand, so looking up a member never re-scans the whole string.
+ *
+ * Only strict JSON is indexed, see {@link #build(String)}.
+ */
+final class JsonObjectIndex {
+    private final String mJson;
+    // member name -> {start, end} of the value in mJson
+    private final Map<String, int[]> mMembers;
+
+    private JsonObjectIndex(String json, Map<String, int[]> members) {
+        mJson = json;
+        mMembers = members;
+    }
+
+    /**
+     * Scans a JSON object string.
+     *
+     * @param json the string.
+     * @return the index, or null if the string is not a strict JSON object or has duplicate
+     * member names.
+     */
+    @Nullable
+    static JsonObjectIndex build(@NonNull String json) {
+        Map<String, int[]> members = new HashMap<>();
+        int pos = skipWhitespace(json, 0);
+        if (pos >= json.length() || json.charAt(pos) != '{') {
+            return null;
+        }
+        pos = skipWhitespace(json, pos + 1);
+        if (pos < json.length() && json.charAt(pos) == '}') {
+            pos++;
+        } else {
+            while (true) {
+                final int nameEnd = skipString(json, pos);
+                if (nameEnd < 0) {
+                    return null;
+                }
+                final String name = decodeString(json, pos, nameEnd);
+                pos = skipWhitespace(json, nameEnd);
+                if (pos >= json.length() || json.charAt(pos) != ':') {
+                    return null;
+                }
+                final int valueStart = skipWhitespace(json, pos + 1);
+                final int valueEnd = skipValue(json, valueStart);
+                if (valueEnd < 0 || members.put(name, new int[] {valueStart, valueEnd}) != null) {
+                    return null;
+                }
+                pos = skipWhitespace(json, valueEnd);
+                if (pos >= json.length()) {
+                    return null;
+                }
+                final char c = json.charAt(pos++);
+                if (c == '}') {
+                    break;
+                } else if (c != ',') {
+                    return null;
+                }
+                pos = skipWhitespace(json, pos);
+            }
+        }
+        return skipWhitespace(json, pos) == json.length() ? new JsonObjectIndex(json, members) : null;
+    }
+
+    /**
+     * Gets a member value the way {@link org.json.JSONObject#optString(String)} does, i.e. strings
+     * are unquoted and other values are returned as their JSON text.
+     *
+     * @param name the member name.
+     * @return the member value, or null if there is no such member.
+     */
+    @Nullable
+    String getString(@NonNull String name) {
+        final int[] range = mMembers.get(name);
+        if (range == null) {
+            return null;
+        }
+        return mJson.charAt(range[0]) == '"'
+                ? decodeString(mJson, range[0], range[1])
+                : mJson.substring(range[0], range[1]);
+    }
+
+    /**
+     * @return the end of the value starting at pos, or -1 if there is no valid value.
+     */
+    private static int skipValue(String json, int pos) {
+        if (pos >= json.length()) {
+            return -1;
+        }
+        switch (json.charAt(pos)) {
+            case '{':
+                return skipContainer(json, pos, '}', true);
+            case '[':
+                return skipContainer(json, pos, ']', false);
+            case '"':
+                return skipString(json, pos);
+            case 't':
+                return skipLiteral(json, pos, "true");
+            case 'f':
+                return skipLiteral(json, pos, "false");
+            case 'n':
+                return skipLiteral(json, pos, "null");
+            default:
+                return skipNumber(json, pos);
+        }
+    }
+
+    private static int skipContainer(String json, int pos, char close, boolean isObject) {
+        pos = skipWhitespace(json, pos + 1);
+        if (pos < json.length() && json.charAt(pos) == close) {
+            return pos + 1;
+        }
+        while (true) {
+            if (isObject) {
+                pos = skipString(json, pos);
+                if (pos < 0) {
+                    return -1;
+                }
+                pos = skipWhitespace(json, pos);
+                if (pos >= json.length() || json.charAt(pos) != ':') {
+                    return -1;
+                }
+                pos = skipWhitespace(json, pos + 1);
+            }
+            pos = skipValue(json, pos);
+            if (pos < 0) {
+                return -1;
+            }
+            pos = skipWhitespace(json, pos);
+            if (pos >= json.length()) {
+                return -1;
+            }
+            final char c = json.charAt(pos++);
+            if (c == close) {
+                return pos;
+            } else if (c != ',') {
+                return -1;
+            }
+            pos = skipWhitespace(json, pos);
+        }
+    }
+
+    private static int skipString(String json, int pos) {
+        if (pos >= json.length() || json.charAt(pos) != '"') {
+            return -1;
+        }
+        pos++;
+        while (pos < json.length()) {
+            final char c = json.charAt(pos++);
+            if (c == '"') {
+                return pos;
+            } else if (c < 0x20) {
+                return -1;
+            } else if (c == '\\') {
+                if (pos >= json.length()) {
+                    return -1;
+                }
+                final char escaped = json.charAt(pos++);
+                if (escaped == 'u') {
+                    for (int i = 0; i < 4; i++, pos++) {
+                        if (pos >= json.length() || !isHexDigit(json.charAt(pos))) {
+                            return -1;
+                        }
+                    }
+                } else if ("\"\\/bfnrt".indexOf(escaped) < 0) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static int skipLiteral(String json, int pos, String literal) {
+        return json.startsWith(literal, pos) ? pos + literal.length() : -1;
+    }
+
+    private static int skipNumber(String json, int pos) {
+        if (pos < json.length() && json.charAt(pos) == '-') {
+            pos++;
+        }
+        if (pos < json.length() && json.charAt(pos) == '0') {
+            pos++;
+        } else {
+            final int digitsStart = pos;
+            pos = skipDigits(json, pos);
+            if (pos == digitsStart) {
+                return -1;
+            }
+        }
+        if (pos < json.length() && json.charAt(pos) == '.') {
+            final int digitsStart = ++pos;
+            pos = skipDigits(json, pos);
+            if (pos == digitsStart) {
+                return -1;
+            }
+        }
+        if (pos < json.length() && (json.charAt(pos) == 'e' || json.charAt(pos) == 'E')) {
+            pos++;
+            if (pos < json.length() && (json.charAt(pos) == '+' || json.charAt(pos) == '-')) {
+                pos++;
+            }
+            final int digitsStart = pos;
+            pos = skipDigits(json, pos);
+            if (pos == digitsStart) {
+                return -1;
+            }
+        }
+        return pos;
+    }
+
+    private static int skipDigits(String json, int pos) {
+        while (pos < json.length() && json.charAt(pos) >= '0' && json.charAt(pos) <= '9') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int skipWhitespace(String json, int pos) {
+        while (pos < json.length()) {
+            final char c = json.charAt(pos);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Decodes a string validated by {@link #skipString(String, int)}.
+     */
+    private static String decodeString(String json, int start, int end) {
+        // Skip the quotes
+        start++;
+        end--;
+        final int firstEscape = json.indexOf('\\', start);
+        if (firstEscape < 0 || firstEscape >= end) {
+            return json.substring(start, end);
+        }
+        StringBuilder sb = new StringBuilder(end - start);
+        sb.append(json, start, firstEscape);
+        for (int pos = firstEscape; pos < end; pos++) {
+            char c = json.charAt(pos);
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            c = json.charAt(++pos);
+            switch (c) {
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'u':
+                    sb.append((char) Integer.parseInt(json.substring(pos + 1, pos + 5), 16));
+                    pos += 4;
+                    break;
+                default:
+                    sb.append(c);
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+}
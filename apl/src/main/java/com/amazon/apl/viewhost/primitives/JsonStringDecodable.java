@@ -4,17 +4,35 @@
  */
 package com.amazon.apl.viewhost.primitives;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
 import com.amazon.apl.viewhost.primitives.Decodable;
 import com.amazon.apl.viewhost.primitives.decoder.KeyedContainerDecoder;
 import com.amazon.apl.viewhost.primitives.decoder.SingleValueDecoder;
 import com.amazon.apl.viewhost.primitives.decoder.UnkeyedContainerDecoder;
 import com.amazon.apl.viewhost.primitives.transcoder.Transcoder;
 
+import org.json.JSONException;
+import org.json.JSONObject;
+
 /**
  * Shim for the decodable contract that wraps a JSON-encoded string.
+ *
+ * If the string is a JSON object, its members can be read with {@link #getMemberString(String)}.
+ * The string is scanned once, on first access, into an index of member values, so reading
+ * several members of a large payload doesn't parse it more than once.
  */
 public class JsonStringDecodable implements Decodable {
+    private static final String EMPTY_OBJECT = "{}";
+
     private final String mJsonString;
+    // Built on first access, one of the two is set once mIsIndexed is true.
+    private boolean mIsIndexed;
+    @Nullable
+    private JsonObjectIndex mIndex;
+    @Nullable
+    private JSONObject mLenientObject;
 
     public JsonStringDecodable(String jsonString) {
         mJsonString = jsonString;
@@ -43,4 +61,51 @@ public class JsonStringDecodable implements Decodable {
     public String getString() {
         return mJsonString;
     }
+
+    /**
+     * Gets a member of the wrapped JSON object as {@link JSONObject#optString(String)} does, i.e.
+     * strings are unquoted and other values are returned as JSON.
+     *
+     * @param name the member name.
+     * @return the member, or null if the string is not a JSON object or has no such member.
+     */
+    @Nullable
+    public synchronized String getMemberString(@NonNull String name) {
+        ensureIndexed();
+        if (mIndex != null) {
+            return mIndex.getString(name);
+        }
+        return mLenientObject != null && mLenientObject.has(name) ? mLenientObject.optString(name) : null;
+    }
+
+    /**
+     * @return the wrapped JSON object, or an empty object if the string is not a JSON object.
+     */
+    @NonNull
+    public synchronized String getObjectString() {
+        ensureIndexed();
+        if (mIndex != null) {
+            return mJsonString;
+        }
+        return mLenientObject != null ? mLenientObject.toString() : EMPTY_OBJECT;
+    }
+
+    private void ensureIndexed() {
+        if (mIsIndexed) {
+            return;
+        }
+        mIsIndexed = true;
+        if (mJsonString == null) {
+            return;
+        }
+        mIndex = JsonObjectIndex.build(mJsonString);
+        if (mIndex == null) {
+            // Not strict JSON, fall back to the lenient org.json parser.
+            try {
+                mLenientObject = new JSONObject(mJsonString);
+            } catch (JSONException e) {
+                mLenientObject = null;
+            }
+        }
+    }
 }
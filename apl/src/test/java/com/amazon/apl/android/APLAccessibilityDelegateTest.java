@@ -23,17 +23,20 @@ import org.junit.Test;
 import org.mockito.Mock;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -395,6 +398,8 @@ public class APLAccessibilityDelegateTest extends ViewhostRobolectricTest {
         assertTrue(mNode.isChecked());
 
         // a role not as checkable
+        AccessibilitySnapshot.invalidate(mComponent);
+        mNode = AccessibilityNodeInfoCompat.obtain();
         configureRoleInNode(Role.kRoleButton);
 
         assertFalse(mNode.isChecked());
@@ -564,6 +569,44 @@ public class APLAccessibilityDelegateTest extends ViewhostRobolectricTest {
         verify(mComponent, never()).update(eq(UpdateType.kUpdateAccessibilityAction), anyString()); // it should NOT call update with APL Action's name
     }
 
+    @Test
+    public void test_snapshot_cachedBetweenQueries() {
+        configureActionInNode("thumbsup", "Mark positively");
+        AccessibilityNodeInfoCompat.AccessibilityActionCompat action = mNode.getActionList().get(0);
+
+        AccessibilityNodeInfoCompat node2 = AccessibilityNodeInfoCompat.obtain();
+        mAccessibilityDelegate.onInitializeAccessibilityNodeInfo(mView, node2);
+
+        // core is only read once, and the action objects are reused
+        verify(mComponent, times(1)).getAccessibilityActions();
+        verify(mComponent, times(1)).getRole();
+        assertSame(action, node2.getActionList().get(0));
+    }
+
+    @Test
+    public void test_snapshot_invalidatedByDirtyProperty() {
+        configureRoleInNode(Role.kRoleButton);
+        assertEquals("android.widget.Button", mNode.getClassName());
+
+        assertFalse(AccessibilitySnapshot.isInvalidatedBy(Collections.singletonList(PropertyKey.kPropertyBounds)));
+        assertTrue(AccessibilitySnapshot.isInvalidatedBy(Arrays.asList(PropertyKey.kPropertyBounds, PropertyKey.kPropertyRole)));
+        AccessibilitySnapshot.invalidate(mComponent);
+
+        mNode = AccessibilityNodeInfoCompat.obtain();
+        configureRoleInNode(Role.kRoleText);
+        assertEquals("android.widget.TextView", mNode.getClassName());
+    }
+
+    @Test
+    public void test_customAction_idStableAcrossSnapshots() {
+        configureActionInNode("thumbsup", "Mark positively");
+        AccessibilitySnapshot.invalidate(mComponent);
+        mNode = AccessibilityNodeInfoCompat.obtain();
+        configureActionInNode("thumbsup", "Mark positively");
+
+        assertEquals(0x3f000000, mNode.getActionList().get(0).getId());
+    }
+
     private void configureRoleInNode(Role role) {
         when(mComponent.getRole()).thenReturn(role);
         mAccessibilityDelegate.onInitializeAccessibilityNodeInfo(mView, mNode);
@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android;
+
+import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class APLChoreographerTest extends ViewhostRobolectricTest {
+    private static final long FRAME_TIME = TimeUnit.SECONDS.toNanos(10);
+    private static final long VSYNC_INTERVAL = TimeUnit.MILLISECONDS.toNanos(16);
+
+    private int mTicks = 0;
+    private long mIdleDelay = 0;
+    private APLChoreographer mClock;
+
+    private void onTick(long frameTime) {
+        mTicks++;
+        if (mIdleDelay != 0) {
+            mClock.idle(mIdleDelay);
+        }
+    }
+
+    @Test
+    public void testDefault_ignoresIdle() {
+        mClock = new APLChoreographer(this::onTick);
+        mIdleDelay = Long.MAX_VALUE;
+        mClock.start();
+
+        mClock.doFrame(FRAME_TIME);
+
+        assertEquals(1, mTicks);
+        assertTrue(mClock.scheduled);
+    }
+
+    @Test
+    public void testAdaptive_idleUntilWoken() {
+        mClock = APLChoreographer.adaptive(this::onTick, 0);
+        mIdleDelay = Long.MAX_VALUE;
+        mClock.start();
+
+        mClock.doFrame(FRAME_TIME);
+        assertEquals(1, mTicks);
+        assertFalse(mClock.scheduled);
+
+        mClock.wake();
+        assertTrue(mClock.scheduled);
+    }
+
+    @Test
+    public void testAdaptive_idleForDelay_schedulesDelayedFrame() {
+        mClock = APLChoreographer.adaptive(this::onTick, 0);
+        mIdleDelay = 500;
+        mClock.start();
+
+        mClock.doFrame(FRAME_TIME);
+
+        assertTrue(mClock.scheduled);
+    }
+
+    @Test
+    public void testAdaptive_wakeWhenStopped_doesNothing() {
+        mClock = APLChoreographer.adaptive(this::onTick, 0);
+
+        mClock.wake();
+
+        assertFalse(mClock.scheduled);
+    }
+
+    @Test
+    public void testAdaptive_maxFrameRate_dropsFrames() {
+        mClock = APLChoreographer.adaptive(this::onTick, 30);
+        mClock.start();
+
+        mClock.doFrame(FRAME_TIME);
+        mClock.doFrame(FRAME_TIME + VSYNC_INTERVAL);
+        mClock.doFrame(FRAME_TIME + 3 * VSYNC_INTERVAL);
+
+        assertEquals(2, mTicks);
+        assertTrue(mClock.scheduled);
+    }
+
+    @Test
+    public void testAdaptive_maxFrameRate_waitsOutInterval() {
+        mClock = APLChoreographer.adaptive(this::onTick, 30);
+        mClock.start();
+
+        mClock.doFrame(FRAME_TIME);
+        mClock.doFrame(FRAME_TIME + VSYNC_INTERVAL);
+
+        // Dropped, the next frame is 33ms after the last tick
+        assertEquals(1, mTicks);
+        assertTrue(mClock.scheduled);
+        assertEquals(17, mClock.scheduledDelayMs);
+    }
+
+    @Test
+    public void testSupportsIdle() {
+        assertFalse(new APLChoreographer(this::onTick).supportsIdle());
+        assertTrue(APLChoreographer.adaptive(this::onTick, 0).supportsIdle());
+    }
+}
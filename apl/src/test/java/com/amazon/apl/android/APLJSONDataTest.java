@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android;
+
+import static com.amazon.apl.android.providers.ITelemetryProvider.APL_DOMAIN;
+import static com.amazon.apl.android.providers.ITelemetryProvider.Type.COUNTER;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazon.apl.android.providers.ITelemetryProvider;
+import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.nio.charset.StandardCharsets;
+
+public class APLJSONDataTest extends ViewhostRobolectricTest {
+    private static final String PACKAGE = "{" +
+            "  \"type\": \"APL\"," +
+            "  \"version\": \"2023.3\"," +
+            "  \"resources\": [{\"strings\": {\"greeting\": \"Hello\"}}]" +
+            "}";
+    private static final int HIT_METRIC = 1;
+    private static final int MISS_METRIC = 2;
+    private static final int BYTES_SAVED_METRIC = 3;
+
+    @Mock
+    private ITelemetryProvider mTelemetryProvider;
+
+    @Before
+    public void setup() {
+        when(mTelemetryProvider.createMetricId(APL_DOMAIN, "APLJSONData.parseCacheHit", COUNTER)).thenReturn(HIT_METRIC);
+        when(mTelemetryProvider.createMetricId(APL_DOMAIN, "APLJSONData.parseCacheMiss", COUNTER)).thenReturn(MISS_METRIC);
+        when(mTelemetryProvider.createMetricId(APL_DOMAIN, "APLJSONData.parseCacheBytesSaved", COUNTER)).thenReturn(BYTES_SAVED_METRIC);
+        // Start from a clean slate
+        APLJSONData.reportMetrics(mTelemetryProvider);
+        clearInvocations(mTelemetryProvider);
+    }
+
+    @Test
+    public void testIdenticalContentParsedOnce() {
+        APLJSONData first = APLJSONData.create(PACKAGE);
+        APLJSONData second = APLJSONData.create(PACKAGE);
+
+        // Each JSONData has its own handle to the shared parsed tree
+        assertNotEquals(first.getNativeHandle(), second.getNativeHandle());
+
+        APLJSONData.reportMetrics(mTelemetryProvider);
+        verify(mTelemetryProvider).incrementCount(HIT_METRIC, 1);
+        verify(mTelemetryProvider).incrementCount(MISS_METRIC, 1);
+        verify(mTelemetryProvider).incrementCount(BYTES_SAVED_METRIC, PACKAGE.length());
+    }
+
+    @Test
+    public void testByteArrayContentShared() {
+        APLJSONData fromString = APLJSONData.create(PACKAGE);
+        APLJSONData fromBytes = APLJSONData.create(PACKAGE.getBytes(StandardCharsets.UTF_8));
+        assertNotNull(fromString);
+        assertNotNull(fromBytes);
+
+        APLJSONData.reportMetrics(mTelemetryProvider);
+        verify(mTelemetryProvider).incrementCount(HIT_METRIC, 1);
+        verify(mTelemetryProvider).incrementCount(MISS_METRIC, 1);
+    }
+
+    @Test
+    public void testDifferentContentNotShared() {
+        APLJSONData first = APLJSONData.create(PACKAGE);
+        APLJSONData second = APLJSONData.create(PACKAGE.replace("Hello", "Howdy"));
+        assertNotNull(first);
+        assertNotNull(second);
+
+        APLJSONData.reportMetrics(mTelemetryProvider);
+        verify(mTelemetryProvider, never()).incrementCount(eq(HIT_METRIC), anyInt());
+        verify(mTelemetryProvider, never()).incrementCount(eq(BYTES_SAVED_METRIC), anyInt());
+        verify(mTelemetryProvider).incrementCount(MISS_METRIC, 2);
+    }
+}
@@ -21,6 +21,7 @@ import android.view.accessibility.AccessibilityManager;
 
 import com.amazon.apl.android.bitmap.IBitmapCache;
 import com.amazon.apl.android.configuration.ConfigurationChange;
+import com.amazon.apl.android.graphic.DirtyGraphicIds;
 import com.amazon.apl.android.graphic.GraphicContainerElement;
 import com.amazon.apl.android.helper.LinearGradientWrapper;
 import com.amazon.apl.android.helper.RadialGradientWrapper;
@@ -48,7 +49,6 @@ import org.mockito.Mock;
 import org.robolectric.RuntimeEnvironment;
 
 import java.util.Arrays;
-import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -268,16 +268,16 @@ public class APLLayoutTest extends ViewhostRobolectricTest {
         VectorGraphic graphic = mock(VectorGraphic.class);
         GraphicContainerElement gce = mock(GraphicContainerElement.class);
 
-        final Set<Integer> dirtyGraphics = Set.of(1);
+        final DirtyGraphicIds dirtyGraphics = DirtyGraphicIds.of(1);
 
         when(graphic.getComponentId()).thenReturn("1001");
         when(graphic.getComponentType()).thenReturn(ComponentType.kComponentTypeVectorGraphic);
-        when(graphic.getDirtyGraphics()).thenReturn(dirtyGraphics);
+        when(graphic.getDirtyGraphicIds()).thenReturn(dirtyGraphics);
         when(graphic.getOrCreateGraphicContainerElement()).thenReturn(gce);
 
         APLLayout view = new APLLayout(RuntimeEnvironment.systemContext, false);
         view.getPresenter().onComponentChange(graphic, Arrays.asList(new PropertyKey[]{ }));
-        verify(gce).applyDirtyProperties(any(Set.class));
+        verify(gce).applyDirtyProperties(dirtyGraphics);
     }
 
     @Test
@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android;
+
+import android.content.ComponentCallbacks2;
+
+import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DocumentStateCacheTest extends ViewhostRobolectricTest {
+    private static final long DOCUMENT_SIZE = 1000;
+
+    private DocumentStateCache mCache;
+
+    @Before
+    public void setup() {
+        mCache = new DocumentStateCache(3, 10 * DOCUMENT_SIZE);
+    }
+
+    @Test
+    public void testPut_releasesViewResources() {
+        DocumentState state = createState(DOCUMENT_SIZE);
+
+        assertTrue(mCache.put("a", state));
+
+        verify(state).releaseViewResources();
+        assertSame(state, mCache.get("a"));
+        assertEquals(DOCUMENT_SIZE, mCache.getApproximateMemoryBytes());
+    }
+
+    @Test
+    public void testPut_evictsLeastRecentlyUsedOverCount() {
+        DocumentState a = createState(DOCUMENT_SIZE);
+        mCache.put("a", a);
+        mCache.put("b", createState(DOCUMENT_SIZE));
+        mCache.put("c", createState(DOCUMENT_SIZE));
+
+        // Touch "a" so that "b" is the least recently used.
+        mCache.get("a");
+        mCache.put("d", createState(DOCUMENT_SIZE));
+
+        assertEquals(3, mCache.size());
+        assertSame(a, mCache.get("a"));
+        assertNull(mCache.get("b"));
+    }
+
+    @Test
+    public void testPut_evictsOverMemoryBudget() {
+        mCache.put("a", createState(4 * DOCUMENT_SIZE));
+        mCache.put("b", createState(4 * DOCUMENT_SIZE));
+        mCache.put("c", createState(4 * DOCUMENT_SIZE));
+
+        assertEquals(2, mCache.size());
+        assertNull(mCache.get("a"));
+    }
+
+    @Test
+    public void testPut_tooLarge_notCached() {
+        assertFalse(mCache.put("a", createState(11 * DOCUMENT_SIZE)));
+        assertEquals(0, mCache.size());
+    }
+
+    @Test
+    public void testRemove() {
+        DocumentState state = createState(DOCUMENT_SIZE);
+        mCache.put("a", state);
+
+        assertSame(state, mCache.remove("a"));
+        assertNull(mCache.remove("a"));
+        assertEquals(0, mCache.size());
+    }
+
+    @Test
+    public void testOnTrimMemory_runningCritical_evictsHalf() {
+        mCache.put("a", createState(DOCUMENT_SIZE));
+        mCache.put("b", createState(DOCUMENT_SIZE));
+
+        mCache.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+        assertEquals(2, mCache.size());
+
+        mCache.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+        assertEquals(1, mCache.size());
+        assertNull(mCache.get("a"));
+    }
+
+    @Test
+    public void testOnTrimMemory_complete_evictsAll() {
+        mCache.put("a", createState(DOCUMENT_SIZE));
+        mCache.put("b", createState(DOCUMENT_SIZE));
+
+        mCache.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+
+        assertEquals(0, mCache.size());
+    }
+
+    private static DocumentState createState(long sizeBytes) {
+        DocumentState state = mock(DocumentState.class);
+        when(state.getApproximateMemoryBytes()).thenReturn(sizeBytes);
+        return state;
+    }
+}
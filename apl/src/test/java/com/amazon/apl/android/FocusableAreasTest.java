@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class FocusableAreasTest {
+    private FocusableAreas mAreas;
+
+    @Before
+    public void setup() {
+        mAreas = new FocusableAreas();
+    }
+
+    @Test
+    public void testSetResult_fits() {
+        int idBytes = write(new String[] {":1001", ":1002"}, new float[] {0, 0, 10, 20, 10, 0, 30, 40});
+
+        assertTrue(mAreas.setResult(pack(2, idBytes)));
+
+        assertEquals(2, mAreas.size());
+        assertEquals(":1001", mAreas.getId(0));
+        assertEquals(":1002", mAreas.getId(1));
+        assertEquals(10, mAreas.getX(1), 0);
+        assertEquals(0, mAreas.getY(1), 0);
+        assertEquals(30, mAreas.getWidth(1), 0);
+        assertEquals(40, mAreas.getHeight(1), 0);
+    }
+
+    @Test
+    public void testSetResult_doesNotFit_grows() {
+        final int count = 100;
+        String[] ids = new String[count];
+        float[] rects = new float[count * 4];
+        for (int i = 0; i < count; i++) {
+            ids[i] = "component-" + i;
+        }
+
+        assertFalse(mAreas.setResult(pack(count, count * 16)));
+        assertEquals(0, mAreas.size());
+
+        int idBytes = write(ids, rects);
+        assertTrue(mAreas.setResult(pack(count, idBytes)));
+        assertEquals(count, mAreas.size());
+        assertEquals("component-99", mAreas.getId(99));
+    }
+
+    @Test
+    public void testGetId_decodesOnce() {
+        int idBytes = write(new String[] {":1001"}, new float[] {0, 0, 1, 1});
+        mAreas.setResult(pack(1, idBytes));
+
+        assertSame(mAreas.getId(0), mAreas.getId(0));
+    }
+
+    @Test
+    public void testSetResult_clearsDecodedIds() {
+        int idBytes = write(new String[] {":1001"}, new float[] {0, 0, 1, 1});
+        mAreas.setResult(pack(1, idBytes));
+        assertEquals(":1001", mAreas.getId(0));
+
+        idBytes = write(new String[] {":2002"}, new float[] {0, 0, 1, 1});
+        mAreas.setResult(pack(1, idBytes));
+        assertEquals(":2002", mAreas.getId(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGet_outOfBounds() {
+        mAreas.getX(0);
+    }
+
+    /**
+     * Writes areas into the buffers the same way as the native query.
+     */
+    private int write(String[] ids, float[] rects) {
+        System.arraycopy(rects, 0, mAreas.mRects, 0, rects.length);
+        int offset = 0;
+        for (int i = 0; i < ids.length; i++) {
+            byte[] bytes = ids[i].getBytes(StandardCharsets.UTF_8);
+            mAreas.mIdOffsets[i] = offset;
+            System.arraycopy(bytes, 0, mAreas.mIds, offset, bytes.length);
+            offset += bytes.length;
+        }
+        mAreas.mIdOffsets[ids.length] = offset;
+        return offset;
+    }
+
+    private static long pack(int count, int idBytes) {
+        return ((long) count << 32) | idBytes;
+    }
+}
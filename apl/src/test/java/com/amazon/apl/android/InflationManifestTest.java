@@ -0,0 +1,53 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android;
+
+import com.amazon.apl.enums.ComponentType;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class InflationManifestTest {
+    private InflationManifest mManifest;
+
+    @Before
+    public void setup() {
+        // A container with a text and an image child, with a multi-byte id on the text.
+        String ids = ":1000" + "t\u00ebxt" + ":1002";
+        int[] entries = new int[] {
+                ComponentType.kComponentTypeContainer.getIndex(), 0,
+                ComponentType.kComponentTypeText.getIndex(), 5,
+                ComponentType.kComponentTypeImage.getIndex(), 5 + "t\u00ebxt".getBytes(StandardCharsets.UTF_8).length
+        };
+        mManifest = new InflationManifest(entries, ids.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testEntries() {
+        assertEquals(3, mManifest.size());
+
+        assertEquals(ComponentType.kComponentTypeContainer.getIndex(), mManifest.getTypeId(0));
+        assertEquals(ComponentType.kComponentTypeText.getIndex(), mManifest.getTypeId(1));
+        assertEquals(ComponentType.kComponentTypeImage.getIndex(), mManifest.getTypeId(2));
+    }
+
+    @Test
+    public void testGetComponentId_decodesUtf8() {
+        assertEquals(":1000", mManifest.getComponentId(0));
+        assertEquals("t\u00ebxt", mManifest.getComponentId(1));
+        assertEquals(":1002", mManifest.getComponentId(2));
+    }
+
+    @Test
+    public void testGetComponentId_decodesOnce() {
+        assertSame(mManifest.getComponentId(1), mManifest.getComponentId(1));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assume.assumeTrue;
+
+import android.graphics.Matrix;
+import android.graphics.RectF;
+
+import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+public class PropertyMapAllocationTest extends ViewhostRobolectricTest {
+    private static final int COMPONENT_COUNT = 50;
+    private static final int FRAME_COUNT = 100;
+
+    private static final String DOC = "{" +
+            "  \"type\": \"APL\"," +
+            "  \"version\": \"2023.3\"," +
+            "  \"mainTemplate\": {" +
+            "    \"item\": {" +
+            "      \"type\": \"Container\"," +
+            "      \"data\": \"${Array.range(" + COMPONENT_COUNT + ")}\"," +
+            "      \"items\": {" +
+            "        \"type\": \"Frame\"," +
+            "        \"width\": 100," +
+            "        \"height\": 20," +
+            "        \"transform\": [{\"rotate\": \"${data * 5}\"}, {\"translateX\": \"${index}\"}]" +
+            "      }" +
+            "    }" +
+            "  }" +
+            "}";
+
+    private Component[] mComponents;
+    private ThreadMXBean mThreadBean;
+
+    @Before
+    public void setup() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue("Allocation tracking unavailable",
+                threadBean instanceof com.sun.management.ThreadMXBean
+                        && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported());
+        mThreadBean = threadBean;
+        ((com.sun.management.ThreadMXBean) mThreadBean).setThreadAllocatedMemoryEnabled(true);
+
+        RootContext rootContext = new APLTestContext()
+                .setDocument(DOC)
+                .buildRootContext();
+        Component top = rootContext.getTopComponent();
+        assertEquals(COMPONENT_COUNT, top.getChildCount());
+        mComponents = new Component[COMPONENT_COUNT];
+        for (int i = 0; i < COMPONENT_COUNT; i++) {
+            mComponents[i] = top.getChildAt(i);
+        }
+    }
+
+    @Test
+    public void testTransformAndBoundsReads_allocateNothing() {
+        ValuesMatrix transform = new ValuesMatrix();
+        RectF bounds = new RectF();
+        // Warm up, e.g. the per thread scratch arrays
+        readFrame(transform, bounds);
+
+        final long overhead = measureOverhead();
+        final long before = allocatedBytes();
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            readFrame(transform, bounds);
+        }
+        final long allocated = allocatedBytes() - before - overhead;
+
+        assertEquals("Steady state reads allocated " + allocated + " bytes", 0, allocated);
+    }
+
+    @Test
+    public void testTransformRead_matchesAllocatingRead() {
+        ValuesMatrix transform = new ValuesMatrix();
+        for (Component component : mComponents) {
+            component.getTransform(transform);
+            float[] expected = new float[9];
+            component.getTransform().getValues(expected);
+            for (int i = 0; i < 9; i++) {
+                assertEquals(expected[i], transform.values[i], 0.001f);
+            }
+        }
+        // Not all identity
+        assertNotEquals(1f, transform.values[0], 0.001f);
+
+        RectF bounds = new RectF();
+        Component component = mComponents[COMPONENT_COUNT - 1];
+        component.getBounds(bounds);
+        assertEquals(component.getBounds().getLeft(), bounds.left, 0.001f);
+        assertEquals(component.getBounds().getTop(), bounds.top, 0.001f);
+        assertEquals(component.getBounds().getWidth(), bounds.width(), 0.001f);
+        assertEquals(component.getBounds().getHeight(), bounds.height(), 0.001f);
+    }
+
+    private void readFrame(Matrix transform, RectF bounds) {
+        for (int i = 0; i < mComponents.length; i++) {
+            final Component component = mComponents[i];
+            if (component.hasTransform()) {
+                component.getTransform(transform);
+            }
+            component.getBounds(bounds);
+            component.getInnerBounds(bounds);
+        }
+    }
+
+    private long measureOverhead() {
+        final long first = allocatedBytes();
+        return allocatedBytes() - first;
+    }
+
+    private long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) mThreadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Keeps the values set, as Robolectric's Matrix allocates to record them.
+     */
+    private static class ValuesMatrix extends Matrix {
+        final float[] values = new float[9];
+
+        @Override
+        public void setValues(float[] values) {
+            System.arraycopy(values, 0, this.values, 0, 9);
+        }
+    }
+}
@@ -9,8 +9,12 @@ import android.content.Context;
 import android.graphics.Color;
 import android.text.BoringLayout;
 import android.text.Layout;
+import android.text.SpannableString;
+import android.text.Spanned;
+import android.text.StaticLayout;
 import android.text.TextDirectionHeuristics;
 import android.text.TextPaint;
+import android.text.style.ForegroundColorSpan;
 
 import com.amazon.apl.android.bitmap.IBitmapCache;
 import com.amazon.apl.android.bitmap.IBitmapPool;
@@ -30,8 +34,10 @@ import org.mockito.Mock;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -214,4 +220,68 @@ public class TextLayoutFactoryTest extends ViewhostRobolectricTest {
         assertNotEquals(smallerLayout, largerLayout);
         assertNotEquals(mDefaultLayout, largerLayout);
     }
+
+    @Test
+    public void testBoringText_createsBoringLayout() {
+        assertTrue(mDefaultLayout instanceof BoringLayout);
+        assertNotNull(mFactory.getLayoutCache().getBoringMetrics(getScaledVisualHash()));
+    }
+
+    @Test
+    public void testSpannedText_createsStaticLayout() {
+        SpannableString text = new SpannableString("My Text");
+        text.setSpan(new ForegroundColorSpan(Color.RED), 0, 2, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+        when(mMockTextProxy.getText(any(), any())).thenReturn(text);
+        when(mMockTextProxy.getVisualHash()).thenReturn("spanned_hash");
+
+        Layout layout = mFactory.getOrCreateTextLayout(mVersionCode, mMockTextProxy,
+                mInnerWidth, mWidthMode, mInnerHeight, mKaraokeLine);
+
+        assertTrue(layout instanceof StaticLayout);
+    }
+
+    @Test
+    public void testMultiLineText_createsStaticLayout() {
+        when(mMockTextProxy.getText(any(), any())).thenReturn("My\nText");
+        when(mMockTextProxy.getVisualHash()).thenReturn("multiline_hash");
+
+        Layout layout = mFactory.getOrCreateTextLayout(mVersionCode, mMockTextProxy,
+                mInnerWidth, mWidthMode, mInnerHeight, mKaraokeLine);
+
+        assertTrue(layout instanceof StaticLayout);
+    }
+
+    @Test
+    public void testBoringLayout_sameSizeAsStaticLayout() {
+        TextLayoutFactory.AndroidTextMeasure staticMeasure = mock(TextLayoutFactory.AndroidTextMeasure.class);
+        when(staticMeasure.getDesiredTextWidth(anyString(), any(TextPaint.class))).thenReturn(mDefaultLayout.getWidth());
+        TextLayoutFactory staticFactory = new TextLayoutFactory(staticMeasure);
+
+        Layout staticLayout = staticFactory.getOrCreateTextLayout(mVersionCode, mMockTextProxy,
+                mInnerWidth, mWidthMode, mInnerHeight, mKaraokeLine);
+
+        assertTrue(staticLayout instanceof StaticLayout);
+        assertEquals(staticLayout.getWidth(), mDefaultLayout.getWidth());
+        assertEquals(staticLayout.getHeight(), mDefaultLayout.getHeight());
+        assertEquals(staticLayout.getLineCount(), mDefaultLayout.getLineCount());
+    }
+
+    @Test
+    public void testEditTextLayout_reusedForMeasurement() {
+        EditTextProxy editTextProxy = mock(EditTextProxy.class);
+        when(editTextProxy.getMeasureText()).thenReturn("MMMM");
+        when(editTextProxy.getTextPaint(anyFloat())).thenReturn(new TextPaint());
+
+        Layout layout = mFactory.createEditTextLayout(mVersionCode, editTextProxy, mInnerWidth, mInnerHeight);
+        int width = layout.getWidth();
+        when(editTextProxy.getMeasureText()).thenReturn("MMMMMMMM");
+        Layout longerLayout = mFactory.createEditTextLayout(mVersionCode, editTextProxy, mInnerWidth, mInnerHeight);
+
+        assertSame(layout, longerLayout);
+        assertTrue(longerLayout.getWidth() > width);
+    }
+
+    private String getScaledVisualHash() {
+        return "visual_hash" + "x" + Float.valueOf(1.f).hashCode();
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.bitmap;
+
+import android.graphics.Bitmap;
+
+import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BitmapConfigPolicyTest extends ViewhostRobolectricTest {
+
+    @Test
+    public void testArgb8888_alwaysUsesArgb8888() {
+        BitmapConfigPolicy policy = BitmapConfigPolicy.argb8888();
+        assertFalse(policy.allowsRgb565());
+        assertFalse(policy.allowsHardware(false));
+        assertEquals(Bitmap.Config.ARGB_8888, policy.getImageConfig(true, false));
+        assertEquals(Bitmap.Config.ARGB_8888, policy.getImageConfig(false, false));
+        assertEquals(Bitmap.Config.ARGB_8888, policy.getVectorGraphicCacheConfig(false));
+    }
+
+    @Test
+    public void testMemoryOptimized_opaqueImageUsesRgb565() {
+        BitmapConfigPolicy policy = BitmapConfigPolicy.memoryOptimized();
+        assertTrue(policy.allowsRgb565());
+        assertEquals(Bitmap.Config.RGB_565, policy.getImageConfig(true, false));
+        assertEquals(Bitmap.Config.ARGB_8888, policy.getImageConfig(false, false));
+    }
+
+    @Test
+    public void testMemoryOptimized_filteredImageUsesArgb8888() {
+        BitmapConfigPolicy policy = BitmapConfigPolicy.memoryOptimized();
+        assertFalse(policy.allowsHardware(true));
+        assertEquals(Bitmap.Config.ARGB_8888, policy.getImageConfig(true, true));
+    }
+
+    @Test
+    public void testMemoryOptimized_vectorGraphicCache() {
+        BitmapConfigPolicy policy = BitmapConfigPolicy.memoryOptimized();
+        assertEquals(Bitmap.Config.RGB_565, policy.getVectorGraphicCacheConfig(false));
+        assertEquals(Bitmap.Config.ARGB_8888, policy.getVectorGraphicCacheConfig(true));
+    }
+
+    @Test
+    public void testHardware_notAvailableBeforeO() {
+        // Robolectric runs at sdk 22
+        BitmapConfigPolicy policy = new BitmapConfigPolicy(false, true);
+        assertFalse(policy.allowsHardware(false));
+    }
+
+    @Test
+    public void testGetBytesSaved() {
+        assertEquals(0, BitmapConfigPolicy.getBytesSaved(10, 20, Bitmap.Config.ARGB_8888));
+        assertEquals(400, BitmapConfigPolicy.getBytesSaved(10, 20, Bitmap.Config.RGB_565));
+        assertEquals(600, BitmapConfigPolicy.getBytesSaved(10, 20, Bitmap.Config.ALPHA_8));
+    }
+}
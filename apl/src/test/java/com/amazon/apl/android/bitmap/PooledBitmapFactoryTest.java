@@ -20,7 +20,11 @@ import org.robolectric.annotation.Config;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Config(shadows={ViewhostRobolectricTest.MyShadowBitmap.class, ViewhostRobolectricTest.MyShadowCanvas.class})
@@ -82,4 +86,19 @@ public class PooledBitmapFactoryTest extends ViewhostRobolectricTest {
         assertEquals(first, second);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testPooledBitmapFactory_createBitmapWithConfig_reportsBytesSaved()
+            throws BitmapCreationException {
+        Bitmap bitmap = pooledBitmapFactory.createBitmap(10, 20, Bitmap.Config.RGB_565);
+        assertEquals(10, bitmap.getWidth());
+        assertEquals(20, bitmap.getHeight());
+        verify(mockTelemetryProvider).incrementCount(42, 400);
+    }
+
+    @Test
+    public void testPooledBitmapFactory_createBitmapWithArgb8888_doesNotReportBytesSaved()
+            throws BitmapCreationException {
+        pooledBitmapFactory.createBitmap(10, 20, Bitmap.Config.ARGB_8888);
+        verify(mockTelemetryProvider, never()).incrementCount(eq(42), anyInt());
+    }
+}
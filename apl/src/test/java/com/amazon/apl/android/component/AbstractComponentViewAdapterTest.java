@@ -5,6 +5,7 @@
 
 package com.amazon.apl.android.component;
 
+import android.graphics.Matrix;
 import android.view.View;
 import android.view.ViewGroup;
 
@@ -22,6 +23,8 @@ import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
 import com.amazon.apl.android.shadow.ShadowBitmapRenderer;
 import com.amazon.apl.android.utils.APLTrace;
 import com.amazon.apl.android.utils.AccessibilitySettingsUtil;
+import com.amazon.apl.android.utils.TransformUtils;
+import com.amazon.apl.android.views.APLAbsoluteLayout;
 import com.amazon.apl.enums.Display;
 import com.amazon.apl.enums.PropertyKey;
 import com.amazon.apl.enums.Role;
@@ -43,8 +46,10 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -317,6 +322,81 @@ public abstract class AbstractComponentViewAdapterTest<C extends Component, V ex
         verify(parent).invalidate();
     }
 
+    @Test
+    public void test_transform_appliedByView() {
+        APLAbsoluteLayout parent = mock(APLAbsoluteLayout.class);
+        V spyView = spy(mView);
+        when(spyView.getParent()).thenReturn(parent);
+        doAnswer(invocation -> {
+            Matrix matrix = invocation.getArgument(0);
+            matrix.setRotate(90);
+            matrix.postScale(2, 2);
+            matrix.postTranslate(10, 20);
+            return null;
+        }).when(component()).getTransform(any(Matrix.class));
+
+        getAdapter().refreshProperties(component(), spyView, Arrays.asList(PropertyKey.kPropertyTransform));
+        getAdapter().refreshProperties(component(), spyView, Arrays.asList(PropertyKey.kPropertyTransform));
+
+        assertEquals(90, spyView.getRotation(), 0.01);
+        assertEquals(2, spyView.getScaleX(), 0.01);
+        assertEquals(2, spyView.getScaleY(), 0.01);
+        assertEquals(10, spyView.getTranslationX(), 0.01);
+        assertEquals(20, spyView.getTranslationY(), 0.01);
+        // The parent only redraws once, to stop applying the transform itself
+        verify(parent, times(1)).invalidate();
+    }
+
+    @Test
+    public void test_transform_skewAppliedByParent() {
+        APLAbsoluteLayout parent = mock(APLAbsoluteLayout.class);
+        V spyView = spy(mView);
+        when(spyView.getParent()).thenReturn(parent);
+        doAnswer(invocation -> {
+            Matrix matrix = invocation.getArgument(0);
+            matrix.setSkew(0.5f, 0);
+            return null;
+        }).when(component()).getTransform(any(Matrix.class));
+
+        getAdapter().refreshProperties(component(), spyView, Arrays.asList(PropertyKey.kPropertyTransform));
+
+        assertEquals(0, spyView.getRotation(), 0.01);
+        assertEquals(1, spyView.getScaleX(), 0.01);
+        verify(parent).invalidate();
+    }
+
+    @Test
+    public void test_transform_boxShadowAppliedByParent() {
+        APLAbsoluteLayout parent = mock(APLAbsoluteLayout.class);
+        V spyView = spy(mView);
+        when(spyView.getParent()).thenReturn(parent);
+        doAnswer(invocation -> {
+            Matrix matrix = invocation.getArgument(0);
+            matrix.setRotate(90);
+            return null;
+        }).when(component()).getTransform(any(Matrix.class));
+        getAdapter().refreshProperties(component(), spyView, Arrays.asList(PropertyKey.kPropertyTransform));
+        assertEquals(90, spyView.getRotation(), 0.01);
+
+        // The parent draws the shadow, so it applies the transform to both
+        when(component().shouldDrawBoxShadow()).thenReturn(true);
+        getAdapter().refreshProperties(component(), spyView, Arrays.asList(PropertyKey.kPropertyShadowRadius));
+
+        assertFalse(TransformUtils.hasViewTransform(spyView));
+        verify(parent, times(2)).invalidate();
+    }
+
+    @Test
+    public void test_applyAllProperties_resetsRecycledViewTransform() {
+        // Left by the previous component of the view
+        getView().setRotation(90);
+        getView().setTranslationX(10);
+
+        applyAllProperties();
+
+        assertFalse(TransformUtils.hasViewTransform(getView()));
+    }
+
     // TODO tests for
     //  1. shadows
     //  2. padding/layout
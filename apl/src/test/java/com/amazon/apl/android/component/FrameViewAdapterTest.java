@@ -6,11 +6,6 @@
 package com.amazon.apl.android.component;
 
 import android.graphics.Color;
-import android.graphics.drawable.InsetDrawable;
-import android.graphics.drawable.LayerDrawable;
-import android.graphics.drawable.ShapeDrawable;
-import android.graphics.drawable.shapes.RoundRectShape;
-import android.graphics.drawable.shapes.Shape;
 import android.view.View;
 
 import com.amazon.apl.android.Component;
@@ -21,6 +16,7 @@ import com.amazon.apl.android.primitive.Gradient;
 import com.amazon.apl.android.primitive.Radii;
 import com.amazon.apl.android.primitive.Rect;
 import com.amazon.apl.android.views.APLAbsoluteLayout;
+import com.amazon.apl.android.views.FrameBackgroundDrawable;
 import com.amazon.apl.enums.ComponentType;
 import com.amazon.apl.enums.GradientType;
 import com.amazon.apl.enums.PropertyKey;
@@ -29,17 +25,15 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.robolectric.annotation.Config;
 
-import java.lang.reflect.Field;
 import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -60,38 +54,8 @@ public class FrameViewAdapterTest extends AbstractComponentViewAdapterTest<Frame
         when(component().getDrawnBorderWidth()).thenReturn(Dimension.create(0));
     }
 
-    private android.graphics.Rect getBorderInset() {
-        android.graphics.Rect insets = new android.graphics.Rect();
-        LayerDrawable parentLayout = (LayerDrawable)getView().getBackground();
-        InsetDrawable drawable = (InsetDrawable)parentLayout.getDrawable(1);
-
-        drawable.getPadding(insets);
-
-        return insets;
-    }
-
-    private ShapeDrawable getBackground() {
-        LayerDrawable parentLayout = (LayerDrawable)getView().getBackground();
-        InsetDrawable borderInset = (InsetDrawable)parentLayout.getDrawable(1);
-        return (ShapeDrawable)borderInset.getDrawable();
-    }
-
-    private ShapeDrawable getBorder() {
-        return (ShapeDrawable) ((LayerDrawable)getView().getBackground()).getDrawable(0);
-    }
-
-    private float[] getBorderRadii() {
-        try {
-            Shape borderShape = getBorder().getShape();
-            assertTrue(borderShape instanceof RoundRectShape);
-            Class obj = borderShape.getClass();
-            Field field = obj.getDeclaredField("mOuterRadii");
-            field.setAccessible(true);
-
-            return (float[])field.get(borderShape);
-        } catch (Exception e) {
-            return new float[]{};
-        }
+    private FrameBackgroundDrawable getBackground() {
+        return (FrameBackgroundDrawable) getView().getBackground();
     }
 
     @Config(sdk=24)
@@ -102,12 +66,13 @@ public class FrameViewAdapterTest extends AbstractComponentViewAdapterTest<Frame
 
     @Override
     public void assertDefaults() {
-        assertEquals(Color.TRANSPARENT, getBackground().getPaint().getColor());
-        assertEquals(Color.TRANSPARENT, getBorder().getPaint().getColor());
-        assertEquals(0, getBorder().getPaint().getStrokeWidth(), 0);
-
-        Shape borderShape = getBorder().getShape();
-        assertNull(borderShape);
+        assertEquals(Color.TRANSPARENT, getBackground().getBackgroundColor());
+        assertNull(getBackground().getBackgroundShader());
+        assertEquals(Color.TRANSPARENT, getBackground().getBorderColor());
+        assertEquals(0, getBackground().getBorderWidth(), 0);
+        assertNull(getBackground().getBorderRadii());
+        assertFalse(getBackground().isBackgroundVisible());
+        assertFalse(getBackground().isBorderVisible());
     }
 
     @Config(sdk=28)
@@ -117,33 +82,30 @@ public class FrameViewAdapterTest extends AbstractComponentViewAdapterTest<Frame
 
         applyAllProperties();
 
-        assertEquals(Color.BLUE, getBackground().getPaint().getColor());
+        assertEquals(Color.BLUE, getBackground().getBackgroundColor());
+        assertTrue(getBackground().isBackgroundVisible());
     }
 
     @Config(sdk=24)
     @Test
     public void test_borderRadii() {
-        // TODO tests for primitives
-        Radii mockRadii = mock(Radii.class);
-        float[] radii = new float[]{10f, 10f, 20f, 20f, 30f, 30f, 40f, 40f};
-        when(mockRadii.toFloatArray()).thenReturn(radii);
-        when(component().getBorderRadii()).thenReturn(mockRadii);
-        when(mockRadii.inset(anyFloat())).thenReturn(mockRadii);
+        Radii radii = Radii.create(10);
+        when(component().getBorderRadii()).thenReturn(radii);
 
         applyAllProperties();
 
-        assertEquals(radii, getBorderRadii());
+        assertEquals(radii, getBackground().getBorderRadii());
+        assertTrue(getView().isChildClippingPathUpdateRequested());
     }
 
     @Test
     public void test_borderWidth_noColor() {
-        Dimension mockDimension = mock(Dimension.class);
-        when(mockDimension.intValue()).thenReturn(10);
-        when(component().getDrawnBorderWidth()).thenReturn(mockDimension);
+        when(component().getDrawnBorderWidth()).thenReturn(Dimension.create(10));
 
         applyAllProperties();
 
-        assertEquals(new android.graphics.Rect(10, 10, 10, 10), getBorderInset());
+        assertEquals(10, getBackground().getBorderWidth(), 0);
+        assertFalse(getBackground().isBorderVisible());
     }
 
     @Test
@@ -153,22 +115,22 @@ public class FrameViewAdapterTest extends AbstractComponentViewAdapterTest<Frame
 
         applyAllProperties();
 
-        assertEquals(0, getBorder().getPaint().getStrokeWidth(), 0);
-        assertEquals(Color.BLUE, getBorder().getPaint().getColor());
+        assertEquals(0, getBackground().getBorderWidth(), 0);
+        assertEquals(Color.BLUE, getBackground().getBorderColor());
+        assertFalse(getBackground().isBorderVisible());
     }
 
     @Test
     public void test_borderColor() {
-        Dimension mockDimension = mock(Dimension.class);
-        when(mockDimension.intValue()).thenReturn(15);
-        when(component().getDrawnBorderWidth()).thenReturn(mockDimension);
+        when(component().getDrawnBorderWidth()).thenReturn(Dimension.create(15));
         when(component().getBorderColor()).thenReturn(Color.BLUE);
         when(component().hasProperty(PropertyKey.kPropertyBorderColor)).thenReturn(true);
 
         applyAllProperties();
 
-        assertEquals(new android.graphics.Rect(15, 15, 15, 15), getBorderInset());
-        assertEquals(Color.BLUE, getBorder().getPaint().getColor());
+        assertEquals(15, getBackground().getBorderWidth(), 0);
+        assertEquals(Color.BLUE, getBackground().getBorderColor());
+        assertTrue(getBackground().isBorderVisible());
     }
 
     @Config(sdk=28)
@@ -180,11 +142,10 @@ public class FrameViewAdapterTest extends AbstractComponentViewAdapterTest<Frame
 
         //Test that only methods related to background are called when backgroundColor is dirty
         verify(component()).getBackgroundColor();
-        verify(component()).getDrawnBorderWidth();
         verify(component()).isGradientBackground();
         verifyNoMoreInteractions(component());
 
-        assertEquals(Color.RED, getBackground().getPaint().getColor());
+        assertEquals(Color.RED, getBackground().getBackgroundColor());
     }
 
     @Test
@@ -198,7 +159,8 @@ public class FrameViewAdapterTest extends AbstractComponentViewAdapterTest<Frame
 
         verify(component(), atLeast(1)).isGradientBackground();
         verify(component()).getBackgroundGradient();
-        assertTrue(getView().getBackground() instanceof LayerDrawable);
+        assertNotNull(getBackground().getBackgroundShader());
+        assertTrue(getBackground().isBackgroundVisible());
     }
 
     @Test
@@ -212,19 +174,16 @@ public class FrameViewAdapterTest extends AbstractComponentViewAdapterTest<Frame
 
         applyAllProperties();
 
-        LayerDrawable parentLayout = (LayerDrawable)getView().getBackground();
-        InsetDrawable borderInset = (InsetDrawable)parentLayout.getDrawable(1);
-        ShapeDrawable borderDrawable = (ShapeDrawable)parentLayout.getDrawable(0);
-        ShapeDrawable backgroundDrawable = (ShapeDrawable)borderInset.getDrawable();
-
-        assertNotNull(backgroundDrawable.getPaint().getShader());
-        assertEquals(Color.GREEN, borderDrawable.getPaint().getColor());
+        FrameBackgroundDrawable drawable = getBackground();
+        assertNotNull(drawable.getBackgroundShader());
+        assertEquals(Color.GREEN, drawable.getBorderColor());
 
         when(component().getBorderColor()).thenReturn(Color.RED);
 
         refreshProperties(PropertyKey.kPropertyBorderColor);
 
-        assertEquals(Color.RED, borderDrawable.getPaint().getColor());
+        assertNotNull(drawable.getBackgroundShader());
+        assertEquals(Color.RED, drawable.getBorderColor());
     }
 
     @Config(sdk=28)
@@ -240,18 +199,16 @@ public class FrameViewAdapterTest extends AbstractComponentViewAdapterTest<Frame
         verify(component(), atLeast(1)).isGradientBackground();
         verify(component()).getBackgroundGradient();
 
-        LayerDrawable parentLayout = (LayerDrawable)getView().getBackground();
-        InsetDrawable borderInset = (InsetDrawable)parentLayout.getDrawable(1);
-        ShapeDrawable backgroundDrawable = (ShapeDrawable)borderInset.getDrawable();
-        assertNotNull(backgroundDrawable.getPaint().getShader());
+        FrameBackgroundDrawable backgroundDrawable = getBackground();
+        assertNotNull(backgroundDrawable.getBackgroundShader());
 
         when(component().isGradientBackground()).thenReturn(false);
         when(component().getBackgroundColor()).thenReturn(Color.RED);
 
         refreshProperties(PropertyKey.kPropertyBackground);
 
-        assertEquals(Color.RED, backgroundDrawable.getPaint().getColor());
-        assertNull(backgroundDrawable.getPaint().getShader());
+        assertEquals(Color.RED, backgroundDrawable.getBackgroundColor());
+        assertNull(backgroundDrawable.getBackgroundShader());
     }
 
     @Config(sdk=28)
@@ -263,11 +220,9 @@ public class FrameViewAdapterTest extends AbstractComponentViewAdapterTest<Frame
 
         applyAllProperties();
 
-        LayerDrawable parentLayout = (LayerDrawable)getView().getBackground();
-        InsetDrawable borderInset = (InsetDrawable)parentLayout.getDrawable(1);
-        ShapeDrawable backgroundDrawable = (ShapeDrawable)borderInset.getDrawable();
-        assertNull(backgroundDrawable.getPaint().getShader());
-        assertEquals(Color.RED, backgroundDrawable.getPaint().getColor());
+        FrameBackgroundDrawable backgroundDrawable = getBackground();
+        assertNull(backgroundDrawable.getBackgroundShader());
+        assertEquals(Color.RED, backgroundDrawable.getBackgroundColor());
 
 
         when(component().isGradientBackground()).thenReturn(true);
@@ -278,14 +233,12 @@ public class FrameViewAdapterTest extends AbstractComponentViewAdapterTest<Frame
 
         verify(component(), atLeast(1)).isGradientBackground();
         verify(component()).getBackgroundGradient();
-        assertNotNull(backgroundDrawable.getPaint().getShader());
+        assertNotNull(backgroundDrawable.getBackgroundShader());
     }
 
     @Test
     public void test_refresh_borderColor() {
-        Dimension mockDimension = mock(Dimension.class);
-        when(mockDimension.intValue()).thenReturn(10);
-        when(component().getDrawnBorderWidth()).thenReturn(mockDimension);
+        when(component().getDrawnBorderWidth()).thenReturn(Dimension.create(10));
         when(component().getBorderColor()).thenReturn(Color.RED);
         when(component().hasProperty(PropertyKey.kPropertyBorderColor)).thenReturn(true);
 
@@ -294,44 +247,55 @@ public class FrameViewAdapterTest extends AbstractComponentViewAdapterTest<Frame
         verify(component()).getBorderColor();
         verifyNoMoreInteractions(component());
 
-//        assertEquals(10, getBorder().getPaint().getStrokeWidth(), 0);
-        assertEquals(Color.RED, getBorder().getPaint().getColor());
+        assertEquals(Color.RED, getBackground().getBorderColor());
     }
 
     @Test
     public void test_refresh_borderWidth() {
-        Dimension mockDimension = mock(Dimension.class);
-        when(mockDimension.intValue()).thenReturn(20);
-        when(component().getDrawnBorderWidth()).thenReturn(mockDimension);
+        when(component().getDrawnBorderWidth()).thenReturn(Dimension.create(20));
         when(component().hasProperty(PropertyKey.kPropertyBorderColor)).thenReturn(true);
 
         refreshProperties(PropertyKey.kPropertyDrawnBorderWidth);
 
-        verify(component(), times(2)).getDrawnBorderWidth();
-        verify(component()).getBorderRadii();
+        verify(component()).getDrawnBorderWidth();
         verify(component()).isGradientBackground();
         verify(component()).getBackgroundColor();
         verifyNoMoreInteractions(component());
 
-        assertEquals(new android.graphics.Rect(20, 20, 20, 20), getBorderInset());
+        assertEquals(20, getBackground().getBorderWidth(), 0);
+    }
+
+    @Test
+    public void test_refresh_borderWidth_resizesGradient() {
+        when(component().isGradientBackground()).thenReturn(true);
+        Gradient linearGradient = Gradient.builder().type(GradientType.LINEAR).angle(20).inputRange(new float[] {1, 2}).colorRange(new int[] {1, 2}).build();
+        when(component().getBackgroundGradient()).thenReturn(linearGradient);
+        when(component().getDrawnBorderWidth()).thenReturn(Dimension.create(0));
+
+        applyAllProperties();
+        Object shader = getBackground().getBackgroundShader();
+
+        when(component().getDrawnBorderWidth()).thenReturn(Dimension.create(5));
+
+        refreshProperties(PropertyKey.kPropertyDrawnBorderWidth);
+
+        assertEquals(5, getBackground().getBorderWidth(), 0);
+        assertNotNull(getBackground().getBackgroundShader());
+        assertTrue(shader != getBackground().getBackgroundShader());
     }
 
     @Config(sdk=24)
     @Test
     public void test_refresh_borderRadii() {
-        Radii mockRadii = mock(Radii.class);
-        when(component().getBorderRadii()).thenReturn(mockRadii);
-        float[] radii = new float[]{15f, 15f, 25f, 25f, 35f, 35f, 45f, 45f};
-        when(mockRadii.toFloatArray()).thenReturn(radii);
-        when(mockRadii.inset(anyFloat())).thenReturn(mockRadii);
+        Radii radii = Radii.create(15);
+        when(component().getBorderRadii()).thenReturn(radii);
 
         refreshProperties(PropertyKey.kPropertyBorderRadii);
 
         verify(component()).getBorderRadii();
-        verify(component()).getDrawnBorderWidth();
         verifyNoMoreInteractions(component());
 
-        assertEquals(radii, getBorderRadii());
+        assertEquals(radii, getBackground().getBorderRadii());
         assertTrue(getView().isChildClippingPathUpdateRequested());
     }
 
@@ -358,16 +322,18 @@ public class FrameViewAdapterTest extends AbstractComponentViewAdapterTest<Frame
     }
 
     @Test
-    public void test_zeroBorderWidthSetsBorderDrawableOpacityZero() {
+    public void test_zeroBorderWidthHidesBorder() {
         when(component().getDrawnBorderWidth()).thenReturn(Dimension.create(0));
+        when(component().getBorderColor()).thenReturn(Color.BLUE);
         applyAllProperties();
-        assertEquals(getBorder().getAlpha(), 0);
+        assertFalse(getBackground().isBorderVisible());
     }
 
     @Test
-    public void test_nonZeroBorderWidthSetsBorderDrawableOpacity255() {
+    public void test_nonZeroBorderWidthShowsBorder() {
         when(component().getDrawnBorderWidth()).thenReturn(Dimension.create(10));
+        when(component().getBorderColor()).thenReturn(Color.BLUE);
         applyAllProperties();
-        assertEquals(getBorder().getAlpha(), 255);
+        assertTrue(getBackground().isBorderVisible());
     }
 }
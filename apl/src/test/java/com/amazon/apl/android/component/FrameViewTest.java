@@ -6,12 +6,10 @@ package com.amazon.apl.android.component;
 
 
 import android.graphics.Color;
-import android.graphics.drawable.InsetDrawable;
-import android.graphics.drawable.LayerDrawable;
-import android.graphics.drawable.ShapeDrawable;
 import android.os.Build;
 
 import com.amazon.apl.android.views.APLAbsoluteLayout;
+import com.amazon.apl.android.views.FrameBackgroundDrawable;
 import com.amazon.apl.android.APLGradientDrawable;
 import com.amazon.apl.android.Frame;
 
@@ -72,14 +70,8 @@ public class FrameViewTest extends AbstractComponentViewTest<APLAbsoluteLayout,
         // Covered by FrameViewAdapterTest
     }
 
-    private ShapeDrawable getBackground() {
-        LayerDrawable parentLayout = (LayerDrawable)getTestView().getBackground();
-        InsetDrawable borderInset = (InsetDrawable)parentLayout.getDrawable(1);
-        return (ShapeDrawable)borderInset.getDrawable();
-    }
-
-    private ShapeDrawable getBorder() {
-        return (ShapeDrawable) ((LayerDrawable)getTestView().getBackground()).getDrawable(0);
+    private FrameBackgroundDrawable getBackground() {
+        return (FrameBackgroundDrawable) getTestView().getBackground();
     }
 
     @Test
@@ -90,7 +82,7 @@ public class FrameViewTest extends AbstractComponentViewTest<APLAbsoluteLayout,
         for (String expectedColor : COLORS.keySet()) {
             executeCommands(setValueCommand("backgroundColor", expectedColor));
             if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-                assertEquals((int)COLORS.get(expectedColor), getBackground().getPaint().getColor());
+                assertEquals((int)COLORS.get(expectedColor), getBackground().getBackgroundColor());
             }
         }
     }
@@ -101,7 +93,7 @@ public class FrameViewTest extends AbstractComponentViewTest<APLAbsoluteLayout,
 
         for (String expectedColor : COLORS.keySet()) {
             executeCommands(setValueCommand("borderColor", expectedColor));
-            assertEquals((int)COLORS.get(expectedColor), getBorder().getPaint().getColor());
+            assertEquals((int)COLORS.get(expectedColor), getBackground().getBorderColor());
         }
     }
 }
@@ -13,6 +13,7 @@ import com.amazon.apl.android.VectorGraphic;
 import com.amazon.apl.android.dependencies.IContentRetriever;
 import com.amazon.apl.android.graphic.APLVectorGraphicView;
 import com.amazon.apl.android.graphic.AlexaVectorDrawable;
+import com.amazon.apl.android.graphic.DirtyGraphicIds;
 import com.amazon.apl.android.graphic.GraphicContainerElement;
 import com.amazon.apl.android.primitive.UrlRequests;
 import com.amazon.apl.android.scaling.IMetricsTransform;
@@ -28,9 +29,7 @@ import org.robolectric.Robolectric;
 import org.robolectric.annotation.LooperMode;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 
 import static org.junit.Assert.assertEquals;
@@ -62,7 +61,7 @@ public class VectorGraphicViewAdapterTest extends AbstractComponentViewAdapterTe
     private RenderingContext mockRenderingContext;
     @Mock
     IMetricsTransform mockMetricsTransform;
-    private Set<Integer> mDirtyGraphicsSet = new HashSet<>();
+    private DirtyGraphicIds mDirtyGraphicIds = DirtyGraphicIds.of(1);
 
     @Override
     VectorGraphic component() {
@@ -80,7 +79,7 @@ public class VectorGraphicViewAdapterTest extends AbstractComponentViewAdapterTe
         when(component().getContentRetriever()).thenReturn(mContentRetriever);
         when(component().getOrCreateGraphicContainerElement()).thenReturn(mockGraphicContainerElement);
         when(component().getRenderingContext()).thenReturn(mockRenderingContext);
-        when(component().getDirtyGraphics()).thenReturn(mDirtyGraphicsSet);
+        when(component().getDirtyGraphicIds()).thenReturn(mDirtyGraphicIds);
         final UrlRequests.UrlRequest request = UrlRequests.UrlRequest.builder().url("").build();
         when(component().getSourceRequest()).thenReturn(request);
 
@@ -197,6 +196,6 @@ public class VectorGraphicViewAdapterTest extends AbstractComponentViewAdapterTe
         AlexaVectorDrawable mockDrawable = mock(AlexaVectorDrawable.class);
         when(spyView.getDrawable()).thenReturn(mockDrawable);
         refreshProperties(spyView, PropertyKey.kPropertyGraphic);
-        verify(mockDrawable).updateDirtyGraphics(mDirtyGraphicsSet);
+        verify(mockDrawable).updateDirtyGraphics(mDirtyGraphicIds);
     }
 }
@@ -10,6 +10,7 @@ import android.graphics.Bitmap;
 import android.widget.ImageView;
 
 import com.amazon.apl.android.IAPLViewPresenter;
+import com.amazon.apl.android.bitmap.BitmapConfigPolicy;
 import com.amazon.apl.android.dependencies.IImageLoader;
 import com.amazon.apl.android.providers.ITelemetryProvider;
 import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
@@ -18,6 +19,7 @@ import com.amazon.apl.android.views.APLImageView;
 import com.bumptech.glide.Glide;
 import com.bumptech.glide.RequestBuilder;
 import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.load.DecodeFormat;
 import com.bumptech.glide.load.HttpException;
 import com.bumptech.glide.load.Options;
 import com.bumptech.glide.load.engine.GlideException;
@@ -434,6 +436,28 @@ public class GlideImageLoaderTest extends ViewhostRobolectricTest {
         assertEquals(0, mImageLoader.getTargets().size());
     }
 
+    @Test
+    public void buildRequestOptions_defaultPolicy_prefersArgb8888() {
+        RequestOptions options = mImageLoader.buildLoadImageRequestOptions(Collections.emptyMap(), false, false);
+        assertEquals(DecodeFormat.PREFER_ARGB_8888, options.getOptions().get(Downsampler.DECODE_FORMAT));
+    }
+
+    @Test
+    public void buildRequestOptions_memoryOptimizedPolicy_prefersRgb565() {
+        GlideImageLoader imageLoader = new GlideImageLoader(
+                ViewhostRobolectricTest.getApplication().getApplicationContext(), BitmapConfigPolicy.memoryOptimized());
+        RequestOptions options = imageLoader.buildLoadImageRequestOptions(Collections.emptyMap(), false, false);
+        assertEquals(DecodeFormat.PREFER_RGB_565, options.getOptions().get(Downsampler.DECODE_FORMAT));
+    }
+
+    @Test
+    public void buildRequestOptions_memoryOptimizedPolicy_withPixelAccess_prefersArgb8888() {
+        GlideImageLoader imageLoader = new GlideImageLoader(
+                ViewhostRobolectricTest.getApplication().getApplicationContext(), BitmapConfigPolicy.memoryOptimized());
+        RequestOptions options = imageLoader.buildLoadImageRequestOptions(Collections.emptyMap(), false, true);
+        assertEquals(DecodeFormat.PREFER_ARGB_8888, options.getOptions().get(Downsampler.DECODE_FORMAT));
+    }
+
     private Bitmap createDummyBitmap() {
         return Bitmap.createBitmap(1, 1, Bitmap.Config.ARGB_8888);
     }
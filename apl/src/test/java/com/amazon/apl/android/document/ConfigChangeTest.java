@@ -7,8 +7,6 @@ package com.amazon.apl.android.document;
 
 import android.graphics.Color;
 import android.graphics.Paint;
-import android.graphics.drawable.LayerDrawable;
-import android.graphics.drawable.ShapeDrawable;
 import android.text.Layout;
 import android.view.View;
 
@@ -20,6 +18,7 @@ import com.amazon.apl.android.Text;
 import com.amazon.apl.android.primitive.StyledText;
 import com.amazon.apl.android.scaling.Scaling;
 import com.amazon.apl.android.views.APLAbsoluteLayout;
+import com.amazon.apl.android.views.FrameBackgroundDrawable;
 import com.amazon.apl.android.views.APLTextView;
 import com.amazon.apl.enums.ViewportMode;
 
@@ -44,8 +43,8 @@ public class ConfigChangeTest extends AbstractDocViewTest {
             "    { \"type\": \"SetValue\", \"componentId\": \"testcomp\", \"property\": \"borderColor\", \"value\": \"red\" }" +
             "  ]";
 
-    private ShapeDrawable getBorder() {
-        return (ShapeDrawable) ((LayerDrawable)mTestContext.getTestView().getBackground()).getDrawable(0);
+    private FrameBackgroundDrawable getBackground() {
+        return (FrameBackgroundDrawable) mTestContext.getTestView().getBackground();
     }
 
     /**
@@ -55,13 +54,13 @@ public class ConfigChangeTest extends AbstractDocViewTest {
     public void testHandleConfigurationChange() {
         inflate(DOC, DOCUMENT_PROPERTIES);
 
-        assertEquals(Color.BLUE, getBorder().getPaint().getColor());
+        assertEquals(Color.BLUE, getBackground().getBorderColor());
 
         // Trigger a configuration change.
         mTestContext.getRootContext().handleConfigurationChange(mTestContext.getRootContext().createConfigurationChange().fontScale(2.0f).build());
         testClock.doFrameUpdate(100);
 
-        assertEquals(Color.RED, getBorder().getPaint().getColor());
+        assertEquals(Color.RED, getBackground().getBorderColor());
     }
 
     private static final String ENV_DOC = "\"text\": \"Motion State: ${environment.motionState}\",\n" +
@@ -6,6 +6,7 @@
 package com.amazon.apl.android.document;
 
 import android.graphics.Color;
+import android.os.Looper;
 
 import androidx.test.platform.app.InstrumentationRegistry;
 
@@ -13,17 +14,22 @@ import com.amazon.apl.android.APLJSONData;
 import com.amazon.apl.android.APLOptions;
 import com.amazon.apl.android.Content;
 import com.amazon.apl.android.Content.ImportRequest;
+import com.amazon.apl.android.IAPLViewPresenter;
 import com.amazon.apl.android.RootConfig;
+import com.amazon.apl.android.RootContext;
 import com.amazon.apl.android.Session;
+import com.amazon.apl.android.Text;
 import com.amazon.apl.android.dependencies.IContentDataRetriever;
 import com.amazon.apl.android.dependencies.IContentRetriever;
 import com.amazon.apl.android.dependencies.IPackageLoader;
 import com.amazon.apl.android.providers.ITelemetryProvider;
 import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
 import com.amazon.apl.android.scaling.ViewportMetrics;
+import com.amazon.apl.android.utils.APLTrace;
 import com.amazon.apl.enums.GradientType;
 import com.amazon.apl.enums.ScreenShape;
 import com.amazon.apl.enums.ViewportMode;
+import com.amazon.apl.viewhost.utils.ManualExecutor;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -61,6 +67,7 @@ import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
 
 public class ContentTest extends ViewhostRobolectricTest {
     // Test content
@@ -269,6 +276,7 @@ public class ContentTest extends ViewhostRobolectricTest {
                 .telemetryProvider(mMockTelemetryProvider)
                 .packageLoader(mPackageLoader)
                 .contentDataRetriever(mDataRetriever)
+                .contentParseExecutor(Runnable::run)
                 .build();
     }
 
@@ -1251,4 +1259,136 @@ public class ContentTest extends ViewhostRobolectricTest {
     private void verifyImportsTelemetry(int numberOfImports) {
         verify(mMockTelemetryProvider, times(numberOfImports)).incrementCount(eq(CONTENT_IMPORTS_METRIC_ID));
     }
+
+    @Test
+    public void testFetchedData_sharedTreeNotMutated() throws Exception {
+        final String doc = "{" +
+                "  \"type\": \"APL\"," +
+                "  \"version\": \"2023.3\"," +
+                "  \"mainTemplate\": {" +
+                "    \"parameters\": [\"payload\"]," +
+                "    \"item\": {" +
+                "      \"type\": \"Text\"," +
+                "      \"text\": \"${payload.greeting.text}\"" +
+                "    }" +
+                "  }" +
+                "}";
+        final String data = "{\"greeting\": {\"text\": \"Shared hello\"}}";
+        // Data fetched off the main thread is parsed there
+        doAnswer(invocation -> {
+            String param = invocation.getArgument(0);
+            IContentRetriever.SuccessCallback<String, String> successCallback = invocation.getArgument(1);
+            runOnWorkerThread(() -> successCallback.onSuccess(param, data));
+            return null;
+        }).when(mDataRetriever).fetch(any(), any(), any());
+        ITelemetryProvider jsonDataTelemetry = Mockito.mock(ITelemetryProvider.class);
+        when(jsonDataTelemetry.createMetricId(APL_DOMAIN, "APLJSONData.parseCacheHit", COUNTER)).thenReturn(1);
+        APLJSONData.reportMetrics(jsonDataTelemetry);
+        Mockito.clearInvocations(jsonDataTelemetry);
+
+        Content first = Content.create(doc, mAplOptions, new Content.CallbackV2() {}, mSession);
+        Content second = Content.create(doc, mAplOptions, new Content.CallbackV2() {}, mSession);
+        shadowOf(Looper.getMainLooper()).idle();
+        assertTrue("Expected document ready", first.isReady());
+        assertTrue("Expected document ready", second.isReady());
+
+        // Both documents reference the same parsed tree
+        APLJSONData.reportMetrics(jsonDataTelemetry);
+        verify(jsonDataTelemetry).incrementCount(1, 1);
+
+        RootContext firstRootContext = createRootContext(first);
+        assertEquals("Shared hello", ((Text) firstRootContext.getTopComponent()).getText());
+        firstRootContext.finishDocument();
+
+        // The first document neither changed nor released the tree
+        RootContext secondRootContext = createRootContext(second);
+        assertEquals("Shared hello", ((Text) secondRootContext.getTopComponent()).getText());
+        secondRootContext.finishDocument();
+    }
+
+    @Test
+    public void testFetchedData_malformed() {
+        doAnswer(invocation -> {
+            String param = invocation.getArgument(0);
+            IContentRetriever.SuccessCallback<String, String> successCallback = invocation.getArgument(1);
+            runOnWorkerThread(() -> successCallback.onSuccess(param, "malformed data"));
+            return null;
+        }).when(mDataRetriever).fetch(any(), any(), any());
+        doAnswer(invocation -> {
+            ImportRequest request = invocation.getArgument(0);
+            IContentRetriever.SuccessCallback<ImportRequest, APLJSONData> successCallback = invocation.getArgument(1);
+            successCallback.onSuccess(request, APLJSONData.create(mTestPackage));
+            return null;
+        }).when(mPackageLoader).fetch(any(), any(), any());
+
+        Content content = Content.create(mTestDoc, mAplOptions, new Content.CallbackV2() {}, mSession);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        // Reported by core as if it had parsed the payload itself
+        assertTrue("Expected content error.", content.isError());
+        verifyErrorTelemetry();
+    }
+
+    @Test
+    public void testFetchedContent_parsedOffMainThread() throws Exception {
+        ManualExecutor parseExecutor = new ManualExecutor();
+        APLOptions options = APLOptions.builder()
+                .telemetryProvider(mMockTelemetryProvider)
+                .packageLoader(mPackageLoader)
+                .contentDataRetriever(mDataRetriever)
+                .contentParseExecutor(parseExecutor)
+                .build();
+        // Both are delivered on the main thread
+        doAnswer(invocation -> {
+            String param = invocation.getArgument(0);
+            IContentRetriever.SuccessCallback<String, String> successCallback = invocation.getArgument(1);
+            successCallback.onSuccess(param, mTestData);
+            return null;
+        }).when(mDataRetriever).fetch(any(), any(), any());
+        doAnswer(invocation -> {
+            ImportRequest request = invocation.getArgument(0);
+            IContentRetriever.SuccessCallback<ImportRequest, APLJSONData> successCallback = invocation.getArgument(1);
+            successCallback.onSuccess(request, APLJSONData.create(mTestPackage));
+            return null;
+        }).when(mPackageLoader).fetch(any(), any(), any());
+
+        Content content = Content.create(mTestDoc, options, new Content.CallbackV2() {}, mSession);
+        assertNotNull("Content should not be null.", content);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        // The main thread only handed the payloads to the parse executor
+        assertFalse("Expected parse pending", parseExecutor.isEmpty());
+        assertFalse("Expected document not ready", content.isReady());
+
+        while (!parseExecutor.isEmpty()) {
+            runOnWorkerThread(parseExecutor::flush);
+            // Parsed, but only added once the main thread runs
+            assertFalse("Expected document not ready", content.isReady());
+            shadowOf(Looper.getMainLooper()).idle();
+        }
+
+        assertTrue("Expected document ready", content.isReady());
+        assertFalse("Expected document not error.", content.isError());
+    }
+
+    private RootContext createRootContext(Content content) {
+        ViewportMetrics metrics = ViewportMetrics.builder()
+                .width(1280)
+                .height(720)
+                .dpi(160)
+                .shape(ScreenShape.RECTANGLE)
+                .theme("dark")
+                .mode(ViewportMode.kViewportModeHub)
+                .build();
+        IAPLViewPresenter presenter = Mockito.mock(IAPLViewPresenter.class);
+        when(presenter.getAPLTrace()).thenReturn(Mockito.mock(APLTrace.class));
+        when(presenter.getOrCreateViewportMetrics()).thenReturn(metrics);
+        return RootContext.create(metrics, content, RootConfig.create("Unit Test", "1.0"), mAplOptions, presenter);
+    }
+
+    private static void runOnWorkerThread(Runnable runnable) throws InterruptedException {
+        Thread thread = new Thread(runnable);
+        thread.start();
+        thread.join();
+    }
 }
@@ -8,12 +8,14 @@ package com.amazon.apl.android.document;
 import android.view.View;
 
 import com.amazon.apl.android.APLJSONData;
+import com.amazon.apl.android.APLOptions;
 import com.amazon.apl.android.Component;
 import com.amazon.apl.android.LiveArray;
 import com.amazon.apl.android.RootConfig;
 import com.amazon.apl.android.Text;
 import com.amazon.apl.android.component.ComponentViewAdapter;
 import com.amazon.apl.android.component.ComponentViewAdapterFactory;
+import com.amazon.apl.android.utils.TestClock;
 import com.amazon.apl.enums.ComponentType;
 import com.amazon.apl.enums.PropertyKey;
 
@@ -34,7 +36,11 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 public class LiveArrayTest extends LiveObjectTest {
 
@@ -161,6 +167,29 @@ public class LiveArrayTest extends LiveObjectTest {
         assertArrayMatches("echo", "mike", "november");
     }
 
+    /**
+     * Changing a LiveArray wakes the documents using it, until they are finished.
+     */
+    @Test
+    public void test_LiveDataWakesDocument() {
+        TestClock clock = spy(new TestClock());
+        loadDocument(DOC, APLOptions.builder()
+                .aplClockProvider(callback -> {
+                    clock.registerCallback(callback);
+                    return clock;
+                })
+                .build());
+        clearInvocations(clock);
+
+        mLiveArray.add("alpha");
+        verify(clock).wake();
+
+        mRootContext.finishDocument();
+        clearInvocations(clock);
+        mLiveArray.add("bravo");
+        verify(clock, never()).wake();
+    }
+
     @Test
     public void test_LiveDataException() {
         mLiveArray.addAll(Arrays.asList("alpha", "bravo", "foxtrot"));
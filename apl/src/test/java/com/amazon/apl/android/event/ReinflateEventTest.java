@@ -159,6 +159,7 @@ public class ReinflateEventTest extends AbstractDocUnitTest {
                 .mediaPlayerProvider(mMockMediaPlayerProvider)
                 .sendEventCallbackV2(mMockSendEventCallback)
                 .packageLoader(mPackageLoader)
+                .contentParseExecutor(Runnable::run)
                 .dataSourceContextListener(mMockDataSourceContextListener)
                 .visualContextListener(mMockVisualContextListener)
                 .build();
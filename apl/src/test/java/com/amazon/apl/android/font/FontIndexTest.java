@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.font;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class FontIndexTest {
+    private static final String FINGERPRINT = "fingerprint";
+
+    private FontIndex mIndex;
+
+    @Before
+    public void setup() {
+        List<FontListParser.Family> families = new ArrayList<>();
+        families.add(new FontListParser.Family("sans-serif", Arrays.asList(
+                new FontListParser.FileFontKey(100, false, "/system/fonts/Thin.ttf"),
+                new FontListParser.FileFontKey(400, false, "/system/fonts/Regular.ttf"),
+                new FontListParser.FileFontKey(400, true, "/system/fonts/Italic.ttf"),
+                new FontListParser.FileFontKey(700, false, "/system/fonts/Bold.ttf")), null, null));
+        families.add(new FontListParser.Family("serif", Arrays.asList(
+                new FontListParser.FileFontKey(400, false, "/system/fonts/Serif.ttf")), null, null));
+        families.add(new FontListParser.Family(null, Arrays.asList(
+                new FontListParser.FileFontKey(400, false, "/system/fonts/Japanese.ttf")), "ja", null));
+        families.add(new FontListParser.Family("late", Arrays.asList(
+                new FontListParser.FileFontKey(400, false, "/system/fonts/Late.ttf")), null, null));
+        mIndex = FontIndex.create(FINGERPRINT, families);
+    }
+
+    @Test
+    public void testFindFontFile_closestWeight() {
+        assertEquals("/system/fonts/Regular.ttf", mIndex.findFontFile("sans-serif", 400, false, ""));
+        assertEquals("/system/fonts/Thin.ttf", mIndex.findFontFile("sans-serif", 200, false, ""));
+        assertEquals("/system/fonts/Bold.ttf", mIndex.findFontFile("sans-serif", 900, false, ""));
+    }
+
+    @Test
+    public void testFindFontFile_style() {
+        assertEquals("/system/fonts/Italic.ttf", mIndex.findFontFile("sans-serif", 700, true, ""));
+        // falls back to the regular style if the family has no italic font
+        assertEquals("/system/fonts/Serif.ttf", mIndex.findFontFile("serif", 400, true, ""));
+    }
+
+    @Test
+    public void testFindFontFile_ignoresCase() {
+        assertEquals("/system/fonts/Serif.ttf", mIndex.findFontFile("SERIF", 400, false, ""));
+    }
+
+    @Test
+    public void testFindFontFile_language() {
+        assertEquals("/system/fonts/Japanese.ttf", mIndex.findFontFile("unknown", 400, false, "ja-JP"));
+        // families before the language family win, families after it don't
+        assertEquals("/system/fonts/Serif.ttf", mIndex.findFontFile("serif", 400, false, "ja-JP"));
+        assertEquals("/system/fonts/Japanese.ttf", mIndex.findFontFile("late", 400, false, "ja-JP"));
+    }
+
+    @Test
+    public void testFindFontFile_unknown() {
+        assertNull(mIndex.findFontFile("unknown", 400, false, ""));
+        assertNull(mIndex.findFontFile(null, 400, false, ""));
+    }
+
+    @Test
+    public void testWriteRead_roundTrip() throws IOException {
+        FontIndex index = FontIndex.read(toInput(mIndex), FINGERPRINT);
+
+        assertNotNull(index);
+        assertEquals(FINGERPRINT, index.getFingerprint());
+        assertEquals("/system/fonts/Italic.ttf", index.findFontFile("sans-serif", 400, true, ""));
+        assertEquals("/system/fonts/Japanese.ttf", index.findFontFile("unknown", 400, false, "ja"));
+        assertEquals("/system/fonts/Late.ttf", index.findFontFile("late", 400, false, ""));
+    }
+
+    @Test
+    public void testRead_otherFingerprint() throws IOException {
+        assertNull(FontIndex.read(toInput(mIndex), "updated"));
+    }
+
+    @Test
+    public void testRead_notAnIndex() throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(new byte[] {0, 0, 0, 1, 0, 0, 0, 1}));
+
+        assertNull(FontIndex.read(in, FINGERPRINT));
+    }
+
+    private static DataInputStream toInput(FontIndex index) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.write(new DataOutputStream(bytes));
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+}
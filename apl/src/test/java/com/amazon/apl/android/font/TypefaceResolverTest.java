@@ -8,18 +8,31 @@ package com.amazon.apl.android.font;
 import android.graphics.Typeface;
 
 import com.amazon.apl.android.RuntimeConfig;
+import com.amazon.apl.android.providers.ITelemetryProvider;
 import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 public class TypefaceResolverTest extends ViewhostRobolectricTest {
 
     private static final String DEFAULT_FONT_FAMILY = "bookerly";
 
     @Mock
     private IFontResolver fontResolver;
+    @Mock
+    private ITelemetryProvider telemetryProvider;
 
     @Test
     public void testDisabledEmbeddedFontLookup() {
@@ -45,4 +58,21 @@ public class TypefaceResolverTest extends ViewhostRobolectricTest {
         Typeface face = TypefaceResolver.getInstance().getTypeface(DEFAULT_FONT_FAMILY, 100, false, "", false);
         Assert.assertNotEquals(Typeface.SANS_SERIF, face);
     }
+
+    @Test
+    public void testReportMetrics_resolveTimeReportedAsTimer() {
+        final int resolveTimeId = 7;
+        when(telemetryProvider.createMetricId(anyString(), eq("TypefaceResolver.resolveTime"), eq(ITelemetryProvider.Type.TIMER))).thenReturn(resolveTimeId);
+        RuntimeConfig runtimeConfig = RuntimeConfig.builder()
+                .fontResolver(fontResolver)
+                .build();
+        TypefaceResolver.getInstance().reset();
+        TypefaceResolver.getInstance().initialize(getApplication(), runtimeConfig);
+
+        TypefaceResolver.getInstance().getTypeface(DEFAULT_FONT_FAMILY, 100, false, "", false);
+        TypefaceResolver.getInstance().reportMetrics(telemetryProvider);
+
+        verify(telemetryProvider).reportTimer(eq(resolveTimeId), eq(TimeUnit.NANOSECONDS), anyLong());
+        verify(telemetryProvider, never()).incrementCount(eq(resolveTimeId), anyInt());
+    }
 }
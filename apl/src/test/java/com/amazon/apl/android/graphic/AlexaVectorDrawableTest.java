@@ -6,16 +6,23 @@ package com.amazon.apl.android.graphic;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
+import android.graphics.Color;
 import android.graphics.Rect;
 
+import com.amazon.apl.android.bitmap.BitmapConfigPolicy;
 import com.amazon.apl.android.bitmap.BitmapCreationException;
 import com.amazon.apl.android.bitmap.IBitmapFactory;
 import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
@@ -71,6 +78,19 @@ public class AlexaVectorDrawableTest extends ViewhostRobolectricTest {
         verify(mPathRenderer).applyBaseAndViewportDimensions();
     }
 
+    @Test
+    public void test_updateDirtyGraphics_ids_appliesDirtyProperties() {
+        // Given
+        DirtyGraphicIds graphics = DirtyGraphicIds.of(1, 2);
+
+        // When
+        mAlexaVectorDrawable.updateDirtyGraphics(graphics);
+
+        // Then
+        verify(mPathRenderer).applyBaseAndViewportDimensions();
+        verify(mGraphicContainerElement).applyDirtyProperties(graphics);
+    }
+
 
     @Test
     public void test_uniform_scaling_draws_on_canvas(){
@@ -138,4 +158,32 @@ public class AlexaVectorDrawableTest extends ViewhostRobolectricTest {
         // verify that bitmap was created instead of drawing straight into the canvas
         verify(mBitmapFactory).createBitmap(10, 10);
     }
+
+    @Test
+    public void test_translucent_cached_bitmap_keeps_alpha() throws BitmapCreationException {
+        AlexaVectorDrawable.VectorDrawableCompatState state = new AlexaVectorDrawable.VectorDrawableCompatState(
+                mPathRenderer, mBitmapFactory, BitmapConfigPolicy.memoryOptimized());
+
+        state.createOrEraseCachedBitmap(10, 10);
+
+        assertEquals(mBitmap, state.mCachedBitmap);
+        verify(mBitmapFactory, never()).createBitmap(anyInt(), anyInt(), eq(Bitmap.Config.RGB_565));
+    }
+
+    @Test
+    public void test_opaque_cached_bitmap_drops_alpha() throws BitmapCreationException {
+        Bitmap opaqueBitmap = Bitmap.createBitmap(10, 10, Bitmap.Config.RGB_565);
+        when(mBitmapFactory.createBitmap(10, 10, Bitmap.Config.RGB_565)).thenReturn(opaqueBitmap);
+        doAnswer(invocation -> {
+            mBitmap.eraseColor(Color.RED);
+            return null;
+        }).when(mPathRenderer).draw(any(Canvas.class), anyInt(), anyInt(), any(IBitmapFactory.class), anyBoolean());
+        AlexaVectorDrawable.VectorDrawableCompatState state = new AlexaVectorDrawable.VectorDrawableCompatState(
+                mPathRenderer, mBitmapFactory, BitmapConfigPolicy.memoryOptimized());
+
+        state.createOrEraseCachedBitmap(10, 10);
+
+        assertEquals(opaqueBitmap, state.mCachedBitmap);
+        verify(mBitmapFactory).disposeBitmap(mBitmap);
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.graphic;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class DirtyGraphicIdsTest {
+
+    @Test
+    public void testOf() {
+        DirtyGraphicIds ids = DirtyGraphicIds.of(3, 5, 7);
+
+        assertEquals(3, ids.size());
+        assertEquals(3, ids.get(0));
+        assertEquals(5, ids.get(1));
+        assertEquals(7, ids.get(2));
+    }
+
+    @Test
+    public void testFill_growsWhenIdsDoNotFit() {
+        DirtyGraphicIds ids = new DirtyGraphicIds(2);
+        final int[] calls = {0};
+
+        ids.fill(buffer -> {
+            calls[0]++;
+            if (buffer.length >= 4) {
+                for (int i = 0; i < 4; i++) {
+                    buffer[i] = i + 10;
+                }
+            }
+            return 4;
+        });
+
+        assertEquals(2, calls[0]);
+        assertEquals(4, ids.size());
+        assertEquals(13, ids.get(3));
+    }
+
+    @Test
+    public void testFill_replacesPreviousIds() {
+        DirtyGraphicIds ids = DirtyGraphicIds.of(1, 2, 3);
+
+        ids.fill(buffer -> {
+            buffer[0] = 9;
+            return 1;
+        });
+
+        assertEquals(1, ids.size());
+        assertEquals(9, ids.get(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGet_outOfBounds() {
+        DirtyGraphicIds.of(1).get(1);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.image.filters.bitmap;
+
+import android.content.ComponentCallbacks2;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class PixelBufferPoolTest {
+    private PixelBufferPool mPool;
+
+    @Before
+    public void setup() {
+        mPool = new PixelBufferPool(100);
+    }
+
+    @Test
+    public void testAcquire_allocatesWhenEmpty() {
+        int[] first = mPool.acquire(10);
+        int[] second = mPool.acquire(10);
+
+        assertEquals(10, first.length);
+        assertNotSame(first, second);
+        assertEquals(2, mPool.getAllocationCount());
+        assertEquals(0, mPool.getReuseCount());
+    }
+
+    @Test
+    public void testAcquire_reusesReleasedBuffer() {
+        int[] buffer = mPool.acquire(10);
+        mPool.release(buffer);
+
+        assertSame(buffer, mPool.acquire(10));
+        assertEquals(1, mPool.getAllocationCount());
+        assertEquals(1, mPool.getReuseCount());
+    }
+
+    @Test
+    public void testAcquire_keyedByLength() {
+        mPool.release(mPool.acquire(10));
+
+        assertEquals(20, mPool.acquire(20).length);
+        assertEquals(2, mPool.getAllocationCount());
+        assertEquals(0, mPool.getReuseCount());
+    }
+
+    @Test
+    public void testRelease_dropsBuffersOverLimit() {
+        int[] small = mPool.acquire(60);
+        int[] large = mPool.acquire(60);
+        mPool.release(small);
+        mPool.release(large);
+
+        assertSame(small, mPool.acquire(60));
+        assertNotSame(large, mPool.acquire(60));
+        assertEquals(3, mPool.getAllocationCount());
+    }
+
+    @Test
+    public void testClear() {
+        mPool.release(mPool.acquire(10));
+        mPool.clear();
+
+        mPool.acquire(10);
+        assertEquals(2, mPool.getAllocationCount());
+        assertEquals(0, mPool.getReuseCount());
+    }
+
+    @Test
+    public void testTrimMemory_clearsWhenRunningLow() {
+        mPool.release(mPool.acquire(10));
+        mPool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE);
+        mPool.acquire(10);
+        assertEquals(1, mPool.getReuseCount());
+
+        mPool.release(mPool.acquire(10));
+        mPool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+        mPool.acquire(10);
+        assertEquals(3, mPool.getAllocationCount());
+        assertEquals(1, mPool.getReuseCount());
+    }
+
+    @Test
+    public void testLowMemory_clears() {
+        mPool.release(mPool.acquire(10));
+        mPool.onLowMemory();
+
+        mPool.acquire(10);
+        assertEquals(2, mPool.getAllocationCount());
+        assertEquals(0, mPool.getReuseCount());
+    }
+}
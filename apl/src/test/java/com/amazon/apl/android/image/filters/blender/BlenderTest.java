@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.image.filters.blender;
+
+import static org.junit.Assert.assertEquals;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import com.amazon.apl.android.image.filters.bitmap.PixelBufferPool;
+import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
+import com.amazon.apl.enums.BlendMode;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BlenderTest extends ViewhostRobolectricTest {
+    private PixelBufferPool mPool;
+    private Blender mBlender;
+
+    @Before
+    public void setup() {
+        mPool = new PixelBufferPool(1024);
+        // Blends to the average of the channels of source and destination.
+        mBlender = new Blender(BlendMode.kBlendModeNormal, mPool) {
+            @Override
+            int blendPixels(int sourceColor, int destinationColor) {
+                return Color.argb(
+                        (Color.alpha(sourceColor) + Color.alpha(destinationColor)) / 2,
+                        (Color.red(sourceColor) + Color.red(destinationColor)) / 2,
+                        (Color.green(sourceColor) + Color.green(destinationColor)) / 2,
+                        (Color.blue(sourceColor) + Color.blue(destinationColor)) / 2);
+            }
+        };
+    }
+
+    @Test
+    public void testPerformBlending_blendsEveryPixel() {
+        Bitmap result = blend(Color.argb(255, 100, 0, 200), Color.argb(255, 0, 100, 0));
+
+        for (int y = 0; y < result.getHeight(); y++) {
+            for (int x = 0; x < result.getWidth(); x++) {
+                assertEquals(Color.argb(255, 50, 50, 100), result.getPixel(x, y));
+            }
+        }
+    }
+
+    @Test
+    public void testPerformBlending_reusesPixelBuffers() {
+        blend(Color.RED, Color.BLUE);
+        blend(Color.GREEN, Color.BLUE);
+
+        assertEquals(2, mPool.getAllocationCount());
+        assertEquals(2, mPool.getReuseCount());
+    }
+
+    private Bitmap blend(int sourceColor, int destinationColor) {
+        Bitmap source = Bitmap.createBitmap(4, 3, Bitmap.Config.ARGB_8888);
+        source.eraseColor(sourceColor);
+        Bitmap destination = Bitmap.createBitmap(4, 3, Bitmap.Config.ARGB_8888);
+        destination.eraseColor(destinationColor);
+        Bitmap result = Bitmap.createBitmap(4, 3, Bitmap.Config.ARGB_8888);
+        return mBlender.performBlending(source, destination, result);
+    }
+}
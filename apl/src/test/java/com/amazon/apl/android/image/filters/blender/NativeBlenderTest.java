@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.image.filters.blender;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
+import com.amazon.apl.enums.BlendMode;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+// Checks that native blending agrees with the Java blenders, which it replaces.
+public class NativeBlenderTest extends ViewhostRobolectricTest {
+
+    private static final int[] CHANNEL_VALUES = {0, 1, 63, 64, 127, 128, 191, 254, 255};
+
+    @Test
+    public void testBlendPixels_matchesSeparableBlender() {
+        assertMatchesJavaBlender(BlendMode.kBlendModeScreen);
+        assertMatchesJavaBlender(BlendMode.kBlendModeOverlay);
+        assertMatchesJavaBlender(BlendMode.kBlendModeDarken);
+        assertMatchesJavaBlender(BlendMode.kBlendModeLighten);
+        assertMatchesJavaBlender(BlendMode.kBlendModeColorDodge);
+        assertMatchesJavaBlender(BlendMode.kBlendModeColorBurn);
+        assertMatchesJavaBlender(BlendMode.kBlendModeHardLight);
+        assertMatchesJavaBlender(BlendMode.kBlendModeSoftLight);
+        assertMatchesJavaBlender(BlendMode.kBlendModeDifference);
+        assertMatchesJavaBlender(BlendMode.kBlendModeExclusion);
+    }
+
+    @Test
+    public void testBlendPixels_matchesNonSeparableBlender() {
+        assertMatchesJavaBlender(BlendMode.kBlendModeHue);
+        assertMatchesJavaBlender(BlendMode.kBlendModeSaturation);
+        assertMatchesJavaBlender(BlendMode.kBlendModeColor);
+        assertMatchesJavaBlender(BlendMode.kBlendModeLuminosity);
+    }
+
+    @Test
+    public void testBlendPixels_normal() {
+        int[] destination = {Color.argb(255, 76, 39, 200)};
+        assertTrue(NativeBlender.blendPixels(BlendMode.kBlendModeNormal, new int[] {Color.argb(255, 51, 211, 189)}, destination));
+        assertEquals(Color.argb(255, 51, 211, 189), destination[0]);
+
+        destination = new int[] {Color.argb(255, 76, 39, 200)};
+        assertTrue(NativeBlender.blendPixels(BlendMode.kBlendModeNormal, new int[] {Color.TRANSPARENT}, destination));
+        assertEquals(Color.argb(255, 76, 39, 200), destination[0]);
+    }
+
+    @Test
+    public void testBlendPixels_multiply() {
+        int[] destination = {Color.argb(255, 255, 128, 0)};
+        assertTrue(NativeBlender.blendPixels(BlendMode.kBlendModeMultiply, new int[] {Color.argb(255, 128, 128, 255)}, destination));
+        assertEquals(Color.argb(255, 128, 64, 0), destination[0]);
+    }
+
+    @Test
+    public void testBlendPixels_unsupportedMode() {
+        assertFalse(NativeBlender.blendPixels(BlendMode.kBlendModeSourceIn, new int[1], new int[1]));
+    }
+
+    @Test
+    public void testPerformBlending_fallsBackToJavaBlender() {
+        // Bitmaps can't be locked on the host, so bitmaps are blended by the Java blender.
+        Bitmap source = Bitmap.createBitmap(2, 2, Bitmap.Config.ARGB_8888);
+        source.eraseColor(Color.argb(255, 51, 211, 189));
+        Bitmap destination = Bitmap.createBitmap(2, 2, Bitmap.Config.ARGB_8888);
+        destination.eraseColor(Color.argb(255, 76, 39, 200));
+        Bitmap result = Bitmap.createBitmap(2, 2, Bitmap.Config.ARGB_8888);
+
+        Blender javaBlender = BlenderFactory.getJavaBlender(BlendMode.kBlendModeScreen);
+        new NativeBlender(BlendMode.kBlendModeScreen, javaBlender).performBlending(source, destination, result);
+
+        assertEquals(javaBlender.blendPixels(Color.argb(255, 51, 211, 189), Color.argb(255, 76, 39, 200)), result.getPixel(1, 1));
+    }
+
+    private void assertMatchesJavaBlender(BlendMode blendMode) {
+        int[] source = colors(new Random(1));
+        int[] destination = colors(new Random(2));
+        int[] blended = destination.clone();
+
+        assertTrue(NativeBlender.blendPixels(blendMode, source, blended));
+
+        Blender javaBlender = BlenderFactory.getJavaBlender(blendMode);
+        for (int i = 0; i < source.length; i++) {
+            assertEquals(blendMode + " " + Integer.toHexString(source[i]) + " " + Integer.toHexString(destination[i]),
+                    javaBlender.blendPixels(source[i], destination[i]), blended[i]);
+        }
+    }
+
+    // Colors with channels at and around the edge cases of the blend equations, and random ones.
+    private static int[] colors(Random random) {
+        int[] colors = new int[2000];
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = i < colors.length / 2
+                    ? Color.argb(channel(random), channel(random), channel(random), channel(random))
+                    : random.nextInt();
+        }
+        return colors;
+    }
+
+    private static int channel(Random random) {
+        return CHANNEL_VALUES[random.nextInt(CHANNEL_VALUES.length)];
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.media;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MediaClockTest {
+    private int mWakeCount;
+    private MediaClock mClock;
+
+    @Before
+    public void setup() {
+        mWakeCount = 0;
+        mClock = new MediaClock(() -> mWakeCount++);
+    }
+
+    @Test
+    public void testRegister_wakesOnlyWhenIdle() {
+        mClock.register(new FakeSampler(), 0);
+        mClock.register(new FakeSampler(), 0);
+
+        assertEquals(1, mWakeCount);
+        assertTrue(mClock.isActive());
+    }
+
+    @Test
+    public void testOnFrame_samplesEveryFrame() {
+        FakeSampler sampler = new FakeSampler();
+        mClock.register(sampler, 0);
+
+        mClock.onFrame(16);
+        mClock.onFrame(32);
+
+        assertEquals(2, sampler.samples.size());
+    }
+
+    @Test
+    public void testOnFrame_sameFrameSampledOnce() {
+        FakeSampler a = new FakeSampler();
+        FakeSampler b = new FakeSampler();
+        mClock.register(a, 0);
+        mClock.register(b, 0);
+
+        mClock.onFrame(16);
+        mClock.onFrame(16);
+
+        assertEquals(1, a.samples.size());
+        assertEquals(1, b.samples.size());
+    }
+
+    @Test
+    public void testOnFrame_respectsInterval() {
+        FakeSampler sampler = new FakeSampler();
+        mClock.register(sampler, 100);
+
+        for (long time = 0; time <= 320; time += 16) {
+            mClock.onFrame(time);
+        }
+
+        // Sampled on the first frame, then on the first frame at least 100ms later.
+        List<Long> expected = new ArrayList<>();
+        expected.add(0L);
+        expected.add(112L);
+        expected.add(224L);
+        assertEquals(expected, sampler.samples);
+    }
+
+    @Test
+    public void testOnFrame_samplerFinished_unregisters() {
+        FakeSampler sampler = new FakeSampler();
+        mClock.register(sampler, 0);
+
+        sampler.keepSampling = false;
+        mClock.onFrame(16);
+        mClock.onFrame(32);
+
+        assertEquals(1, sampler.samples.size());
+        assertFalse(mClock.isActive());
+    }
+
+    @Test
+    public void testUnregister_stopsSampling() {
+        FakeSampler sampler = new FakeSampler();
+        mClock.register(sampler, 0);
+        mClock.onFrame(16);
+
+        mClock.unregister(sampler);
+        mClock.onFrame(32);
+
+        assertEquals(1, sampler.samples.size());
+        assertFalse(mClock.isActive());
+    }
+
+    @Test
+    public void testUnregister_duringFrame() {
+        FakeSampler second = new FakeSampler();
+        MediaClock.Sampler first = frameTime -> {
+            mClock.unregister(second);
+            return true;
+        };
+        mClock.register(first, 0);
+        mClock.register(second, 0);
+
+        mClock.onFrame(16);
+        mClock.onFrame(32);
+
+        // Already due in the first frame, but never sampled again.
+        assertEquals(1, second.samples.size());
+    }
+
+    @Test
+    public void testNoSamplers_idle() {
+        mClock.onFrame(16);
+
+        assertFalse(mClock.isActive());
+        assertEquals(0, mWakeCount);
+    }
+
+    @Test
+    public void testClear() {
+        FakeSampler sampler = new FakeSampler();
+        mClock.register(sampler, 0);
+
+        mClock.clear();
+        mClock.onFrame(16);
+
+        assertTrue(sampler.samples.isEmpty());
+        assertFalse(mClock.isActive());
+    }
+
+    private static class FakeSampler implements MediaClock.Sampler {
+        final List<Long> samples = new ArrayList<>();
+        boolean keepSampling = true;
+
+        @Override
+        public boolean sample(long frameTime) {
+            samples.add(frameTime);
+            return keepSampling;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import android.content.Context;
 import android.view.View;
 
 import com.amazon.apl.android.dependencies.IMediaPlayer;
+import com.amazon.apl.android.media.MediaClock;
 import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
 
 import org.junit.Before;
@@ -17,11 +18,14 @@ import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public class AbstractMediaPlayerProviderTest extends ViewhostRobolectricTest {
 
@@ -95,6 +99,27 @@ public class AbstractMediaPlayerProviderTest extends ViewhostRobolectricTest {
         verify(mProvider).releasePlayers();
     }
 
+    @Test
+    public void test_clearMediaClock_onlyOwnClock() {
+        MediaClock finished = new MediaClock(null);
+        MediaClock current = new MediaClock(null);
+        IMediaPlayer player = mock(IMediaPlayer.class, withSettings().extraInterfaces(MediaClock.Client.class));
+        MediaClock.Client client = (MediaClock.Client) player;
+        doReturn(player).when(mProvider).createPlayer(any(), any());
+
+        mProvider.setMediaClock(finished);
+        mProvider.getNewPlayer(getApplication(), mProvider.createView(getApplication()));
+        verify(client).setMediaClock(finished);
+
+        // Another document took over the provider before the first one finished
+        mProvider.setMediaClock(current);
+        mProvider.clearMediaClock(finished);
+        verify(client, never()).setMediaClock(null);
+
+        mProvider.clearMediaClock(current);
+        verify(client).setMediaClock(null);
+    }
+
     @Test
     public void test_pause_through_mediaStateUpdate() {
         //Verify scenario where runtime already paused video before onDocumentPaused()
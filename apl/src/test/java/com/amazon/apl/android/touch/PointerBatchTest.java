@@ -0,0 +1,73 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.touch;
+
+import com.amazon.apl.enums.PointerEventType;
+import com.amazon.apl.enums.PointerType;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PointerBatchTest {
+    private final Pointer mTouch = Pointer.create(0, PointerType.kTouchPointer, PointerEventType.kPointerMove, 0, 0);
+    private final PointerBatch mBatch = new PointerBatch();
+
+    @Test
+    public void testAdd_keepsSamplesInOrder() {
+        mBatch.add(mTouch, 1, 2, 10);
+        mBatch.add(mTouch, 3, 4, 18);
+
+        assertEquals(2, mBatch.size());
+        assertEquals(0, mBatch.getPointerId());
+        assertEquals(PointerType.kTouchPointer, mBatch.getPointerType());
+        assertEquals(1, mBatch.getPoints()[0], 0);
+        assertEquals(2, mBatch.getPoints()[1], 0);
+        assertEquals(3, mBatch.getPoints()[2], 0);
+        assertEquals(4, mBatch.getPoints()[3], 0);
+        assertEquals(10, mBatch.getTimes()[0]);
+        assertEquals(18, mBatch.getTimes()[1]);
+    }
+
+    @Test
+    public void testAdd_grows() {
+        for (int i = 0; i < 100; i++) {
+            mBatch.add(mTouch, i, -i, i);
+        }
+
+        assertEquals(100, mBatch.size());
+        assertEquals(99, mBatch.getPoints()[198], 0);
+        assertEquals(-99, mBatch.getPoints()[199], 0);
+        assertEquals(99, mBatch.getTimes()[99]);
+    }
+
+    @Test
+    public void testClear_reusesBuffers() {
+        mBatch.add(mTouch, 1, 2, 10);
+        float[] points = mBatch.getPoints();
+
+        mBatch.clear();
+
+        assertTrue(mBatch.isEmpty());
+        assertSame(points, mBatch.getPoints());
+    }
+
+    @Test
+    public void testAccepts_onlySamePointer() {
+        Pointer otherId = Pointer.create(1, PointerType.kTouchPointer, PointerEventType.kPointerMove, 0, 0);
+        Pointer mouse = Pointer.create(0, PointerType.kMousePointer, PointerEventType.kPointerMove, 0, 0);
+        assertTrue(mBatch.accepts(otherId));
+
+        mBatch.add(mTouch, 1, 2, 10);
+
+        assertTrue(mBatch.accepts(mTouch));
+        assertFalse(mBatch.accepts(otherId));
+        assertFalse(mBatch.accepts(mouse));
+    }
+}
@@ -1,5 +1,8 @@
 package com.amazon.apl.android.utils;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -66,4 +69,40 @@ public class TransformUtilsTest extends ViewhostRobolectricTest {
         expected.postTranslate(LEFT, TOP);
         verify(mCanvas).concat(eq(expected));
     }
+
+    @Test
+    public void test_applyTransformToView_rotateScaleTranslate() {
+        View view = new View(getApplication());
+        Matrix transform = new Matrix();
+        transform.setScale(2, -3);
+        transform.postRotate(30);
+        transform.postTranslate(5, 7);
+
+        assertTrue(TransformUtils.applyTransformToView(transform, view));
+
+        assertEquals(0, view.getPivotX(), 0.001);
+        assertEquals(0, view.getPivotY(), 0.001);
+        assertEquals(5, view.getTranslationX(), 0.001);
+        assertEquals(7, view.getTranslationY(), 0.001);
+        assertEquals(30, view.getRotation(), 0.001);
+        assertEquals(2, view.getScaleX(), 0.001);
+        // Mirrored
+        assertEquals(-3, view.getScaleY(), 0.001);
+        assertTrue(TransformUtils.hasViewTransform(view));
+    }
+
+    @Test
+    public void test_applyTransformToView_skewNotApplied() {
+        View view = new View(getApplication());
+        Matrix transform = new Matrix();
+        transform.setRotate(45);
+        TransformUtils.applyTransformToView(transform, view);
+
+        transform.setSkew(0.5f, 0);
+        assertFalse(TransformUtils.applyTransformToView(transform, view));
+
+        // The view is left untransformed for the parent to apply the transform
+        assertEquals(0, view.getRotation(), 0.001);
+        assertFalse(TransformUtils.hasViewTransform(view));
+    }
 }
@@ -8,23 +8,44 @@ package com.amazon.apl.android.views;
 import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.robolectric.Shadows.shadowOf;
 
+import android.graphics.Canvas;
+import android.graphics.Outline;
+import android.graphics.Path;
+import android.graphics.RectF;
 import android.view.KeyEvent;
+import android.view.View;
 import android.view.ViewGroup;
 
+import com.amazon.apl.android.APLVersionCodes;
+import com.amazon.apl.android.Component;
 import com.amazon.apl.android.Frame;
 import com.amazon.apl.android.IAPLViewPresenter;
+import com.amazon.apl.android.PropertyMap;
+import com.amazon.apl.android.RenderingContext;
+import com.amazon.apl.android.primitive.Dimension;
+import com.amazon.apl.android.primitive.Radii;
 import com.amazon.apl.android.primitive.Rect;
 import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
+import com.amazon.apl.android.shadow.ShadowBitmapRenderer;
+import com.amazon.apl.enums.ComponentType;
+import com.amazon.apl.enums.PropertyKey;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.robolectric.annotation.Config;
 
 public class APLAbsoluteLayoutTest extends ViewhostRobolectricTest {
     private APLAbsoluteLayout mAbsoluteLayout;
@@ -35,10 +56,37 @@ public class APLAbsoluteLayoutTest extends ViewhostRobolectricTest {
     @Mock
     private Frame mockComponent;
 
+    @Mock
+    private PropertyMap<Component, PropertyKey> mockProperties;
+
+    @Mock
+    private RenderingContext mockRenderingContext;
+
+    @Mock
+    private ShadowBitmapRenderer mockShadowRenderer;
+
+    @Mock
+    private Component mockChildComponent;
+
+    @Mock
+    private Canvas mockCanvas;
+
+    private View mChild;
+
     @Before
     public void setup() {
+        when(mockPresenter.getShadowRenderer()).thenReturn(mockShadowRenderer);
         mAbsoluteLayout = new APLAbsoluteLayout(getApplication(), mockPresenter);
         when(mockPresenter.findComponent(mAbsoluteLayout)).thenReturn(mockComponent);
+
+        when(mockComponent.getComponentType()).thenReturn(ComponentType.kComponentTypeFrame);
+        when(mockComponent.getRenderingContext()).thenReturn(mockRenderingContext);
+        when(mockComponent.getProperties()).thenReturn(mockProperties);
+        when(mockComponent.getBounds()).thenReturn(Rect.builder().width(100).height(50).left(0).top(0).build());
+        when(mockRenderingContext.getDocVersion()).thenReturn(APLVersionCodes.APL_1_6);
+
+        mChild = mock(View.class);
+        when(mockPresenter.findComponent(mChild)).thenReturn(mockChildComponent);
     }
 
     @Test
@@ -58,4 +106,124 @@ public class APLAbsoluteLayoutTest extends ViewhostRobolectricTest {
         assertEquals(1, params.height);
         assertEquals(1, params.width);
     }
+
+    @Test
+    public void testClip_rectWithoutRadii() {
+        mAbsoluteLayout.onSizeChanged(100, 50, 0, 0);
+
+        mAbsoluteLayout.drawChild(mockCanvas, mChild, 0);
+
+        assertEquals(APLAbsoluteLayout.ClipMode.RECT, mAbsoluteLayout.getClipMode());
+        verify(mockCanvas).clipRect(new RectF(0, 0, 100, 50));
+        verify(mockCanvas, never()).clipPath(any(Path.class));
+        assertFalse(mAbsoluteLayout.getClipToOutline());
+    }
+
+    @Test
+    public void testClip_rectWithZeroRadii() {
+        setBorder(Radii.create(0), 5);
+        mAbsoluteLayout.onSizeChanged(100, 50, 0, 0);
+
+        mAbsoluteLayout.drawChild(mockCanvas, mChild, 0);
+
+        assertEquals(APLAbsoluteLayout.ClipMode.RECT, mAbsoluteLayout.getClipMode());
+        verify(mockCanvas).clipRect(new RectF(5, 5, 95, 45));
+        verify(mockCanvas, never()).clipPath(any(Path.class));
+        assertNull(mAbsoluteLayout.getClipPath());
+    }
+
+    @Config(sdk = 28)
+    @Test
+    public void testClip_uniformRadiiWithoutBorderUsesOutline() {
+        setBorder(Radii.create(10), 0);
+        mAbsoluteLayout.onSizeChanged(100, 50, 0, 0);
+
+        mAbsoluteLayout.drawChild(mockCanvas, mChild, 0);
+
+        assertEquals(APLAbsoluteLayout.ClipMode.OUTLINE, mAbsoluteLayout.getClipMode());
+        assertTrue(mAbsoluteLayout.getClipToOutline());
+        verify(mockCanvas, never()).clipRect(any(RectF.class));
+        verify(mockCanvas, never()).clipPath(any(Path.class));
+
+        Outline outline = new Outline();
+        mAbsoluteLayout.getOutlineProvider().getOutline(mAbsoluteLayout, outline);
+        android.graphics.Rect outlineRect = new android.graphics.Rect();
+        assertTrue(outline.getRect(outlineRect));
+        assertEquals(new android.graphics.Rect(0, 0, 100, 50), outlineRect);
+        assertEquals(10, outline.getRadius(), 0);
+
+        // Back to square corners
+        setBorder(Radii.create(0), 0);
+        mAbsoluteLayout.onSizeChanged(100, 50, 100, 50);
+        assertEquals(APLAbsoluteLayout.ClipMode.RECT, mAbsoluteLayout.getClipMode());
+        assertFalse(mAbsoluteLayout.getClipToOutline());
+    }
+
+    @Test
+    public void testClip_radiiWithBorderUsesPath() {
+        setBorder(Radii.create(10), 2);
+        mAbsoluteLayout.onSizeChanged(100, 50, 0, 0);
+
+        mAbsoluteLayout.drawChild(mockCanvas, mChild, 0);
+
+        assertEquals(APLAbsoluteLayout.ClipMode.PATH, mAbsoluteLayout.getClipMode());
+        verify(mockCanvas).clipPath(mAbsoluteLayout.getClipPath());
+        verify(mockCanvas, never()).clipRect(any(RectF.class));
+        assertFalse(mAbsoluteLayout.getClipToOutline());
+
+        RectF pathBounds = new RectF();
+        mAbsoluteLayout.getClipPath().computeBounds(pathBounds, true);
+        assertEquals(new RectF(2, 2, 98, 48), pathBounds);
+    }
+
+    @Test
+    public void testClip_childShadowNotClippedByOutline() {
+        setBorder(Radii.create(10), 0);
+        mAbsoluteLayout.onSizeChanged(100, 50, 0, 0);
+        when(mockChildComponent.shouldDrawBoxShadow()).thenReturn(true);
+
+        mAbsoluteLayout.drawChild(mockCanvas, mChild, 0);
+
+        verify(mockShadowRenderer).drawShadow(mockCanvas, mockChildComponent, mAbsoluteLayout);
+        assertEquals(APLAbsoluteLayout.ClipMode.PATH, mAbsoluteLayout.getClipMode());
+        assertFalse(mAbsoluteLayout.getClipToOutline());
+        verify(mockCanvas).clipPath(mAbsoluteLayout.getClipPath());
+    }
+
+    @Test
+    public void testContentWithinBounds_childShadows() {
+        mAbsoluteLayout.layout(0, 0, 100, 50);
+        assertEquals(APLAbsoluteLayout.ClipMode.RECT, mAbsoluteLayout.getClipMode());
+        assertTrue(mAbsoluteLayout.isContentWithinBounds());
+
+        View child = new View(getApplication());
+        mAbsoluteLayout.addView(child);
+        child.layout(10, 10, 50, 40);
+        when(mockPresenter.findComponent(child)).thenReturn(mockChildComponent);
+        when(mockChildComponent.shouldDrawBoxShadow()).thenReturn(true);
+        when(mockChildComponent.getShadowRadius()).thenReturn(5);
+        mAbsoluteLayout.drawChild(mockCanvas, mChild, 0);
+        assertTrue(mAbsoluteLayout.isContentWithinBounds());
+
+        // The shadow overflows the bottom edge
+        when(mockChildComponent.getShadowOffsetVertical()).thenReturn(10);
+        assertFalse(mAbsoluteLayout.isContentWithinBounds());
+    }
+
+    @Test
+    public void testClipPath_sharedBetweenIdenticalShapes() {
+        Path path = APLAbsoluteLayout.obtainClipPath(100, 50, Radii.create(10), 2);
+
+        assertSame(path, APLAbsoluteLayout.obtainClipPath(100, 50, Radii.create(10), 2));
+        assertNotSame(path, APLAbsoluteLayout.obtainClipPath(100, 60, Radii.create(10), 2));
+        assertNotSame(path, APLAbsoluteLayout.obtainClipPath(100, 50, Radii.create(12), 2));
+        assertNotSame(path, APLAbsoluteLayout.obtainClipPath(100, 50, Radii.create(10), 3));
+    }
+
+    private void setBorder(Radii radii, int borderWidth) {
+        when(mockProperties.hasProperty(PropertyKey.kPropertyBorderRadii)).thenReturn(true);
+        when(mockProperties.getRadii(PropertyKey.kPropertyBorderRadii)).thenReturn(radii);
+        when(mockProperties.hasProperty(PropertyKey.kPropertyBorderWidth)).thenReturn(borderWidth > 0);
+        when(mockProperties.getDimension(PropertyKey.kPropertyBorderWidth)).thenReturn(Dimension.create(borderWidth));
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.RectF;
+
+import com.amazon.apl.android.primitive.Radii;
+import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class FrameBackgroundDrawableTest extends ViewhostRobolectricTest {
+    private FrameBackgroundDrawable mDrawable;
+    private Canvas mCanvas;
+
+    @Before
+    public void setup() {
+        mDrawable = new FrameBackgroundDrawable();
+        mDrawable.setBounds(0, 0, 100, 50);
+        mCanvas = mock(Canvas.class);
+    }
+
+    @Test
+    public void testDraw_nothingVisible() {
+        mDrawable.setBorderWidth(10);
+
+        mDrawable.draw(mCanvas);
+
+        verify(mCanvas, never()).drawPath(any(Path.class), any(Paint.class));
+        verify(mCanvas, never()).drawRect(any(RectF.class), any(Paint.class));
+    }
+
+    @Test
+    public void testDraw_transparentBorderSkipped() {
+        mDrawable.setBorderWidth(10);
+        mDrawable.setBackgroundColor(Color.RED);
+
+        mDrawable.draw(mCanvas);
+
+        // Only the background is drawn, as a rectangle since there are no rounded corners
+        verify(mCanvas, never()).drawPath(any(Path.class), any(Paint.class));
+        verify(mCanvas).drawRect(any(RectF.class), any(Paint.class));
+    }
+
+    @Test
+    public void testDraw_backgroundAndBorder() {
+        mDrawable.setBorderWidth(10);
+        mDrawable.setBorderRadii(Radii.create(20));
+        mDrawable.setBorderColor(Color.BLUE);
+        mDrawable.setBackgroundColor(Color.RED);
+
+        mDrawable.draw(mCanvas);
+
+        verify(mCanvas, times(2)).drawPath(any(Path.class), any(Paint.class));
+    }
+
+    @Test
+    public void testGeometry_sharedBetweenIdenticalShapes() {
+        FrameBackgroundDrawable.Geometry geometry =
+                FrameBackgroundDrawable.obtainGeometry(100, 50, Radii.create(20), 10);
+
+        assertSame(geometry, FrameBackgroundDrawable.obtainGeometry(100, 50, Radii.create(20), 10));
+        assertNotSame(geometry, FrameBackgroundDrawable.obtainGeometry(100, 50, Radii.create(20), 5));
+        assertNotSame(geometry, FrameBackgroundDrawable.obtainGeometry(100, 60, Radii.create(20), 10));
+        assertNotSame(geometry, FrameBackgroundDrawable.obtainGeometry(100, 50, Radii.create(10), 10));
+    }
+
+    @Test
+    public void testGeometry_insideOfBorder() {
+        FrameBackgroundDrawable.Geometry rounded =
+                FrameBackgroundDrawable.obtainGeometry(100, 50, Radii.create(20), 10);
+        assertEquals(10, rounded.inset, 0);
+        assertEquals(new RectF(0, 0, 80, 30), rounded.backgroundRect);
+        assertNotNull(rounded.backgroundPath);
+
+        FrameBackgroundDrawable.Geometry square =
+                FrameBackgroundDrawable.obtainGeometry(100, 50, Radii.create(0), 10);
+        assertNull(square.backgroundPath);
+
+        // The border can't be wider than half the Frame
+        FrameBackgroundDrawable.Geometry thick =
+                FrameBackgroundDrawable.obtainGeometry(100, 50, null, 40);
+        assertEquals(25, thick.inset, 0);
+        assertEquals(new RectF(0, 0, 50, 0), thick.backgroundRect);
+    }
+}
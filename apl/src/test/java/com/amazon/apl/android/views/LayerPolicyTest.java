@@ -0,0 +1,253 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.android.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.content.ComponentCallbacks2;
+import android.os.Looper;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import com.amazon.apl.android.providers.ITelemetryProvider;
+import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
+import com.amazon.apl.enums.PropertyKey;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+public class LayerPolicyTest extends ViewhostRobolectricTest {
+    private static final int PROMOTIONS = 1;
+    private static final int TRIMMED_LAYERS = 2;
+    private static final int PEAK_LAYER_KB = 3;
+
+    @Mock
+    private ITelemetryProvider mTelemetryProvider;
+
+    private LayerPolicy mLayerPolicy;
+    private FrameLayout mGroup;
+    private View mLeaf;
+
+    @Before
+    public void setup() {
+        when(mTelemetryProvider.createMetricId(anyString(), eq(LayerPolicy.METRIC_PROMOTIONS), eq(ITelemetryProvider.Type.COUNTER))).thenReturn(PROMOTIONS);
+        when(mTelemetryProvider.createMetricId(anyString(), eq(LayerPolicy.METRIC_TRIMMED_LAYERS), eq(ITelemetryProvider.Type.COUNTER))).thenReturn(TRIMMED_LAYERS);
+        when(mTelemetryProvider.createMetricId(anyString(), eq(LayerPolicy.METRIC_PEAK_LAYER_KB), eq(ITelemetryProvider.Type.COUNTER))).thenReturn(PEAK_LAYER_KB);
+
+        // Robolectric doesn't render through hardware
+        mLayerPolicy = new LayerPolicy(mTelemetryProvider) {
+            @Override
+            boolean canUseLayer(View view) {
+                return true;
+            }
+        };
+        mGroup = createAttachedView(new FrameLayout(RuntimeEnvironment.application), 100, 100);
+        mLeaf = createAttachedView(new View(RuntimeEnvironment.application), 100, 100);
+        mGroup.addView(mLeaf);
+    }
+
+    @Test
+    public void testAnimatingGroup_promotedWhileAnimating() {
+        mLayerPolicy.onPropertiesChanged(mGroup, Arrays.asList(PropertyKey.kPropertyOpacity, PropertyKey.kPropertyTransform));
+
+        assertEquals(View.LAYER_TYPE_HARDWARE, mGroup.getLayerType());
+        assertEquals(100 * 100 * 4, mLayerPolicy.getLayerBytes());
+        verify(mTelemetryProvider).incrementCount(PROMOTIONS);
+
+        // Still animating
+        idleFor(LayerPolicy.ANIMATION_IDLE_MS / 2);
+        mLayerPolicy.onPropertiesChanged(mGroup, Collections.singletonList(PropertyKey.kPropertyTransform));
+        idleFor(LayerPolicy.ANIMATION_IDLE_MS / 2);
+        assertEquals(View.LAYER_TYPE_HARDWARE, mGroup.getLayerType());
+
+        // Animation ended
+        idleFor(LayerPolicy.ANIMATION_IDLE_MS * 2);
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+        assertEquals(0, mLayerPolicy.getLayerBytes());
+        verify(mTelemetryProvider, times(1)).incrementCount(PROMOTIONS);
+    }
+
+    @Test
+    public void testAnimatingLeaf_notPromoted() {
+        mLayerPolicy.onPropertiesChanged(mLeaf, Collections.singletonList(PropertyKey.kPropertyOpacity));
+
+        assertEquals(View.LAYER_TYPE_NONE, mLeaf.getLayerType());
+        verify(mTelemetryProvider, never()).incrementCount(PROMOTIONS);
+    }
+
+    @Test
+    public void testContentChange_notPromoted() {
+        mLayerPolicy.onPropertiesChanged(mGroup, Arrays.asList(PropertyKey.kPropertyOpacity, PropertyKey.kPropertyBackgroundColor));
+
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+    }
+
+    @Test
+    public void testExpensiveView_promotedOnceSettled() {
+        mLayerPolicy.markExpensive(mGroup);
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+
+        idleFor(LayerPolicy.STATIC_SETTLE_MS * 2);
+        assertEquals(View.LAYER_TYPE_HARDWARE, mGroup.getLayerType());
+
+        // A change of the subtree invalidates the layer
+        mLayerPolicy.onPropertiesChanged(mLeaf, Collections.singletonList(PropertyKey.kPropertyBackgroundColor));
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+        assertEquals(0, mLayerPolicy.getLayerBytes());
+
+        idleFor(LayerPolicy.STATIC_SETTLE_MS * 2);
+        assertEquals(View.LAYER_TYPE_HARDWARE, mGroup.getLayerType());
+        verify(mTelemetryProvider, times(2)).incrementCount(PROMOTIONS);
+    }
+
+    @Test
+    public void testOverflowingGroup_notPromoted() {
+        // The layer would cut off children drawn outside of the group
+        mGroup.setClipChildren(false);
+
+        mLayerPolicy.onPropertiesChanged(mGroup, Collections.singletonList(PropertyKey.kPropertyTransform));
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+
+        mLayerPolicy.markExpensive(mGroup);
+        idleFor(LayerPolicy.STATIC_SETTLE_MS * 2);
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+        verify(mTelemetryProvider, never()).incrementCount(PROMOTIONS);
+    }
+
+    @Test
+    public void testLayerBudget() {
+        FrameLayout large = createAttachedView(new FrameLayout(RuntimeEnvironment.application), 10000, 10000);
+        large.addView(new View(RuntimeEnvironment.application));
+
+        mLayerPolicy.onPropertiesChanged(large, Collections.singletonList(PropertyKey.kPropertyTransform));
+
+        assertEquals(View.LAYER_TYPE_NONE, large.getLayerType());
+        assertEquals(0, mLayerPolicy.getLayerBytes());
+    }
+
+    @Test
+    public void testTrimMemory_demotesStaticLayers() {
+        FrameLayout animating = createAttachedView(new FrameLayout(RuntimeEnvironment.application), 100, 100);
+        animating.addView(new View(RuntimeEnvironment.application));
+        mLayerPolicy.markExpensive(mGroup);
+        idleFor(LayerPolicy.STATIC_SETTLE_MS * 2);
+        mLayerPolicy.onPropertiesChanged(animating, Collections.singletonList(PropertyKey.kPropertyTransform));
+
+        mLayerPolicy.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+        assertEquals(View.LAYER_TYPE_HARDWARE, animating.getLayerType());
+        verify(mTelemetryProvider).incrementCount(TRIMMED_LAYERS, 1);
+
+        // Not promoted again
+        idleFor(LayerPolicy.STATIC_SETTLE_MS * 2);
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+
+        mLayerPolicy.onPropertiesChanged(animating, Collections.singletonList(PropertyKey.kPropertyTransform));
+        mLayerPolicy.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+        assertEquals(View.LAYER_TYPE_NONE, animating.getLayerType());
+        assertEquals(0, mLayerPolicy.getLayerBytes());
+    }
+
+    @Test
+    public void testRelease_demotesAndReportsPeakLayerMemory() {
+        mLayerPolicy.onPropertiesChanged(mGroup, Collections.singletonList(PropertyKey.kPropertyTransform));
+
+        mLayerPolicy.release();
+
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+        assertEquals(0, mLayerPolicy.getLayerBytes());
+        verify(mTelemetryProvider).incrementCount(PEAK_LAYER_KB, 100 * 100 * 4 / 1024);
+    }
+
+    @Test
+    public void testDetachedView_forgotten() {
+        mLayerPolicy.onPropertiesChanged(mGroup, Collections.singletonList(PropertyKey.kPropertyTransform));
+        doReturn(false).when(mGroup).isAttachedToWindow();
+
+        idleFor(LayerPolicy.ANIMATION_IDLE_MS / 2);
+        mLayerPolicy.onPropertiesChanged(mGroup, Collections.singletonList(PropertyKey.kPropertyTransform));
+        idleFor(LayerPolicy.ANIMATION_IDLE_MS);
+
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+        assertEquals(0, mLayerPolicy.getLayerBytes());
+    }
+
+    @Test
+    public void testDetachedView_demotedOnDetach() {
+        mLayerPolicy.onPropertiesChanged(mGroup, Collections.singletonList(PropertyKey.kPropertyTransform));
+        ArgumentCaptor<View.OnAttachStateChangeListener> listener = ArgumentCaptor.forClass(View.OnAttachStateChangeListener.class);
+        verify(mGroup).addOnAttachStateChangeListener(listener.capture());
+
+        doReturn(false).when(mGroup).isAttachedToWindow();
+        listener.getValue().onViewDetachedFromWindow(mGroup);
+
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+        assertEquals(0, mLayerPolicy.getLayerBytes());
+        verify(mGroup).removeOnAttachStateChangeListener(listener.getValue());
+
+        // Not promoted while detached
+        mLayerPolicy.onPropertiesChanged(mGroup, Collections.singletonList(PropertyKey.kPropertyTransform));
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+        assertEquals(0, mLayerPolicy.getLayerBytes());
+    }
+
+    @Test
+    public void testForget_demotesView() {
+        mLayerPolicy.markExpensive(mGroup);
+        idleFor(LayerPolicy.STATIC_SETTLE_MS * 2);
+        assertEquals(View.LAYER_TYPE_HARDWARE, mGroup.getLayerType());
+
+        mLayerPolicy.forget(mGroup);
+
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+        assertEquals(0, mLayerPolicy.getLayerBytes());
+        verify(mGroup).removeOnAttachStateChangeListener(any(View.OnAttachStateChangeListener.class));
+
+        // The expensive mark is forgotten as well
+        idleFor(LayerPolicy.STATIC_SETTLE_MS * 2);
+        assertEquals(View.LAYER_TYPE_NONE, mGroup.getLayerType());
+    }
+
+    @Test
+    public void testRelease_reportsPeakPerDocument() {
+        mLayerPolicy.onPropertiesChanged(mGroup, Collections.singletonList(PropertyKey.kPropertyTransform));
+        mLayerPolicy.release();
+        mLayerPolicy.onPropertiesChanged(mGroup, Collections.singletonList(PropertyKey.kPropertyTransform));
+        mLayerPolicy.release();
+
+        // A metric per report, rather than a count summed across documents
+        verify(mTelemetryProvider, times(2)).createMetricId(anyString(), eq(LayerPolicy.METRIC_PEAK_LAYER_KB), eq(ITelemetryProvider.Type.COUNTER));
+    }
+
+    private static <T extends View> T createAttachedView(T view, int width, int height) {
+        T spy = spy(view);
+        doReturn(true).when(spy).isAttachedToWindow();
+        spy.layout(0, 0, width, height);
+        return spy;
+    }
+
+    private static void idleFor(long millis) {
+        shadowOf(Looper.getMainLooper()).idleFor(millis, TimeUnit.MILLISECONDS);
+    }
+}
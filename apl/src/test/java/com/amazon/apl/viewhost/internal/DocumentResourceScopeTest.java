@@ -0,0 +1,151 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.amazon.apl.viewhost.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.amazon.apl.android.APLJSONData;
+import com.amazon.apl.android.APLOptions;
+import com.amazon.apl.android.Content;
+import com.amazon.apl.android.DocumentSession;
+import com.amazon.apl.android.dependencies.IContentRetriever;
+import com.amazon.apl.android.dependencies.IPackageLoader;
+import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
+import com.amazon.apl.viewhost.config.ViewhostConfig;
+import com.amazon.apl.viewhost.primitives.JsonStringDecodable;
+import com.amazon.apl.viewhost.request.PrepareDocumentRequest;
+import com.amazon.apl.viewhost.utils.ManualExecutor;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(AndroidJUnit4.class)
+public class DocumentResourceScopeTest extends ViewhostRobolectricTest {
+    private static final int DOCUMENT_COUNT = 10;
+
+    private static final String DOCUMENT = "{" +
+            "  \"type\": \"APL\"," +
+            "  \"version\": \"2023.3\"," +
+            "  \"import\": [{\"name\": \"test-layouts\", \"version\": \"1.0\"}]," +
+            "  \"mainTemplate\": {\"item\": {\"type\": \"Text\", \"text\": \"@greeting\"}}" +
+            "}";
+
+    private static final String PACKAGE = "{" +
+            "  \"type\": \"APL\"," +
+            "  \"version\": \"2023.3\"," +
+            "  \"resources\": [{\"strings\": {\"greeting\": \"Hello\"}}]," +
+            "  \"layouts\": {\"Greeting\": {\"item\": {\"type\": \"Text\", \"text\": \"@greeting\"}}}" +
+            "}";
+
+    @Mock
+    private IPackageLoader mPackageLoader;
+
+    private ViewhostImpl mViewhost;
+    private int mPackageSize;
+
+    @Before
+    public void setup() {
+        doAnswer(invocation -> {
+            Content.ImportRequest request = invocation.getArgument(0);
+            IContentRetriever.SuccessCallback<Content.ImportRequest, APLJSONData> successCallback = invocation.getArgument(1);
+            successCallback.onSuccess(request, APLJSONData.create(PACKAGE));
+            return null;
+        }).when(mPackageLoader).fetch(any(), any(), any());
+
+        ViewhostConfig config = ViewhostConfig.builder().IPackageLoader(mPackageLoader).build();
+        mViewhost = new ViewhostImpl(config, new ManualExecutor(), new Handler(Looper.getMainLooper()), Runnable::run);
+        mPackageSize = APLJSONData.create(PACKAGE).getSize();
+    }
+
+    @Test
+    public void testIdenticalDocumentsSharePackages() {
+        List<DocumentHandleImpl> documents = prepareDocuments(DOCUMENT_COUNT);
+
+        for (DocumentHandleImpl document : documents) {
+            assertNotNull(document.getContent());
+        }
+        // The package was loaded once, and the documents only cost one package
+        verify(mPackageLoader, times(1)).fetch(any(), any(), any());
+        assertEquals(DOCUMENT_COUNT, mViewhost.getResourceScope().getHolderCount());
+        assertEquals(mPackageSize, mViewhost.getResourceScope().getPackageCacheSize());
+    }
+
+    @Test
+    public void testHostSharesPackages() throws Content.ContentException {
+        prepareDocuments(DOCUMENT_COUNT);
+
+        APLOptions options = APLOptions.builder()
+                .viewhost(mViewhost)
+                .packageLoader(mPackageLoader)
+                .contentParseExecutor(Runnable::run)
+                .build();
+        Content.create(DOCUMENT, options);
+
+        verify(mPackageLoader, times(1)).fetch(any(), any(), any());
+        assertEquals(mPackageSize, mViewhost.getResourceScope().getPackageCacheSize());
+    }
+
+    @Test
+    public void testPackagesReleasedWhenLastDocumentFinishes() {
+        List<DocumentHandleImpl> documents = prepareDocuments(DOCUMENT_COUNT);
+
+        for (int i = 0; i < DOCUMENT_COUNT - 1; i++) {
+            documents.get(i).setDocumentState(DocumentState.FINISHED);
+        }
+        assertEquals(1, mViewhost.getResourceScope().getHolderCount());
+        assertEquals(mPackageSize, mViewhost.getResourceScope().getPackageCacheSize());
+
+        documents.get(DOCUMENT_COUNT - 1).setDocumentState(DocumentState.ERROR);
+        assertEquals(0, mViewhost.getResourceScope().getHolderCount());
+        assertEquals(0, mViewhost.getResourceScope().getPackageCacheSize());
+
+        // Later documents load the package again
+        prepareDocuments(1);
+        verify(mPackageLoader, times(2)).fetch(any(), any(), any());
+    }
+
+    @Test
+    public void testPackagesReleasedWhenHostFinishes() throws Content.ContentException {
+        APLOptions options = APLOptions.builder()
+                .viewhost(mViewhost)
+                .packageLoader(mPackageLoader)
+                .contentParseExecutor(Runnable::run)
+                .build();
+        Content.create(DOCUMENT, options);
+        assertEquals(mPackageSize, mViewhost.getResourceScope().getPackageCacheSize());
+
+        mViewhost.notifyRootContextFinished();
+
+        assertEquals(0, mViewhost.getResourceScope().getPackageCacheSize());
+    }
+
+    private List<DocumentHandleImpl> prepareDocuments(int count) {
+        List<DocumentHandleImpl> documents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            PrepareDocumentRequest request = PrepareDocumentRequest.builder()
+                    .token("token" + i)
+                    .document(new JsonStringDecodable(DOCUMENT))
+                    .documentSession(DocumentSession.create())
+                    .build();
+            documents.add((DocumentHandleImpl) mViewhost.prepare(request).getHandle());
+        }
+        return documents;
+    }
+}
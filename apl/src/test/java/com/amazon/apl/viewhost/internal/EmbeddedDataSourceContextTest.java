@@ -183,7 +183,7 @@ public class EmbeddedDataSourceContextTest extends AbstractDocUnitTest {
 
         // Create primary document using APLController (legacy) method
         mRootConfig = RootConfig.create("Unit Test", "1.0").registerDataSource(DATA_SOURCE_TYPE);
-        mViewhost = new ViewhostImpl(config, mRuntimeInteractionWorker, mCoreWorker);
+        mViewhost = new ViewhostImpl(config, mRuntimeInteractionWorker, mCoreWorker, Runnable::run);
         EmbeddedDocumentFactory factory = new ShoppingListEmbeddedDocumentFactory(mViewhost);
         mAplOptions = APLOptions.builder()
                 .dataSourceContextListener(mDataSourceContextListener)
@@ -153,7 +153,7 @@ public class EmbeddedVisualContextTest extends AbstractDocUnitTest {
 
         // Create primary document using APLController (legacy) method
         mRootConfig = RootConfig.create("Unit Test", "1.0");
-        mViewhost = new ViewhostImpl(config, mRuntimeInteractionWorker, mCoreWorker);
+        mViewhost = new ViewhostImpl(config, mRuntimeInteractionWorker, mCoreWorker, Runnable::run);
         EmbeddedDocumentFactory factory = new HelloWorldEmbeddedDocumentFactory(mViewhost);
         mAplOptions = APLOptions.builder()
                 .visualContextListener(mVisualContextListener)
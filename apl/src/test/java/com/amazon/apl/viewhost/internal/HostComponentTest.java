@@ -363,13 +363,14 @@ public class HostComponentTest extends AbstractDocUnitTest {
                 .extensionRegistrar(extensionRegistrar)
                 .defaultDocumentOptions(mDocumentOptions)
                 .build();
-        mViewhost = Mockito.spy(new ViewhostImpl(config, mRuntimeInteractionWorker, mCoreWorker));
+        mViewhost = Mockito.spy(new ViewhostImpl(config, mRuntimeInteractionWorker, mCoreWorker, Runnable::run));
         EmbeddedDocumentFactory factory = new EmbeddedDocumentFactoryTest(mViewhost);
         mRootConfig.setDocumentManager(factory, mCoreWorker);
         mOptions = APLOptions.builder()
                 .embeddedDocumentFactory(factory)
                 .viewhost(mViewhost)
                 .packageLoader(mPackageLoader)
+                .contentParseExecutor(Runnable::run)
                 .build();
     }
 
@@ -515,7 +516,7 @@ public class HostComponentTest extends AbstractDocUnitTest {
         ViewhostConfig config = ViewhostConfig.builder()
                 .defaultDocumentOptions(null)
                 .build();
-        mViewhost = new ViewhostImpl(config, mRuntimeInteractionWorker, mCoreWorker);
+        mViewhost = new ViewhostImpl(config, mRuntimeInteractionWorker, mCoreWorker, Runnable::run);
         EmbeddedDocumentFactory factory = new NullDocumentOptionsTest(mViewhost);
         mRootConfig.setDocumentManager(factory, mCoreWorker);
         mOptions = APLOptions.builder()
@@ -0,0 +1,178 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.apl.viewhost.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.amazon.apl.android.providers.ITelemetryProvider;
+import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
+import com.amazon.apl.viewhost.config.DocumentOptions;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+@RunWith(AndroidJUnit4.class)
+public class PreparedDocumentPoolTest extends ViewhostRobolectricTest {
+    private static final int HIT = 1;
+    private static final int MISS = 2;
+    private static final int EVICTION = 3;
+
+    @Mock
+    private ITelemetryProvider mTelemetryProvider;
+
+    @Before
+    public void setup() {
+        when(mTelemetryProvider.createMetricId(anyString(), eq(PreparedDocumentPool.METRIC_HIT), eq(ITelemetryProvider.Type.COUNTER))).thenReturn(HIT);
+        when(mTelemetryProvider.createMetricId(anyString(), eq(PreparedDocumentPool.METRIC_MISS), eq(ITelemetryProvider.Type.COUNTER))).thenReturn(MISS);
+        when(mTelemetryProvider.createMetricId(anyString(), eq(PreparedDocumentPool.METRIC_EVICTION), eq(ITelemetryProvider.Type.COUNTER))).thenReturn(EVICTION);
+    }
+
+    @Test
+    public void testKeyFor_prefersToken() {
+        assertEquals(PreparedDocumentPool.keyFor("token", "a", "b"), PreparedDocumentPool.keyFor("token", "c", "d"));
+        assertNotEquals(PreparedDocumentPool.keyFor(null, "a", "b"), PreparedDocumentPool.keyFor(null, "a", "c"));
+    }
+
+    @Test
+    public void testDisabled_doesNotPool() {
+        PreparedDocumentPool pool = new PreparedDocumentPool(0, 1024, mTelemetryProvider);
+        assertFalse(pool.isEnabled());
+        assertFalse(pool.put("key", createDocument(true), "doc", "data", null));
+        assertNull(pool.take("key", "doc", "data", null));
+    }
+
+    @Test
+    public void testTake_hitIsSingleUse() {
+        PreparedDocumentPool pool = new PreparedDocumentPool(2, 1024, mTelemetryProvider);
+        PreparedDocumentImpl document = createDocument(true);
+        String key = PreparedDocumentPool.keyFor(null, "doc", "data");
+        assertTrue(pool.put(key, document, "doc", "data", null));
+
+        assertEquals(document, pool.take(key, "doc", "data", null));
+        verify(mTelemetryProvider).incrementCount(HIT);
+
+        assertNull(pool.take(key, "doc", "data", null));
+        verify(mTelemetryProvider).incrementCount(MISS);
+        assertEquals(0, pool.getSizeBytes());
+    }
+
+    @Test
+    public void testTake_hashKeyWithDifferentPayloadMisses() {
+        PreparedDocumentPool pool = new PreparedDocumentPool(2, 1024, mTelemetryProvider);
+        pool.put("hash:collision", createDocument(true), "doc", "data", null);
+
+        assertNull(pool.take("hash:collision", "doc", "other", null));
+        verify(mTelemetryProvider).incrementCount(MISS);
+    }
+
+    @Test
+    public void testTake_tokenKeyWithDifferentPayloadMisses() {
+        PreparedDocumentPool pool = new PreparedDocumentPool(2, 1024, mTelemetryProvider);
+        PreparedDocumentImpl document = createDocument(true);
+        pool.put("token:a", document, "doc", "data", null);
+
+        assertNull(pool.take("token:a", "other", "data", null));
+        verify(mTelemetryProvider).incrementCount(MISS);
+        verify(document.getHandleImpl()).setDocumentState(DocumentState.FINISHED);
+    }
+
+    @Test
+    public void testTake_differentOptionsMisses() {
+        PreparedDocumentPool pool = new PreparedDocumentPool(2, 1024, mTelemetryProvider);
+        PreparedDocumentImpl document = createDocument(true);
+        DocumentOptions options = DocumentOptions.builder().build();
+        pool.put("token:a", document, "doc", "data", options);
+        assertTrue(pool.contains("token:a", "doc", "data", options));
+        assertFalse(pool.contains("token:a", "doc", "data", null));
+
+        assertNull(pool.take("token:a", "doc", "data", null));
+        verify(mTelemetryProvider).incrementCount(MISS);
+        verify(document.getHandleImpl()).setDocumentState(DocumentState.FINISHED);
+    }
+
+    @Test
+    public void testTake_invalidDocumentMisses() {
+        PreparedDocumentPool pool = new PreparedDocumentPool(2, 1024, mTelemetryProvider);
+        pool.put("token:a", createDocument(false), "doc", "data", null);
+
+        assertNull(pool.take("token:a", "doc", "data", null));
+        verify(mTelemetryProvider).incrementCount(MISS);
+    }
+
+    @Test
+    public void testPut_evictsLeastRecentlyUsedByCount() {
+        PreparedDocumentPool pool = new PreparedDocumentPool(2, 1024, mTelemetryProvider);
+        pool.put("token:a", createDocument(true), "doc", "data", null);
+        pool.put("token:b", createDocument(true), "doc", "data", null);
+        assertTrue(pool.contains("token:a"));
+        pool.put("token:c", createDocument(true), "doc", "data", null);
+
+        assertEquals(2, pool.size());
+        assertFalse(pool.contains("token:b"));
+        assertTrue(pool.contains("token:a"));
+        assertTrue(pool.contains("token:c"));
+        verify(mTelemetryProvider).incrementCount(EVICTION);
+    }
+
+    @Test
+    public void testRemoval_finishesDocuments() {
+        PreparedDocumentPool pool = new PreparedDocumentPool(1, 1024, mTelemetryProvider);
+        PreparedDocumentImpl evicted = createDocument(true);
+        PreparedDocumentImpl cleared = createDocument(true);
+        pool.put("token:a", evicted, "doc", "data", null);
+        pool.put("token:b", cleared, "doc", "data", null);
+        verify(evicted.getHandleImpl()).setDocumentState(DocumentState.FINISHED);
+        verify(cleared.getHandleImpl(), never()).setDocumentState(any());
+
+        pool.clear();
+        assertEquals(0, pool.size());
+        verify(cleared.getHandleImpl()).setDocumentState(DocumentState.FINISHED);
+    }
+
+    @Test
+    public void testTake_hitIsNotFinished() {
+        PreparedDocumentPool pool = new PreparedDocumentPool(2, 1024, mTelemetryProvider);
+        PreparedDocumentImpl document = createDocument(true);
+        pool.put("token:a", document, "doc", "data", null);
+
+        assertEquals(document, pool.take("token:a", "doc", "data", null));
+        verify(document.getHandleImpl(), never()).setDocumentState(any());
+    }
+
+    @Test
+    public void testPut_evictsToStayWithinMemoryBudget() {
+        long size = PreparedDocumentPool.estimateSizeBytes("doc", "data");
+        PreparedDocumentPool pool = new PreparedDocumentPool(10, size * 2, mTelemetryProvider);
+        pool.put("token:a", createDocument(true), "doc", "data", null);
+        pool.put("token:b", createDocument(true), "doc", "data", null);
+        pool.put("token:c", createDocument(true), "doc", "data", null);
+
+        assertEquals(2, pool.size());
+        assertEquals(size * 2, pool.getSizeBytes());
+        assertFalse(pool.put("token:d", createDocument(true), "a much larger document", "data", null));
+    }
+
+    private static PreparedDocumentImpl createDocument(boolean isValid) {
+        DocumentHandleImpl handle = mock(DocumentHandleImpl.class);
+        when(handle.isValid()).thenReturn(isValid);
+        return new PreparedDocumentImpl(handle);
+    }
+}
@@ -9,10 +9,13 @@ import static com.amazon.apl.viewhost.config.EmbeddedDocumentFactory.EmbeddedDoc
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -33,6 +36,7 @@ import com.amazon.apl.android.events.DataSourceFetchEvent;
 import com.amazon.apl.android.events.OpenURLEvent;
 import com.amazon.apl.android.events.PlayMediaEvent;
 import com.amazon.apl.android.events.SendEvent;
+import com.amazon.apl.android.providers.ITelemetryProvider;
 import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
 import com.amazon.apl.viewhost.DocumentHandle;
 import com.amazon.apl.viewhost.PreparedDocument;
@@ -41,12 +45,14 @@ import com.amazon.apl.viewhost.config.DocumentOptions;
 import com.amazon.apl.viewhost.config.ViewhostConfig;
 import com.amazon.apl.viewhost.example.ExampleDocumentFactory;
 import com.amazon.apl.viewhost.message.Message;
+import com.amazon.apl.viewhost.message.BaseMessage;
 import com.amazon.apl.viewhost.message.MessageHandler;
 import com.amazon.apl.viewhost.message.action.ActionMessage;
 import com.amazon.apl.viewhost.message.action.FetchDataRequest;
 import com.amazon.apl.viewhost.message.action.OpenURLRequest;
 import com.amazon.apl.viewhost.message.action.ReportRuntimeErrorRequest;
 import com.amazon.apl.viewhost.message.action.SendUserEventRequest;
+import com.amazon.apl.viewhost.message.notification.DocumentStateChanged;
 import com.amazon.apl.viewhost.primitives.JsonStringDecodable;
 import com.amazon.apl.viewhost.request.ExecuteCommandsRequest;
 import com.amazon.apl.viewhost.request.FinishDocumentRequest;
@@ -82,7 +88,7 @@ public class ViewhostTest extends ViewhostRobolectricTest {
         mMessageHandler = new CapturingMessageHandler();
         mRuntimeInteractionWorker = new ManualExecutor();
         ViewhostConfig config = ViewhostConfig.builder().messageHandler(mMessageHandler).build();
-        mViewhost = new ViewhostImpl(config, mRuntimeInteractionWorker, new Handler(Looper.getMainLooper()));
+        mViewhost = new ViewhostImpl(config, mRuntimeInteractionWorker, new Handler(Looper.getMainLooper()), Runnable::run);
     }
 
     @Test
@@ -129,6 +135,82 @@ public class ViewhostTest extends ViewhostRobolectricTest {
 
     }
 
+    @Test
+    public void testPrewarm_disabledByDefault() {
+        PrepareDocumentRequest request = PrepareDocumentRequest.builder()
+                .token("mytoken")
+                .document(new JsonStringDecodable("document"))
+                .documentSession(DocumentSession.create())
+                .build();
+        assertFalse(mViewhost.prewarm(request));
+    }
+
+    @Test
+    public void testPrewarm_preparedDocumentIsHandedOutByPrepare() {
+        ITelemetryProvider telemetryProvider = mock(ITelemetryProvider.class);
+        when(telemetryProvider.createMetricId(anyString(), eq(PreparedDocumentPool.METRIC_HIT), eq(ITelemetryProvider.Type.COUNTER))).thenReturn(1);
+        when(telemetryProvider.createMetricId(anyString(), eq(PreparedDocumentPool.METRIC_MISS), eq(ITelemetryProvider.Type.COUNTER))).thenReturn(2);
+        ViewhostConfig config = ViewhostConfig.builder()
+                .messageHandler(mMessageHandler)
+                .preparedDocumentPoolSize(2)
+                .telemetryProvider(telemetryProvider)
+                .build();
+        Viewhost viewhost = new ViewhostImpl(config, mRuntimeInteractionWorker, new Handler(Looper.getMainLooper()), Runnable::run);
+        PrepareDocumentRequest request = PrepareDocumentRequest.builder()
+                .token("mytoken")
+                .document(new JsonStringDecodable("{\"type\": \"APL\", \"version\": \"2023.3\", \"mainTemplate\": {\"item\": {\"type\": \"Text\"}}}"))
+                .documentSession(DocumentSession.create())
+                .build();
+
+        assertTrue(viewhost.prewarm(request));
+        PreparedDocument first = viewhost.prepare(request);
+        assertNotNull(first.getHandle());
+        verify(telemetryProvider).incrementCount(1);
+
+        // Pooled documents are single use
+        PreparedDocument second = viewhost.prepare(request);
+        assertNotEquals(first, second);
+        verify(telemetryProvider).incrementCount(2);
+    }
+
+    @Test
+    public void testPrewarm_documentWithOtherOptionsIsNotHandedOut() {
+        ViewhostConfig config = ViewhostConfig.builder()
+                .messageHandler(mMessageHandler)
+                .preparedDocumentPoolSize(2)
+                .build();
+        Viewhost viewhost = new ViewhostImpl(config, mRuntimeInteractionWorker, new Handler(Looper.getMainLooper()), Runnable::run);
+        PrepareDocumentRequest.Builder builder = PrepareDocumentRequest.builder()
+                .token("mytoken")
+                .document(new JsonStringDecodable("{\"type\": \"APL\", \"version\": \"2023.3\", \"mainTemplate\": {\"item\": {\"type\": \"Text\"}}}"))
+                .documentSession(DocumentSession.create());
+        PrepareDocumentRequest prewarmRequest = builder.build();
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("flag", true);
+        PrepareDocumentRequest request = builder
+                .documentOptions(DocumentOptions.builder().extensionFlags(flags).build())
+                .build();
+
+        assertTrue(viewhost.prewarm(prewarmRequest));
+        mRuntimeInteractionWorker.flush();
+        mMessageHandler.queue.clear();
+
+        // Prepared with other options, so a new document is prepared and the pooled one finished
+        PreparedDocument prepared = viewhost.prepare(request);
+        assertNotNull(prepared.getHandle());
+        mRuntimeInteractionWorker.flush();
+        DocumentHandle finished = null;
+        for (BaseMessage message : mMessageHandler.queue) {
+            if (message instanceof DocumentStateChanged
+                    && "FINISHED".equals(((DocumentStateChanged) message).getState())) {
+                finished = message.getDocument();
+            }
+        }
+        assertNotNull(finished);
+        assertNotEquals(prepared.getHandle(), finished);
+        assertFalse(finished.isValid());
+    }
+
     @Test
     public void testRenderDocument() {
         // Pathway not implemented
@@ -351,6 +433,62 @@ public class ViewhostTest extends ViewhostRobolectricTest {
 
     }
 
+    @Test
+    public void testTickOnlyChecksDirtyDocuments() {
+        ViewhostImpl viewhost = (ViewhostImpl) mViewhost;
+        updateDocumentMap(123, mDocumentHandleImpl, mDocumentContext);
+        when(mDocumentHandleImpl.getAndClearHasVisualContextChanged()).thenReturn(true);
+
+        // The document is dirty once it's associated with a document context
+        viewhost.tick();
+        verify(mDocumentHandleImpl, times(1)).getAndClearHasVisualContextChanged();
+        verify(mDocumentHandleImpl, times(1)).getAndClearHasDataSourceContextChanged();
+
+        // Nothing has changed since
+        viewhost.tick();
+        verify(mDocumentHandleImpl, times(1)).getAndClearHasVisualContextChanged();
+
+        viewhost.markDocumentDirty(mDocumentHandleImpl);
+        viewhost.tick();
+        verify(mDocumentHandleImpl, times(2)).getAndClearHasVisualContextChanged();
+
+        viewhost.markAllDocumentsDirty();
+        viewhost.tick();
+        verify(mDocumentHandleImpl, times(3)).getAndClearHasVisualContextChanged();
+
+        mRuntimeInteractionWorker.flush();
+        assertEquals(3, mMessageHandler.queue.size());
+    }
+
+    @Test
+    public void testTickForgetsInvalidDocuments() {
+        ViewhostImpl viewhost = (ViewhostImpl) mViewhost;
+        updateDocumentMap(123, mDocumentHandleImpl, mDocumentContext);
+        when(mDocumentHandleImpl.isValid()).thenReturn(false);
+
+        viewhost.tick();
+        verify(mDocumentHandleImpl, never()).getAndClearHasVisualContextChanged();
+
+        // Events of the document are no longer routed
+        SendEvent event = mock(SendEvent.class);
+        when(event.getDocumentContextId()).thenReturn((long)123);
+        assertTrue(viewhost.interceptEventIfNeeded(event));
+        verify(event, never()).overrideCallback(any(ISendEventCallbackV2.class));
+    }
+
+    @Test
+    public void testHasDocuments() {
+        ViewhostImpl viewhost = (ViewhostImpl) mViewhost;
+        assertFalse(viewhost.hasDocuments());
+
+        updateDocumentMap(123, mDocumentHandleImpl, mDocumentContext);
+        assertTrue(viewhost.hasDocuments());
+
+        when(mDocumentHandleImpl.isValid()).thenReturn(false);
+        viewhost.tick();
+        assertFalse(viewhost.hasDocuments());
+    }
+
     @Test
     public void testEventsDroppedWithoutMessageHandler() {
         ViewhostConfig config = ViewhostConfig.builder().build();
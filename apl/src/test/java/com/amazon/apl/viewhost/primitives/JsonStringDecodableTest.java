@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.amazon.apl.viewhost.primitives;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.amazon.apl.android.robolectric.ViewhostRobolectricTest;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(AndroidJUnit4.class)
+public class JsonStringDecodableTest extends ViewhostRobolectricTest {
+
+    @Test
+    public void testGetMemberString_values() throws JSONException {
+        JsonStringDecodable decodable = new JsonStringDecodable(
+                "{ \"object\": {\"a\": [1, 2, {\"b\": null}]}, \"array\": [true, false]," +
+                " \"string\": \"a \\\"quoted\\\" \\u0041\\n\", \"number\": -1.5e3, \"null\": null }");
+
+        assertEquals(new JSONObject("{\"a\": [1, 2, {\"b\": null}]}").toString(),
+                new JSONObject(decodable.getMemberString("object")).toString());
+        assertEquals(new JSONArray("[true, false]").toString(),
+                new JSONArray(decodable.getMemberString("array")).toString());
+        assertEquals("a \"quoted\" A\n", decodable.getMemberString("string"));
+        assertEquals(-1500, Double.parseDouble(decodable.getMemberString("number")), 0);
+        assertEquals("null", decodable.getMemberString("null"));
+        assertNull(decodable.getMemberString("missing"));
+    }
+
+    @Test
+    public void testGetObjectString_object() {
+        String json = "{\"a\": 1}";
+        assertEquals(json, new JsonStringDecodable(json).getObjectString());
+    }
+
+    @Test
+    public void testNotAnObject() {
+        for (String json : new String[] {"", "data", "[1, 2]", "{\"a\": 1"}) {
+            JsonStringDecodable decodable = new JsonStringDecodable(json);
+            assertNull(json, decodable.getMemberString("a"));
+            assertEquals(json, "{}", decodable.getObjectString());
+        }
+    }
+
+    @Test
+    public void testLenientJson_matchesJSONObject() throws JSONException {
+        // Not strict JSON, but accepted by org.json.
+        String json = "{a: 'single', \"b\": 2, \"b\": 3}";
+        JSONObject expected = new JSONObject(json);
+        JsonStringDecodable decodable = new JsonStringDecodable(json);
+
+        assertEquals(expected.optString("a"), decodable.getMemberString("a"));
+        assertEquals(expected.optString("b"), decodable.getMemberString("b"));
+        assertEquals(expected.toString(), decodable.getObjectString());
+    }
+
+    @Test
+    public void testLargePayload_matchesJSONObject() throws JSONException {
+        // A payload of about 300KB with five data parameters.
+        JSONObject payload = new JSONObject();
+        for (int param = 0; param < 5; param++) {
+            JSONArray items = new JSONArray();
+            for (int i = 0; i < 600; i++) {
+                items.put(new JSONObject()
+                        .put("id", i)
+                        .put("title", "Item \"" + i + "\" of parameter " + param)
+                        .put("price", i * 0.25)
+                        .put("tags", new JSONArray().put("a").put("b\\c")));
+            }
+            payload.put("param" + param, new JSONObject().put("items", items));
+        }
+        String json = payload.toString();
+        JsonStringDecodable decodable = new JsonStringDecodable(json);
+
+        for (int param = 0; param < 5; param++) {
+            assertEquals(payload.optString("param" + param), decodable.getMemberString("param" + param));
+        }
+        assertEquals(json, decodable.getObjectString());
+    }
+}